@@ -15,9 +15,27 @@
  */
 package net.bytebuddy;
 
+import net.bytebuddy.asm.AsmVisitorWrapper;
 import net.bytebuddy.build.HashCodeAndEqualsPlugin;
 import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.utility.OpenedClassReader;
 import net.bytebuddy.utility.RandomString;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.commons.ClassRemapper;
+import org.objectweb.asm.commons.Remapper;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * <p>
@@ -325,4 +343,340 @@ public interface NamingStrategy {
             return prefix + "." + superClass.getName() + "$" + randomString.nextString();
         }
     }
+
+    /**
+     * <p>
+     * A naming strategy that names a type by a hash of its class file. A name is created by concatenating:
+     * </p>
+     * <ol>
+     * <li>The super classes package and name</li>
+     * <li>A given suffix string</li>
+     * <li>A hexadecimal representation of the SHA-256 hash of the type's normalized class file</li>
+     * </ol>
+     * <p>
+     * <b>Important</b>: This naming strategy only determines a <i>preliminary</i> name that consists of the base name and the suffix
+     * and that is identical for all types with the same base name. A type must therefore always be created by
+     * {@link SuffixingContentHash#make(DynamicType.Builder)} which assigns the final name. Creating a type by
+     * {@link DynamicType.Builder#make()} directly yields a type with the preliminary name which conflicts with any other type that
+     * is created with the same base name.
+     * </p>
+     * <p>
+     * To compute the hash, the type is created under its preliminary name and its class file is normalized. Doing so, the name of
+     * the instrumented type, the names of auxiliary and nested types that are prefixed by this name, and the names of any synthetic
+     * field or method that is declared by the instrumented type are replaced by names that are derived from their order of
+     * appearance. This way, randomized names, for example of accessor methods, cached values or auxiliary types, do not affect the hash.
+     * Afterwards, the type is created a second time with its final name and it is verified that this class file yields the same hash.
+     * If the creation of a type is not deterministic in any other way, an {@link IllegalStateException} is thrown. Auxiliary types
+     * are not included in the hash. As for {@link SuffixingRandom}, types that subclass classes from the {@code java.**} packages
+     * are prefixed with a given package.
+     * </p>
+     */
+    @HashCodeAndEqualsPlugin.Enhance
+    class SuffixingContentHash extends AbstractBase {
+
+        /**
+         * The default amount of hexadecimal digits of the hash that are included in a type's name.
+         */
+        public static final int DEFAULT_LENGTH = 16;
+
+        /**
+         * The algorithm that is used for hashing a class file.
+         */
+        private static final String ALGORITHM = "SHA-256";
+
+        /**
+         * The package prefix of the {@code java.*} packages for which the definition of
+         * non-bootstrap types is illegal.
+         */
+        private static final String JAVA_PACKAGE = "java.";
+
+        /**
+         * The hexadecimal digits.
+         */
+        private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+        /**
+         * The suffix to attach to a super type name.
+         */
+        private final String suffix;
+
+        /**
+         * The resolver for the base name for naming the unnamed type.
+         */
+        private final SuffixingRandom.BaseNameResolver baseNameResolver;
+
+        /**
+         * The renaming location for types of the {@code java.*} packages.
+         */
+        private final String javaLangPackagePrefix;
+
+        /**
+         * The amount of hexadecimal digits of the hash that are included in a type's name.
+         */
+        private final int length;
+
+        /**
+         * Creates a naming strategy with a given suffix but moves types that subclass types within the {@code java.lang}
+         * package into Byte Buddy's package namespace. All names are derived from the unnamed type's super type.
+         *
+         * @param suffix The suffix for the generated class.
+         */
+        public SuffixingContentHash(String suffix) {
+            this(suffix, DEFAULT_LENGTH);
+        }
+
+        /**
+         * Creates a naming strategy with a given suffix but moves types that subclass types within the {@code java.lang}
+         * package into Byte Buddy's package namespace. All names are derived from the unnamed type's super type.
+         *
+         * @param suffix The suffix for the generated class.
+         * @param length The amount of hexadecimal digits of the hash that are included in a type's name.
+         */
+        public SuffixingContentHash(String suffix, int length) {
+            this(suffix, SuffixingRandom.BaseNameResolver.ForUnnamedType.INSTANCE, SuffixingRandom.BYTE_BUDDY_RENAME_PACKAGE, length);
+        }
+
+        /**
+         * Creates a naming strategy with a given suffix but moves types that subclass types within the {@code java.lang}
+         * package into a given namespace.
+         *
+         * @param suffix                The suffix for the generated class.
+         * @param baseNameResolver      The base name resolver that is queried for locating the base name.
+         * @param javaLangPackagePrefix The fallback namespace for type's that subclass types within the
+         *                              {@code java.*} namespace. If The prefix is set to the empty string,
+         *                              no prefix is added.
+         * @param length                The amount of hexadecimal digits of the hash that are included in a type's name.
+         */
+        public SuffixingContentHash(String suffix, SuffixingRandom.BaseNameResolver baseNameResolver, String javaLangPackagePrefix, int length) {
+            if (length <= 0 || length > 64) {
+                throw new IllegalArgumentException("The hash length must be between 1 and 64 digits: " + length);
+            }
+            this.suffix = suffix;
+            this.baseNameResolver = baseNameResolver;
+            this.javaLangPackagePrefix = javaLangPackagePrefix;
+            this.length = length;
+        }
+
+        /**
+         * Returns the preliminary name of a type which must only be used for creating the type via
+         * {@link SuffixingContentHash#make(DynamicType.Builder)}.
+         *
+         * @param superClass The super class of the created type.
+         * @return The preliminary name of the created type.
+         */
+        @Override
+        protected String name(TypeDescription superClass) {
+            String baseName = baseNameResolver.resolve(superClass);
+            if (baseName.startsWith(JAVA_PACKAGE) && !javaLangPackagePrefix.equals("")) {
+                baseName = javaLangPackagePrefix + "." + baseName;
+            }
+            return baseName + "$" + suffix;
+        }
+
+        /**
+         * Creates a type that is named by the hash of its normalized class file. The supplied builder should carry the preliminary
+         * name that was determined by this naming strategy. The type is created twice, once to compute its hash and once with its
+         * final name.
+         *
+         * @param builder The builder of the type to create.
+         * @param <T>     The loaded type of the created type.
+         * @return The created type which is named by the hash of its normalized class file.
+         */
+        public <T> DynamicType.Unloaded<T> make(DynamicType.Builder<T> builder) {
+            DynamicType.Unloaded<T> preliminary = builder.make();
+            String hash = hash(preliminary.getTypeDescription(), preliminary.getBytes());
+            DynamicType.Unloaded<T> dynamicType = builder.name(preliminary.getTypeDescription().getName() + "$" + hash.substring(0, length)).make();
+            if (!hash.equals(hash(dynamicType.getTypeDescription(), dynamicType.getBytes()))) {
+                throw new IllegalStateException("The creation of " + preliminary.getTypeDescription() + " is not deterministic and cannot be named by its content");
+            }
+            return dynamicType;
+        }
+
+        /**
+         * Computes the hexadecimal representation of the hash of a normalized class file.
+         *
+         * @param typeDescription      A description of the type that is represented by the class file.
+         * @param binaryRepresentation The class file to hash.
+         * @return A hexadecimal representation of the normalized class file's hash.
+         */
+        protected static String hash(TypeDescription typeDescription, byte[] binaryRepresentation) {
+            ClassReader classReader = OpenedClassReader.of(binaryRepresentation);
+            SyntheticMemberCollector collector = new SyntheticMemberCollector();
+            classReader.accept(collector, ClassReader.SKIP_CODE);
+            ClassWriter classWriter = new ClassWriter(AsmVisitorWrapper.NO_FLAGS);
+            classReader.accept(new ClassRemapper(classWriter, new Normalizer(typeDescription.getInternalName(), collector.getFields(), collector.getMethods())),
+                    AsmVisitorWrapper.NO_FLAGS);
+            byte[] digest;
+            try {
+                digest = MessageDigest.getInstance(ALGORITHM).digest(classWriter.toByteArray());
+            } catch (NoSuchAlgorithmException exception) {
+                throw new IllegalStateException("Cannot resolve " + ALGORITHM + " message digest", exception);
+            }
+            char[] hash = new char[digest.length * 2];
+            for (int index = 0; index < digest.length; index++) {
+                hash[index * 2] = HEX[(digest[index] >>> 4) & 0xF];
+                hash[index * 2 + 1] = HEX[digest[index] & 0xF];
+            }
+            return new String(hash);
+        }
+
+        /**
+         * A class visitor that collects the names and descriptors of all synthetic fields and methods in their declaration order.
+         */
+        protected static class SyntheticMemberCollector extends ClassVisitor {
+
+            /**
+             * The names and descriptors of all synthetic fields.
+             */
+            private final List<String> fields;
+
+            /**
+             * The names and descriptors of all synthetic methods.
+             */
+            private final List<String> methods;
+
+            /**
+             * Creates a new collector for synthetic members.
+             */
+            protected SyntheticMemberCollector() {
+                super(OpenedClassReader.ASM_API);
+                fields = new ArrayList<String>();
+                methods = new ArrayList<String>();
+            }
+
+            @Override
+            public FieldVisitor visitField(int modifiers, String internalName, String descriptor, String signature, Object value) {
+                if ((modifiers & Opcodes.ACC_SYNTHETIC) != 0) {
+                    fields.add(internalName + descriptor);
+                }
+                return null;
+            }
+
+            @Override
+            public MethodVisitor visitMethod(int modifiers, String internalName, String descriptor, String signature, String[] exception) {
+                if ((modifiers & Opcodes.ACC_SYNTHETIC) != 0) {
+                    methods.add(internalName + descriptor);
+                }
+                return null;
+            }
+
+            /**
+             * Returns the names and descriptors of all synthetic fields.
+             *
+             * @return The names and descriptors of all synthetic fields.
+             */
+            protected List<String> getFields() {
+                return fields;
+            }
+
+            /**
+             * Returns the names and descriptors of all synthetic methods.
+             *
+             * @return The names and descriptors of all synthetic methods.
+             */
+            protected List<String> getMethods() {
+                return methods;
+            }
+        }
+
+        /**
+         * A remapper that replaces the instrumented type's name, the names of types that are prefixed by this name and the
+         * names of the instrumented type's synthetic members by names that only depend on their order of appearance.
+         */
+        protected static class Normalizer extends Remapper {
+
+            /**
+             * The name that replaces the instrumented type's internal name.
+             */
+            private static final String NAME = "net/bytebuddy/ContentHash";
+
+            /**
+             * The name prefix for synthetic members.
+             */
+            private static final String SYNTHETIC = "synthetic$";
+
+            /**
+             * The internal name of the instrumented type.
+             */
+            private final String internalName;
+
+            /**
+             * The names and descriptors of the instrumented type's synthetic fields.
+             */
+            private final List<String> fields;
+
+            /**
+             * The names and descriptors of the instrumented type's synthetic methods.
+             */
+            private final List<String> methods;
+
+            /**
+             * A mapping of internal names of types that are prefixed by the instrumented type's name to their normalized names.
+             */
+            private final Map<String, String> types;
+
+            /**
+             * Creates a new normalizer.
+             *
+             * @param internalName The internal name of the instrumented type.
+             * @param fields       The names and descriptors of the instrumented type's synthetic fields.
+             * @param methods      The names and descriptors of the instrumented type's synthetic methods.
+             */
+            protected Normalizer(String internalName, List<String> fields, List<String> methods) {
+                this.internalName = internalName;
+                this.fields = fields;
+                this.methods = methods;
+                types = new HashMap<String, String>();
+            }
+
+            @Override
+            public String map(String internalName) {
+                if (internalName.equals(this.internalName)) {
+                    return NAME;
+                } else if (internalName.startsWith(this.internalName + "$")) {
+                    String name = types.get(internalName);
+                    if (name == null) {
+                        name = NAME + "$" + types.size();
+                        types.put(internalName, name);
+                    }
+                    return name;
+                } else {
+                    return internalName;
+                }
+            }
+
+            @Override
+            public String mapFieldName(String owner, String name, String descriptor) {
+                int index = owner.equals(internalName)
+                        ? fields.indexOf(name + descriptor)
+                        : -1;
+                return index == -1
+                        ? name
+                        : SYNTHETIC + index;
+            }
+
+            @Override
+            public String mapMethodName(String owner, String name, String descriptor) {
+                int index = owner.equals(internalName)
+                        ? methods.indexOf(name + descriptor)
+                        : -1;
+                return index == -1
+                        ? name
+                        : SYNTHETIC + index;
+            }
+
+            @Override
+            public Object mapValue(Object value) {
+                if (value instanceof String) {
+                    String name = ((String) value).replace('.', '/');
+                    if (name.equals(internalName) || name.startsWith(internalName + "$")) {
+                        return value.equals(name)
+                                ? map(name)
+                                : map(name).replace('/', '.');
+                    }
+                }
+                return super.mapValue(value);
+            }
+        }
+    }
 }
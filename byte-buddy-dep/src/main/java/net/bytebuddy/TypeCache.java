@@ -17,16 +17,18 @@ package net.bytebuddy;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import net.bytebuddy.build.CachedReturnPlugin;
+import net.bytebuddy.build.HashCodeAndEqualsPlugin;
 import net.bytebuddy.utility.CompoundList;
 
 import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.util.*;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * <p>
@@ -69,6 +71,11 @@ public class TypeCache<T> extends ReferenceQueue<ClassLoader> {
      */
     protected final ConcurrentMap<StorageKey, ConcurrentMap<T, Reference<Class<?>>>> cache;
 
+    /**
+     * The types that are currently created by {@link TypeCache#findOrInsertConcurrently(ClassLoader, Object, Callable)}.
+     */
+    protected final ConcurrentMap<CreationKey<T>, FutureTask<Class<?>>> creations;
+
     /**
      * Creates a new type cache.
      *
@@ -77,6 +84,7 @@ public class TypeCache<T> extends ReferenceQueue<ClassLoader> {
     public TypeCache(Sort sort) {
         this.sort = sort;
         cache = new ConcurrentHashMap<StorageKey, ConcurrentMap<T, Reference<Class<?>>>>();
+        creations = new ConcurrentHashMap<CreationKey<T>, FutureTask<Class<?>>>();
     }
 
     /**
@@ -86,8 +94,20 @@ public class TypeCache<T> extends ReferenceQueue<ClassLoader> {
      * @param key         The key for the type in question.
      * @return The stored type or {@code null} if no type was stored.
      */
-    @SuppressFBWarnings(value = "GC_UNRELATED_TYPES", justification = "Cross-comparison is intended")
     public Class<?> find(ClassLoader classLoader, T key) {
+        return lookup(classLoader, key);
+    }
+
+    /**
+     * Looks up a stored type. Other than {@link TypeCache#find(ClassLoader, Object)}, this method is not meant to be overridden
+     * and is used by this cache whenever it checks for a stored type as part of another operation.
+     *
+     * @param classLoader The class loader for which this type is stored.
+     * @param key         The key for the type in question.
+     * @return The stored type or {@code null} if no type was stored.
+     */
+    @SuppressFBWarnings(value = "GC_UNRELATED_TYPES", justification = "Cross-comparison is intended")
+    protected Class<?> lookup(ClassLoader classLoader, T key) {
         ConcurrentMap<T, Reference<Class<?>>> storage = cache.get(new LookupKey(classLoader));
         if (storage == null) {
             return NOT_FOUND;
@@ -113,7 +133,7 @@ public class TypeCache<T> extends ReferenceQueue<ClassLoader> {
     public Class<?> insert(ClassLoader classLoader, T key, Class<?> type) {
         ConcurrentMap<T, Reference<Class<?>>> storage = cache.get(new LookupKey(classLoader));
         if (storage == null) {
-            storage = new ConcurrentHashMap<T, Reference<Class<?>>>();
+            storage = makeStorage();
             ConcurrentMap<T, Reference<Class<?>>> previous = cache.putIfAbsent(new StorageKey(classLoader, this), storage);
             if (previous != null) {
                 storage = previous;
@@ -145,7 +165,7 @@ public class TypeCache<T> extends ReferenceQueue<ClassLoader> {
      * @return The lazily created type or a previously submitted type for the same class loader and key combination.
      */
     public Class<?> findOrInsert(ClassLoader classLoader, T key, Callable<Class<?>> lazy) {
-        Class<?> type = find(classLoader, key);
+        Class<?> type = lookup(classLoader, key);
         if (type != null) {
             return type;
         } else {
@@ -167,7 +187,7 @@ public class TypeCache<T> extends ReferenceQueue<ClassLoader> {
      * @return The lazily created type or a previously submitted type for the same class loader and key combination.
      */
     public Class<?> findOrInsert(ClassLoader classLoader, T key, Callable<Class<?>> lazy, Object monitor) {
-        Class<?> type = find(classLoader, key);
+        Class<?> type = lookup(classLoader, key);
         if (type != null) {
             return type;
         } else {
@@ -177,6 +197,60 @@ public class TypeCache<T> extends ReferenceQueue<ClassLoader> {
         }
     }
 
+    /**
+     * Finds an existing type or inserts a new one if the previous type was not found. Concurrent invocations for the same class
+     * loader and key await a single creation of the type whereas types for different keys are created concurrently. No monitor
+     * is held while a type is created or awaited such that this method does not pin virtual threads. The lazy creator must not
+     * invoke this method for the same class loader and key as it would otherwise await its own completion.
+     *
+     * @param classLoader The class loader for which this type is stored.
+     * @param key         The key for the type in question.
+     * @param lazy        A lazy creator for the type to insert of no previous type was stored in the cache.
+     * @return The lazily created type or a previously submitted type for the same class loader and key combination.
+     */
+    public Class<?> findOrInsertConcurrently(ClassLoader classLoader, T key, Callable<Class<?>> lazy) {
+        Class<?> type = lookup(classLoader, key);
+        if (type != null) {
+            return type;
+        }
+        CreationKey<T> creationKey = new CreationKey<T>(classLoader, key);
+        FutureTask<Class<?>> creation = new FutureTask<Class<?>>(new Creation(classLoader, key, lazy)), previous = creations.putIfAbsent(creationKey, creation);
+        if (previous == null) {
+            try {
+                creation.run();
+            } finally {
+                creations.remove(creationKey, creation);
+            }
+        } else {
+            creation = previous;
+        }
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return creation.get();
+                } catch (InterruptedException ignored) {
+                    interrupted = true;
+                }
+            }
+        } catch (ExecutionException exception) {
+            throw new IllegalArgumentException("Could not create type", exception.getCause());
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Creates a storage for the types of a single class loader.
+     *
+     * @return A storage for the types of a single class loader.
+     */
+    protected ConcurrentMap<T, Reference<Class<?>>> makeStorage() {
+        return new ConcurrentHashMap<T, Reference<Class<?>>>();
+    }
+
     /**
      * Removes any stale class loader entries from the cache.
      */
@@ -317,6 +391,95 @@ public class TypeCache<T> extends ReferenceQueue<ClassLoader> {
         }
     }
 
+    /**
+     * A key for a type that is currently created. As such a key is only retained while a type is created, it references its class loader strongly.
+     *
+     * @param <S> The type of the key that is used for identifying stored classes per class loader.
+     */
+    protected static class CreationKey<S> {
+
+        /**
+         * The class loader for which the type is created.
+         */
+        private final ClassLoader classLoader;
+
+        /**
+         * The key for the type that is created.
+         */
+        private final S key;
+
+        /**
+         * Creates a new creation key.
+         *
+         * @param classLoader The class loader for which the type is created.
+         * @param key         The key for the type that is created.
+         */
+        protected CreationKey(ClassLoader classLoader, S key) {
+            this.classLoader = classLoader;
+            this.key = key;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(classLoader) + key.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            } else if (other == null || getClass() != other.getClass()) {
+                return false;
+            }
+            CreationKey<?> creationKey = (CreationKey<?>) other;
+            return classLoader == creationKey.classLoader && key.equals(creationKey.key);
+        }
+    }
+
+    /**
+     * A creation of a type that is inserted into this cache unless another type was inserted previously.
+     */
+    protected class Creation implements Callable<Class<?>> {
+
+        /**
+         * The class loader for which this type is stored.
+         */
+        private final ClassLoader classLoader;
+
+        /**
+         * The key for the type in question.
+         */
+        private final T key;
+
+        /**
+         * A lazy creator for the type to insert.
+         */
+        private final Callable<Class<?>> lazy;
+
+        /**
+         * Creates a new creation.
+         *
+         * @param classLoader The class loader for which this type is stored.
+         * @param key         The key for the type in question.
+         * @param lazy        A lazy creator for the type to insert.
+         */
+        protected Creation(ClassLoader classLoader, T key, Callable<Class<?>> lazy) {
+            this.classLoader = classLoader;
+            this.key = key;
+            this.lazy = lazy;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public Class<?> call() throws Exception {
+            Class<?> type = lookup(classLoader, key);
+            return type == null
+                    ? insert(classLoader, key, lazy.call())
+                    : type;
+        }
+    }
+
     /**
      * An implementation of a {@link TypeCache} where obsolete references are cleared upon any call.
      *
@@ -379,6 +542,627 @@ public class TypeCache<T> extends ReferenceQueue<ClassLoader> {
                 expungeStaleEntries();
             }
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public Class<?> findOrInsertConcurrently(ClassLoader classLoader, S key, Callable<Class<?>> builder) {
+            try {
+                return super.findOrInsertConcurrently(classLoader, key, builder);
+            } finally {
+                expungeStaleEntries();
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * An implementation of a {@link TypeCache} that retains a maximum number of types per class loader and, optionally, a maximum number
+     * of types overall. If a bound is exceeded, the least recently used type of the class loader or of the entire cache is evicted.
+     * Additionally, this cache counts its hits, misses and evictions as well as the number of types it created and the time it took
+     * to create them. Every public lookup method counts exactly one hit or miss. As access order is tracked on every lookup, all
+     * storages of this cache are guarded by a single lock.
+     * </p>
+     * <p>
+     * <b>Important</b>: Evicting a type only removes the cache's reference to it. The type remains loaded until its class loader becomes
+     * eligible for garbage collection. If a type is evicted and requested again, a new type is typically created. If such types are
+     * defined in a long-living class loader, the consumed metaspace therefore continues to grow despite the bounds of this cache.
+     * A bounded cache only limits metaspace consumption if evicted types are defined in class loaders that are themselves collectable.
+     * </p>
+     *
+     * @param <S> The type of the key that is used for identifying stored classes per class loader. Such keys must not strongly reference any
+     *            types or class loaders without potentially corrupting the garbage eligibility of stored classes. As the storage is segmented
+     *            by class loader, it is normally sufficient to store types by their name.
+     * @see TypeCache
+     */
+    public static class WithMaximumSize<S> extends TypeCache<S> {
+
+        /**
+         * Indicates that the overall number of types is not bounded.
+         */
+        private static final int UNBOUNDED = Integer.MAX_VALUE;
+
+        /**
+         * The maximum number of types that are retained per class loader.
+         */
+        private final int maximumSize;
+
+        /**
+         * The maximum number of types that are retained overall.
+         */
+        private final int overallMaximumSize;
+
+        /**
+         * The lock that guards all storages of this cache if the overall number of types is bounded. Otherwise, every storage
+         * is guarded by its own lock.
+         */
+        private final Object monitor;
+
+        /**
+         * All types that are retained by this cache in their access order. This map is only maintained if the overall
+         * number of types is bounded.
+         */
+        private final Map<StoredType, Boolean> types;
+
+        /**
+         * The number of lookups that found a type.
+         */
+        private final AtomicLong hits;
+
+        /**
+         * The number of lookups that did not find a type.
+         */
+        private final AtomicLong misses;
+
+        /**
+         * The number of types that were evicted.
+         */
+        private final AtomicLong evictions;
+
+        /**
+         * The number of types that were created.
+         */
+        private final AtomicLong creations;
+
+        /**
+         * The accumulated time it took to create types, in nanoseconds.
+         */
+        private final AtomicLong creationTime;
+
+        /**
+         * Creates a new type cache with a maximum size per class loader.
+         *
+         * @param sort        The reference type to use for stored types.
+         * @param maximumSize The maximum number of types that are retained per class loader.
+         */
+        public WithMaximumSize(Sort sort, int maximumSize) {
+            this(sort, maximumSize, UNBOUNDED);
+        }
+
+        /**
+         * Creates a new type cache with a maximum size per class loader and overall.
+         *
+         * @param sort               The reference type to use for stored types.
+         * @param maximumSize        The maximum number of types that are retained per class loader.
+         * @param overallMaximumSize The maximum number of types that are retained overall.
+         */
+        public WithMaximumSize(Sort sort, int maximumSize, int overallMaximumSize) {
+            super(sort);
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+            } else if (overallMaximumSize < 1) {
+                throw new IllegalArgumentException("Overall maximum size must be positive: " + overallMaximumSize);
+            }
+            this.maximumSize = maximumSize;
+            this.overallMaximumSize = overallMaximumSize;
+            monitor = new Object();
+            types = new LinkedHashMap<StoredType, Boolean>(16, 0.75f, true);
+            hits = new AtomicLong();
+            misses = new AtomicLong();
+            evictions = new AtomicLong();
+            creations = new AtomicLong();
+            creationTime = new AtomicLong();
+        }
+
+        @Override
+        protected ConcurrentMap<S, Reference<Class<?>>> makeStorage() {
+            return new BoundedStorage();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public Class<?> find(ClassLoader classLoader, S key) {
+            Class<?> type = super.find(classLoader, key);
+            (type == null ? misses : hits).incrementAndGet();
+            return type;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public Class<?> findOrInsert(ClassLoader classLoader, S key, Callable<Class<?>> lazy) {
+            Class<?> type = lookup(classLoader, key);
+            if (type != null) {
+                hits.incrementAndGet();
+                return type;
+            }
+            misses.incrementAndGet();
+            return super.findOrInsert(classLoader, key, new TimedCreation(lazy));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public Class<?> findOrInsert(ClassLoader classLoader, S key, Callable<Class<?>> lazy, Object monitor) {
+            Class<?> type = lookup(classLoader, key);
+            if (type != null) {
+                hits.incrementAndGet();
+                return type;
+            }
+            synchronized (monitor) {
+                return findOrInsert(classLoader, key, lazy);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public Class<?> findOrInsertConcurrently(ClassLoader classLoader, S key, Callable<Class<?>> lazy) {
+            Class<?> type = lookup(classLoader, key);
+            if (type != null) {
+                hits.incrementAndGet();
+                return type;
+            }
+            misses.incrementAndGet();
+            return super.findOrInsertConcurrently(classLoader, key, new TimedCreation(lazy));
+        }
+
+        @Override
+        public void expungeStaleEntries() {
+            Reference<?> reference;
+            while ((reference = poll()) != null) {
+                ConcurrentMap<S, Reference<Class<?>>> storage = cache.remove(reference);
+                if (storage != null) {
+                    storage.clear();
+                }
+            }
+        }
+
+        @Override
+        public void clear() {
+            synchronized (monitor) {
+                super.clear();
+                types.clear();
+            }
+        }
+
+        /**
+         * Returns the number of lookups that found a type.
+         *
+         * @return The number of lookups that found a type.
+         */
+        public long getHits() {
+            return hits.get();
+        }
+
+        /**
+         * Returns the number of lookups that did not find a type.
+         *
+         * @return The number of lookups that did not find a type.
+         */
+        public long getMisses() {
+            return misses.get();
+        }
+
+        /**
+         * Returns the number of types that were evicted as the maximum size of a class loader's storage or of the entire cache was exceeded.
+         *
+         * @return The number of types that were evicted.
+         */
+        public long getEvictions() {
+            return evictions.get();
+        }
+
+        /**
+         * Returns the number of types that were created by this cache's lazy creators.
+         *
+         * @return The number of types that were created.
+         */
+        public long getCreations() {
+            return creations.get();
+        }
+
+        /**
+         * Returns the accumulated time it took to create types by this cache's lazy creators.
+         *
+         * @param timeUnit The time unit of the returned time.
+         * @return The accumulated time it took to create types.
+         */
+        public long getCreationTime(TimeUnit timeUnit) {
+            return timeUnit.convert(creationTime.get(), TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * A lazy creator that records the time it takes to create a type.
+         */
+        protected class TimedCreation implements Callable<Class<?>> {
+
+            /**
+             * The lazy creator to delegate to.
+             */
+            private final Callable<Class<?>> lazy;
+
+            /**
+             * Creates a new timed creation.
+             *
+             * @param lazy The lazy creator to delegate to.
+             */
+            protected TimedCreation(Callable<Class<?>> lazy) {
+                this.lazy = lazy;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public Class<?> call() throws Exception {
+                long started = System.nanoTime();
+                try {
+                    return lazy.call();
+                } finally {
+                    creations.incrementAndGet();
+                    creationTime.addAndGet(System.nanoTime() - started);
+                }
+            }
+        }
+
+        /**
+         * A type that is retained by a storage of this cache.
+         */
+        protected class StoredType {
+
+            /**
+             * The storage that retains the type.
+             */
+            private final BoundedStorage storage;
+
+            /**
+             * The key of the type within its storage.
+             */
+            private final Object key;
+
+            /**
+             * Creates a new stored type.
+             *
+             * @param storage The storage that retains the type.
+             * @param key     The key of the type within its storage.
+             */
+            protected StoredType(BoundedStorage storage, Object key) {
+                this.storage = storage;
+                this.key = key;
+            }
+
+            @Override
+            public int hashCode() {
+                return 31 * System.identityHashCode(storage) + key.hashCode();
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                if (this == other) {
+                    return true;
+                } else if (other == null || getClass() != other.getClass()) {
+                    return false;
+                }
+                StoredType storedType = (StoredType) other;
+                return storage == storedType.storage && key.equals(storedType.key);
+            }
+        }
+
+        /**
+         * A storage of a single class loader's types which evicts the least recently used type once its maximum size or the
+         * overall maximum size of the cache is exceeded.
+         */
+        @SuppressFBWarnings(value = {"SE_BAD_FIELD", "SE_INNER_CLASS"}, justification = "Serialization is not used")
+        protected class BoundedStorage extends LinkedHashMap<S, Reference<Class<?>>> implements ConcurrentMap<S, Reference<Class<?>>> {
+
+            /**
+             * The class's serial version UID.
+             */
+            private static final long serialVersionUID = 1L;
+
+            /**
+             * The lock that guards this storage. If the overall number of types is bounded, all storages share the cache's lock
+             * as a type might be evicted from another storage than the one a type is added to.
+             */
+            private final Object lock;
+
+            /**
+             * Creates a new bounded storage.
+             */
+            protected BoundedStorage() {
+                super(16, 0.75f, true);
+                lock = overallMaximumSize == UNBOUNDED
+                        ? new Object()
+                        : monitor;
+            }
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<S, Reference<Class<?>>> eldest) {
+                if (size() > maximumSize) {
+                    if (overallMaximumSize != UNBOUNDED) {
+                        types.remove(new StoredType(this, eldest.getKey()));
+                    }
+                    evictions.incrementAndGet();
+                    return true;
+                } else {
+                    return false;
+                }
+            }
+
+            /**
+             * Stores a type and registers it for the overall bound of the cache. Must only be invoked while holding this storage's lock.
+             *
+             * @param key   The key of the type.
+             * @param value The reference to the type.
+             * @return The previous reference to a type for the same key or {@code null} if no such reference existed.
+             */
+            private Reference<Class<?>> doPut(S key, Reference<Class<?>> value) {
+                Reference<Class<?>> previous = super.put(key, value);
+                if (overallMaximumSize != UNBOUNDED) {
+                    types.put(new StoredType(this, key), Boolean.TRUE);
+                    Iterator<StoredType> iterator = types.keySet().iterator();
+                    while (types.size() > overallMaximumSize) {
+                        StoredType eldest = iterator.next();
+                        iterator.remove();
+                        eldest.storage.doEvict(eldest.key);
+                        evictions.incrementAndGet();
+                    }
+                }
+                return previous;
+            }
+
+            /**
+             * Removes a type that was evicted due to the overall bound of the cache. Must only be invoked while holding this storage's lock.
+             *
+             * @param key The key of the type.
+             */
+            private void doEvict(Object key) {
+                super.remove(key);
+            }
+
+            /**
+             * Removes a type and unregisters it from the overall bound of the cache. Must only be invoked while holding this storage's lock.
+             *
+             * @param key The key of the type.
+             * @return The removed reference to a type or {@code null} if no reference was stored for the key.
+             */
+            private Reference<Class<?>> doRemove(Object key) {
+                Reference<Class<?>> previous = super.remove(key);
+                if (overallMaximumSize != UNBOUNDED && previous != null) {
+                    types.remove(new StoredType(this, key));
+                }
+                return previous;
+            }
+
+            @Override
+            public Reference<Class<?>> get(Object key) {
+                synchronized (lock) {
+                    Reference<Class<?>> reference = super.get(key);
+                    if (overallMaximumSize != UNBOUNDED && reference != null) {
+                        types.get(new StoredType(this, key));
+                    }
+                    return reference;
+                }
+            }
+
+            @Override
+            public Reference<Class<?>> put(S key, Reference<Class<?>> value) {
+                synchronized (lock) {
+                    return doPut(key, value);
+                }
+            }
+
+            @Override
+            public Reference<Class<?>> remove(Object key) {
+                synchronized (lock) {
+                    return doRemove(key);
+                }
+            }
+
+            @Override
+            public int size() {
+                synchronized (lock) {
+                    return super.size();
+                }
+            }
+
+            @Override
+            public void clear() {
+                synchronized (lock) {
+                    if (overallMaximumSize != UNBOUNDED) {
+                        for (S key : keySet()) {
+                            types.remove(new StoredType(this, key));
+                        }
+                    }
+                    super.clear();
+                }
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public Reference<Class<?>> putIfAbsent(S key, Reference<Class<?>> value) {
+                synchronized (lock) {
+                    Reference<Class<?>> previous = super.get(key);
+                    return previous == null
+                            ? doPut(key, value)
+                            : previous;
+                }
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public boolean remove(Object key, Object value) {
+                synchronized (lock) {
+                    if (containsKey(key) && super.get(key).equals(value)) {
+                        doRemove(key);
+                        return true;
+                    } else {
+                        return false;
+                    }
+                }
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public boolean replace(S key, Reference<Class<?>> oldValue, Reference<Class<?>> newValue) {
+                synchronized (lock) {
+                    if (containsKey(key) && super.get(key).equals(oldValue)) {
+                        doPut(key, newValue);
+                        return true;
+                    } else {
+                        return false;
+                    }
+                }
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public Reference<Class<?>> replace(S key, Reference<Class<?>> value) {
+                synchronized (lock) {
+                    return containsKey(key)
+                            ? doPut(key, value)
+                            : null;
+                }
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                synchronized (lock) {
+                    return super.equals(other);
+                }
+            }
+
+            @Override
+            public int hashCode() {
+                synchronized (lock) {
+                    return super.hashCode();
+                }
+            }
+        }
+    }
+
+    /**
+     * A shared daemon thread that expunges stale entries of registered type caches in a fixed interval. This way, stale entries are
+     * removed outside of the lookup path of a cache. A registered type cache is only weakly referenced and its expunction is stopped
+     * once the type cache is garbage collected.
+     */
+    public static class BackgroundExpunction implements Runnable {
+
+        /**
+         * The executor service that runs the expunction of all registered type caches.
+         */
+        private static final ScheduledExecutorService EXECUTOR_SERVICE = Executors.newSingleThreadScheduledExecutor(DaemonThreadFactory.INSTANCE);
+
+        /**
+         * The type cache to expunge.
+         */
+        private final Reference<TypeCache<?>> typeCache;
+
+        /**
+         * The scheduled expunction or {@code null} if the expunction is not yet scheduled.
+         */
+        private volatile Future<?> future;
+
+        /**
+         * Creates a new background expunction.
+         *
+         * @param typeCache The type cache to expunge.
+         */
+        protected BackgroundExpunction(TypeCache<?> typeCache) {
+            this.typeCache = new WeakReference<TypeCache<?>>(typeCache);
+        }
+
+        /**
+         * Registers a type cache for the regular expunction of its stale entries.
+         *
+         * @param typeCache The type cache to expunge.
+         * @param interval  The interval in which stale entries are expunged.
+         * @param timeUnit  The time unit of the interval.
+         * @return A future that stops the expunction of the supplied cache when being cancelled.
+         */
+        public static Future<?> register(TypeCache<?> typeCache, long interval, TimeUnit timeUnit) {
+            BackgroundExpunction expunction = new BackgroundExpunction(typeCache);
+            expunction.future = EXECUTOR_SERVICE.scheduleWithFixedDelay(expunction, interval, interval, timeUnit);
+            return expunction.future;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public void run() {
+            TypeCache<?> typeCache = this.typeCache.get();
+            if (typeCache != null) {
+                typeCache.expungeStaleEntries();
+            } else if (future != null) {
+                future.cancel(false);
+            }
+        }
+
+        /**
+         * A thread factory for the daemon thread that expunges type caches. The thread is created with Byte Buddy's privileges only
+         * and without a context class loader such that it does not retain the class loader or the access control context of the
+         * thread that first registers a type cache.
+         */
+        protected enum DaemonThreadFactory implements ThreadFactory {
+
+            /**
+             * The singleton instance.
+             */
+            INSTANCE;
+
+            /**
+             * {@inheritDoc}
+             */
+            public Thread newThread(Runnable runnable) {
+                return AccessController.doPrivileged(new ThreadCreationAction(runnable));
+            }
+        }
+
+        /**
+         * A privileged action for creating the daemon thread that expunges type caches.
+         */
+        @HashCodeAndEqualsPlugin.Enhance
+        protected static class ThreadCreationAction implements PrivilegedAction<Thread> {
+
+            /**
+             * The runnable to execute by the created thread.
+             */
+            private final Runnable runnable;
+
+            /**
+             * Creates a new thread creation action.
+             *
+             * @param runnable The runnable to execute by the created thread.
+             */
+            protected ThreadCreationAction(Runnable runnable) {
+                this.runnable = runnable;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public Thread run() {
+                Thread thread = new Thread(runnable, "byte-buddy-type-cache-expunction");
+                thread.setDaemon(true);
+                thread.setContextClassLoader(null);
+                return thread;
+            }
+        }
     }
 
     /**
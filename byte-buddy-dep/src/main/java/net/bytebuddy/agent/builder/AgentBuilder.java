@@ -64,6 +64,7 @@ import net.bytebuddy.utility.CompoundList;
 import net.bytebuddy.utility.JavaConstant;
 import net.bytebuddy.utility.JavaModule;
 import net.bytebuddy.utility.JavaType;
+import net.bytebuddy.utility.OpenedClassReader;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
@@ -86,6 +87,7 @@ import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -2580,6 +2582,647 @@ public interface AgentBuilder {
                 }
             }
         }
+
+        /**
+         * <p>
+         * A transformer that applies a tiered instrumentation. Any matched method is first instrumented to only increment an
+         * {@link InvocationCounter} upon its invocation. A promotion job, as registered by {@link ForTieredInstrumentation#promotion(RedefinitionStrategy.ResubmissionScheduler)},
+         * regularly inspects these counters and retransforms the declaring types of methods that are selected by a {@link Tier}. Upon
+         * this retransformation, the selected methods are instrumented by the full method visitor wrapper, for example by an {@link Advice},
+         * while all other methods retain their invocation counter.
+         * </p>
+         * <p>
+         * <b>Important</b>: Instrumented methods invoke the {@link InvocationCounter} directly such that this class must be visible to any
+         * instrumented type, for example by adding Byte Buddy to the system or to the boot class path. Types that are loaded by the bootstrap
+         * loader can only be instrumented if Byte Buddy is appended to the boot class path, otherwise they fail with a {@link NoClassDefFoundError}
+         * upon their first invocation. Types of named modules must additionally read the module of Byte Buddy, for example by registering a
+         * {@link Listener.ModuleReadEdgeCompleting}. For promoting methods, the agent must be installed by using
+         * {@link RedefinitionStrategy#RETRANSFORMATION} and a transformer instance must not be shared among several agents.
+         * </p>
+         * <p>
+         * An invocation counter is released once its method was promoted, once the class loader of its declaring type is collected or once the
+         * promotion is reset. A released counter is reused by another method such that code that is still executing a previous version of a
+         * method might increment the counter of another method. As invocation counters only serve as a heuristic, this imprecision is accepted.
+         * </p>
+         */
+        class ForTieredInstrumentation implements Transformer {
+
+            /**
+             * The matcher for methods to apply the tiered instrumentation to.
+             */
+            private final ElementMatcher<? super MethodDescription> matcher;
+
+            /**
+             * The method visitor wrapper to apply to promoted methods.
+             */
+            private final AsmVisitorWrapper.ForDeclaredMethods.MethodVisitorWrapper methodVisitorWrapper;
+
+            /**
+             * The tier that determines what methods are promoted.
+             */
+            private final Tier tier;
+
+            /**
+             * A mapping of class loaders to the profiles of their instrumented types by the types' names.
+             */
+            private final ConcurrentMap<RedefinitionStrategy.ResubmissionStrategy.Enabled.StorageKey, ConcurrentMap<String, Profile>> profiles;
+
+            /**
+             * Creates a new transformer for a tiered instrumentation.
+             *
+             * @param matcher              The matcher for methods to apply the tiered instrumentation to.
+             * @param methodVisitorWrapper The method visitor wrapper to apply to promoted methods.
+             * @param tier                 The tier that determines what methods are promoted.
+             */
+            public ForTieredInstrumentation(ElementMatcher<? super MethodDescription> matcher,
+                                            AsmVisitorWrapper.ForDeclaredMethods.MethodVisitorWrapper methodVisitorWrapper,
+                                            Tier tier) {
+                this.matcher = matcher;
+                this.methodVisitorWrapper = methodVisitorWrapper;
+                this.tier = tier;
+                profiles = new ConcurrentHashMap<RedefinitionStrategy.ResubmissionStrategy.Enabled.StorageKey, ConcurrentMap<String, Profile>>();
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public DynamicType.Builder<?> transform(DynamicType.Builder<?> builder,
+                                                    TypeDescription typeDescription,
+                                                    ClassLoader classLoader,
+                                                    JavaModule module) {
+                return builder.visit(new AsmVisitorWrapper.ForDeclaredMethods().invokable(matcher, new Dispatcher(methodVisitorWrapper, profile(classLoader, typeDescription.getName()))));
+            }
+
+            /**
+             * Resolves the profile of a type, or registers a new profile if no such profile exists.
+             *
+             * @param classLoader The type's class loader or {@code null} if the type is loaded by the bootstrap loader.
+             * @param name        The type's binary name.
+             * @return The type's profile.
+             */
+            @SuppressFBWarnings(value = "GC_UNRELATED_TYPES", justification = "Use of unrelated key is intended for avoiding unnecessary weak reference")
+            protected Profile profile(ClassLoader classLoader, String name) {
+                ConcurrentMap<String, Profile> profiles = this.profiles.get(new RedefinitionStrategy.ResubmissionStrategy.Enabled.LookupKey(classLoader));
+                if (profiles == null) {
+                    profiles = new ConcurrentHashMap<String, Profile>();
+                    ConcurrentMap<String, Profile> previous = this.profiles.putIfAbsent(new RedefinitionStrategy.ResubmissionStrategy.Enabled.StorageKey(classLoader), profiles);
+                    if (previous != null) {
+                        profiles = previous;
+                    }
+                }
+                Profile profile = profiles.get(name);
+                if (profile == null) {
+                    profile = new Profile();
+                    Profile previous = profiles.putIfAbsent(name, profile);
+                    if (previous != null) {
+                        profile = previous;
+                    }
+                }
+                return profile;
+            }
+
+            /**
+             * Creates an installation listener that regularly promotes methods by retransforming their declaring types,
+             * applying each retransformation as a single batch.
+             *
+             * @param resubmissionScheduler The scheduler that is responsible for the regular inspection of invocation counters.
+             * @return An installation listener that needs to be registered with the agent builder that applies this transformer.
+             */
+            public InstallationListener promotion(RedefinitionStrategy.ResubmissionScheduler resubmissionScheduler) {
+                return promotion(resubmissionScheduler, RedefinitionStrategy.BatchAllocator.ForTotal.INSTANCE, RedefinitionStrategy.Listener.NoOp.INSTANCE);
+            }
+
+            /**
+             * Creates an installation listener that regularly promotes methods by retransforming their declaring types.
+             *
+             * @param resubmissionScheduler      The scheduler that is responsible for the regular inspection of invocation counters.
+             * @param redefinitionBatchAllocator The batch allocator to use for retransforming the declaring types of promoted methods.
+             * @param redefinitionListener       The redefinition listener to notify of retransformations of promoted methods' declaring types.
+             * @return An installation listener that needs to be registered with the agent builder that applies this transformer.
+             */
+            public InstallationListener promotion(RedefinitionStrategy.ResubmissionScheduler resubmissionScheduler,
+                                                  RedefinitionStrategy.BatchAllocator redefinitionBatchAllocator,
+                                                  RedefinitionStrategy.Listener redefinitionListener) {
+                return new Promotion(resubmissionScheduler, tier, profiles, redefinitionBatchAllocator, redefinitionListener);
+            }
+
+            /**
+             * A tier determines if a method's tiered instrumentation is promoted to the full instrumentation.
+             */
+            public interface Tier {
+
+                /**
+                 * Indicates that a method's invocation counter was not previously inspected.
+                 */
+                long UNOBSERVED = -1L;
+
+                /**
+                 * Determines if a method is promoted.
+                 *
+                 * @param count    The current amount of invocations of the method.
+                 * @param previous The amount of invocations of the method upon the previous inspection or {@link Tier#UNOBSERVED}
+                 *                 if this is the first inspection.
+                 * @return {@code true} if the method is to be promoted.
+                 */
+                boolean isPromoted(long count, long previous);
+
+                /**
+                 * A tier that promotes methods once they were invoked at least a given amount of times.
+                 */
+                @HashCodeAndEqualsPlugin.Enhance
+                class Hot implements Tier {
+
+                    /**
+                     * The minimal amount of invocations of a promoted method.
+                     */
+                    private final long threshold;
+
+                    /**
+                     * Creates a new tier for hot methods.
+                     *
+                     * @param threshold The minimal amount of invocations of a promoted method.
+                     */
+                    public Hot(long threshold) {
+                        this.threshold = threshold;
+                    }
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    public boolean isPromoted(long count, long previous) {
+                        return count >= threshold;
+                    }
+                }
+
+                /**
+                 * A tier that promotes methods that were invoked less than a given amount of times between two inspections.
+                 */
+                @HashCodeAndEqualsPlugin.Enhance
+                class Cold implements Tier {
+
+                    /**
+                     * The amount of invocations between two inspections that a promoted method must not reach.
+                     */
+                    private final long threshold;
+
+                    /**
+                     * Creates a new tier for cold methods.
+                     *
+                     * @param threshold The amount of invocations between two inspections that a promoted method must not reach.
+                     */
+                    public Cold(long threshold) {
+                        this.threshold = threshold;
+                    }
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    public boolean isPromoted(long count, long previous) {
+                        return previous != UNOBSERVED && count - previous < threshold;
+                    }
+                }
+            }
+
+            /**
+             * A registry of invocation counters that is invoked directly from instrumented methods. Counters are allocated
+             * in chunks such that incrementing a counter never competes with the allocation of another counter. Within a chunk,
+             * counters are padded such that two counters never share a cache line. Released counters are reused by subsequent
+             * allocations.
+             */
+            public static class InvocationCounter {
+
+                /**
+                 * The shift of a counter's index to determine its chunk.
+                 */
+                private static final int SHIFT = 8;
+
+                /**
+                 * The shift of a counter's position within its chunk to determine its padded offset, spanning 128 bytes per counter.
+                 */
+                private static final int PADDING = 4;
+
+                /**
+                 * The mask of a counter's index to determine its position within its chunk.
+                 */
+                private static final int MASK = (1 << SHIFT) - 1;
+
+                /**
+                 * The internal name of this class.
+                 */
+                protected static final String NAME = Type.getInternalName(InvocationCounter.class);
+
+                /**
+                 * The name of the method for incrementing an invocation counter.
+                 */
+                protected static final String INCREMENT = "increment";
+
+                /**
+                 * The descriptor of the method for incrementing an invocation counter.
+                 */
+                protected static final String DESCRIPTOR = "(I)V";
+
+                /**
+                 * The chunks of all allocated invocation counters.
+                 */
+                private static volatile AtomicLongArray[] chunks = new AtomicLongArray[0];
+
+                /**
+                 * The index of the next allocated invocation counter.
+                 */
+                private static int next;
+
+                /**
+                 * The indices of released invocation counters that can be reused.
+                 */
+                private static int[] released = new int[0];
+
+                /**
+                 * The amount of released invocation counters.
+                 */
+                private static int size;
+
+                /**
+                 * An invocation counter is not supposed to be instantiated.
+                 */
+                private InvocationCounter() {
+                    throw new UnsupportedOperationException("This class is a utility class and not supposed to be instantiated");
+                }
+
+                /**
+                 * Increments an invocation counter.
+                 *
+                 * @param index The counter's index.
+                 */
+                public static void increment(int index) {
+                    chunks[index >>> SHIFT].incrementAndGet((index & MASK) << PADDING);
+                }
+
+                /**
+                 * Reads an invocation counter.
+                 *
+                 * @param index The counter's index.
+                 * @return The counter's current value.
+                 */
+                public static long get(int index) {
+                    return chunks[index >>> SHIFT].get((index & MASK) << PADDING);
+                }
+
+                /**
+                 * Allocates a new invocation counter.
+                 *
+                 * @return The new counter's index.
+                 */
+                protected static synchronized int make() {
+                    if (size > 0) {
+                        int index = released[--size];
+                        chunks[index >>> SHIFT].set((index & MASK) << PADDING, 0L);
+                        return index;
+                    }
+                    if ((next & MASK) == 0) {
+                        AtomicLongArray[] chunks = new AtomicLongArray[(next >>> SHIFT) + 1];
+                        System.arraycopy(InvocationCounter.chunks, 0, chunks, 0, chunks.length - 1);
+                        chunks[chunks.length - 1] = new AtomicLongArray((MASK + 1) << PADDING);
+                        InvocationCounter.chunks = chunks;
+                    }
+                    return next++;
+                }
+
+                /**
+                 * Releases an invocation counter such that it can be reused by a subsequent allocation.
+                 *
+                 * @param index The index of the released counter.
+                 */
+                protected static synchronized void release(int index) {
+                    if (size == released.length) {
+                        int[] released = new int[Math.max(16, size * 2)];
+                        System.arraycopy(InvocationCounter.released, 0, released, 0, size);
+                        InvocationCounter.released = released;
+                    }
+                    released[size++] = index;
+                }
+            }
+
+            /**
+             * A profile of an instrumented type.
+             */
+            protected static class Profile {
+
+                /**
+                 * A mapping of method signatures to the index of their invocation counter.
+                 */
+                private final ConcurrentMap<String, Integer> counters;
+
+                /**
+                 * A mapping of method signatures to their invocation count upon the previous inspection.
+                 */
+                private final ConcurrentMap<String, Long> observations;
+
+                /**
+                 * A mapping of method signatures of promoted methods.
+                 */
+                private final ConcurrentMap<String, Boolean> promoted;
+
+                /**
+                 * Creates a new profile.
+                 */
+                protected Profile() {
+                    counters = new ConcurrentHashMap<String, Integer>();
+                    observations = new ConcurrentHashMap<String, Long>();
+                    promoted = new ConcurrentHashMap<String, Boolean>();
+                }
+
+                /**
+                 * Returns the index of a method's invocation counter and allocates such a counter if it does not yet exist.
+                 *
+                 * @param signature The method's signature.
+                 * @return The index of the method's invocation counter.
+                 */
+                protected int counter(String signature) {
+                    Integer index = counters.get(signature);
+                    if (index == null) {
+                        index = InvocationCounter.make();
+                        Integer previous = counters.putIfAbsent(signature, index);
+                        if (previous != null) {
+                            index = previous;
+                        }
+                    }
+                    return index;
+                }
+
+                /**
+                 * Checks if a method is promoted.
+                 *
+                 * @param signature The method's signature.
+                 * @return {@code true} if the method is promoted.
+                 */
+                protected boolean isPromoted(String signature) {
+                    return promoted.containsKey(signature);
+                }
+
+                /**
+                 * Inspects all invocation counters of this profile and promotes any method that is selected by the supplied tier.
+                 * The counters of promoted methods are removed from this profile and added to the supplied list such that they
+                 * can be released once the promoted methods are no longer counting.
+                 *
+                 * @param tier     The tier to apply.
+                 * @param released A list to which the indices of the counters of promoted methods are added.
+                 * @return {@code true} if at least one method was promoted.
+                 */
+                protected boolean promote(Tier tier, List<Integer> released) {
+                    boolean promoted = false;
+                    for (Map.Entry<String, Integer> entry : counters.entrySet()) {
+                        if (!this.promoted.containsKey(entry.getKey())) {
+                            long count = InvocationCounter.get(entry.getValue());
+                            Long previous = observations.put(entry.getKey(), count);
+                            if (tier.isPromoted(count, previous == null ? Tier.UNOBSERVED : previous)) {
+                                this.promoted.put(entry.getKey(), Boolean.TRUE);
+                                observations.remove(entry.getKey());
+                                if (counters.remove(entry.getKey(), entry.getValue())) {
+                                    released.add(entry.getValue());
+                                }
+                                promoted = true;
+                            }
+                        }
+                    }
+                    return promoted;
+                }
+
+                /**
+                 * Releases all invocation counters of this profile.
+                 */
+                protected void release() {
+                    for (Map.Entry<String, Integer> entry : counters.entrySet()) {
+                        if (counters.remove(entry.getKey(), entry.getValue())) {
+                            InvocationCounter.release(entry.getValue());
+                        }
+                    }
+                    observations.clear();
+                }
+            }
+
+            /**
+             * A method visitor wrapper that applies either an invocation counter or the full method visitor wrapper, depending on
+             * if a method was promoted.
+             */
+            @HashCodeAndEqualsPlugin.Enhance
+            protected static class Dispatcher implements AsmVisitorWrapper.ForDeclaredMethods.MethodVisitorWrapper {
+
+                /**
+                 * The method visitor wrapper to apply to promoted methods.
+                 */
+                private final AsmVisitorWrapper.ForDeclaredMethods.MethodVisitorWrapper methodVisitorWrapper;
+
+                /**
+                 * The profile of the instrumented type.
+                 */
+                private final Profile profile;
+
+                /**
+                 * Creates a new dispatcher.
+                 *
+                 * @param methodVisitorWrapper The method visitor wrapper to apply to promoted methods.
+                 * @param profile              The profile of the instrumented type.
+                 */
+                protected Dispatcher(AsmVisitorWrapper.ForDeclaredMethods.MethodVisitorWrapper methodVisitorWrapper, Profile profile) {
+                    this.methodVisitorWrapper = methodVisitorWrapper;
+                    this.profile = profile;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public MethodVisitor wrap(TypeDescription instrumentedType,
+                                          MethodDescription instrumentedMethod,
+                                          MethodVisitor methodVisitor,
+                                          Implementation.Context implementationContext,
+                                          TypePool typePool,
+                                          int writerFlags,
+                                          int readerFlags) {
+                    String signature = instrumentedMethod.getInternalName() + instrumentedMethod.getDescriptor();
+                    if (profile.isPromoted(signature)) {
+                        return methodVisitorWrapper.wrap(instrumentedType,
+                                instrumentedMethod,
+                                methodVisitor,
+                                implementationContext,
+                                typePool,
+                                writerFlags,
+                                readerFlags);
+                    } else if (instrumentedMethod.isAbstract() || instrumentedMethod.isNative()) {
+                        return methodVisitor;
+                    } else {
+                        return new CountingMethodVisitor(methodVisitor, profile.counter(signature));
+                    }
+                }
+            }
+
+            /**
+             * A method visitor that increments an invocation counter upon entering a method.
+             */
+            protected static class CountingMethodVisitor extends MethodVisitor {
+
+                /**
+                 * The index of the invocation counter.
+                 */
+                private final int index;
+
+                /**
+                 * Creates a new counting method visitor.
+                 *
+                 * @param methodVisitor The method visitor to delegate to.
+                 * @param index         The index of the invocation counter.
+                 */
+                protected CountingMethodVisitor(MethodVisitor methodVisitor, int index) {
+                    super(OpenedClassReader.ASM_API, methodVisitor);
+                    this.index = index;
+                }
+
+                @Override
+                public void visitCode() {
+                    super.visitCode();
+                    super.visitLdcInsn(index);
+                    super.visitMethodInsn(Opcodes.INVOKESTATIC, InvocationCounter.NAME, InvocationCounter.INCREMENT, InvocationCounter.DESCRIPTOR, false);
+                }
+
+                @Override
+                public void visitMaxs(int maxStack, int maxLocals) {
+                    super.visitMaxs(Math.max(maxStack, 1), maxLocals);
+                }
+            }
+
+            /**
+             * An installation listener that regularly inspects the invocation counters of instrumented types and that retransforms
+             * any type that declares a promoted method.
+             */
+            protected static class Promotion extends InstallationListener.Adapter implements Runnable {
+
+                /**
+                 * The scheduler that is responsible for the regular inspection of invocation counters.
+                 */
+                private final RedefinitionStrategy.ResubmissionScheduler resubmissionScheduler;
+
+                /**
+                 * The tier that determines what methods are promoted.
+                 */
+                private final Tier tier;
+
+                /**
+                 * A mapping of class loaders to the profiles of their instrumented types by the types' names.
+                 */
+                private final ConcurrentMap<RedefinitionStrategy.ResubmissionStrategy.Enabled.StorageKey, ConcurrentMap<String, Profile>> profiles;
+
+                /**
+                 * The batch allocator to use.
+                 */
+                private final RedefinitionStrategy.BatchAllocator redefinitionBatchAllocator;
+
+                /**
+                 * The redefinition listener to notify.
+                 */
+                private final RedefinitionStrategy.Listener redefinitionListener;
+
+                /**
+                 * The instrumentation instance to use or {@code null} if the transformer is not yet installed.
+                 */
+                private volatile Instrumentation instrumentation;
+
+                /**
+                 * This promotion's cancelable or {@code null} if no cancelable was registered.
+                 */
+                private volatile RedefinitionStrategy.ResubmissionScheduler.Cancelable cancelable;
+
+                /**
+                 * Creates a new promotion.
+                 *
+                 * @param resubmissionScheduler      The scheduler that is responsible for the regular inspection of invocation counters.
+                 * @param tier                       The tier that determines what methods are promoted.
+                 * @param profiles                   A mapping of class loaders to the profiles of their instrumented types by the types' names.
+                 * @param redefinitionBatchAllocator The batch allocator to use.
+                 * @param redefinitionListener       The redefinition listener to notify.
+                 */
+                protected Promotion(RedefinitionStrategy.ResubmissionScheduler resubmissionScheduler,
+                                    Tier tier,
+                                    ConcurrentMap<RedefinitionStrategy.ResubmissionStrategy.Enabled.StorageKey, ConcurrentMap<String, Profile>> profiles,
+                                    RedefinitionStrategy.BatchAllocator redefinitionBatchAllocator,
+                                    RedefinitionStrategy.Listener redefinitionListener) {
+                    this.resubmissionScheduler = resubmissionScheduler;
+                    this.tier = tier;
+                    this.profiles = profiles;
+                    this.redefinitionBatchAllocator = redefinitionBatchAllocator;
+                    this.redefinitionListener = redefinitionListener;
+                }
+
+                @Override
+                public void onInstall(Instrumentation instrumentation, ResettableClassFileTransformer classFileTransformer) {
+                    this.instrumentation = instrumentation;
+                    cancelable = resubmissionScheduler.schedule(this);
+                }
+
+                @Override
+                public void onReset(Instrumentation instrumentation, ResettableClassFileTransformer classFileTransformer) {
+                    RedefinitionStrategy.ResubmissionScheduler.Cancelable cancelable = this.cancelable;
+                    if (cancelable != null) {
+                        cancelable.cancel();
+                    }
+                    Iterator<ConcurrentMap<String, Profile>> iterator = profiles.values().iterator();
+                    while (iterator.hasNext()) {
+                        for (Profile profile : iterator.next().values()) {
+                            profile.release();
+                        }
+                        iterator.remove();
+                    }
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public void run() {
+                    Instrumentation instrumentation = this.instrumentation;
+                    if (instrumentation == null) {
+                        return;
+                    }
+                    List<Class<?>> types = new ArrayList<Class<?>>();
+                    List<Integer> released = new ArrayList<Integer>();
+                    Iterator<Map.Entry<RedefinitionStrategy.ResubmissionStrategy.Enabled.StorageKey, ConcurrentMap<String, Profile>>> entries = profiles.entrySet().iterator();
+                    while (entries.hasNext()) {
+                        if (Thread.currentThread().isInterrupted()) {
+                            return;
+                        }
+                        Map.Entry<RedefinitionStrategy.ResubmissionStrategy.Enabled.StorageKey, ConcurrentMap<String, Profile>> entry = entries.next();
+                        ClassLoader classLoader = entry.getKey().get();
+                        if (classLoader == null && !entry.getKey().isBootstrapLoader()) {
+                            entries.remove();
+                            for (Profile profile : entry.getValue().values()) {
+                                profile.release();
+                            }
+                            continue;
+                        }
+                        for (Map.Entry<String, Profile> profile : entry.getValue().entrySet()) {
+                            if (profile.getValue().promote(tier, released)) {
+                                try {
+                                    types.add(Class.forName(profile.getKey(), false, classLoader));
+                                } catch (Throwable ignored) {
+                                    /* do nothing */
+                                }
+                            }
+                        }
+                    }
+                    if (!types.isEmpty()) {
+                        RedefinitionStrategy.Collector collector = RedefinitionStrategy.RETRANSFORMATION.make();
+                        collector.include(types);
+                        collector.apply(instrumentation,
+                                CircularityLock.Inactive.INSTANCE,
+                                LocationStrategy.NoOp.INSTANCE,
+                                AgentBuilder.Listener.NoOp.INSTANCE,
+                                redefinitionBatchAllocator,
+                                redefinitionListener,
+                                RedefinitionStrategy.BatchAllocator.FIRST_BATCH);
+                    }
+                    for (int index : released) {
+                        InvocationCounter.release(index);
+                    }
+                }
+            }
+        }
     }
 
     /**
@@ -5487,6 +5487,11 @@ public class Advice implements AsmVisitorWrapper.ForDeclaredMethods.MethodVisito
              */
             protected int currentFrameDivergence;
 
+            /**
+             * A cache of resolved frame values by the identity of a method description, representing its parameters, or of a list of types.
+             */
+            private final Map<Object, Object[]> frames;
+
             /**
              * Creates a new default stack map frame handler.
              *
@@ -5509,6 +5514,7 @@ public class Advice implements AsmVisitorWrapper.ForDeclaredMethods.MethodVisito
                 this.preMethodTypes = preMethodTypes;
                 this.postMethodTypes = postMethodTypes;
                 this.expandFrames = expandFrames;
+                frames = new IdentityHashMap<Object, Object[]>();
             }
 
             /**
@@ -5579,6 +5585,45 @@ public class Advice implements AsmVisitorWrapper.ForDeclaredMethods.MethodVisito
                         : AsmVisitorWrapper.NO_FLAGS;
             }
 
+            /**
+             * Resolves the frame values of a method's parameters. As full frames are translated repeatedly, these values are only resolved once.
+             *
+             * @param methodDescription The method for which to resolve the parameters' frame values.
+             * @return The frame values of the method's parameters.
+             */
+            protected Object[] toFrame(MethodDescription methodDescription) {
+                Object[] frame = frames.get(methodDescription);
+                if (frame == null) {
+                    frame = toFrame(methodDescription.getParameters().asTypeList().asErasures(), false);
+                    frames.put(methodDescription, frame);
+                }
+                return frame;
+            }
+
+            /**
+             * Resolves the frame values of a list of types.
+             *
+             * @param typeDescriptions The types to resolve.
+             * @param cached           {@code true} if the resolved values should be cached by the identity of the supplied list.
+             * @return The frame values of the supplied types.
+             */
+            protected Object[] toFrame(List<? extends TypeDescription> typeDescriptions, boolean cached) {
+                Object[] frame = cached
+                        ? frames.get(typeDescriptions)
+                        : null;
+                if (frame == null) {
+                    frame = new Object[typeDescriptions.size()];
+                    int index = 0;
+                    for (TypeDescription typeDescription : typeDescriptions) {
+                        frame[index++] = Initialization.INITIALIZED.toFrame(typeDescription);
+                    }
+                    if (cached) {
+                        frames.put(typeDescriptions, frame);
+                    }
+                }
+                return frame;
+            }
+
             /**
              * Translates a frame.
              *
@@ -5628,23 +5673,24 @@ public class Advice implements AsmVisitorWrapper.ForDeclaredMethods.MethodVisito
                             }
                             offset = 1;
                         }
-                        for (int index = 0; index < methodDescription.getParameters().size(); index++) {
-                            if (!Initialization.INITIALIZED.toFrame(methodDescription.getParameters().get(index).getType().asErasure()).equals(localVariable[index + offset])) {
+                        Object[] parameters = toFrame(methodDescription);
+                        for (int index = 0; index < parameters.length; index++) {
+                            if (!parameters[index].equals(localVariable[index + offset])) {
                                 throw new IllegalStateException(methodDescription + " is inconsistent at " + index + ": " + localVariable[index + offset]);
                             }
                         }
+                        Object[] additional = toFrame(additionalTypes, true);
                         Object[] translated = new Object[localVariableLength
-                                - (methodDescription.isStatic() ? 0 : 1)
-                                - methodDescription.getParameters().size()
+                                - offset
+                                - parameters.length
                                 + (instrumentedMethod.isStatic() ? 0 : 1)
-                                + instrumentedMethod.getParameters().size()
-                                + additionalTypes.size()];
+                                + toFrame(instrumentedMethod).length
+                                + additional.length];
                         int index = translationMode.copy(instrumentedType, instrumentedMethod, methodDescription, localVariable, translated);
-                        for (TypeDescription typeDescription : additionalTypes) {
-                            translated[index++] = Initialization.INITIALIZED.toFrame(typeDescription);
-                        }
+                        System.arraycopy(additional, 0, translated, index, additional.length);
+                        index += additional.length;
                         System.arraycopy(localVariable,
-                                methodDescription.getParameters().size() + (methodDescription.isStatic() ? 0 : 1),
+                                parameters.length + offset,
                                 translated,
                                 index,
                                 translated.length - index);
@@ -6097,6 +6143,11 @@ public class Advice implements AsmVisitorWrapper.ForDeclaredMethods.MethodVisito
                  */
                 protected static class RequiringConsistentShape extends WithPreservedArguments {
 
+                    /**
+                     * The types that are added to the instrumented method's local variable array prior to its execution.
+                     */
+                    private final List<TypeDescription> additionalTypes;
+
                     /**
                      * Creates a new stack map frame handler that expects the original frames to be preserved.
                      *
@@ -6116,6 +6167,7 @@ public class Advice implements AsmVisitorWrapper.ForDeclaredMethods.MethodVisito
                                                        boolean expandFrames,
                                                        boolean allowCompactCompletionFrame) {
                         super(instrumentedType, instrumentedMethod, initialTypes, preMethodTypes, postMethodTypes, expandFrames, allowCompactCompletionFrame);
+                        additionalTypes = CompoundList.of(initialTypes, preMethodTypes);
                     }
 
                     /**
@@ -6137,7 +6189,7 @@ public class Advice implements AsmVisitorWrapper.ForDeclaredMethods.MethodVisito
                         translateFrame(methodVisitor,
                                 TranslationMode.COPY,
                                 instrumentedMethod,
-                                CompoundList.of(initialTypes, preMethodTypes),
+                                additionalTypes,
                                 type,
                                 localVariableLength,
                                 localVariable,
@@ -6261,14 +6313,9 @@ public class Advice implements AsmVisitorWrapper.ForDeclaredMethods.MethodVisito
                                 } else if (!instrumentedMethod.isStatic()) {
                                     translated[index++] = Initialization.INITIALIZED.toFrame(instrumentedType);
                                 }
-                                for (TypeDescription typeDescription : instrumentedMethod.getParameters().asTypeList().asErasures()) {
-                                    translated[index++] = Initialization.INITIALIZED.toFrame(typeDescription);
-                                }
-                                for (TypeDescription typeDescription : initialTypes) {
-                                    translated[index++] = Initialization.INITIALIZED.toFrame(typeDescription);
-                                }
-                                for (TypeDescription typeDescription : preMethodTypes) {
-                                    translated[index++] = Initialization.INITIALIZED.toFrame(typeDescription);
+                                for (Object[] frame : new Object[][]{toFrame(instrumentedMethod), toFrame(initialTypes, true), toFrame(preMethodTypes, true)}) {
+                                    System.arraycopy(frame, 0, translated, index, frame.length);
+                                    index += frame.length;
                                 }
                                 System.arraycopy(localVariable, 0, translated, index, localVariableLength);
                                 localVariableLength = translated.length;
@@ -15,6 +15,7 @@
  */
 package net.bytebuddy.asm;
 
+import net.bytebuddy.build.CachedReturnPlugin;
 import net.bytebuddy.build.HashCodeAndEqualsPlugin;
 import net.bytebuddy.description.field.FieldDescription;
 import net.bytebuddy.description.field.FieldList;
@@ -23,6 +24,7 @@ import net.bytebuddy.description.method.MethodList;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.matcher.ElementMatcher;
+import net.bytebuddy.matcher.ElementMatcherIndex;
 import net.bytebuddy.pool.TypePool;
 import net.bytebuddy.utility.CompoundList;
 import net.bytebuddy.utility.OpenedClassReader;
@@ -200,6 +202,20 @@ public interface AsmVisitorWrapper {
             return new ForDeclaredFields(CompoundList.of(entries, new Entry(matcher, fieldVisitorWrappers)));
         }
 
+        /**
+         * Returns an index of this wrapper's entries by the names of the fields they can match.
+         *
+         * @return An index of this wrapper's entries by the names of the fields they can match.
+         */
+        @CachedReturnPlugin.Enhance("index")
+        protected ElementMatcherIndex<Entry> index() {
+            ElementMatcherIndex.Builder<Entry> builder = new ElementMatcherIndex.Builder<Entry>();
+            for (Entry entry : entries) {
+                builder.append(entry.matcher, entry);
+            }
+            return builder.build();
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -312,7 +328,7 @@ public interface AsmVisitorWrapper {
                 FieldVisitor fieldVisitor = super.visitField(modifiers, internalName, descriptor, signature, defaultValue);
                 FieldDescription.InDefinedShape fieldDescription = fields.get(internalName + descriptor);
                 if (fieldVisitor != null && fieldDescription != null) {
-                    for (Entry entry : entries) {
+                    for (Entry entry : index().get(fieldDescription.getActualName())) {
                         if (entry.matches(fieldDescription)) {
                             fieldVisitor = entry.wrap(instrumentedType, fieldDescription, fieldVisitor);
                         }
@@ -475,6 +491,20 @@ public interface AsmVisitorWrapper {
             return flags | readerFlags;
         }
 
+        /**
+         * Returns an index of this wrapper's entries by the names of the methods they can match.
+         *
+         * @return An index of this wrapper's entries by the names of the methods they can match.
+         */
+        @CachedReturnPlugin.Enhance("index")
+        protected ElementMatcherIndex<Entry> index() {
+            ElementMatcherIndex.Builder<Entry> builder = new ElementMatcherIndex.Builder<Entry>();
+            for (Entry entry : entries) {
+                builder.append(entry.matcher, entry);
+            }
+            return builder.build();
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -486,15 +516,11 @@ public interface AsmVisitorWrapper {
                                  MethodList<?> methods,
                                  int writerFlags,
                                  int readerFlags) {
-            Map<String, MethodDescription> mapped = new HashMap<String, MethodDescription>();
-            for (MethodDescription methodDescription : CompoundList.<MethodDescription>of(methods, new MethodDescription.Latent.TypeInitializer(instrumentedType))) {
-                mapped.put(methodDescription.getInternalName() + methodDescription.getDescriptor(), methodDescription);
-            }
             return new DispatchingVisitor(classVisitor,
                     instrumentedType,
                     implementationContext,
                     typePool,
-                    mapped,
+                    methods,
                     writerFlags,
                     readerFlags);
         }
@@ -613,9 +639,14 @@ public interface AsmVisitorWrapper {
             private final int readerFlags;
 
             /**
-             * A mapping of fields by their name.
+             * The methods that are declared by the instrumented type or virtually inherited.
              */
-            private final Map<String, MethodDescription> methods;
+            private final MethodList<?> methods;
+
+            /**
+             * A mapping of methods by their internal name and descriptor or {@code null} if the mapping was not yet resolved.
+             */
+            private Map<String, MethodDescription> mapped;
 
             /**
              * Creates a new dispatching visitor.
@@ -632,7 +663,7 @@ public interface AsmVisitorWrapper {
                                          TypeDescription instrumentedType,
                                          Implementation.Context implementationContext,
                                          TypePool typePool,
-                                         Map<String, MethodDescription> methods,
+                                         MethodList<?> methods,
                                          int writerFlags,
                                          int readerFlags) {
                 super(OpenedClassReader.ASM_API, classVisitor);
@@ -647,9 +678,19 @@ public interface AsmVisitorWrapper {
             @Override
             public MethodVisitor visitMethod(int modifiers, String internalName, String descriptor, String signature, String[] exceptions) {
                 MethodVisitor methodVisitor = super.visitMethod(modifiers, internalName, descriptor, signature, exceptions);
-                MethodDescription methodDescription = methods.get(internalName + descriptor);
-                if (methodVisitor != null && methodDescription != null) {
-                    for (Entry entry : entries) {
+                if (methodVisitor == null || index().isEmpty(internalName.equals(MethodDescription.CONSTRUCTOR_INTERNAL_NAME)
+                        || internalName.equals(MethodDescription.TYPE_INITIALIZER_INTERNAL_NAME) ? MethodDescription.EMPTY_NAME : internalName)) {
+                    return methodVisitor;
+                }
+                if (mapped == null) {
+                    mapped = new HashMap<String, MethodDescription>();
+                    for (MethodDescription methodDescription : CompoundList.<MethodDescription>of(methods, new MethodDescription.Latent.TypeInitializer(instrumentedType))) {
+                        mapped.put(methodDescription.getInternalName() + methodDescription.getDescriptor(), methodDescription);
+                    }
+                }
+                MethodDescription methodDescription = mapped.get(internalName + descriptor);
+                if (methodDescription != null) {
+                    for (Entry entry : index().get(methodDescription.getActualName())) {
                         if (entry.matches(methodDescription)) {
                             methodVisitor = entry.wrap(instrumentedType,
                                     methodDescription,
@@ -39,14 +39,23 @@ import net.bytebuddy.implementation.bytecode.member.FieldAccess;
 import net.bytebuddy.implementation.bytecode.member.MethodInvocation;
 import net.bytebuddy.implementation.bytecode.member.MethodVariableAccess;
 import net.bytebuddy.matcher.ElementMatcher;
+import net.bytebuddy.matcher.ElementMatcherIndex;
 import net.bytebuddy.matcher.ElementMatchers;
 import net.bytebuddy.pool.TypePool;
 import net.bytebuddy.utility.CompoundList;
+import net.bytebuddy.utility.JavaDispatcher;
+import net.bytebuddy.utility.JavaConstant;
+import net.bytebuddy.utility.JavaType;
 import net.bytebuddy.utility.OpenedClassReader;
 import net.bytebuddy.utility.visitor.LocalVariableAwareMethodVisitor;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
 
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.*;
@@ -87,6 +96,12 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
      */
     private final Replacement.Factory replacementFactory;
 
+    /**
+     * A cache of field and method instructions that could not be bound within the currently instrumented type.
+     */
+    @HashCodeAndEqualsPlugin.ValueHandling(HashCodeAndEqualsPlugin.ValueHandling.Sort.IGNORE)
+    private final UnboundCache unboundCache;
+
     /**
      * Creates a default member substitution.
      *
@@ -112,6 +127,7 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
         this.typePoolResolver = typePoolResolver;
         this.strict = strict;
         this.replacementFactory = replacementFactory;
+        unboundCache = new UnboundCache();
     }
 
     /**
@@ -234,7 +250,95 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
                 replacementFactory.make(instrumentedType, instrumentedMethod, typePool),
                 implementationContext,
                 typePool,
-                implementationContext.getClassFileVersion().isAtLeast(ClassFileVersion.JAVA_V11));
+                implementationContext.getClassFileVersion().isAtLeast(ClassFileVersion.JAVA_V11),
+                unboundCache.resolve(instrumentedType, typePool));
+    }
+
+    /**
+     * <p>
+     * A cache of field and method instructions that were resolved but could not be bound by any replacement. Whether an instruction
+     * can be bound only depends on the instrumented type, the type pool and the replacement factory but not on the instrumented
+     * method such that the cache is shared among all methods of an instrumented type.
+     * </p>
+     * <p>
+     * The cache only retains the instructions of the most recently instrumented type which is referenced weakly such that no type
+     * description is retained after its instrumentation. If types are instrumented concurrently, the cache is replaced for each
+     * type what does not affect correctness but only limits reuse.
+     * </p>
+     */
+    protected static class UnboundCache {
+
+        /**
+         * The current segment of this cache.
+         */
+        private volatile Segment segment;
+
+        /**
+         * Creates a new cache for unbound instructions.
+         */
+        protected UnboundCache() {
+            segment = new Segment(null, null);
+        }
+
+        /**
+         * Resolves the set of unbound instructions for an instrumented type.
+         *
+         * @param instrumentedType The instrumented type.
+         * @param typePool         The type pool being used.
+         * @return A set of unbound instructions, represented by their opcode, owner, name and descriptor.
+         */
+        protected Set<String> resolve(TypeDescription instrumentedType, TypePool typePool) {
+            Segment segment = this.segment;
+            if (!segment.isApplicable(instrumentedType, typePool)) {
+                segment = new Segment(instrumentedType, typePool);
+                this.segment = segment;
+            }
+            return segment.unbound;
+        }
+
+        /**
+         * A segment of the cache for a single instrumented type.
+         */
+        protected static class Segment {
+
+            /**
+             * The instrumented type or {@code null} if no type is represented.
+             */
+            private final Reference<TypeDescription> instrumentedType;
+
+            /**
+             * The type pool being used or {@code null} if no type is represented.
+             */
+            private final Reference<TypePool> typePool;
+
+            /**
+             * A set of unbound instructions.
+             */
+            private final Set<String> unbound;
+
+            /**
+             * Creates a new segment.
+             *
+             * @param instrumentedType The instrumented type or {@code null} if no type is represented.
+             * @param typePool         The type pool being used or {@code null} if no type is represented.
+             */
+            protected Segment(TypeDescription instrumentedType, TypePool typePool) {
+                this.instrumentedType = new WeakReference<TypeDescription>(instrumentedType);
+                this.typePool = new WeakReference<TypePool>(typePool);
+                unbound = Collections.synchronizedSet(new HashSet<String>());
+            }
+
+            /**
+             * Checks if this segment is applicable to the supplied instrumented type and type pool.
+             *
+             * @param instrumentedType The instrumented type.
+             * @param typePool         The type pool being used.
+             * @return {@code true} if this segment represents the supplied instrumented type and type pool.
+             */
+            protected boolean isApplicable(TypeDescription instrumentedType, TypePool typePool) {
+                return this.instrumentedType.get() == instrumentedType && this.typePool.get() == typePool;
+            }
+        }
     }
 
     /**
@@ -421,6 +525,56 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
             return replaceWith(Substitution.ForMethodInvocation.OfInstrumentedMethod.INSTANCE);
         }
 
+        /**
+         * Replaces any interaction with a matched byte code element with a dynamic method invocation that is linked by the supplied bootstrap
+         * method. See {@link #replaceWithInvokeDynamic(MethodDescription.InDefinedShape, List)} for details.
+         *
+         * @param bootstrap The bootstrap method to link the dynamic method invocation.
+         * @param constant  The constant values passed to the bootstrap method in addition to a method handle of the substituted member.
+         * @return A member substitution that replaces any matched byte code element with a dynamic method invocation.
+         */
+        public MemberSubstitution replaceWithInvokeDynamic(Method bootstrap, Object... constant) {
+            return replaceWithInvokeDynamic(new MethodDescription.ForLoadedMethod(bootstrap), Arrays.asList(constant));
+        }
+
+        /**
+         * <p>
+         * Replaces any interaction with a matched byte code element with a dynamic method invocation that is linked by the supplied bootstrap
+         * method. The dynamic method invocation consumes the same arguments as the original interaction, including the receiver of a non-static
+         * member, and produces the same value. The bootstrap method is invoked with a method handle of the substituted member, i.e. a getter or
+         * setter for a field, as its first argument after the lookup, the name and the method type of the call site, followed by the supplied
+         * constants. The name of the call site is the substituted member's internal name or {@code new} for a constructor.
+         * </p>
+         * <p>
+         * By returning a {@code java.lang.invoke.MutableCallSite} from the bootstrap method, for example after registering it in a central
+         * registry, all substituted call sites can be retargeted at runtime without retransforming any class while the JIT compiler can still
+         * inline the current target. This substitution requires a class file version of at least Java 7. When substituting a {@code super}
+         * method invocation, the supplied method handle dispatches virtually such that such invocations should normally be excluded.
+         * </p>
+         *
+         * @param bootstrap The bootstrap method to link the dynamic method invocation.
+         * @param constants The constant values passed to the bootstrap method in addition to a method handle of the substituted member. Values
+         *                  can be represented either as {@link TypeDescription}, as {@link JavaConstant}, as {@link String} or a primitive
+         *                  {@code int}, {@code long}, {@code float} or {@code double} represented as wrapper type.
+         * @return A member substitution that replaces any matched byte code element with a dynamic method invocation.
+         */
+        public MemberSubstitution replaceWithInvokeDynamic(MethodDescription.InDefinedShape bootstrap, List<?> constants) {
+            return replaceWith(Substitution.ForInvokeDynamic.OfGivenBootstrap.of(bootstrap, constants));
+        }
+
+        /**
+         * Replaces any interaction with a matched byte code element with a dynamic method invocation that is linked by the
+         * {@link CallSiteRegistry}. All call sites that are linked for the same key can later be retargeted at once by
+         * {@link CallSiteRegistry#retarget(String, Object)}. The instrumented type must be able to see the {@link CallSiteRegistry}
+         * type, what is not the case for types of the boot loader or for types of named modules that do not read Byte Buddy.
+         *
+         * @param key The key under which the linked call sites are registered.
+         * @return A member substitution that replaces any matched byte code element with a relinkable dynamic method invocation.
+         */
+        public MemberSubstitution replaceWithRelinkableInvokeDynamic(String key) {
+            return replaceWithInvokeDynamic(CallSiteRegistry.BOOTSTRAP, Collections.singletonList(key));
+        }
+
         /**
          * Replaces the matched byte code elements with a chain of substitutions that can operate on the same values as the substituted element. This is a
          * shortcut for creating a substitution chain with a default assigner.
@@ -1322,6 +1476,188 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
             }
         }
 
+        /**
+         * A substitution with a dynamic method invocation that is linked by a bootstrap method which receives a method handle of the substituted member.
+         */
+        @HashCodeAndEqualsPlugin.Enhance
+        class ForInvokeDynamic implements Substitution {
+
+            /**
+             * The name of a call site that substitutes a constructor.
+             */
+            private static final String CONSTRUCTOR_NAME = "new";
+
+            /**
+             * The instrumented type.
+             */
+            private final TypeDescription instrumentedType;
+
+            /**
+             * The bootstrap method to link the dynamic method invocation.
+             */
+            private final MethodDescription.InDefinedShape bootstrap;
+
+            /**
+             * The constant pool values that are passed to the bootstrap method after the substituted member's method handle.
+             */
+            private final List<?> arguments;
+
+            /**
+             * Creates a new substitution with a dynamic method invocation.
+             *
+             * @param instrumentedType The instrumented type.
+             * @param bootstrap        The bootstrap method to link the dynamic method invocation.
+             * @param arguments        The constant pool values that are passed to the bootstrap method after the substituted member's method handle.
+             */
+            public ForInvokeDynamic(TypeDescription instrumentedType, MethodDescription.InDefinedShape bootstrap, List<?> arguments) {
+                this.instrumentedType = instrumentedType;
+                this.bootstrap = bootstrap;
+                this.arguments = arguments;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public StackManipulation resolve(TypeDescription targetType,
+                                             ByteCodeElement target,
+                                             TypeList.Generic parameters,
+                                             TypeDescription.Generic result,
+                                             int freeOffset) {
+                if (!bootstrap.isAccessibleTo(instrumentedType)) {
+                    throw new IllegalStateException(instrumentedType + " cannot access " + bootstrap);
+                }
+                String name;
+                JavaConstant.MethodHandle methodHandle;
+                if (target instanceof FieldDescription) {
+                    name = target.getInternalName();
+                    methodHandle = result.represents(void.class)
+                            ? JavaConstant.MethodHandle.ofSetter(((FieldDescription) target).asDefined())
+                            : JavaConstant.MethodHandle.ofGetter(((FieldDescription) target).asDefined());
+                } else if (target instanceof MethodDescription) {
+                    name = ((MethodDescription) target).isConstructor()
+                            ? CONSTRUCTOR_NAME
+                            : target.getInternalName();
+                    methodHandle = JavaConstant.MethodHandle.of(((MethodDescription) target).asDefined());
+                } else {
+                    throw new IllegalStateException("Unexpected byte code element: " + target);
+                }
+                return new DynamicInvocation(MethodInvocation.invoke(bootstrap).dynamic(name,
+                        result.asErasure(),
+                        parameters.asErasures(),
+                        CompoundList.of(methodHandle.asConstantPoolValue(), arguments)));
+            }
+
+            /**
+             * A stack manipulation that validates that a dynamic method invocation is supported by the instrumented type's class file version.
+             */
+            @HashCodeAndEqualsPlugin.Enhance
+            protected static class DynamicInvocation implements StackManipulation {
+
+                /**
+                 * The dynamic method invocation.
+                 */
+                private final StackManipulation stackManipulation;
+
+                /**
+                 * Creates a new validating dynamic method invocation.
+                 *
+                 * @param stackManipulation The dynamic method invocation.
+                 */
+                protected DynamicInvocation(StackManipulation stackManipulation) {
+                    this.stackManipulation = stackManipulation;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public boolean isValid() {
+                    return stackManipulation.isValid();
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public Size apply(MethodVisitor methodVisitor, Implementation.Context implementationContext) {
+                    if (!implementationContext.getClassFileVersion().isAtLeast(ClassFileVersion.JAVA_V7)) {
+                        throw new IllegalStateException("Dynamic method invocations are not supported for " + implementationContext.getClassFileVersion());
+                    }
+                    return stackManipulation.apply(methodVisitor, implementationContext);
+                }
+            }
+
+            /**
+             * A factory for a substitution with a dynamic method invocation that is linked by a given bootstrap method.
+             */
+            @HashCodeAndEqualsPlugin.Enhance
+            public static class OfGivenBootstrap implements Factory {
+
+                /**
+                 * The bootstrap method to link the dynamic method invocation.
+                 */
+                private final MethodDescription.InDefinedShape bootstrap;
+
+                /**
+                 * The constant pool values that are passed to the bootstrap method after the substituted member's method handle.
+                 */
+                private final List<?> arguments;
+
+                /**
+                 * Creates a new factory for a substitution with a dynamic method invocation.
+                 *
+                 * @param bootstrap The bootstrap method to link the dynamic method invocation.
+                 * @param arguments The constant pool values that are passed to the bootstrap method after the substituted member's method handle.
+                 */
+                protected OfGivenBootstrap(MethodDescription.InDefinedShape bootstrap, List<?> arguments) {
+                    this.bootstrap = bootstrap;
+                    this.arguments = arguments;
+                }
+
+                /**
+                 * Creates a new factory for a substitution with a dynamic method invocation.
+                 *
+                 * @param bootstrap The bootstrap method to link the dynamic method invocation.
+                 * @param constants The constant values passed to the bootstrap method in addition to a method handle of the substituted member.
+                 * @return An appropriate factory.
+                 */
+                public static Factory of(MethodDescription.InDefinedShape bootstrap, List<?> constants) {
+                    List<Object> arguments = new ArrayList<Object>(constants.size());
+                    List<TypeDescription> types = new ArrayList<TypeDescription>(constants.size() + 1);
+                    types.add(JavaType.METHOD_HANDLE.getTypeStub());
+                    for (Object constant : constants) {
+                        if (constant instanceof JavaConstant) {
+                            arguments.add(((JavaConstant) constant).asConstantPoolValue());
+                            types.add(((JavaConstant) constant).getType());
+                        } else if (constant instanceof TypeDescription) {
+                            arguments.add(Type.getType(((TypeDescription) constant).getDescriptor()));
+                            types.add(TypeDescription.CLASS);
+                        } else {
+                            TypeDescription typeDescription = TypeDescription.ForLoadedType.of(constant.getClass()).asUnboxed();
+                            if (JavaType.METHOD_TYPE.isInstance(constant) || JavaType.METHOD_HANDLE.isInstance(constant)) {
+                                throw new IllegalArgumentException("Must be represented as a JavaConstant instance: " + constant);
+                            } else if (constant instanceof Class<?>) {
+                                throw new IllegalArgumentException("Must be represented as a TypeDescription instance: " + constant);
+                            } else if (!typeDescription.isCompileTimeConstant()) {
+                                throw new IllegalArgumentException("Not a compile-time constant: " + constant);
+                            }
+                            arguments.add(constant);
+                            types.add(typeDescription);
+                        }
+                    }
+                    if (!bootstrap.isInvokeBootstrap(types)) {
+                        throw new IllegalArgumentException("Not a valid bootstrap method " + bootstrap + " for " + types);
+                    }
+                    return new OfGivenBootstrap(bootstrap, arguments);
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public Substitution make(TypeDescription instrumentedType, MethodDescription instrumentedMethod, TypePool typePool) {
+                    return new ForInvokeDynamic(instrumentedType, bootstrap, arguments);
+                }
+            }
+        }
+
         /**
          * A substitution chain allows for chaining multiple substitution steps for a byte code element being replaced.
          */
@@ -1607,11 +1943,300 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
         }
     }
 
+    /**
+     * <p>
+     * A central registry of the call sites that are linked by a member substitution that was created via
+     * {@link WithoutSpecification#replaceWithRelinkableInvokeDynamic(String)}. Each call site is a {@code java.lang.invoke.MutableCallSite}
+     * that initially targets the substituted member. Invoking {@link CallSiteRegistry#retarget(String, Object)} changes the target of
+     * all call sites of a key in a single operation without retransforming any class while the JIT compiler can still inline the
+     * current target. Call sites that are linked after a retargeting are linked to the latest target of their key.
+     * </p>
+     * <p>
+     * <b>Important</b>: This registry is only functional on a VM that supports the {@code java.lang.invoke} API. Call sites are
+     * registered per class loader of the type that defines them. Both the class loader and the call sites are only referenced weakly
+     * and do not prevent the unloading of the classes that define them. The latest target of a key is however referenced strongly.
+     * </p>
+     */
+    public static class CallSiteRegistry {
+
+        /**
+         * The bootstrap method of this registry.
+         */
+        protected static final MethodDescription.InDefinedShape BOOTSTRAP = TypeDescription.ForLoadedType.of(CallSiteRegistry.class)
+                .getDeclaredMethods()
+                .filter(named("bootstrap"))
+                .getOnly();
+
+        /**
+         * The registered call sites by the class loader of their defining type and by their key. Any access must be synchronized on this map.
+         */
+        private static final Map<ClassLoader, Map<String, Registration>> REGISTRATIONS = new WeakHashMap<ClassLoader, Map<String, Registration>>();
+
+        /**
+         * The latest {@code java.lang.invoke.MethodHandle} target of every retargeted key. Any access must be synchronized on {@link CallSiteRegistry#REGISTRATIONS}.
+         */
+        private static final Map<String, Object> TARGETS = new HashMap<String, Object>();
+
+        /**
+         * A registry is not supposed to be instantiated.
+         */
+        private CallSiteRegistry() {
+            throw new UnsupportedOperationException("This class is a utility class and not supposed to be instantiated");
+        }
+
+        /**
+         * Links a call site and registers it under the supplied key. This method is invoked by the JVM when a substituted
+         * dynamic method invocation is first executed and should not be invoked explicitly.
+         *
+         * @param lookup     The {@code java.lang.invoke.MethodHandles.Lookup} of the instrumented type.
+         * @param name       The name of the call site.
+         * @param methodType The {@code java.lang.invoke.MethodType} of the call site.
+         * @param target     A {@code java.lang.invoke.MethodHandle} of the substituted member.
+         * @param key        The key under which to register the call site.
+         * @return A {@code java.lang.invoke.MutableCallSite} that represents the call site.
+         * @throws Exception If the call site cannot be created.
+         */
+        public static Object bootstrap(Object lookup, String name, Object methodType, Object target, String key) throws Exception {
+            ClassLoader classLoader = Dispatcher.LOOKUP.lookupClass(lookup).getClassLoader();
+            synchronized (REGISTRATIONS) {
+                Map<String, Registration> registrations = REGISTRATIONS.get(classLoader);
+                if (registrations == null) {
+                    registrations = new HashMap<String, Registration>();
+                    REGISTRATIONS.put(classLoader, registrations);
+                }
+                Registration registration = registrations.get(key);
+                if (registration == null) {
+                    registration = new Registration();
+                    registrations.put(key, registration);
+                }
+                Object latest = TARGETS.get(key);
+                return registration.link(latest == null
+                        ? target
+                        : latest, methodType);
+            }
+        }
+
+        /**
+         * Retargets all call sites that are registered under the supplied key and all call sites that are linked for this key
+         * in the future. If the method handle cannot be adapted to the type of any registered call site, no call site is retargeted.
+         *
+         * @param key          The key of the call sites to retarget.
+         * @param methodHandle The {@code java.lang.invoke.MethodHandle} to use as the new target. The method handle is adapted to
+         *                     the type of each call site and must therefore be compatible to it.
+         * @return The number of call sites that were retargeted.
+         */
+        public static int retarget(String key, Object methodHandle) {
+            if (!JavaType.METHOD_HANDLE.isInstance(methodHandle)) {
+                throw new IllegalArgumentException("Not a method handle: " + methodHandle);
+            }
+            synchronized (REGISTRATIONS) {
+                List<Object> callSites = new ArrayList<Object>();
+                for (Map<String, Registration> registrations : REGISTRATIONS.values()) {
+                    Registration registration = registrations.get(key);
+                    if (registration != null) {
+                        registration.collect(callSites);
+                    }
+                }
+                List<Object> targets = new ArrayList<Object>(callSites.size());
+                for (Object callSite : callSites) {
+                    Object methodType = Dispatcher.CALL_SITE.type(callSite);
+                    try {
+                        targets.add(Dispatcher.METHOD_HANDLE.asType(methodHandle, methodType));
+                    } catch (RuntimeException exception) {
+                        throw new IllegalArgumentException("Cannot retarget call site of type " + methodType + " for " + key + " to " + methodHandle, exception);
+                    }
+                }
+                for (int index = 0; index < callSites.size(); index++) {
+                    Dispatcher.CALL_SITE.setTarget(callSites.get(index), targets.get(index));
+                }
+                TARGETS.put(key, methodHandle);
+                if (!callSites.isEmpty()) {
+                    Object[] array = (Object[]) Array.newInstance(Dispatcher.MUTABLE_CALL_SITE.getDeclaringClass(), callSites.size());
+                    Dispatcher.CALL_SITE.syncAll(callSites.toArray(array));
+                }
+                return callSites.size();
+            }
+        }
+
+        /**
+         * The call sites of a single key and class loader. Any access must be synchronized on {@link CallSiteRegistry#REGISTRATIONS}.
+         */
+        protected static class Registration {
+
+            /**
+             * The registered call sites.
+             */
+            private final List<Reference<Object>> callSites;
+
+            /**
+             * Creates a new registration.
+             */
+            protected Registration() {
+                callSites = new ArrayList<Reference<Object>>();
+            }
+
+            /**
+             * Links a new call site.
+             *
+             * @param target     The {@code java.lang.invoke.MethodHandle} to initially target.
+             * @param methodType The {@code java.lang.invoke.MethodType} of the call site.
+             * @return A {@code java.lang.invoke.MutableCallSite} that represents the call site.
+             * @throws Exception If the call site cannot be created.
+             */
+            protected Object link(Object target, Object methodType) throws Exception {
+                Object callSite = Dispatcher.MUTABLE_CALL_SITE.newInstance(Dispatcher.METHOD_HANDLE.asType(target, methodType));
+                callSites.add(new WeakReference<Object>(callSite));
+                return callSite;
+            }
+
+            /**
+             * Collects all call sites of this registration that were not yet collected and removes any collected call site.
+             *
+             * @param callSites The list to which the registered call sites are added.
+             */
+            protected void collect(List<Object> callSites) {
+                Iterator<Reference<Object>> iterator = this.callSites.iterator();
+                while (iterator.hasNext()) {
+                    Object callSite = iterator.next().get();
+                    if (callSite == null) {
+                        iterator.remove();
+                    } else {
+                        callSites.add(callSite);
+                    }
+                }
+            }
+        }
+
+        /**
+         * A holder for the dispatchers of the {@code java.lang.invoke} API which is only initialized when a call site is linked.
+         */
+        protected static class Dispatcher {
+
+            /**
+             * The {@code java.lang.invoke.MutableCallSite(MethodHandle)} constructor.
+             */
+            protected static final Constructor<?> MUTABLE_CALL_SITE;
+
+            /**
+             * A dispatcher for {@code java.lang.invoke.MethodHandles.Lookup}.
+             */
+            protected static final Lookup LOOKUP = JavaDispatcher.of(Lookup.class);
+
+            /**
+             * A dispatcher for {@code java.lang.invoke.MethodHandle}.
+             */
+            protected static final MethodHandle METHOD_HANDLE = JavaDispatcher.of(MethodHandle.class);
+
+            /**
+             * A dispatcher for {@code java.lang.invoke.MutableCallSite}.
+             */
+            protected static final MutableCallSite CALL_SITE = JavaDispatcher.of(MutableCallSite.class);
+
+            /*
+             * Resolves the call site constructor.
+             */
+            static {
+                try {
+                    MUTABLE_CALL_SITE = Class.forName("java.lang.invoke.MutableCallSite").getConstructor(JavaType.METHOD_HANDLE.load());
+                } catch (Exception exception) {
+                    throw new IllegalStateException("Cannot resolve mutable call site constructor", exception);
+                }
+            }
+
+            /**
+             * A dispatcher is not supposed to be instantiated.
+             */
+            private Dispatcher() {
+                throw new UnsupportedOperationException("This class is a utility class and not supposed to be instantiated");
+            }
+
+            /**
+             * A proxy for {@code java.lang.invoke.MethodHandles.Lookup}.
+             */
+            @JavaDispatcher.Proxied("java.lang.invoke.MethodHandles$Lookup")
+            protected interface Lookup {
+
+                /**
+                 * Invokes {@code java.lang.invoke.MethodHandles.Lookup#lookupClass()}.
+                 *
+                 * @param lookup The lookup to resolve the lookup class of.
+                 * @return The lookup class.
+                 */
+                Class<?> lookupClass(Object lookup);
+            }
+
+            /**
+             * A proxy for {@code java.lang.invoke.MethodHandle}.
+             */
+            @JavaDispatcher.Proxied("java.lang.invoke.MethodHandle")
+            protected interface MethodHandle {
+
+                /**
+                 * Invokes {@code java.lang.invoke.MethodHandle#asType(MethodType)}.
+                 *
+                 * @param methodHandle The method handle to adapt.
+                 * @param methodType   The {@code java.lang.invoke.MethodType} to adapt the method handle to.
+                 * @return The adapted method handle.
+                 */
+                Object asType(Object methodHandle, @JavaDispatcher.Proxied("java.lang.invoke.MethodType") Object methodType);
+            }
+
+            /**
+             * A proxy for {@code java.lang.invoke.MutableCallSite}.
+             */
+            @JavaDispatcher.Proxied("java.lang.invoke.MutableCallSite")
+            protected interface MutableCallSite {
+
+                /**
+                 * Invokes {@code java.lang.invoke.CallSite#type()}.
+                 *
+                 * @param callSite The call site to resolve the type of.
+                 * @return The call site's {@code java.lang.invoke.MethodType}.
+                 */
+                Object type(Object callSite);
+
+                /**
+                 * Invokes {@code java.lang.invoke.MutableCallSite#setTarget(MethodHandle)}.
+                 *
+                 * @param callSite The call site to retarget.
+                 * @param target   The new {@code java.lang.invoke.MethodHandle} target.
+                 */
+                void setTarget(Object callSite, @JavaDispatcher.Proxied("java.lang.invoke.MethodHandle") Object target);
+
+                /**
+                 * Invokes {@code java.lang.invoke.MutableCallSite#syncAll(MutableCallSite[])}.
+                 *
+                 * @param callSite The call sites to synchronize.
+                 */
+                @JavaDispatcher.IsStatic
+                void syncAll(@JavaDispatcher.Proxied("[Ljava.lang.invoke.MutableCallSite;") Object[] callSite);
+            }
+        }
+    }
+
     /**
      * A replacement combines a {@link Substitution} and a way of choosing if this substitution should be applied for a discovered member.
      */
     protected interface Replacement {
 
+        /**
+         * Checks if this replacement can possibly bind a field of the given name. This check does not require the resolution of
+         * the field and allows to skip the resolution of fields that are never substituted.
+         *
+         * @param name The name of the field.
+         * @return {@code true} if this replacement can possibly bind a field of the given name.
+         */
+        boolean isFieldCandidate(String name);
+
+        /**
+         * Checks if this replacement can possibly bind a method or constructor of the given actual name. This check does not require
+         * the resolution of the method and allows to skip the resolution of methods that are never substituted.
+         *
+         * @param name The actual name of the method, i.e. the empty string for constructors.
+         * @return {@code true} if this replacement can possibly bind a method of the given name.
+         */
+        boolean isMethodCandidate(String name);
+
         /**
          * Binds this replacement for a field that was discovered.
          *
@@ -1783,6 +2408,18 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
                  */
                 private final List<Factory> factories;
 
+                /**
+                 * An index of the represented factories' positions by the names of the fields they can match.
+                 */
+                @HashCodeAndEqualsPlugin.ValueHandling(HashCodeAndEqualsPlugin.ValueHandling.Sort.IGNORE)
+                private final ElementMatcherIndex<Integer> fieldIndex;
+
+                /**
+                 * An index of the represented factories' positions by the names of the methods they can match.
+                 */
+                @HashCodeAndEqualsPlugin.ValueHandling(HashCodeAndEqualsPlugin.ValueHandling.Sort.IGNORE)
+                private final ElementMatcherIndex<Integer> methodIndex;
+
                 /**
                  * Creates a new compound factory.
                  *
@@ -1806,6 +2443,20 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
                             this.factories.add(factory);
                         }
                     }
+                    ElementMatcherIndex.Builder<Integer> fieldIndex = new ElementMatcherIndex.Builder<Integer>();
+                    ElementMatcherIndex.Builder<Integer> methodIndex = new ElementMatcherIndex.Builder<Integer>();
+                    for (int index = 0; index < this.factories.size(); index++) {
+                        Factory factory = this.factories.get(index);
+                        if (factory instanceof ForElementMatchers.Factory) {
+                            fieldIndex.append(((ForElementMatchers.Factory) factory).getFieldMatcher(), index);
+                            methodIndex.append(((ForElementMatchers.Factory) factory).getMethodMatcher(), index);
+                        } else {
+                            fieldIndex.append(any(), index);
+                            methodIndex.append(any(), index);
+                        }
+                    }
+                    this.fieldIndex = fieldIndex.build();
+                    this.methodIndex = methodIndex.build();
                 }
 
                 /**
@@ -1816,7 +2467,7 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
                     for (Factory factory : factories) {
                         replacements.add(factory.make(instrumentedType, instrumentedMethod, typePool));
                     }
-                    return new ForFirstBinding(replacements);
+                    return new ForFirstBinding(replacements, fieldIndex, methodIndex);
                 }
             }
         }
@@ -1898,6 +2549,20 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
                 return this;
             }
 
+            /**
+             * {@inheritDoc}
+             */
+            public boolean isFieldCandidate(String name) {
+                return false;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public boolean isMethodCandidate(String name) {
+                return false;
+            }
+
             /**
              * {@inheritDoc}
              */
@@ -1988,6 +2653,20 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
                 this.substitution = substitution;
             }
 
+            /**
+             * {@inheritDoc}
+             */
+            public boolean isFieldCandidate(String name) {
+                return matchFieldRead || matchFieldWrite;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public boolean isMethodCandidate(String name) {
+                return true;
+            }
+
             /**
              * {@inheritDoc}
              */
@@ -2124,6 +2803,28 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
                     return new Factory(none(), matcher, false, false, includeVirtualCalls, includeSuperCalls, factory);
                 }
 
+                /**
+                 * Returns a matcher for all fields that this factory's replacements can bind.
+                 *
+                 * @return A matcher for all fields that this factory's replacements can bind.
+                 */
+                protected ElementMatcher<? super FieldDescription.InDefinedShape> getFieldMatcher() {
+                    if (matchFieldRead || matchFieldWrite) {
+                        return fieldMatcher;
+                    } else {
+                        return none();
+                    }
+                }
+
+                /**
+                 * Returns a matcher for all methods that this factory's replacements can bind.
+                 *
+                 * @return A matcher for all methods that this factory's replacements can bind.
+                 */
+                protected ElementMatcher<? super MethodDescription> getMethodMatcher() {
+                    return methodMatcher;
+                }
+
                 /**
                  * {@inheritDoc}
                  */
@@ -2140,7 +2841,8 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
         }
 
         /**
-         * A replacement that only resolves the first matching replacement of a list of replacements.
+         * A replacement that only resolves the first matching replacement of a list of replacements. Replacements are
+         * only considered for a member if they are registered for the member's name within the supplied indices.
          */
         @HashCodeAndEqualsPlugin.Enhance
         class ForFirstBinding implements Replacement {
@@ -2150,13 +2852,76 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
              */
             private final List<? extends Replacement> replacements;
 
+            /**
+             * An index of the replacements' positions by the names of the fields they can bind.
+             */
+            private final ElementMatcherIndex<Integer> fieldIndex;
+
+            /**
+             * An index of the replacements' positions by the names of the methods they can bind.
+             */
+            private final ElementMatcherIndex<Integer> methodIndex;
+
             /**
              * Creates a new replacement that triggers the first matching replacement, if any.
              *
              * @param replacements The list of replacements to consider.
              */
             protected ForFirstBinding(List<? extends Replacement> replacements) {
+                this(replacements, unindexed(replacements.size()), unindexed(replacements.size()));
+            }
+
+            /**
+             * Creates a new replacement that triggers the first matching replacement, if any.
+             *
+             * @param replacements The list of replacements to consider.
+             * @param fieldIndex   An index of the replacements' positions by the names of the fields they can bind.
+             * @param methodIndex  An index of the replacements' positions by the names of the methods they can bind.
+             */
+            protected ForFirstBinding(List<? extends Replacement> replacements,
+                                      ElementMatcherIndex<Integer> fieldIndex,
+                                      ElementMatcherIndex<Integer> methodIndex) {
                 this.replacements = replacements;
+                this.fieldIndex = fieldIndex;
+                this.methodIndex = methodIndex;
+            }
+
+            /**
+             * Creates an index that considers all replacements for any name.
+             *
+             * @param size The number of replacements.
+             * @return An index that considers all replacements for any name.
+             */
+            private static ElementMatcherIndex<Integer> unindexed(int size) {
+                ElementMatcherIndex.Builder<Integer> builder = new ElementMatcherIndex.Builder<Integer>();
+                for (int index = 0; index < size; index++) {
+                    builder.append(any(), index);
+                }
+                return builder.build();
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public boolean isFieldCandidate(String name) {
+                for (int index : fieldIndex.get(name)) {
+                    if (replacements.get(index).isFieldCandidate(name)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public boolean isMethodCandidate(String name) {
+                for (int index : methodIndex.get(name)) {
+                    if (replacements.get(index).isMethodCandidate(name)) {
+                        return true;
+                    }
+                }
+                return false;
             }
 
             /**
@@ -2166,8 +2931,8 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
                                 MethodDescription instrumentedMethod,
                                 FieldDescription.InDefinedShape fieldDescription,
                                 boolean writeAccess) {
-                for (Replacement replacement : replacements) {
-                    Binding binding = replacement.bind(instrumentedType, instrumentedMethod, fieldDescription, writeAccess);
+                for (int index : fieldIndex.get(fieldDescription.getActualName())) {
+                    Binding binding = replacements.get(index).bind(instrumentedType, instrumentedMethod, fieldDescription, writeAccess);
                     if (binding.isBound()) {
                         return binding;
                     }
@@ -2183,8 +2948,8 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
                                 TypeDescription typeDescription,
                                 MethodDescription methodDescription,
                                 InvocationType invocationType) {
-                for (Replacement replacement : replacements) {
-                    Binding binding = replacement.bind(instrumentedType, instrumentedMethod, typeDescription, methodDescription, invocationType);
+                for (int index : methodIndex.get(methodDescription.getActualName())) {
+                    Binding binding = replacements.get(index).bind(instrumentedType, instrumentedMethod, typeDescription, methodDescription, invocationType);
                     if (binding.isBound()) {
                         return binding;
                     }
@@ -2239,6 +3004,12 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
          */
         private final boolean virtualPrivateCalls;
 
+        /**
+         * A set of field and method instructions of the instrumented type that were resolved but not bound, represented by their
+         * opcode, owner, name and descriptor.
+         */
+        private final Set<String> unbound;
+
         /**
          * An additional buffer for the operand stack that is required.
          */
@@ -2261,6 +3032,7 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
          * @param implementationContext The implementation context to use.
          * @param typePool              The type pool to use.
          * @param virtualPrivateCalls   {@code true}, virtual method calls might target private methods in accordance to the nest mate specification.
+         * @param unbound               A set of field and method instructions of the instrumented type that were resolved but not bound.
          */
         protected SubstitutingMethodVisitor(MethodVisitor methodVisitor,
                                             TypeDescription instrumentedType,
@@ -2270,7 +3042,8 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
                                             Replacement replacement,
                                             Implementation.Context implementationContext,
                                             TypePool typePool,
-                                            boolean virtualPrivateCalls) {
+                                            boolean virtualPrivateCalls,
+                                            Set<String> unbound) {
             super(methodVisitor, instrumentedMethod);
             this.instrumentedType = instrumentedType;
             this.instrumentedMethod = instrumentedMethod;
@@ -2280,12 +3053,22 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
             this.implementationContext = implementationContext;
             this.typePool = typePool;
             this.virtualPrivateCalls = virtualPrivateCalls;
+            this.unbound = unbound;
             stackSizeBuffer = 0;
             localVariableExtension = 0;
         }
 
         @Override
         public void visitFieldInsn(int opcode, String owner, String internalName, String descriptor) {
+            if (!strict && !replacement.isFieldCandidate(internalName)) {
+                super.visitFieldInsn(opcode, owner, internalName, descriptor);
+                return;
+            }
+            String key = opcode + owner + '.' + internalName + descriptor;
+            if (unbound.contains(key)) {
+                super.visitFieldInsn(opcode, owner, internalName, descriptor);
+                return;
+            }
             TypePool.Resolution resolution = typePool.describe(owner.replace('/', '.'));
             if (resolution.isResolved()) {
                 FieldList<FieldDescription.InDefinedShape> candidates = resolution.resolve().getDeclaredFields().filter(strict
@@ -2324,6 +3107,7 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
                                 .getMaximalSize() - result.getStackSize().getSize());
                         return;
                     }
+                    unbound.add(key);
                 } else if (strict) {
                     throw new IllegalStateException("Could not resolve " + owner.replace('/', '.')
                             + "." + internalName + descriptor + " using " + typePool);
@@ -2336,6 +3120,15 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
 
         @Override
         public void visitMethodInsn(int opcode, String owner, String internalName, String descriptor, boolean isInterface) {
+            if (!strict && !replacement.isMethodCandidate(internalName.startsWith("<") ? "" : internalName)) {
+                super.visitMethodInsn(opcode, owner, internalName, descriptor, isInterface);
+                return;
+            }
+            String key = opcode + owner + '.' + internalName + descriptor;
+            if (unbound.contains(key)) {
+                super.visitMethodInsn(opcode, owner, internalName, descriptor, isInterface);
+                return;
+            }
             TypePool.Resolution resolution = typePool.describe(owner.replace('/', '.'));
             if (resolution.isResolved()) {
                 MethodList<?> candidates;
@@ -2391,6 +3184,7 @@ public class MemberSubstitution implements AsmVisitorWrapper.ForDeclaredMethods.
                         }
                         return;
                     }
+                    unbound.add(key);
                 } else if (strict) {
                     throw new IllegalStateException("Could not resolve " + owner.replace('/', '.')
                             + "." + internalName + descriptor + " using " + typePool);
@@ -324,12 +324,16 @@ public class ModifierAdjustment extends AsmVisitorWrapper.AbstractBase {
                                               int writerFlags,
                                               int readerFlags) {
         Map<String, FieldDescription.InDefinedShape> mappedFields = new HashMap<String, FieldDescription.InDefinedShape>();
-        for (FieldDescription.InDefinedShape fieldDescription : fields) {
-            mappedFields.put(fieldDescription.getInternalName() + fieldDescription.getDescriptor(), fieldDescription);
+        if (!fieldAdjustments.isEmpty()) { // Avoid resolving fields if they are not adjusted.
+            for (FieldDescription.InDefinedShape fieldDescription : fields) {
+                mappedFields.put(fieldDescription.getInternalName() + fieldDescription.getDescriptor(), fieldDescription);
+            }
         }
         Map<String, MethodDescription> mappedMethods = new HashMap<String, MethodDescription>();
-        for (MethodDescription methodDescription : CompoundList.<MethodDescription>of(methods, new MethodDescription.Latent.TypeInitializer(instrumentedType))) {
-            mappedMethods.put(methodDescription.getInternalName() + methodDescription.getDescriptor(), methodDescription);
+        if (!methodAdjustments.isEmpty()) { // Avoid resolving methods if they are not adjusted.
+            for (MethodDescription methodDescription : CompoundList.<MethodDescription>of(methods, new MethodDescription.Latent.TypeInitializer(instrumentedType))) {
+                mappedMethods.put(methodDescription.getInternalName() + methodDescription.getDescriptor(), methodDescription);
+            }
         }
         return new ModifierAdjustingClassVisitor(classVisitor,
                 typeAdjustments,
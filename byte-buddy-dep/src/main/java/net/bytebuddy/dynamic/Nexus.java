@@ -18,6 +18,8 @@ package net.bytebuddy.dynamic;
 import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -52,13 +54,43 @@ public class Nexus extends WeakReference<ClassLoader> {
      */
     private static final ReferenceQueue<ClassLoader> NO_QUEUE = null;
 
+    /**
+     * Indicates that an {@link InvocationHandler} is not invoked for a proxy.
+     */
+    private static final Object NO_PROXY = null;
+
+    /**
+     * Indicates that an {@link InvocationHandler} is not invoked for a specific method.
+     */
+    private static final Method NO_METHOD = null;
+
     /**
      * A map of keys identifying a loaded type by its name and class loader mapping their
      * potential {@link net.bytebuddy.implementation.LoadedTypeInitializer} where the class
-     * loader of these initializers is however irrelevant.
+     * loader of these initializers is however irrelevant. If an initializer implements
+     * {@link InvocationHandler}, it is invoked via this interface.
      */
     private static final ConcurrentMap<Nexus, Object> TYPE_INITIALIZERS = new ConcurrentHashMap<Nexus, Object>();
 
+    /**
+     * A map of keys identifying a dynamic constant of a loaded type by the type's name, the constant's name and the type's
+     * class loader mapping the constant's value. Before a constant is resolved for the first time, its value is wrapped in
+     * an array of length one. After its first resolution, the value is only referenced weakly as it is then referenced by
+     * the resolved constant pool entry of its type.
+     */
+    private static final ConcurrentMap<Nexus, Object> CONSTANTS = new ConcurrentHashMap<Nexus, Object>();
+
+    /**
+     * A reference queue that is notified upon the collection of a class loader that defines a dynamic constant for which no
+     * other reference queue was supplied. Entries of this queue are expunged whenever a constant is defined or resolved.
+     */
+    private static final ReferenceQueue<ClassLoader> CONSTANTS_QUEUE = new ReferenceQueue<ClassLoader>();
+
+    /**
+     * Indicates that a dynamic constant does not use an identification.
+     */
+    private static final int NO_IDENTIFICATION = 0;
+
     /**
      * The name of a type for which a loaded type initializer is registered.
      */
@@ -123,7 +155,8 @@ public class Nexus extends WeakReference<ClassLoader> {
      * <b>Important</b>: This method must never be called directly but only by using a {@link NexusAccessor.InitializationAppender} which enforces to
      * access this class for the system class loader to assure a VM global singleton. This avoids a duplication of the class if this nexus is loaded
      * by different class loaders. For this reason, the last parameter must not use a Byte Buddy specific type as those types can be loaded by
-     * different class loaders, too. Any access of the instance is done using Java reflection instead.
+     * different class loaders, too. If a registered initializer implements {@link InvocationHandler}, it is invoked via this interface with
+     * the initialized type as its single argument. Any other instance is accessed using Java reflection instead.
      * </p>
      *
      * @param type           The loaded type to initialize.
@@ -133,7 +166,17 @@ public class Nexus extends WeakReference<ClassLoader> {
     @SuppressWarnings("unused")
     public static void initialize(Class<?> type, int identification) throws Exception {
         Object typeInitializer = TYPE_INITIALIZERS.remove(new Nexus(type, identification));
-        if (typeInitializer != null) {
+        if (typeInitializer instanceof InvocationHandler) {
+            try {
+                ((InvocationHandler) typeInitializer).invoke(NO_PROXY, NO_METHOD, new Object[]{type});
+            } catch (Exception exception) {
+                throw exception;
+            } catch (Error error) {
+                throw error;
+            } catch (Throwable throwable) {
+                throw new IllegalStateException("Failed to initialize " + type, throwable);
+            }
+        } else if (typeInitializer != null) {
             typeInitializer.getClass().getMethod("onLoad", Class.class).invoke(typeInitializer, type);
         }
     }
@@ -156,7 +199,8 @@ public class Nexus extends WeakReference<ClassLoader> {
      * @param identification  An identification for the initializer to run.
      * @param typeInitializer The type initializer to register. The initializer must be an instance
      *                        of {@link net.bytebuddy.implementation.LoadedTypeInitializer} where
-     *                        it does however not matter which class loader loaded this latter type.
+     *                        it does however not matter which class loader loaded this latter type. If the initializer
+     *                        implements {@link InvocationHandler}, it is invoked via this interface.
      */
     public static void register(String name, ClassLoader classLoader, ReferenceQueue<? super ClassLoader> referenceQueue, int identification, Object typeInitializer) {
         TYPE_INITIALIZERS.put(new Nexus(name, classLoader, referenceQueue, identification), typeInitializer);
@@ -164,7 +208,100 @@ public class Nexus extends WeakReference<ClassLoader> {
 
     /**
      * <p>
-     * Cleans any stale entries from this nexus. Entries are considered stale if their class loader was collected before a class was initialized.
+     * Defines the value of a dynamic constant that is resolved by {@link Nexus#resolve(String, Class)}. If a constant of the same
+     * name is already defined for the type with another value, an exception is thrown.
+     * </p>
+     * <p>
+     * <b>Important</b>: This method must never be called directly but only by using a {@link NexusAccessor.ConstantInitializer} which
+     * defines the constant with the nexus that is visible to the type that resolves the constant. For this reason, the last parameter
+     * must not use a Byte Buddy specific type as those types can be loaded by different class loaders, too.
+     * </p>
+     *
+     * @param name           The name of the type that declares the dynamic constant.
+     * @param classLoader    The class loader of the type that declares the dynamic constant.
+     * @param referenceQueue The reference queue to notify upon the class loader's collection which will be enqueued a reference which can be
+     *                       handed to {@link Nexus#clean(Reference)} or {@code null} if the nexus should expunge the constant itself
+     *                       once the class loader is collected.
+     * @param constant       The name of the dynamic constant.
+     * @param value          The value of the dynamic constant.
+     */
+    public static void define(String name, ClassLoader classLoader, ReferenceQueue<? super ClassLoader> referenceQueue, String constant, Object value) {
+        expunge();
+        if (referenceQueue == null) {
+            referenceQueue = CONSTANTS_QUEUE;
+        }
+        Object previous = CONSTANTS.putIfAbsent(new Nexus(nonAnonymous(name) + "/" + constant, classLoader, referenceQueue, NO_IDENTIFICATION), new Object[]{value});
+        if (previous != null && (previous instanceof Object[] ? ((Object[]) previous)[0] : ((Reference<?>) previous).get()) != value) {
+            throw new IllegalStateException("Dynamic constant " + constant + " of " + name + " is already defined with another value");
+        }
+    }
+
+    /**
+     * <p>
+     * Resolves the value of a dynamic constant that was defined by {@link Nexus#define(String, ClassLoader, ReferenceQueue, String, Object)}.
+     * As this class must not reference any type that was introduced after Java 5, this method does not implement a bootstrap method itself
+     * but is invoked by the {@code java.lang.invoke.ConstantBootstraps#invoke} bootstrap method.
+     * </p>
+     * <p>
+     * A constant is only resolved if this method is invoked by the Java virtual machine for linking a dynamic constant of the owner
+     * type. Therefore, other code cannot read a constant of another type, despite this method being public as required for its
+     * linkage from any instrumented type.
+     * </p>
+     * <p>
+     * When a constant is resolved, the value is only retained weakly from then on. The Java virtual machine might invoke this method
+     * concurrently if several threads resolve the same constant where the value is still referenced by the constant pool entry or by
+     * the resolving thread that returned the value first.
+     * </p>
+     *
+     * @param name  The name of the dynamic constant.
+     * @param owner The type that declares the dynamic constant.
+     * @return The value of the dynamic constant.
+     */
+    public static Object resolve(String name, Class<?> owner) {
+        if (!isLinkedBy(owner)) {
+            throw new IllegalStateException("Dynamic constant " + name + " of " + owner + " can only be resolved by its owner");
+        }
+        expunge();
+        Nexus nexus = new Nexus(nonAnonymous(owner.getName()) + "/" + name, owner.getClassLoader(), NO_QUEUE, NO_IDENTIFICATION);
+        Object value = CONSTANTS.get(nexus);
+        if (value instanceof Object[]) {
+            Object constant = ((Object[]) value)[0];
+            CONSTANTS.replace(nexus, value, new WeakReference<Object>(constant));
+            return constant;
+        } else if (value instanceof Reference<?>) {
+            Object constant = ((Reference<?>) value).get();
+            if (constant != null) {
+                return constant;
+            }
+        }
+        throw new IllegalStateException("No value defined for dynamic constant " + name + " of " + owner);
+    }
+
+    /**
+     * Checks if the current thread is linking a dynamic constant of the supplied type. This is the case if the Java virtual machine's
+     * upcall for linking a dynamic constant is the first frame on the stack that is not part of the {@code java.lang.invoke} package
+     * and if this upcall is triggered by the supplied type.
+     *
+     * @param owner The type that is expected to link a dynamic constant.
+     * @return {@code true} if the current thread is linking a dynamic constant of the supplied type.
+     */
+    private static boolean isLinkedBy(Class<?> owner) {
+        StackTraceElement[] stackTrace = new Throwable().getStackTrace();
+        for (int index = 2; index < stackTrace.length - 1; index++) {
+            if (!stackTrace[index].getClassName().startsWith("java.lang.invoke.")) {
+                return false;
+            } else if (stackTrace[index].getClassName().equals("java.lang.invoke.MethodHandleNatives")
+                    && stackTrace[index].getMethodName().equals("linkDynamicConstant")) {
+                return stackTrace[index + 1].getClassName().equals(owner.getName());
+            }
+        }
+        return false;
+    }
+
+    /**
+     * <p>
+     * Cleans any stale entries from this nexus. Entries are considered stale if their class loader was collected before a class was initialized
+     * or, for dynamic constants, if their class loader was collected.
      * </p>
      * <p>
      * <b>Important</b>: This method must never be called directly but only by using a {@link NexusAccessor} which enforces to access this class
@@ -177,6 +314,18 @@ public class Nexus extends WeakReference<ClassLoader> {
      */
     public static void clean(Reference<? super ClassLoader> reference) {
         TYPE_INITIALIZERS.remove(reference);
+        CONSTANTS.remove(reference);
+    }
+
+    /**
+     * Removes all dynamic constants from this nexus whose class loader was collected and that were not registered with an explicit
+     * reference queue.
+     */
+    private static void expunge() {
+        Reference<? extends ClassLoader> reference;
+        while ((reference = CONSTANTS_QUEUE.poll()) != null) {
+            CONSTANTS.remove(reference);
+        }
     }
 
     @Override
@@ -16,6 +16,7 @@
 package net.bytebuddy.dynamic;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.build.HashCodeAndEqualsPlugin;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.type.TypeDescription;
@@ -29,13 +30,16 @@ import net.bytebuddy.implementation.bytecode.StackManipulation;
 import net.bytebuddy.implementation.bytecode.collection.ArrayFactory;
 import net.bytebuddy.implementation.bytecode.constant.ClassConstant;
 import net.bytebuddy.implementation.bytecode.constant.IntegerConstant;
+import net.bytebuddy.implementation.bytecode.constant.JavaConstantValue;
 import net.bytebuddy.implementation.bytecode.constant.NullConstant;
 import net.bytebuddy.implementation.bytecode.constant.TextConstant;
 import net.bytebuddy.implementation.bytecode.member.MethodInvocation;
+import net.bytebuddy.utility.JavaConstant;
 import org.objectweb.asm.MethodVisitor;
 
 import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
+import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.security.AccessController;
@@ -170,6 +174,206 @@ public class NexusAccessor {
         }
     }
 
+    /**
+     * <p>
+     * An invocation handler that applies a {@link LoadedTypeInitializer} when it is invoked with the initialized type as its single argument.
+     * As the {@link Nexus} is loaded by the system class loader, it cannot see Byte Buddy's types what makes it impossible to invoke a loaded
+     * type initializer directly. Instead, the nexus invokes this handler via the {@link InvocationHandler} interface which is visible to any
+     * class loader and avoids a reflective lookup and invocation of {@link LoadedTypeInitializer#onLoad(Class)} for every initialized type.
+     * </p>
+     * <p>
+     * <b>Note</b>: If a nexus was injected by a previous version of Byte Buddy, it invokes this handler's {@link InitializationHandler#onLoad(Class)}
+     * method via reflection.
+     * </p>
+     */
+    @HashCodeAndEqualsPlugin.Enhance
+    public static class InitializationHandler implements InvocationHandler {
+
+        /**
+         * The loaded type initializer to apply.
+         */
+        private final LoadedTypeInitializer loadedTypeInitializer;
+
+        /**
+         * Creates a new initialization handler.
+         *
+         * @param loadedTypeInitializer The loaded type initializer to apply.
+         */
+        public InitializationHandler(LoadedTypeInitializer loadedTypeInitializer) {
+            this.loadedTypeInitializer = loadedTypeInitializer;
+        }
+
+        /**
+         * Applies the represented loaded type initializer.
+         *
+         * @param type The type to initialize.
+         */
+        public void onLoad(Class<?> type) {
+            loadedTypeInitializer.onLoad(type);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public Object invoke(Object proxy, Method method, Object[] argument) {
+            onLoad((Class<?>) argument[0]);
+            return null;
+        }
+    }
+
+    /**
+     * <p>
+     * A loaded type initializer that defines the value of a dynamic constant that is loaded by a {@link ConstantValue} from the
+     * {@link Nexus} that is visible to the initialized type. Doing so, the value is not assigned to a field of the initialized
+     * type what avoids reflective access to this type. When this initializer is applied, the nexus is injected into the system
+     * class loader if this was not done before and if this is possible.
+     * </p>
+     * <p>
+     * <b>Important</b>: The value of a constant remains registered in the nexus until the constant is resolved for the first time.
+     * If a type is loaded but the constant is never resolved, the value is retained until the type's class loader is collected
+     * what the nexus then registers and expunges. A value that references its type's class loader prevents such a collection
+     * for as long as the constant is not resolved.
+     * </p>
+     */
+    @HashCodeAndEqualsPlugin.Enhance
+    public static class ConstantInitializer implements LoadedTypeInitializer {
+
+        /**
+         * Indicates that a static method is invoked by reflection.
+         */
+        private static final Object STATIC_METHOD = null;
+
+        /**
+         * Indicates that no reference queue is notified upon the collection of a class loader such that the nexus expunges
+         * the constant's entry itself.
+         */
+        private static final ReferenceQueue<ClassLoader> NO_QUEUE = null;
+
+        /**
+         * The name of the dynamic constant.
+         */
+        private final String name;
+
+        /**
+         * The value of the dynamic constant.
+         */
+        private final Object value;
+
+        /**
+         * Creates a new constant initializer.
+         *
+         * @param name  The name of the dynamic constant.
+         * @param value The value of the dynamic constant.
+         */
+        public ConstantInitializer(String name, Object value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public void onLoad(Class<?> type) {
+            ClassLoader classLoader = type.getClassLoader();
+            if (classLoader == null) {
+                throw new IllegalStateException("Cannot define a dynamic constant for a type of the boot loader: " + type);
+            }
+            boolean injected = NexusAccessor.isAlive();
+            Class<?> nexus;
+            try {
+                nexus = Class.forName(Nexus.class.getName(), false, classLoader);
+            } catch (ClassNotFoundException exception) {
+                throw new IllegalStateException("The Nexus is not visible to " + type + (injected
+                        ? ""
+                        : " and could not be injected into the system class loader"), exception);
+            }
+            if (nexus == Nexus.class) {
+                Nexus.define(type.getName(), classLoader, NO_QUEUE, name, value);
+            } else {
+                Method define;
+                try {
+                    define = nexus.getMethod("define", String.class, ClassLoader.class, ReferenceQueue.class, String.class, Object.class);
+                } catch (NoSuchMethodException exception) {
+                    throw new IllegalStateException("The Nexus that is visible to " + type + " does not support dynamic constants", exception);
+                }
+                try {
+                    define.invoke(STATIC_METHOD, type.getName(), classLoader, NO_QUEUE, name, value);
+                } catch (IllegalAccessException exception) {
+                    throw new IllegalStateException("Cannot access: " + define, exception);
+                } catch (InvocationTargetException exception) {
+                    throw new IllegalStateException("Cannot invoke: " + define, exception.getCause());
+                }
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean isAlive() {
+            return true;
+        }
+    }
+
+    /**
+     * <p>
+     * Loads a value that is defined by a {@link ConstantInitializer} as a dynamic constant that is resolved by the {@link Nexus}
+     * that is visible to the instrumented type. The constant is resolved on its first use and is afterwards treated as a constant
+     * by the Java virtual machine.
+     * </p>
+     * <p>
+     * <b>Important</b>: Dynamic constants are only supported by class files of at least Java 11. Furthermore, the {@link Nexus} class
+     * must be visible to the instrumented type, either because the instrumented type's class loader delegates to the system class
+     * loader into which the nexus is injected or because it can see Byte Buddy's classes.
+     * </p>
+     */
+    @HashCodeAndEqualsPlugin.Enhance
+    public static class ConstantValue implements StackManipulation {
+
+        /**
+         * The name of the dynamic constant.
+         */
+        private final String name;
+
+        /**
+         * The type of the dynamic constant.
+         */
+        private final TypeDescription typeDescription;
+
+        /**
+         * Creates a new constant value.
+         *
+         * @param name            The name of the dynamic constant.
+         * @param typeDescription The type of the dynamic constant.
+         */
+        public ConstantValue(String name, TypeDescription typeDescription) {
+            this.name = name;
+            this.typeDescription = typeDescription;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean isValid() {
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public Size apply(MethodVisitor methodVisitor, Implementation.Context implementationContext) {
+            if (!implementationContext.getClassFileVersion().isAtLeast(ClassFileVersion.JAVA_V11)) {
+                throw new IllegalStateException("Cannot load dynamic constant " + name + " from class file version " + implementationContext.getClassFileVersion());
+            }
+            try {
+                return new JavaConstantValue(JavaConstant.Dynamic.ofInvocation(new MethodDescription.ForLoadedMethod(Nexus.class.getMethod("resolve", String.class, Class.class)),
+                        name,
+                        implementationContext.getInstrumentedType()).withType(typeDescription)).apply(methodVisitor, implementationContext);
+            } catch (NoSuchMethodException exception) {
+                throw new IllegalStateException("Cannot locate method", exception);
+            }
+        }
+    }
+
     /**
      * A dispatcher for registering type initializers in the {@link Nexus}.
      */
@@ -302,7 +506,7 @@ public class NexusAccessor {
                                  int identification,
                                  LoadedTypeInitializer loadedTypeInitializer) {
                 try {
-                    register.invoke(STATIC_METHOD, name, classLoader, referenceQueue, identification, loadedTypeInitializer);
+                    register.invoke(STATIC_METHOD, name, classLoader, referenceQueue, identification, new InitializationHandler(loadedTypeInitializer));
                 } catch (IllegalAccessException exception) {
                     throw new IllegalStateException("Cannot access: " + register, exception);
                 } catch (InvocationTargetException exception) {
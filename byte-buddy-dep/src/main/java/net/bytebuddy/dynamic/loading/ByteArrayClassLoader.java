@@ -22,6 +22,7 @@ import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.utility.JavaModule;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
@@ -30,6 +31,7 @@ import java.lang.instrument.IllegalClassFormatException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.*;
+import java.nio.ByteBuffer;
 import java.security.AccessControlContext;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
@@ -37,6 +39,9 @@ import java.security.ProtectionDomain;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
 /**
  * <p>
@@ -232,8 +237,31 @@ public class ByteArrayClassLoader extends InjectionClassLoader {
                                 PersistenceHandler persistenceHandler,
                                 PackageDefinitionStrategy packageDefinitionStrategy,
                                 ClassFileTransformer classFileTransformer) {
+        this(parent, sealed, typeDefinitions, protectionDomain, persistenceHandler, packageDefinitionStrategy, classFileTransformer, StorageStrategy.ON_HEAP);
+    }
+
+    /**
+     * Creates a new class loader for a given definition of classes.
+     *
+     * @param parent                    The {@link java.lang.ClassLoader} that is the parent of this class loader.
+     * @param sealed                    {@code true} if this class loader is sealed.
+     * @param typeDefinitions           A map of fully qualified class names pointing to their binary representations.
+     * @param protectionDomain          The protection domain to apply where {@code null} references an implicit protection domain.
+     * @param packageDefinitionStrategy The package definer to be queried for package definitions.
+     * @param persistenceHandler        The persistence handler of this class loader.
+     * @param classFileTransformer      The class file transformer to apply on loaded classes.
+     * @param storageStrategy           The storage strategy for the binary representations of this class loader's type definitions.
+     */
+    public ByteArrayClassLoader(ClassLoader parent,
+                                boolean sealed,
+                                Map<String, byte[]> typeDefinitions,
+                                ProtectionDomain protectionDomain,
+                                PersistenceHandler persistenceHandler,
+                                PackageDefinitionStrategy packageDefinitionStrategy,
+                                ClassFileTransformer classFileTransformer,
+                                StorageStrategy storageStrategy) {
         super(parent, sealed);
-        this.typeDefinitions = new ConcurrentHashMap<String, byte[]>(typeDefinitions);
+        this.typeDefinitions = storageStrategy.make(typeDefinitions);
         this.protectionDomain = protectionDomain;
         this.persistenceHandler = persistenceHandler;
         this.packageDefinitionStrategy = packageDefinitionStrategy;
@@ -280,7 +308,6 @@ public class ByteArrayClassLoader extends InjectionClassLoader {
      * @param sealed                    {@code true} if the class loader should be sealed.
      * @return A map of the given type descriptions pointing to their loaded representations.
      */
-    @SuppressFBWarnings(value = "DP_CREATE_CLASSLOADER_INSIDE_DO_PRIVILEGED", justification = "Privilege is explicit user responsibility")
     public static Map<TypeDescription, Class<?>> load(ClassLoader classLoader,
                                                       Map<TypeDescription, byte[]> types,
                                                       ProtectionDomain protectionDomain,
@@ -288,6 +315,31 @@ public class ByteArrayClassLoader extends InjectionClassLoader {
                                                       PackageDefinitionStrategy packageDefinitionStrategy,
                                                       boolean forbidExisting,
                                                       boolean sealed) {
+        return load(classLoader, types, protectionDomain, persistenceHandler, packageDefinitionStrategy, forbidExisting, sealed, StorageStrategy.ON_HEAP);
+    }
+
+    /**
+     * Loads a given set of class descriptions and their binary representations.
+     *
+     * @param classLoader               The parent class loader.
+     * @param types                     The unloaded types to be loaded.
+     * @param protectionDomain          The protection domain to apply where {@code null} references an implicit protection domain.
+     * @param persistenceHandler        The persistence handler of the created class loader.
+     * @param packageDefinitionStrategy The package definer to be queried for package definitions.
+     * @param forbidExisting            {@code true} if the class loading should throw an exception if a class was already loaded by a parent class loader.
+     * @param sealed                    {@code true} if the class loader should be sealed.
+     * @param storageStrategy           The storage strategy for the binary representations of the created class loader's type definitions.
+     * @return A map of the given type descriptions pointing to their loaded representations.
+     */
+    @SuppressFBWarnings(value = "DP_CREATE_CLASSLOADER_INSIDE_DO_PRIVILEGED", justification = "Privilege is explicit user responsibility")
+    public static Map<TypeDescription, Class<?>> load(ClassLoader classLoader,
+                                                      Map<TypeDescription, byte[]> types,
+                                                      ProtectionDomain protectionDomain,
+                                                      PersistenceHandler persistenceHandler,
+                                                      PackageDefinitionStrategy packageDefinitionStrategy,
+                                                      boolean forbidExisting,
+                                                      boolean sealed,
+                                                      StorageStrategy storageStrategy) {
         Map<String, byte[]> typesByName = new HashMap<String, byte[]>();
         for (Map.Entry<TypeDescription, byte[]> entry : types.entrySet()) {
             typesByName.put(entry.getKey().getName(), entry.getValue());
@@ -298,7 +350,8 @@ public class ByteArrayClassLoader extends InjectionClassLoader {
                 protectionDomain,
                 persistenceHandler,
                 packageDefinitionStrategy,
-                NoOpClassFileTransformer.INSTANCE);
+                NoOpClassFileTransformer.INSTANCE,
+                storageStrategy);
         Map<TypeDescription, Class<?>> result = new LinkedHashMap<TypeDescription, Class<?>>();
         for (TypeDescription typeDescription : types.keySet()) {
             try {
@@ -316,9 +369,9 @@ public class ByteArrayClassLoader extends InjectionClassLoader {
 
     @Override
     protected Map<String, Class<?>> doDefineClasses(Map<String, byte[]> typeDefinitions) throws ClassNotFoundException {
-        Map<String, byte[]> previous = new HashMap<String, byte[]>();
+        Map<String, Object> previous = new HashMap<String, Object>();
         for (Map.Entry<String, byte[]> entry : typeDefinitions.entrySet()) {
-            previous.put(entry.getKey(), this.typeDefinitions.putIfAbsent(entry.getKey(), entry.getValue()));
+            previous.put(entry.getKey(), reserve(entry.getKey(), entry.getValue()));
         }
         try {
             Map<String, Class<?>> types = new LinkedHashMap<String, Class<?>>();
@@ -329,16 +382,44 @@ public class ByteArrayClassLoader extends InjectionClassLoader {
             }
             return types;
         } finally {
-            for (Map.Entry<String, byte[]> entry : previous.entrySet()) {
+            for (Map.Entry<String, Object> entry : previous.entrySet()) {
                 if (entry.getValue() == null) {
                     persistenceHandler.release(entry.getKey(), this.typeDefinitions);
                 } else {
-                    this.typeDefinitions.put(entry.getKey(), entry.getValue());
+                    restore(entry.getKey(), entry.getValue());
                 }
             }
         }
     }
 
+    /**
+     * Adds a binary representation to this class loader's type definitions if no representation is registered for the given name.
+     * For off-heap storage, a previous representation is returned in its stored form such that it does not need to be decoded.
+     *
+     * @param name                 The name of the type.
+     * @param binaryRepresentation The binary representation of the type.
+     * @return The previous representation in its stored form or {@code null} if no representation was previously registered.
+     */
+    private Object reserve(String name, byte[] binaryRepresentation) {
+        return typeDefinitions instanceof StorageStrategy.OffHeapTypeDefinitions
+                ? ((StorageStrategy.OffHeapTypeDefinitions) typeDefinitions).putIfAbsentStored(name, binaryRepresentation)
+                : typeDefinitions.putIfAbsent(name, binaryRepresentation);
+    }
+
+    /**
+     * Restores a representation that was returned by {@link ByteArrayClassLoader#reserve(String, byte[])}.
+     *
+     * @param name     The name of the type.
+     * @param previous The previous representation in its stored form.
+     */
+    private void restore(String name, Object previous) {
+        if (previous instanceof ByteBuffer) {
+            ((StorageStrategy.OffHeapTypeDefinitions) typeDefinitions).putStored(name, (ByteBuffer) previous);
+        } else {
+            typeDefinitions.put(name, (byte[]) previous);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -781,7 +862,7 @@ public class ByteArrayClassLoader extends InjectionClassLoader {
 
             @Override
             protected void release(String name, ConcurrentMap<String, byte[]> typeDefinitions) {
-                typeDefinitions.remove(name);
+                typeDefinitions.keySet().remove(name);
             }
         };
 
@@ -965,6 +1046,358 @@ public class ByteArrayClassLoader extends InjectionClassLoader {
         }
     }
 
+    /**
+     * A storage strategy decides on how the binary representations of a byte array class loader's type definitions are
+     * retained until they are defined or, for a {@link PersistenceHandler#MANIFEST} class loader, until the class loader
+     * is garbage collected. A storage strategy can be set via a class loader's constructor, via the static {@code load} methods
+     * or via {@link ClassLoadingStrategy.Configurable#with(StorageStrategy)}.
+     */
+    public enum StorageStrategy {
+
+        /**
+         * Stores the binary representations of type definitions as byte arrays on the heap.
+         */
+        ON_HEAP {
+            @Override
+            protected ConcurrentMap<String, byte[]> make(Map<String, byte[]> typeDefinitions) {
+                return new ConcurrentHashMap<String, byte[]>(typeDefinitions);
+            }
+        },
+
+        /**
+         * Stores the binary representations of type definitions in direct buffers outside of the heap. A byte array is
+         * only materialized when a type is defined or when its class file is requested as a resource.
+         */
+        OFF_HEAP {
+            @Override
+            protected ConcurrentMap<String, byte[]> make(Map<String, byte[]> typeDefinitions) {
+                ConcurrentMap<String, byte[]> offHeap = new OffHeapTypeDefinitions(false);
+                offHeap.putAll(typeDefinitions);
+                return offHeap;
+            }
+        },
+
+        /**
+         * Stores the binary representations of type definitions in compressed form in direct buffers outside of the heap.
+         * A byte array is only materialized when a type is defined or when its class file is requested as a resource.
+         */
+        OFF_HEAP_COMPRESSED {
+            @Override
+            protected ConcurrentMap<String, byte[]> make(Map<String, byte[]> typeDefinitions) {
+                ConcurrentMap<String, byte[]> offHeap = new OffHeapTypeDefinitions(true);
+                offHeap.putAll(typeDefinitions);
+                return offHeap;
+            }
+        };
+
+        /**
+         * Creates a mutable and thread-safe storage for the supplied type definitions.
+         *
+         * @param typeDefinitions A map of fully qualified class names pointing to their binary representations.
+         * @return A mutable and thread-safe storage of the supplied type definitions.
+         */
+        protected abstract ConcurrentMap<String, byte[]> make(Map<String, byte[]> typeDefinitions);
+
+        /**
+         * A map of type definitions which retains the binary representations in direct buffers. Any retrieved value
+         * is a copy of the stored binary representation. Values are compared by their content. The memory of a
+         * direct buffer is released once the buffer is garbage collected.
+         */
+        protected static class OffHeapTypeDefinitions extends AbstractMap<String, byte[]> implements ConcurrentMap<String, byte[]> {
+
+            /**
+             * The direct buffers that contain the binary representations, mapped by their type names.
+             */
+            private final ConcurrentMap<String, ByteBuffer> buffers;
+
+            /**
+             * {@code true} if the binary representations are stored in compressed form.
+             */
+            private final boolean compressed;
+
+            /**
+             * Creates a new map of type definitions that are stored in direct buffers.
+             *
+             * @param compressed {@code true} if the binary representations are stored in compressed form.
+             */
+            protected OffHeapTypeDefinitions(boolean compressed) {
+                this.compressed = compressed;
+                buffers = new ConcurrentHashMap<String, ByteBuffer>();
+            }
+
+            /**
+             * Writes a binary representation to a direct buffer, prefixed by its length.
+             *
+             * @param binaryRepresentation The binary representation to store.
+             * @return A direct buffer containing the supplied binary representation.
+             */
+            protected ByteBuffer encode(byte[] binaryRepresentation) {
+                byte[] stored = binaryRepresentation;
+                if (compressed) {
+                    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+                    try {
+                        deflater.setInput(binaryRepresentation);
+                        deflater.finish();
+                        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(binaryRepresentation.length / 2 + 16);
+                        byte[] buffer = new byte[1024];
+                        while (!deflater.finished()) {
+                            outputStream.write(buffer, 0, deflater.deflate(buffer));
+                        }
+                        stored = outputStream.toByteArray();
+                    } finally {
+                        deflater.end();
+                    }
+                }
+                ByteBuffer buffer = ByteBuffer.allocateDirect(stored.length + 4);
+                buffer.putInt(binaryRepresentation.length).put(stored).flip();
+                return buffer;
+            }
+
+            /**
+             * Reads a binary representation from a direct buffer.
+             *
+             * @param buffer The direct buffer to read from or {@code null}.
+             * @return A copy of the stored binary representation or {@code null} if the supplied buffer is {@code null}.
+             */
+            protected byte[] decode(ByteBuffer buffer) {
+                if (buffer == null) {
+                    return null;
+                }
+                buffer = buffer.duplicate();
+                byte[] binaryRepresentation = new byte[buffer.getInt()];
+                if (compressed) {
+                    byte[] stored = new byte[buffer.remaining()];
+                    buffer.get(stored);
+                    Inflater inflater = new Inflater();
+                    try {
+                        inflater.setInput(stored);
+                        int length = 0;
+                        while (length < binaryRepresentation.length) {
+                            int inflated = inflater.inflate(binaryRepresentation, length, binaryRepresentation.length - length);
+                            if (inflated == 0 && (inflater.finished() || inflater.needsInput())) {
+                                throw new IllegalStateException("Unexpected end of compressed class file");
+                            }
+                            length += inflated;
+                        }
+                    } catch (DataFormatException exception) {
+                        throw new IllegalStateException("Cannot decompress class file", exception);
+                    } finally {
+                        inflater.end();
+                    }
+                } else {
+                    buffer.get(binaryRepresentation);
+                }
+                return binaryRepresentation;
+            }
+
+            @Override
+            public byte[] get(Object key) {
+                return decode(buffers.get(key));
+            }
+
+            @Override
+            public boolean containsKey(Object key) {
+                return buffers.containsKey(key);
+            }
+
+            @Override
+            public byte[] put(String key, byte[] value) {
+                return decode(buffers.put(key, encode(value)));
+            }
+
+            @Override
+            public byte[] remove(Object key) {
+                return decode(buffers.remove(key));
+            }
+
+            @Override
+            public int size() {
+                return buffers.size();
+            }
+
+            @Override
+            public Set<String> keySet() {
+                return buffers.keySet();
+            }
+
+            @Override
+            public void clear() {
+                buffers.clear();
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public byte[] putIfAbsent(String key, byte[] value) {
+                ByteBuffer buffer = buffers.get(key);
+                return buffer == null
+                        ? decode(buffers.putIfAbsent(key, encode(value)))
+                        : decode(buffer);
+            }
+
+            /**
+             * Adds a binary representation if no representation is stored for the given name. Other than
+             * {@link OffHeapTypeDefinitions#putIfAbsent(String, byte[])}, a previous representation is not decoded.
+             *
+             * @param key   The name of the type.
+             * @param value The binary representation to store.
+             * @return The buffer of the previous representation or {@code null} if no representation was stored.
+             */
+            protected ByteBuffer putIfAbsentStored(String key, byte[] value) {
+                ByteBuffer buffer = buffers.get(key);
+                return buffer == null
+                        ? buffers.putIfAbsent(key, encode(value))
+                        : buffer;
+            }
+
+            /**
+             * Stores a buffer that was previously returned by {@link OffHeapTypeDefinitions#putIfAbsentStored(String, byte[])}
+             * without encoding it again or decoding a replaced representation.
+             *
+             * @param key    The name of the type.
+             * @param buffer The buffer to store.
+             */
+            protected void putStored(String key, ByteBuffer buffer) {
+                buffers.put(key, buffer);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public boolean remove(Object key, Object value) {
+                ByteBuffer buffer = buffers.get(key);
+                return buffer != null
+                        && value instanceof byte[]
+                        && Arrays.equals(decode(buffer), (byte[]) value)
+                        && buffers.remove(key, buffer);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public boolean replace(String key, byte[] oldValue, byte[] newValue) {
+                ByteBuffer buffer = buffers.get(key);
+                return buffer != null
+                        && Arrays.equals(decode(buffer), oldValue)
+                        && buffers.replace(key, buffer, encode(newValue));
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public byte[] replace(String key, byte[] value) {
+                return buffers.containsKey(key)
+                        ? decode(buffers.replace(key, encode(value)))
+                        : null;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public Set<Entry<String, byte[]>> entrySet() {
+                return new EntrySet();
+            }
+
+            /**
+             * A view of the entries of this map that decodes values on access.
+             */
+            protected class EntrySet extends AbstractSet<Entry<String, byte[]>> {
+
+                @Override
+                public Iterator<Entry<String, byte[]>> iterator() {
+                    return new EntryIterator(buffers.entrySet().iterator());
+                }
+
+                @Override
+                public int size() {
+                    return buffers.size();
+                }
+            }
+
+            /**
+             * An iterator over the entries of this map that decodes values on access.
+             */
+            protected class EntryIterator implements Iterator<Entry<String, byte[]>> {
+
+                /**
+                 * The iterator over the underlying buffers.
+                 */
+                private final Iterator<Entry<String, ByteBuffer>> iterator;
+
+                /**
+                 * Creates a new entry iterator.
+                 *
+                 * @param iterator The iterator over the underlying buffers.
+                 */
+                protected EntryIterator(Iterator<Entry<String, ByteBuffer>> iterator) {
+                    this.iterator = iterator;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public Entry<String, byte[]> next() {
+                    return new DecodingEntry(iterator.next());
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public void remove() {
+                    iterator.remove();
+                }
+            }
+
+            /**
+             * An entry of this map that decodes its value on access.
+             */
+            protected class DecodingEntry implements Entry<String, byte[]> {
+
+                /**
+                 * The underlying entry.
+                 */
+                private final Entry<String, ByteBuffer> entry;
+
+                /**
+                 * Creates a new decoding entry.
+                 *
+                 * @param entry The underlying entry.
+                 */
+                protected DecodingEntry(Entry<String, ByteBuffer> entry) {
+                    this.entry = entry;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public String getKey() {
+                    return entry.getKey();
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public byte[] getValue() {
+                    return decode(entry.getValue());
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public byte[] setValue(byte[] value) {
+                    throw new UnsupportedOperationException("Cannot set value of off-heap type definition: " + entry.getKey());
+                }
+            }
+        }
+    }
+
     /**
      * <p>
      * A {@link net.bytebuddy.dynamic.loading.ByteArrayClassLoader} which applies child-first semantics for the
@@ -1102,6 +1535,29 @@ public class ByteArrayClassLoader extends InjectionClassLoader {
             super(parent, sealed, typeDefinitions, protectionDomain, persistenceHandler, packageDefinitionStrategy, classFileTransformer);
         }
 
+        /**
+         * Creates a new child-first byte array class loader.
+         *
+         * @param parent                    The {@link java.lang.ClassLoader} that is the parent of this class loader.
+         * @param sealed                    {@code true} if this class loader is sealed.
+         * @param typeDefinitions           A map of fully qualified class names pointing to their binary representations.
+         * @param protectionDomain          The protection domain to apply where {@code null} references an implicit protection domain.
+         * @param persistenceHandler        The persistence handler of this class loader.
+         * @param packageDefinitionStrategy The package definer to be queried for package definitions.
+         * @param classFileTransformer      The class file transformer to apply on loaded classes.
+         * @param storageStrategy           The storage strategy for the binary representations of this class loader's type definitions.
+         */
+        public ChildFirst(ClassLoader parent,
+                          boolean sealed,
+                          Map<String, byte[]> typeDefinitions,
+                          ProtectionDomain protectionDomain,
+                          PersistenceHandler persistenceHandler,
+                          PackageDefinitionStrategy packageDefinitionStrategy,
+                          ClassFileTransformer classFileTransformer,
+                          StorageStrategy storageStrategy) {
+            super(parent, sealed, typeDefinitions, protectionDomain, persistenceHandler, packageDefinitionStrategy, classFileTransformer, storageStrategy);
+        }
+
         /**
          * Loads a given set of class descriptions and their binary representations using a child-first class loader.
          *
@@ -1131,7 +1587,6 @@ public class ByteArrayClassLoader extends InjectionClassLoader {
          * @param sealed                    {@code true} if the class loader should be sealed.
          * @return A map of the given type descriptions pointing to their loaded representations.
          */
-        @SuppressFBWarnings(value = "DP_CREATE_CLASSLOADER_INSIDE_DO_PRIVILEGED", justification = "Privilege is explicit user responsibility")
         public static Map<TypeDescription, Class<?>> load(ClassLoader classLoader,
                                                           Map<TypeDescription, byte[]> types,
                                                           ProtectionDomain protectionDomain,
@@ -1139,6 +1594,31 @@ public class ByteArrayClassLoader extends InjectionClassLoader {
                                                           PackageDefinitionStrategy packageDefinitionStrategy,
                                                           boolean forbidExisting,
                                                           boolean sealed) {
+            return load(classLoader, types, protectionDomain, persistenceHandler, packageDefinitionStrategy, forbidExisting, sealed, StorageStrategy.ON_HEAP);
+        }
+
+        /**
+         * Loads a given set of class descriptions and their binary representations using a child-first class loader.
+         *
+         * @param classLoader               The parent class loader.
+         * @param types                     The unloaded types to be loaded.
+         * @param protectionDomain          The protection domain to apply where {@code null} references an implicit protection domain.
+         * @param persistenceHandler        The persistence handler of the created class loader.
+         * @param packageDefinitionStrategy The package definer to be queried for package definitions.
+         * @param forbidExisting            {@code true} if the class loading should throw an exception if a class was already loaded by a parent class loader.
+         * @param sealed                    {@code true} if the class loader should be sealed.
+         * @param storageStrategy           The storage strategy for the binary representations of the created class loader's type definitions.
+         * @return A map of the given type descriptions pointing to their loaded representations.
+         */
+        @SuppressFBWarnings(value = "DP_CREATE_CLASSLOADER_INSIDE_DO_PRIVILEGED", justification = "Privilege is explicit user responsibility")
+        public static Map<TypeDescription, Class<?>> load(ClassLoader classLoader,
+                                                          Map<TypeDescription, byte[]> types,
+                                                          ProtectionDomain protectionDomain,
+                                                          PersistenceHandler persistenceHandler,
+                                                          PackageDefinitionStrategy packageDefinitionStrategy,
+                                                          boolean forbidExisting,
+                                                          boolean sealed,
+                                                          StorageStrategy storageStrategy) {
             Map<String, byte[]> typesByName = new HashMap<String, byte[]>();
             for (Map.Entry<TypeDescription, byte[]> entry : types.entrySet()) {
                 typesByName.put(entry.getKey().getName(), entry.getValue());
@@ -1149,7 +1629,8 @@ public class ByteArrayClassLoader extends InjectionClassLoader {
                     protectionDomain,
                     persistenceHandler,
                     packageDefinitionStrategy,
-                    NoOpClassFileTransformer.INSTANCE);
+                    NoOpClassFileTransformer.INSTANCE,
+                    storageStrategy);
             Map<TypeDescription, Class<?>> result = new LinkedHashMap<TypeDescription, Class<?>>();
             for (TypeDescription typeDescription : types.keySet()) {
                 try {
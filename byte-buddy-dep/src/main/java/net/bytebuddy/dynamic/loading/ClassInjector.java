@@ -29,7 +29,9 @@ import net.bytebuddy.implementation.FixedValue;
 import net.bytebuddy.implementation.MethodCall;
 import net.bytebuddy.utility.JavaModule;
 import net.bytebuddy.utility.JavaType;
+import net.bytebuddy.utility.OpenedClassReader;
 import net.bytebuddy.utility.RandomString;
+import org.objectweb.asm.ClassReader;
 
 import java.io.File;
 import java.io.FileOutputStream;
@@ -114,6 +116,60 @@ public interface ClassInjector {
             }
             return result;
         }
+
+        /**
+         * Orders the supplied types such that any type is preceded by its super class and by its interfaces if these types
+         * are supplied, too. This way, the class loader does not need to load a super type while defining one of its subtypes,
+         * what would typically fail for injected types that cannot be located by the class loader. Types without such
+         * dependencies retain their order.
+         *
+         * @param types The types to order, mapped by their names.
+         * @return The supplied types in hierarchy order.
+         */
+        protected static Map<String, byte[]> inHierarchyOrder(Map<? extends String, byte[]> types) {
+            Map<String, byte[]> ordered = new LinkedHashMap<String, byte[]>();
+            if (types.size() < 2) {
+                ordered.putAll(types);
+            } else {
+                Set<String> visited = new HashSet<String>();
+                for (String name : types.keySet()) {
+                    inHierarchyOrder(name, types, visited, ordered);
+                }
+            }
+            return ordered;
+        }
+
+        /**
+         * Adds a type to the supplied ordered types after adding any of its super types that are supplied, too.
+         *
+         * @param name    The name of the type to add.
+         * @param types   All types to order, mapped by their names.
+         * @param visited The names of all types that were already visited.
+         * @param ordered The types in hierarchy order.
+         */
+        private static void inHierarchyOrder(String name, Map<? extends String, byte[]> types, Set<String> visited, Map<String, byte[]> ordered) {
+            if (!visited.add(name)) {
+                return;
+            }
+            byte[] binaryRepresentation = types.get(name);
+            List<String> superTypes;
+            try {
+                ClassReader classReader = OpenedClassReader.of(binaryRepresentation);
+                superTypes = new ArrayList<String>(Arrays.asList(classReader.getInterfaces()));
+                if (classReader.getSuperName() != null) {
+                    superTypes.add(0, classReader.getSuperName());
+                }
+            } catch (RuntimeException ignored) {
+                superTypes = Collections.emptyList(); // Malformed class files are rejected when they are defined.
+            }
+            for (String superType : superTypes) {
+                String superTypeName = superType.replace('/', '.');
+                if (types.containsKey(superTypeName)) {
+                    inHierarchyOrder(superTypeName, types, visited, ordered);
+                }
+            }
+            ordered.put(name, binaryRepresentation);
+        }
     }
 
     /**
@@ -148,6 +204,11 @@ public interface ClassInjector {
          */
         private final boolean forbidExisting;
 
+        /**
+         * The listener to notify upon the definition of a type.
+         */
+        private final Listener listener;
+
         /**
          * Creates a new injector for the given {@link java.lang.ClassLoader} and a default {@link java.security.ProtectionDomain} and a
          * trivial {@link PackageDefinitionStrategy} which does not trigger an error when discovering existent classes.
@@ -184,6 +245,23 @@ public interface ClassInjector {
                                ProtectionDomain protectionDomain,
                                PackageDefinitionStrategy packageDefinitionStrategy,
                                boolean forbidExisting) {
+            this(classLoader, protectionDomain, packageDefinitionStrategy, forbidExisting, Listener.NoOp.INSTANCE);
+        }
+
+        /**
+         * Creates a new injector for the given {@link java.lang.ClassLoader} and {@link java.security.ProtectionDomain}.
+         *
+         * @param classLoader               The {@link java.lang.ClassLoader} into which new class definitions are to be injected. Must not be the bootstrap loader.
+         * @param protectionDomain          The protection domain to apply during class definition.
+         * @param packageDefinitionStrategy The package definer to be queried for package definitions.
+         * @param forbidExisting            Determines if an exception should be thrown when attempting to load a type that already exists.
+         * @param listener                  The listener to notify upon the definition of a type.
+         */
+        public UsingReflection(ClassLoader classLoader,
+                               ProtectionDomain protectionDomain,
+                               PackageDefinitionStrategy packageDefinitionStrategy,
+                               boolean forbidExisting,
+                               Listener listener) {
             if (classLoader == null) {
                 throw new IllegalArgumentException("Cannot inject classes into the bootstrap class loader");
             }
@@ -191,6 +269,7 @@ public interface ClassInjector {
             this.protectionDomain = protectionDomain;
             this.packageDefinitionStrategy = packageDefinitionStrategy;
             this.forbidExisting = forbidExisting;
+            this.listener = listener;
         }
 
         /**
@@ -202,46 +281,66 @@ public interface ClassInjector {
 
         /**
          * {@inheritDoc}
+         * <p>
+         * Types are defined after their super types if those are injected within the same batch. The package definition
+         * strategy is queried for every injected type but a package is only resolved or defined once per batch. Any further
+         * type of this package is validated against the resolved package.
+         * </p>
          */
         public Map<String, Class<?>> injectRaw(Map<? extends String, byte[]> types) {
             Dispatcher dispatcher = DISPATCHER.initialize();
             Map<String, Class<?>> result = new HashMap<String, Class<?>>();
-            for (Map.Entry<? extends String, byte[]> entry : types.entrySet()) {
+            Map<String, Package> packages = new HashMap<String, Package>();
+            boolean timed = listener != Listener.NoOp.INSTANCE;
+            for (Map.Entry<String, byte[]> entry : inHierarchyOrder(types).entrySet()) {
+                long duration = -1L;
+                Class<?> type;
                 synchronized (dispatcher.getClassLoadingLock(classLoader, entry.getKey())) {
-                    Class<?> type = dispatcher.findClass(classLoader, entry.getKey());
+                    type = dispatcher.findClass(classLoader, entry.getKey());
                     if (type == null) {
+                        long started = timed
+                                ? System.nanoTime()
+                                : 0L;
                         int packageIndex = entry.getKey().lastIndexOf('.');
                         if (packageIndex != -1) {
                             String packageName = entry.getKey().substring(0, packageIndex);
                             PackageDefinitionStrategy.Definition definition = packageDefinitionStrategy.define(classLoader, packageName, entry.getKey());
                             if (definition.isDefined()) {
-                                Package definedPackage = dispatcher.getDefinedPackage(classLoader, packageName);
+                                Package definedPackage = packages.get(packageName);
                                 if (definedPackage == null) {
-                                    try {
-                                        dispatcher.definePackage(classLoader,
-                                                packageName,
-                                                definition.getSpecificationTitle(),
-                                                definition.getSpecificationVersion(),
-                                                definition.getSpecificationVendor(),
-                                                definition.getImplementationTitle(),
-                                                definition.getImplementationVersion(),
-                                                definition.getImplementationVendor(),
-                                                definition.getSealBase());
-                                    } catch (IllegalStateException exception) {
-                                        // Custom classloaders may call getPackage (instead of getDefinedPackage) from
-                                        // within definePackage, which can cause the package to be defined in an
-                                        // ancestor classloader or find a previously defined one from an ancestor. In
-                                        // this case definePackage will also throw since it considers that package
-                                        // already loaded and will not allow to define it directly in this classloader.
-                                        // To make sure this is the case, call getPackage instead of getDefinedPackage
-                                        // here and verify that we actually have a compatible package defined in an
-                                        // ancestor classloader. This issue is known to happen on WLS14+JDK11.
-                                        definedPackage = dispatcher.getPackage(classLoader, packageName);
-                                        if (definedPackage == null) {
-                                            throw exception;
-                                        } else if (!definition.isCompatibleTo(definedPackage)) {
-                                            throw new SecurityException("Sealing violation for package " + packageName + " (getPackage fallback)");
+                                    definedPackage = dispatcher.getDefinedPackage(classLoader, packageName);
+                                    if (definedPackage == null) {
+                                        try {
+                                            definedPackage = dispatcher.definePackage(classLoader,
+                                                    packageName,
+                                                    definition.getSpecificationTitle(),
+                                                    definition.getSpecificationVersion(),
+                                                    definition.getSpecificationVendor(),
+                                                    definition.getImplementationTitle(),
+                                                    definition.getImplementationVersion(),
+                                                    definition.getImplementationVendor(),
+                                                    definition.getSealBase());
+                                        } catch (IllegalStateException exception) {
+                                            // Custom classloaders may call getPackage (instead of getDefinedPackage) from
+                                            // within definePackage, which can cause the package to be defined in an
+                                            // ancestor classloader or find a previously defined one from an ancestor. In
+                                            // this case definePackage will also throw since it considers that package
+                                            // already loaded and will not allow to define it directly in this classloader.
+                                            // To make sure this is the case, call getPackage instead of getDefinedPackage
+                                            // here and verify that we actually have a compatible package defined in an
+                                            // ancestor classloader. This issue is known to happen on WLS14+JDK11.
+                                            definedPackage = dispatcher.getPackage(classLoader, packageName);
+                                            if (definedPackage == null) {
+                                                throw exception;
+                                            } else if (!definition.isCompatibleTo(definedPackage)) {
+                                                throw new SecurityException("Sealing violation for package " + packageName + " (getPackage fallback)");
+                                            }
                                         }
+                                    } else if (!definition.isCompatibleTo(definedPackage)) {
+                                        throw new SecurityException("Sealing violation for package " + packageName);
+                                    }
+                                    if (definedPackage != null) {
+                                        packages.put(packageName, definedPackage);
                                     }
                                 } else if (!definition.isCompatibleTo(definedPackage)) {
                                     throw new SecurityException("Sealing violation for package " + packageName);
@@ -249,11 +348,17 @@ public interface ClassInjector {
                             }
                         }
                         type = dispatcher.defineClass(classLoader, entry.getKey(), entry.getValue(), protectionDomain);
+                        duration = timed
+                                ? System.nanoTime() - started
+                                : 0L;
                     } else if (forbidExisting) {
                         throw new IllegalStateException("Cannot inject already loaded type: " + type);
                     }
-                    result.put(entry.getKey(), type);
                 }
+                if (duration != -1L) {
+                    listener.onDefinition(entry.getKey(), type, duration);
+                }
+                result.put(entry.getKey(), type);
             }
             return result;
         }
@@ -276,6 +381,39 @@ public interface ClassInjector {
             return new UsingReflection(ClassLoader.getSystemClassLoader());
         }
 
+        /**
+         * A listener that is notified upon the definition of a type by a reflective class injector.
+         */
+        public interface Listener {
+
+            /**
+             * Invoked after a type was defined. This method is not invoked for types that were already loaded.
+             *
+             * @param name     The name of the defined type.
+             * @param type     The defined type.
+             * @param duration The time it took to define the type and its package, in nanoseconds.
+             */
+            void onDefinition(String name, Class<?> type, long duration);
+
+            /**
+             * A non-operational listener.
+             */
+            enum NoOp implements Listener {
+
+                /**
+                 * The singleton instance.
+                 */
+                INSTANCE;
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public void onDefinition(String name, Class<?> type, long duration) {
+                    /* do nothing */
+                }
+            }
+        }
+
         /**
          * A dispatcher for accessing a {@link ClassLoader} reflectively.
          */
@@ -1535,7 +1673,7 @@ public interface ClassInjector {
         public Map<String, Class<?>> injectRaw(Map<? extends String, byte[]> types) {
             String expectedPackage = TypeDescription.ForLoadedType.of(lookupType()).getPackage().getName();
             Map<String, Class<?>> result = new HashMap<String, Class<?>>();
-            for (Map.Entry<? extends String, byte[]> entry : types.entrySet()) {
+            for (Map.Entry<String, byte[]> entry : inHierarchyOrder(types).entrySet()) {
                 int index = entry.getKey().lastIndexOf('.');
                 if (!expectedPackage.equals(index == -1 ? "" : entry.getKey().substring(0, index))) {
                     throw new IllegalArgumentException(entry.getKey() + " must be defined in the same package as " + lookup);
@@ -1781,6 +1919,435 @@ public interface ClassInjector {
         }
     }
 
+    /**
+     * <p>
+     * A class injector that defines hidden classes using a {@code java.lang.invoke.MethodHandles$Lookup} instance what is
+     * supported from Java 15 on. A hidden class is not registered with its class loader such that it can be unloaded
+     * independently of it, unless it is defined with the {@link Option#STRONG} option. The name of a hidden class is assigned
+     * by the VM where the created name is based on the name of the injected type. As a consequence, a hidden class cannot be
+     * referenced by name by any other class. The returned mapping of types is however based on the names of the injected types.
+     * </p>
+     * <p>
+     * <b>Important</b>: Hidden classes are defined without being initialized.
+     * </p>
+     */
+    @HashCodeAndEqualsPlugin.Enhance
+    class UsingHiddenLookup extends AbstractBase {
+
+        /**
+         * The dispatcher to interacting with method handles.
+         */
+        private static final Dispatcher DISPATCHER = AccessController.doPrivileged(Dispatcher.Creator.INSTANCE);
+
+        /**
+         * Indicates a lookup instance's package lookup mode.
+         */
+        private static final int PACKAGE_LOOKUP = 0x8;
+
+        /**
+         * Indicates that no class data is supplied.
+         */
+        private static final Object NO_CLASS_DATA = null;
+
+        /**
+         * The {@code java.lang.invoke.MethodHandles$Lookup} to use.
+         */
+        private final Object lookup;
+
+        /**
+         * The options to apply when defining a hidden class.
+         */
+        private final Set<Option> options;
+
+        /**
+         * The class data to supply to any defined hidden class or {@code null} if no class data is supplied.
+         */
+        @HashCodeAndEqualsPlugin.ValueHandling(HashCodeAndEqualsPlugin.ValueHandling.Sort.REVERSE_NULLABILITY)
+        private final Object classData;
+
+        /**
+         * Creates a new class injector for hidden classes.
+         *
+         * @param lookup    The {@code java.lang.invoke.MethodHandles$Lookup} to use.
+         * @param options   The options to apply when defining a hidden class.
+         * @param classData The class data to supply to any defined hidden class or {@code null} if no class data is supplied.
+         */
+        protected UsingHiddenLookup(Object lookup, Set<Option> options, Object classData) {
+            this.lookup = lookup;
+            this.options = options;
+            this.classData = classData;
+        }
+
+        /**
+         * Creates a class injector that defines hidden classes using a method handle lookup.
+         *
+         * @param lookup The {@code java.lang.invoke.MethodHandles$Lookup} instance to use.
+         * @param option The options to apply when defining a hidden class.
+         * @return An appropriate class injector.
+         */
+        public static UsingHiddenLookup of(Object lookup, Option... option) {
+            if (!DISPATCHER.isAlive()) {
+                throw new IllegalStateException("The current VM does not support the definition of hidden classes");
+            } else if (!JavaType.METHOD_HANDLES_LOOKUP.isInstance(lookup)) {
+                throw new IllegalArgumentException("Not a method handle lookup: " + lookup);
+            } else if ((DISPATCHER.lookupModes(lookup) & PACKAGE_LOOKUP) == 0) {
+                throw new IllegalArgumentException("Lookup does not imply package-access: " + lookup);
+            }
+            Set<Option> options = EnumSet.noneOf(Option.class);
+            options.addAll(Arrays.asList(option));
+            return new UsingHiddenLookup(lookup, options, NO_CLASS_DATA);
+        }
+
+        /**
+         * Returns a class injector that supplies the given class data to any defined hidden class. The class data can be
+         * retrieved by the defined class via {@code java.lang.invoke.MethodHandles#classData}.
+         *
+         * @param classData The class data to supply.
+         * @return A class injector that supplies the given class data to any defined hidden class.
+         */
+        public UsingHiddenLookup withClassData(Object classData) {
+            if (!DISPATCHER.isClassDataAlive()) {
+                throw new IllegalStateException("The current VM does not support supplying class data to hidden classes");
+            }
+            return new UsingHiddenLookup(lookup, options, classData);
+        }
+
+        /**
+         * Returns the lookup type this injector is based upon.
+         *
+         * @return The lookup type.
+         */
+        public Class<?> lookupType() {
+            return DISPATCHER.lookupType(lookup);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean isAlive() {
+            return isAvailable();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public Map<String, Class<?>> injectRaw(Map<? extends String, byte[]> types) {
+            String expectedPackage = TypeDescription.ForLoadedType.of(lookupType()).getPackage().getName();
+            Map<String, Class<?>> result = new HashMap<String, Class<?>>();
+            for (Map.Entry<? extends String, byte[]> entry : types.entrySet()) {
+                int index = entry.getKey().lastIndexOf('.');
+                if (!expectedPackage.equals(index == -1 ? "" : entry.getKey().substring(0, index))) {
+                    throw new IllegalArgumentException(entry.getKey() + " must be defined in the same package as " + lookup);
+                }
+                result.put(entry.getKey(), DISPATCHER.lookupType(DISPATCHER.defineHiddenClass(lookup, entry.getValue(), classData, options)));
+            }
+            return result;
+        }
+
+        /**
+         * Checks if the current VM is capable of defining hidden classes using a method handle lookup.
+         *
+         * @return {@code true} if the current VM is capable of defining hidden classes.
+         */
+        public static boolean isAvailable() {
+            return DISPATCHER.isAlive();
+        }
+
+        /**
+         * Checks if the current VM is capable of supplying class data to hidden classes.
+         *
+         * @return {@code true} if the current VM is capable of supplying class data to hidden classes.
+         */
+        public static boolean isClassDataAvailable() {
+            return DISPATCHER.isClassDataAlive();
+        }
+
+        /**
+         * An option for defining a hidden class which represents a {@code java.lang.invoke.MethodHandles$Lookup$ClassOption}.
+         */
+        public enum Option {
+
+            /**
+             * Defines the hidden class as a nest mate of the lookup type, what grants access to its private members.
+             */
+            NESTMATE,
+
+            /**
+             * Defines the hidden class as strongly reachable by its class loader such that it is only unloaded together with its class loader.
+             */
+            STRONG
+        }
+
+        /**
+         * A dispatcher for defining hidden classes.
+         */
+        protected interface Dispatcher {
+
+            /**
+             * Indicates if this dispatcher is available on the current VM.
+             *
+             * @return {@code true} if this dispatcher is alive.
+             */
+            boolean isAlive();
+
+            /**
+             * Indicates if this dispatcher is capable of supplying class data.
+             *
+             * @return {@code true} if this dispatcher is capable of supplying class data.
+             */
+            boolean isClassDataAlive();
+
+            /**
+             * Returns the lookup type for a given method handle lookup.
+             *
+             * @param lookup The lookup instance.
+             * @return The lookup type.
+             */
+            Class<?> lookupType(Object lookup);
+
+            /**
+             * Returns a lookup objects lookup types.
+             *
+             * @param lookup The lookup instance.
+             * @return The modifiers indicating the instance's lookup modes.
+             */
+            int lookupModes(Object lookup);
+
+            /**
+             * Defines a hidden class.
+             *
+             * @param lookup               The {@code java.lang.invoke.MethodHandles$Lookup} instance to use.
+             * @param binaryRepresentation The defined class's binary representation.
+             * @param classData            The class data to supply or {@code null} if no class data is supplied.
+             * @param options              The options to apply.
+             * @return A {@code java.lang.invoke.MethodHandles$Lookup} for the defined hidden class.
+             */
+            Object defineHiddenClass(Object lookup, byte[] binaryRepresentation, Object classData, Set<Option> options);
+
+            /**
+             * An action for defining a dispatcher.
+             */
+            enum Creator implements PrivilegedAction<Dispatcher> {
+
+                /**
+                 * The singleton instance.
+                 */
+                INSTANCE;
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @SuppressFBWarnings(value = "REC_CATCH_EXCEPTION", justification = "Exception should not be rethrown but trigger a fallback")
+                public Dispatcher run() {
+                    Class<?> lookup, classOption;
+                    Method defineHiddenClass;
+                    try {
+                        lookup = JavaType.METHOD_HANDLES_LOOKUP.load();
+                        classOption = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+                        defineHiddenClass = lookup.getMethod("defineHiddenClass", byte[].class, boolean.class, Array.newInstance(classOption, 0).getClass());
+                    } catch (Exception ignored) {
+                        return Dispatcher.ForLegacyVm.INSTANCE;
+                    }
+                    Method defineHiddenClassWithClassData;
+                    try {
+                        defineHiddenClassWithClassData = lookup.getMethod("defineHiddenClassWithClassData",
+                                byte[].class,
+                                Object.class,
+                                boolean.class,
+                                Array.newInstance(classOption, 0).getClass());
+                    } catch (Exception ignored) {
+                        defineHiddenClassWithClassData = null;
+                    }
+                    try {
+                        return new Dispatcher.ForJava15CapableVm(lookup.getMethod("lookupClass"),
+                                lookup.getMethod("lookupModes"),
+                                defineHiddenClass,
+                                defineHiddenClassWithClassData,
+                                classOption);
+                    } catch (Exception ignored) {
+                        return Dispatcher.ForLegacyVm.INSTANCE;
+                    }
+                }
+            }
+
+            /**
+             * A dispatcher for a legacy VM that does not support the definition of hidden classes.
+             */
+            enum ForLegacyVm implements Dispatcher {
+
+                /**
+                 * The singleton instance.
+                 */
+                INSTANCE;
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public boolean isAlive() {
+                    return false;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public boolean isClassDataAlive() {
+                    return false;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public Class<?> lookupType(Object lookup) {
+                    throw new IllegalStateException("Cannot dispatch method for java.lang.invoke.MethodHandles$Lookup");
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public int lookupModes(Object lookup) {
+                    throw new IllegalStateException("Cannot dispatch method for java.lang.invoke.MethodHandles$Lookup");
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public Object defineHiddenClass(Object lookup, byte[] binaryRepresentation, Object classData, Set<Option> options) {
+                    throw new IllegalStateException("Cannot dispatch method for java.lang.invoke.MethodHandles$Lookup");
+                }
+            }
+
+            /**
+             * A dispatcher for a Java 15 capable VM that supports the definition of hidden classes.
+             */
+            @HashCodeAndEqualsPlugin.Enhance
+            class ForJava15CapableVm implements Dispatcher {
+
+                /**
+                 * An empty array that can be used to indicate no arguments to avoid an allocation on a reflective call.
+                 */
+                private static final Object[] NO_ARGUMENTS = new Object[0];
+
+                /**
+                 * Indicates that a hidden class is not initialized upon its definition.
+                 */
+                private static final boolean NO_INITIALIZATION = false;
+
+                /**
+                 * The {@code java.lang.invoke.MethodHandles$Lookup#lookupClass} method.
+                 */
+                private final Method lookupClass;
+
+                /**
+                 * The {@code java.lang.invoke.MethodHandles$Lookup#lookupModes} method.
+                 */
+                private final Method lookupModes;
+
+                /**
+                 * The {@code java.lang.invoke.MethodHandles$Lookup#defineHiddenClass} method.
+                 */
+                private final Method defineHiddenClass;
+
+                /**
+                 * The {@code java.lang.invoke.MethodHandles$Lookup#defineHiddenClassWithClassData} method or {@code null} if it is not available.
+                 */
+                @HashCodeAndEqualsPlugin.ValueHandling(HashCodeAndEqualsPlugin.ValueHandling.Sort.REVERSE_NULLABILITY)
+                private final Method defineHiddenClassWithClassData;
+
+                /**
+                 * The {@code java.lang.invoke.MethodHandles$Lookup$ClassOption} type.
+                 */
+                private final Class<?> classOption;
+
+                /**
+                 * Creates a new dispatcher for a Java 15 capable VM.
+                 *
+                 * @param lookupClass                    The {@code java.lang.invoke.MethodHandles$Lookup#lookupClass} method.
+                 * @param lookupModes                    The {@code java.lang.invoke.MethodHandles$Lookup#lookupModes} method.
+                 * @param defineHiddenClass              The {@code java.lang.invoke.MethodHandles$Lookup#defineHiddenClass} method.
+                 * @param defineHiddenClassWithClassData The {@code java.lang.invoke.MethodHandles$Lookup#defineHiddenClassWithClassData}
+                 *                                       method or {@code null} if it is not available.
+                 * @param classOption                    The {@code java.lang.invoke.MethodHandles$Lookup$ClassOption} type.
+                 */
+                protected ForJava15CapableVm(Method lookupClass,
+                                             Method lookupModes,
+                                             Method defineHiddenClass,
+                                             Method defineHiddenClassWithClassData,
+                                             Class<?> classOption) {
+                    this.lookupClass = lookupClass;
+                    this.lookupModes = lookupModes;
+                    this.defineHiddenClass = defineHiddenClass;
+                    this.defineHiddenClassWithClassData = defineHiddenClassWithClassData;
+                    this.classOption = classOption;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public boolean isAlive() {
+                    return true;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public boolean isClassDataAlive() {
+                    return defineHiddenClassWithClassData != null;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public Class<?> lookupType(Object lookup) {
+                    try {
+                        return (Class<?>) lookupClass.invoke(lookup, NO_ARGUMENTS);
+                    } catch (IllegalAccessException exception) {
+                        throw new IllegalStateException("Cannot access java.lang.invoke.MethodHandles$Lookup#lookupClass", exception);
+                    } catch (InvocationTargetException exception) {
+                        throw new IllegalStateException("Error invoking java.lang.invoke.MethodHandles$Lookup#lookupClass", exception.getCause());
+                    }
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public int lookupModes(Object lookup) {
+                    try {
+                        return (Integer) lookupModes.invoke(lookup, NO_ARGUMENTS);
+                    } catch (IllegalAccessException exception) {
+                        throw new IllegalStateException("Cannot access java.lang.invoke.MethodHandles$Lookup#lookupModes", exception);
+                    } catch (InvocationTargetException exception) {
+                        throw new IllegalStateException("Error invoking java.lang.invoke.MethodHandles$Lookup#lookupModes", exception.getCause());
+                    }
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @SuppressWarnings("unchecked")
+                public Object defineHiddenClass(Object lookup, byte[] binaryRepresentation, Object classData, Set<Option> options) {
+                    Object[] classOptions = (Object[]) Array.newInstance(classOption, options.size());
+                    int index = 0;
+                    for (Option option : options) {
+                        classOptions[index++] = Enum.valueOf((Class) classOption, option.name());
+                    }
+                    try {
+                        if (classData == null) {
+                            return defineHiddenClass.invoke(lookup, binaryRepresentation, NO_INITIALIZATION, classOptions);
+                        } else if (defineHiddenClassWithClassData == null) {
+                            throw new IllegalStateException("The current VM does not support supplying class data to hidden classes");
+                        } else {
+                            return defineHiddenClassWithClassData.invoke(lookup, binaryRepresentation, classData, NO_INITIALIZATION, classOptions);
+                        }
+                    } catch (IllegalAccessException exception) {
+                        throw new IllegalStateException("Cannot access java.lang.invoke.MethodHandles$Lookup#defineHiddenClass", exception);
+                    } catch (InvocationTargetException exception) {
+                        throw new IllegalStateException("Error invoking java.lang.invoke.MethodHandles$Lookup#defineHiddenClass", exception.getCause());
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * A class injector that uses {@code sun.misc.Unsafe} to inject classes.
      */
@@ -1867,7 +2434,7 @@ public interface ClassInjector {
             synchronized (classLoader == null
                     ? BOOTSTRAP_LOADER_LOCK
                     : classLoader) {
-                for (Map.Entry<? extends String, byte[]> entry : types.entrySet()) {
+                for (Map.Entry<String, byte[]> entry : inHierarchyOrder(types).entrySet()) {
                     try {
                         result.put(entry.getKey(), Class.forName(entry.getKey(), false, classLoader));
                     } catch (ClassNotFoundException ignored) {
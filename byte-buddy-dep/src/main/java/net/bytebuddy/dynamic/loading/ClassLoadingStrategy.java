@@ -158,6 +158,13 @@ public interface ClassLoadingStrategy<T extends ClassLoader> {
             return dispatcher.with(packageDefinitionStrategy);
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        public Configurable<ClassLoader> with(ByteArrayClassLoader.StorageStrategy storageStrategy) {
+            return dispatcher.with(storageStrategy);
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -247,6 +254,13 @@ public interface ClassLoadingStrategy<T extends ClassLoader> {
                 return new InjectionDispatcher(protectionDomain, packageDefinitionStrategy, forbidExisting);
             }
 
+            /**
+             * {@inheritDoc}
+             */
+            public Configurable<ClassLoader> with(ByteArrayClassLoader.StorageStrategy storageStrategy) {
+                return this;
+            }
+
             /**
              * {@inheritDoc}
              */
@@ -310,6 +324,11 @@ public interface ClassLoadingStrategy<T extends ClassLoader> {
              */
             private final boolean sealed;
 
+            /**
+             * The storage strategy for the binary representations of the created class loader's type definitions.
+             */
+            private final ByteArrayClassLoader.StorageStrategy storageStrategy;
+
             /**
              * Creates a new wrapping dispatcher with a default protection domain and a default access control context.
              *
@@ -322,7 +341,8 @@ public interface ClassLoadingStrategy<T extends ClassLoader> {
                         persistenceHandler,
                         childFirst,
                         DEFAULT_FORBID_EXISTING,
-                        true);
+                        true,
+                        ByteArrayClassLoader.StorageStrategy.ON_HEAP);
             }
 
             /**
@@ -334,19 +354,22 @@ public interface ClassLoadingStrategy<T extends ClassLoader> {
              * @param childFirst                {@code true} if the created class loader should apply child-first semantics.
              * @param forbidExisting            Determines if an exception should be thrown when attempting to load a type that already exists.
              * @param sealed                    {@code true} if the class loader should be sealed.
+             * @param storageStrategy           The storage strategy for the binary representations of the created class loader's type definitions.
              */
             private WrappingDispatcher(ProtectionDomain protectionDomain,
                                        PackageDefinitionStrategy packageDefinitionStrategy,
                                        ByteArrayClassLoader.PersistenceHandler persistenceHandler,
                                        boolean childFirst,
                                        boolean forbidExisting,
-                                       boolean sealed) {
+                                       boolean sealed,
+                                       ByteArrayClassLoader.StorageStrategy storageStrategy) {
                 this.protectionDomain = protectionDomain;
                 this.packageDefinitionStrategy = packageDefinitionStrategy;
                 this.persistenceHandler = persistenceHandler;
                 this.childFirst = childFirst;
                 this.forbidExisting = forbidExisting;
                 this.sealed = sealed;
+                this.storageStrategy = storageStrategy;
             }
 
             /**
@@ -354,36 +377,43 @@ public interface ClassLoadingStrategy<T extends ClassLoader> {
              */
             public Map<TypeDescription, Class<?>> load(ClassLoader classLoader, Map<TypeDescription, byte[]> types) {
                 return childFirst
-                        ? ByteArrayClassLoader.ChildFirst.load(classLoader, types, protectionDomain, persistenceHandler, packageDefinitionStrategy, forbidExisting, sealed)
-                        : ByteArrayClassLoader.load(classLoader, types, protectionDomain, persistenceHandler, packageDefinitionStrategy, forbidExisting, sealed);
+                        ? ByteArrayClassLoader.ChildFirst.load(classLoader, types, protectionDomain, persistenceHandler, packageDefinitionStrategy, forbidExisting, sealed, storageStrategy)
+                        : ByteArrayClassLoader.load(classLoader, types, protectionDomain, persistenceHandler, packageDefinitionStrategy, forbidExisting, sealed, storageStrategy);
             }
 
             /**
              * {@inheritDoc}
              */
             public Configurable<ClassLoader> with(ProtectionDomain protectionDomain) {
-                return new WrappingDispatcher(protectionDomain, packageDefinitionStrategy, persistenceHandler, childFirst, forbidExisting, sealed);
+                return new WrappingDispatcher(protectionDomain, packageDefinitionStrategy, persistenceHandler, childFirst, forbidExisting, sealed, storageStrategy);
             }
 
             /**
              * {@inheritDoc}
              */
             public Configurable<ClassLoader> with(PackageDefinitionStrategy packageDefinitionStrategy) {
-                return new WrappingDispatcher(protectionDomain, packageDefinitionStrategy, persistenceHandler, childFirst, forbidExisting, sealed);
+                return new WrappingDispatcher(protectionDomain, packageDefinitionStrategy, persistenceHandler, childFirst, forbidExisting, sealed, storageStrategy);
             }
 
             /**
              * {@inheritDoc}
              */
             public Configurable<ClassLoader> allowExistingTypes() {
-                return new WrappingDispatcher(protectionDomain, packageDefinitionStrategy, persistenceHandler, childFirst, false, sealed);
+                return new WrappingDispatcher(protectionDomain, packageDefinitionStrategy, persistenceHandler, childFirst, false, sealed, storageStrategy);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public Configurable<ClassLoader> with(ByteArrayClassLoader.StorageStrategy storageStrategy) {
+                return new WrappingDispatcher(protectionDomain, packageDefinitionStrategy, persistenceHandler, childFirst, forbidExisting, sealed, storageStrategy);
             }
 
             /**
              * {@inheritDoc}
              */
             public Configurable<ClassLoader> opened() {
-                return new WrappingDispatcher(protectionDomain, packageDefinitionStrategy, persistenceHandler, childFirst, forbidExisting, false);
+                return new WrappingDispatcher(protectionDomain, packageDefinitionStrategy, persistenceHandler, childFirst, forbidExisting, false, storageStrategy);
             }
         }
     }
@@ -411,6 +441,16 @@ public interface ClassLoadingStrategy<T extends ClassLoader> {
          */
         Configurable<S> with(PackageDefinitionStrategy packageDefinitionStrategy);
 
+        /**
+         * Defines the storage strategy that is applied for the binary representations of types that are loaded by a
+         * {@link ByteArrayClassLoader} that is created by this class loading strategy. Strategies that do not create
+         * such a class loader, for example class injection, ignore this setting.
+         *
+         * @param storageStrategy The storage strategy to apply.
+         * @return A version of this class loading strategy that applies the supplied storage strategy.
+         */
+        Configurable<S> with(ByteArrayClassLoader.StorageStrategy storageStrategy);
+
         /**
          * Determines if this class loading strategy should not throw an exception when attempting to load a class that
          * was already loaded. In this case, the already loaded class is used instead of the generated class.
@@ -485,6 +525,29 @@ public interface ClassLoadingStrategy<T extends ClassLoader> {
             }
         }
 
+        /**
+         * Resolves a class loading strategy that defines hidden classes using a {@code java.lang.invoke.MethodHandles$Lookup} instance
+         * if the current VM supports hidden classes. Otherwise, the lookup is used for defining regular classes if supported. Alternatively,
+         * unsafe class definition is used, if supported. If neither strategy is supported, an exception is thrown. Note that hidden classes
+         * cannot be referenced by their name such that this strategy is not suitable for types that depend on other types by name, such
+         * as a type and its auxiliary types.
+         *
+         * @param lookup The lookup instance to use for defining new types.
+         * @param option The options to apply when defining a hidden class.
+         * @return An appropriate class loading strategy for the current JVM that defines hidden classes if available.
+         */
+        public static ClassLoadingStrategy<ClassLoader> ofHidden(Object lookup, ClassInjector.UsingHiddenLookup.Option... option) {
+            if (ClassInjector.UsingHiddenLookup.isAvailable()) {
+                return new UsingLookup(ClassInjector.UsingHiddenLookup.of(lookup, option));
+            } else if (ClassInjector.UsingLookup.isAvailable()) {
+                return of(lookup);
+            } else if (ClassInjector.UsingUnsafe.isAvailable()) {
+                return new ClassLoadingStrategy.ForUnsafeInjection();
+            } else {
+                throw new IllegalStateException("Neither hidden class, lookup or unsafe class injection is available");
+            }
+        }
+
         /**
          * {@inheritDoc}
          */
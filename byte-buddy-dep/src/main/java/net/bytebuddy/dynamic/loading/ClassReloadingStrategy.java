@@ -29,10 +29,11 @@ import java.lang.instrument.UnmodifiableClassException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.security.AccessController;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.PrivilegedAction;
 import java.security.ProtectionDomain;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>
@@ -91,6 +92,11 @@ public class ClassReloadingStrategy implements ClassLoadingStrategy<ClassLoader>
      */
     private final Map<String, Class<?>> preregisteredTypes;
 
+    /**
+     * The content tracking to apply for skipping redefinitions of unchanged classes.
+     */
+    private final ContentTracking contentTracking;
+
     /**
      * Creates a class reloading strategy for the given instrumentation using an explicit transformation strategy which
      * is represented by an {@link Strategy}. The given instrumentation
@@ -118,10 +124,28 @@ public class ClassReloadingStrategy implements ClassLoadingStrategy<ClassLoader>
                                      Strategy strategy,
                                      BootstrapInjection bootstrapInjection,
                                      Map<String, Class<?>> preregisteredTypes) {
+        this(instrumentation, strategy, bootstrapInjection, preregisteredTypes, ContentTracking.Disabled.INSTANCE);
+    }
+
+    /**
+     * Creates a new class reloading strategy.
+     *
+     * @param instrumentation    The instrumentation to be used by this reloading strategy.
+     * @param strategy           An strategy which performs the actual redefinition of a {@link java.lang.Class}.
+     * @param bootstrapInjection The bootstrap class loader injection strategy to use.
+     * @param preregisteredTypes The preregistered types of this instance.
+     * @param contentTracking    The content tracking to apply for skipping redefinitions of unchanged classes.
+     */
+    protected ClassReloadingStrategy(Instrumentation instrumentation,
+                                     Strategy strategy,
+                                     BootstrapInjection bootstrapInjection,
+                                     Map<String, Class<?>> preregisteredTypes,
+                                     ContentTracking contentTracking) {
         this.instrumentation = instrumentation;
         this.strategy = strategy.validate(instrumentation);
         this.bootstrapInjection = bootstrapInjection;
         this.preregisteredTypes = preregisteredTypes;
+        this.contentTracking = contentTracking;
     }
 
     /**
@@ -209,20 +233,31 @@ public class ClassReloadingStrategy implements ClassLoadingStrategy<ClassLoader>
         for (Class<?> type : instrumentation.getInitiatedClasses(classLoader)) {
             availableTypes.put(TypeDescription.ForLoadedType.getName(type), type);
         }
-        Map<Class<?>, ClassDefinition> classDefinitions = new ConcurrentHashMap<Class<?>, ClassDefinition>();
+        Map<Class<?>, ClassDefinition> classDefinitions = new LinkedHashMap<Class<?>, ClassDefinition>();
         Map<TypeDescription, Class<?>> loadedClasses = new HashMap<TypeDescription, Class<?>>();
         Map<TypeDescription, byte[]> unloadedClasses = new LinkedHashMap<TypeDescription, byte[]>();
         for (Map.Entry<TypeDescription, byte[]> entry : types.entrySet()) {
             Class<?> type = availableTypes.get(entry.getKey().getName());
             if (type != null) {
-                classDefinitions.put(type, new ClassDefinition(type, entry.getValue()));
+                if (!contentTracking.isCurrent(type, entry.getValue())) {
+                    classDefinitions.put(type, new ClassDefinition(type, entry.getValue()));
+                }
                 loadedClasses.put(entry.getKey(), type);
             } else {
                 unloadedClasses.put(entry.getKey(), entry.getValue());
             }
         }
         try {
-            strategy.apply(instrumentation, classDefinitions);
+            if (!classDefinitions.isEmpty()) {
+                Map<Class<?>, ClassDefinition> orderedClassDefinitions = inHierarchyOrder(classDefinitions);
+                for (Class<?> type : orderedClassDefinitions.keySet()) {
+                    contentTracking.invalidate(type);
+                }
+                strategy.apply(instrumentation, Collections.synchronizedMap(new LinkedHashMap<Class<?>, ClassDefinition>(orderedClassDefinitions)));
+                for (ClassDefinition classDefinition : orderedClassDefinitions.values()) {
+                    contentTracking.register(classDefinition.getDefinitionClass(), classDefinition.getDefinitionClassFile());
+                }
+            }
             if (!unloadedClasses.isEmpty()) {
                 loadedClasses.putAll((classLoader == null
                         ? bootstrapInjection.make(instrumentation)
@@ -258,9 +293,21 @@ public class ClassReloadingStrategy implements ClassLoadingStrategy<ClassLoader>
      * @throws IOException If a class file locator causes an IO exception.
      */
     public ClassReloadingStrategy reset(ClassFileLocator classFileLocator, Class<?>... type) throws IOException {
-        if (type.length > 0) {
+        List<Class<?>> types = new ArrayList<Class<?>>(type.length);
+        for (Class<?> aType : type) {
+            if (!contentTracking.isOriginal(aType)) {
+                types.add(aType);
+            }
+        }
+        if (!types.isEmpty()) {
+            for (Class<?> aType : types) {
+                contentTracking.invalidate(aType);
+            }
             try {
-                strategy.reset(instrumentation, classFileLocator, Arrays.asList(type));
+                strategy.reset(instrumentation, classFileLocator, types);
+                for (Class<?> aType : types) {
+                    contentTracking.registerOriginal(aType);
+                }
             } catch (ClassNotFoundException exception) {
                 throw new IllegalArgumentException("Cannot locate types " + Arrays.toString(type), exception);
             } catch (UnmodifiableClassException exception) {
@@ -277,7 +324,20 @@ public class ClassReloadingStrategy implements ClassLoadingStrategy<ClassLoader>
      * @return A class reloading strategy with bootstrap injection enabled.
      */
     public ClassReloadingStrategy enableBootstrapInjection(File folder) {
-        return new ClassReloadingStrategy(instrumentation, strategy, new BootstrapInjection.Enabled(folder), preregisteredTypes);
+        return new ClassReloadingStrategy(instrumentation, strategy, new BootstrapInjection.Enabled(folder), preregisteredTypes, contentTracking);
+    }
+
+    /**
+     * Enables content tracking for this class reloading strategy. With content tracking, the returned strategy remembers a digest of any
+     * class file it applied and skips redefinitions of classes where the supplied class file is identical to the class's current
+     * definition. Similarly, a class that was reset and not redefined thereafter is not reset again. Any class that is not yet
+     * redefined by the returned strategy is redefined as before. Content tracking assumes that classes are not redefined or
+     * retransformed by other means while they are tracked.
+     *
+     * @return A class reloading strategy with content tracking enabled.
+     */
+    public ClassReloadingStrategy enableContentTracking() {
+        return new ClassReloadingStrategy(instrumentation, strategy, bootstrapInjection, preregisteredTypes, new ContentTracking.Enabled());
     }
 
     /**
@@ -291,7 +351,39 @@ public class ClassReloadingStrategy implements ClassLoadingStrategy<ClassLoader>
         for (Class<?> aType : type) {
             preregisteredTypes.put(TypeDescription.ForLoadedType.getName(aType), aType);
         }
-        return new ClassReloadingStrategy(instrumentation, strategy, bootstrapInjection, preregisteredTypes);
+        return new ClassReloadingStrategy(instrumentation, strategy, bootstrapInjection, preregisteredTypes, contentTracking);
+    }
+
+    /**
+     * Orders class definitions such that any super class or interface is redefined before its subtypes.
+     *
+     * @param classDefinitions The class definitions to order.
+     * @return A map of the supplied class definitions in hierarchy order.
+     */
+    private static Map<Class<?>, ClassDefinition> inHierarchyOrder(Map<Class<?>, ClassDefinition> classDefinitions) {
+        Map<Class<?>, ClassDefinition> orderedClassDefinitions = new LinkedHashMap<Class<?>, ClassDefinition>();
+        for (Class<?> type : classDefinitions.keySet()) {
+            inHierarchyOrder(type, classDefinitions, orderedClassDefinitions);
+        }
+        return orderedClassDefinitions;
+    }
+
+    /**
+     * Adds a class definition after adding the definitions of its super class and interfaces.
+     *
+     * @param type                    The type to add.
+     * @param classDefinitions        All class definitions.
+     * @param orderedClassDefinitions The class definitions that were already ordered.
+     */
+    private static void inHierarchyOrder(Class<?> type, Map<Class<?>, ClassDefinition> classDefinitions, Map<Class<?>, ClassDefinition> orderedClassDefinitions) {
+        if (type == null || orderedClassDefinitions.containsKey(type) || !classDefinitions.containsKey(type)) {
+            return;
+        }
+        inHierarchyOrder(type.getSuperclass(), classDefinitions, orderedClassDefinitions);
+        for (Class<?> anInterface : type.getInterfaces()) {
+            inHierarchyOrder(anInterface, classDefinitions, orderedClassDefinitions);
+        }
+        orderedClassDefinitions.put(type, classDefinitions.get(type));
     }
 
     /**
@@ -791,4 +883,174 @@ public class ClassReloadingStrategy implements ClassLoadingStrategy<ClassLoader>
             }
         }
     }
+
+    /**
+     * A tracking of the current definition of classes that were redefined or reset by a class reloading strategy.
+     */
+    protected interface ContentTracking {
+
+        /**
+         * Returns {@code true} if the supplied class file is known to represent the current definition of the supplied type.
+         *
+         * @param type                 The type to check.
+         * @param binaryRepresentation The class file of the intended redefinition.
+         * @return {@code true} if the supplied class file is known to represent the type's current definition.
+         */
+        boolean isCurrent(Class<?> type, byte[] binaryRepresentation);
+
+        /**
+         * Returns {@code true} if the supplied type is known to represent its original definition.
+         *
+         * @param type The type to check.
+         * @return {@code true} if the supplied type is known to represent its original definition.
+         */
+        boolean isOriginal(Class<?> type);
+
+        /**
+         * Registers a class file as the current definition of a type.
+         *
+         * @param type                 The redefined type.
+         * @param binaryRepresentation The class file that was applied.
+         */
+        void register(Class<?> type, byte[] binaryRepresentation);
+
+        /**
+         * Registers that a type represents its original definition.
+         *
+         * @param type The type that was reset.
+         */
+        void registerOriginal(Class<?> type);
+
+        /**
+         * Discards any knowledge about the current definition of a type.
+         *
+         * @param type The type for which the current definition is no longer known.
+         */
+        void invalidate(Class<?> type);
+
+        /**
+         * A disabled content tracking where the current definition of a type is never known.
+         */
+        enum Disabled implements ContentTracking {
+
+            /**
+             * The singleton instance.
+             */
+            INSTANCE;
+
+            /**
+             * {@inheritDoc}
+             */
+            public boolean isCurrent(Class<?> type, byte[] binaryRepresentation) {
+                return false;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public boolean isOriginal(Class<?> type) {
+                return false;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void register(Class<?> type, byte[] binaryRepresentation) {
+                /* do nothing */
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void registerOriginal(Class<?> type) {
+                /* do nothing */
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void invalidate(Class<?> type) {
+                /* do nothing */
+            }
+        }
+
+        /**
+         * An enabled content tracking that remembers a digest of the class file that was applied to a type. Types are only
+         * referenced weakly such that tracking does not prevent the unloading of classes.
+         */
+        class Enabled implements ContentTracking {
+
+            /**
+             * The digest algorithm to use.
+             */
+            private static final String ALGORITHM = "SHA-256";
+
+            /**
+             * A placeholder digest for a type that represents its original definition.
+             */
+            private static final byte[] ORIGINAL = new byte[0];
+
+            /**
+             * A mapping of tracked types to the digest of their current definition.
+             */
+            private final Map<Class<?>, byte[]> digests;
+
+            /**
+             * Creates a new enabled content tracking.
+             */
+            protected Enabled() {
+                digests = Collections.synchronizedMap(new WeakHashMap<Class<?>, byte[]>());
+            }
+
+            /**
+             * Computes the digest of a class file.
+             *
+             * @param binaryRepresentation The class file.
+             * @return The class file's digest.
+             */
+            private static byte[] digest(byte[] binaryRepresentation) {
+                try {
+                    return MessageDigest.getInstance(ALGORITHM).digest(binaryRepresentation);
+                } catch (NoSuchAlgorithmException exception) {
+                    throw new IllegalStateException("Cannot compute digest using " + ALGORITHM, exception);
+                }
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public boolean isCurrent(Class<?> type, byte[] binaryRepresentation) {
+                byte[] digest = digests.get(type);
+                return digest != null && digest != ORIGINAL && MessageDigest.isEqual(digest, digest(binaryRepresentation));
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public boolean isOriginal(Class<?> type) {
+                return digests.get(type) == ORIGINAL;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void register(Class<?> type, byte[] binaryRepresentation) {
+                digests.put(type, digest(binaryRepresentation));
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void registerOriginal(Class<?> type) {
+                digests.put(type, ORIGINAL);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public void invalidate(Class<?> type) {
+                digests.remove(type);
+            }
+        }
+    }
 }
@@ -15,8 +15,10 @@
  */
 package net.bytebuddy.dynamic.loading;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import net.bytebuddy.description.type.TypeDescription;
 
+import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -32,6 +34,26 @@ import java.util.Map;
  */
 public abstract class InjectionClassLoader extends ClassLoader {
 
+    /**
+     * The {@code java.lang.ClassLoader#registerAsParallelCapable()} method or {@code null} if the current VM does not support
+     * parallel capable class loaders. Registration is caller sensitive and only applies to the class that invokes this method.
+     * Therefore, any subclass that wants to be registered as parallel capable must invoke it from its own static initializer.
+     */
+    protected static final Method REGISTER_AS_PARALLEL_CAPABLE = toRegisterAsParallelCapable();
+
+    /*
+     * Registers the class loader as parallel capable if possible.
+     */
+    static {
+        try {
+            if (REGISTER_AS_PARALLEL_CAPABLE != null) {
+                REGISTER_AS_PARALLEL_CAPABLE.invoke(null);
+            }
+        } catch (Exception ignored) {
+            /* do nothing */
+        }
+    }
+
     /**
      * Indicates if this class loader is sealed, i.e. forbids runtime injection.
      */
@@ -48,6 +70,21 @@ public abstract class InjectionClassLoader extends ClassLoader {
         this.sealed = sealed;
     }
 
+    /**
+     * Resolves the method for registering a class loader as parallel capable. Registering this class loader is required
+     * for any subclass to register as parallel capable but does not render subclasses parallel capable by itself.
+     *
+     * @return The {@code java.lang.ClassLoader#registerAsParallelCapable()} method or {@code null} if it is not available.
+     */
+    @SuppressFBWarnings(value = "REC_CATCH_EXCEPTION", justification = "Exception should not be rethrown but registration skipped")
+    private static Method toRegisterAsParallelCapable() {
+        try {
+            return ClassLoader.class.getDeclaredMethod("registerAsParallelCapable");
+        } catch (Exception ignored) {
+            return null;
+        }
+    }
+
     /**
      * Returns {@code true} if this class loader is sealed.
      *
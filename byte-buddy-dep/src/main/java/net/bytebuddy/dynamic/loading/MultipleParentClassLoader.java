@@ -22,6 +22,8 @@ import net.bytebuddy.matcher.ElementMatcher;
 import java.io.IOException;
 import java.net.URL;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static net.bytebuddy.matcher.ElementMatchers.is;
 import static net.bytebuddy.matcher.ElementMatchers.not;
@@ -45,14 +47,44 @@ import static net.bytebuddy.matcher.ElementMatchers.not;
  * package equality when loading classes by either loading them directly via this class loader (e.g. by subclassing) or
  * by loading classes with child class loaders of this class loader.
  * </p>
+ * <p>
+ * <b>Note</b>: This class loader remembers which parent supplied a class or resource such that any later lookup is only
+ * delegated to this parent. If none of the parents can supply a class, the parents are not queried for this class again.
+ * Only names and parent indices are retained such that this cache does not hold on to any class.
+ * </p>
  */
 public class MultipleParentClassLoader extends InjectionClassLoader {
 
+    /*
+     * Registers the class loader as parallel capable if possible. The registration is caller sensitive and must
+     * therefore be triggered from within this class.
+     */
+    static {
+        try {
+            if (REGISTER_AS_PARALLEL_CAPABLE != null) {
+                REGISTER_AS_PARALLEL_CAPABLE.invoke(null);
+            }
+        } catch (Exception ignored) {
+            /* do nothing */
+        }
+    }
+
     /**
      * The parents of this class loader in their application order.
      */
     private final List<? extends ClassLoader> parents;
 
+    /**
+     * The indices of the parents that supplied a class, mapped by the class's name. Names that no parent could supply are
+     * not retained as a parent might be able to supply a class at a later point.
+     */
+    private final ConcurrentMap<String, Integer> classes;
+
+    /**
+     * The indices of the parents that supplied a resource, mapped by the resource's name.
+     */
+    private final ConcurrentMap<String, Integer> resources;
+
     /**
      * Creates a new class loader with multiple parents.
      *
@@ -86,23 +118,35 @@ public class MultipleParentClassLoader extends InjectionClassLoader {
      */
     public MultipleParentClassLoader(ClassLoader parent, List<? extends ClassLoader> parents, boolean sealed) {
         super(parent, sealed);
-        this.parents = parents;
+        this.parents = new ArrayList<ClassLoader>(parents);
+        classes = new ConcurrentHashMap<String, Integer>();
+        resources = new ConcurrentHashMap<String, Integer>();
     }
 
     /**
      * {@inheritDoc}
      */
     protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
-        for (ClassLoader parent : parents) {
-            try {
-                Class<?> type = parent.loadClass(name);
-                if (resolve) {
-                    resolveClass(type);
+        Integer index = classes.get(name);
+        if (index == null) {
+            for (int candidate = 0; candidate < parents.size(); candidate++) {
+                try {
+                    Class<?> type = parents.get(candidate).loadClass(name);
+                    classes.putIfAbsent(name, candidate);
+                    if (resolve) {
+                        resolveClass(type);
+                    }
+                    return type;
+                } catch (ClassNotFoundException ignored) {
+                    /* try next class loader */
                 }
-                return type;
-            } catch (ClassNotFoundException ignored) {
-                /* try next class loader */
             }
+        } else {
+            Class<?> type = parents.get(index).loadClass(name);
+            if (resolve) {
+                resolveClass(type);
+            }
+            return type;
         }
         return super.loadClass(name, resolve);
     }
@@ -111,9 +155,17 @@ public class MultipleParentClassLoader extends InjectionClassLoader {
      * {@inheritDoc}
      */
     public URL getResource(String name) {
-        for (ClassLoader parent : parents) {
-            URL url = parent.getResource(name);
+        Integer index = resources.get(name);
+        if (index != null) {
+            URL url = parents.get(index).getResource(name);
+            if (url != null) {
+                return url;
+            }
+        }
+        for (int candidate = 0; candidate < parents.size(); candidate++) {
+            URL url = parents.get(candidate).getResource(name);
             if (url != null) {
+                resources.put(name, candidate);
                 return url;
             }
         }
@@ -20,6 +20,11 @@ import net.bytebuddy.pool.TypePool;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassWriter;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * A class writer strategy is responsible for the creation of a {@link ClassWriter} when creating a type.
  */
@@ -88,6 +93,21 @@ public interface ClassWriterStrategy {
          */
         private final TypePool typePool;
 
+        /**
+         * A cache of previously computed common super classes by the internal names of the left and the right type.
+         */
+        private final Map<String, Map<String, String>> commonSuperClasses;
+
+        /**
+         * A cache of resolved types by their internal names.
+         */
+        private final Map<String, TypeDescription> typeDescriptions;
+
+        /**
+         * A cache of the super class chains of resolved types by their internal names, not including the type itself.
+         */
+        private final Map<String, List<TypeDescription>> superClasses;
+
         /**
          * Creates a new frame computing class writer.
          *
@@ -97,6 +117,9 @@ public interface ClassWriterStrategy {
         public FrameComputingClassWriter(int flags, TypePool typePool) {
             super(flags);
             this.typePool = typePool;
+            commonSuperClasses = new HashMap<String, Map<String, String>>();
+            typeDescriptions = new HashMap<String, TypeDescription>();
+            superClasses = new HashMap<String, List<TypeDescription>>();
         }
 
         /**
@@ -109,26 +132,78 @@ public interface ClassWriterStrategy {
         public FrameComputingClassWriter(ClassReader classReader, int flags, TypePool typePool) {
             super(classReader, flags);
             this.typePool = typePool;
+            commonSuperClasses = new HashMap<String, Map<String, String>>();
+            typeDescriptions = new HashMap<String, TypeDescription>();
+            superClasses = new HashMap<String, List<TypeDescription>>();
         }
 
         /**
          * {@inheritDoc}
          */
         protected String getCommonSuperClass(String leftTypeName, String rightTypeName) {
-            TypeDescription leftType = typePool.describe(leftTypeName.replace('/', '.')).resolve();
-            TypeDescription rightType = typePool.describe(rightTypeName.replace('/', '.')).resolve();
+            if (leftTypeName.equals(rightTypeName)) {
+                return leftTypeName;
+            }
+            Map<String, String> commonSuperClasses = this.commonSuperClasses.get(leftTypeName);
+            if (commonSuperClasses == null) {
+                commonSuperClasses = new HashMap<String, String>();
+                this.commonSuperClasses.put(leftTypeName, commonSuperClasses);
+            }
+            String commonSuperClass = commonSuperClasses.get(rightTypeName);
+            if (commonSuperClass == null) {
+                commonSuperClass = doGetCommonSuperClass(describe(leftTypeName), describe(rightTypeName));
+                commonSuperClasses.put(rightTypeName, commonSuperClass);
+            }
+            return commonSuperClass;
+        }
+
+        /**
+         * Computes the common super class of two types without considering previously computed results.
+         *
+         * @param leftType  The left type.
+         * @param rightType The right type.
+         * @return The internal name of the common super class of both types.
+         */
+        private String doGetCommonSuperClass(TypeDescription leftType, TypeDescription rightType) {
             if (leftType.isAssignableFrom(rightType)) {
                 return leftType.getInternalName();
             } else if (leftType.isAssignableTo(rightType)) {
                 return rightType.getInternalName();
             } else if (leftType.isInterface() || rightType.isInterface()) {
                 return TypeDescription.OBJECT.getInternalName();
-            } else {
-                do {
-                    leftType = leftType.getSuperClass().asErasure();
-                } while (!leftType.isAssignableFrom(rightType));
-                return leftType.getInternalName();
             }
+            List<TypeDescription> superClasses = this.superClasses.get(leftType.getInternalName());
+            if (superClasses == null) {
+                superClasses = new ArrayList<TypeDescription>();
+                TypeDescription.Generic superClass = leftType.getSuperClass();
+                while (superClass != null) {
+                    TypeDescription typeDescription = superClass.asErasure();
+                    superClasses.add(typeDescription);
+                    superClass = typeDescription.getSuperClass();
+                }
+                this.superClasses.put(leftType.getInternalName(), superClasses);
+            }
+            for (TypeDescription superClass : superClasses) {
+                if (superClass.isAssignableFrom(rightType)) {
+                    return superClass.getInternalName();
+                }
+            }
+            return TypeDescription.OBJECT.getInternalName();
+        }
+
+        /**
+         * Resolves a type by its internal name and registers it in this writer's cache.
+         *
+         * @param internalName The internal name of the type to resolve.
+         * @return A description of the resolved type.
+         */
+        private TypeDescription describe(String internalName) {
+            TypeDescription typeDescription = typeDescriptions.get(internalName);
+            if (typeDescription == null) {
+                typeDescription = typePool.describe(internalName.replace('/', '.')).resolve();
+                typeDescriptions.put(internalName, typeDescription);
+            }
+            return typeDescription;
         }
     }
 }
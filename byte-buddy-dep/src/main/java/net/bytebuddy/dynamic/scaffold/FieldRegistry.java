@@ -21,7 +21,9 @@ import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.Transformer;
 import net.bytebuddy.implementation.attribute.FieldAttributeAppender;
 import net.bytebuddy.matcher.ElementMatcher;
+import net.bytebuddy.matcher.ElementMatcherIndex;
 import net.bytebuddy.matcher.LatentMatcher;
+import net.bytebuddy.utility.SharedList;
 
 import java.util.*;
 
@@ -117,10 +119,7 @@ public interface FieldRegistry {
                                      FieldAttributeAppender.Factory fieldAttributeAppenderFactory,
                                      Object defaultValue,
                                      Transformer<FieldDescription> transformer) {
-            List<Entry> entries = new ArrayList<Entry>(this.entries.size() + 1);
-            entries.add(new Entry(matcher, fieldAttributeAppenderFactory, defaultValue, transformer));
-            entries.addAll(this.entries);
-            return new Default(entries);
+            return new Default(SharedList.of(new Entry(matcher, fieldAttributeAppenderFactory, defaultValue, transformer), entries));
         }
 
         /**
@@ -235,6 +234,12 @@ public interface FieldRegistry {
              */
             private final List<Entry> entries;
 
+            /**
+             * An index of this registry's entries by the names of the fields they can match.
+             */
+            @HashCodeAndEqualsPlugin.ValueHandling(HashCodeAndEqualsPlugin.ValueHandling.Sort.IGNORE)
+            private final ElementMatcherIndex<Entry> index;
+
             /**
              * Creates a new compiled field registry.
              *
@@ -244,13 +249,18 @@ public interface FieldRegistry {
             protected Compiled(TypeDescription instrumentedType, List<Entry> entries) {
                 this.instrumentedType = instrumentedType;
                 this.entries = entries;
+                ElementMatcherIndex.Builder<Entry> builder = new ElementMatcherIndex.Builder<Entry>();
+                for (Entry entry : entries) {
+                    builder.append(entry.matcher, entry);
+                }
+                index = builder.build();
             }
 
             /**
              * {@inheritDoc}
              */
             public Record target(FieldDescription fieldDescription) {
-                for (Entry entry : entries) {
+                for (Entry entry : index.get(fieldDescription.getActualName())) {
                     if (entry.matches(fieldDescription)) {
                         return entry.bind(instrumentedType, fieldDescription);
                     }
@@ -31,6 +31,7 @@ import net.bytebuddy.implementation.LoadedTypeInitializer;
 import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
 import net.bytebuddy.matcher.ElementMatcher;
 import net.bytebuddy.utility.CompoundList;
+import net.bytebuddy.utility.SharedList;
 import net.bytebuddy.utility.JavaType;
 
 import java.lang.annotation.ElementType;
@@ -723,7 +724,7 @@ public interface InstrumentedType extends TypeDescription {
                     superClass,
                     typeVariables,
                     interfaceTypes,
-                    CompoundList.of(fieldTokens, token.accept(Generic.Visitor.Substitutor.ForDetachment.of(this))),
+                    SharedList.of(fieldTokens, token.accept(Generic.Visitor.Substitutor.ForDetachment.of(this))),
                     methodTokens,
                     recordComponentTokens,
                     annotationDescriptions,
@@ -751,7 +752,7 @@ public interface InstrumentedType extends TypeDescription {
                     typeVariables,
                     interfaceTypes,
                     fieldTokens,
-                    CompoundList.of(methodTokens, token.accept(Generic.Visitor.Substitutor.ForDetachment.of(this))),
+                    SharedList.of(methodTokens, token.accept(Generic.Visitor.Substitutor.ForDetachment.of(this))),
                     recordComponentTokens,
                     annotationDescriptions,
                     typeInitializer,
@@ -779,7 +780,7 @@ public interface InstrumentedType extends TypeDescription {
                     interfaceTypes,
                     fieldTokens,
                     methodTokens,
-                    CompoundList.of(recordComponentTokens, token.accept(Generic.Visitor.Substitutor.ForDetachment.of(this))),
+                    SharedList.of(recordComponentTokens, token.accept(Generic.Visitor.Substitutor.ForDetachment.of(this))),
                     annotationDescriptions,
                     typeInitializer,
                     loadedTypeInitializer,
@@ -803,7 +804,7 @@ public interface InstrumentedType extends TypeDescription {
                     modifiers,
                     superClass,
                     typeVariables,
-                    CompoundList.of(this.interfaceTypes, interfaceTypes.accept(Generic.Visitor.Substitutor.ForDetachment.of(this))),
+                    SharedList.of(this.interfaceTypes, interfaceTypes.accept(Generic.Visitor.Substitutor.ForDetachment.of(this))),
                     fieldTokens,
                     methodTokens,
                     recordComponentTokens,
@@ -834,7 +835,7 @@ public interface InstrumentedType extends TypeDescription {
                     fieldTokens,
                     methodTokens,
                     recordComponentTokens,
-                    CompoundList.of(this.annotationDescriptions, annotationDescriptions),
+                    SharedList.of(this.annotationDescriptions, annotationDescriptions),
                     typeInitializer,
                     loadedTypeInitializer,
                     declaringType,
@@ -902,7 +903,7 @@ public interface InstrumentedType extends TypeDescription {
                     localClass,
                     record,
                     TargetType.DESCRIPTION,
-                    CompoundList.of(this.nestMembers, nestMembers));
+                    SharedList.of(this.nestMembers, nestMembers));
         }
 
         /**
@@ -1004,7 +1005,7 @@ public interface InstrumentedType extends TypeDescription {
                     declaringType,
                     enclosingMethod,
                     enclosingType,
-                    CompoundList.of(this.declaredTypes, declaredTypes),
+                    SharedList.of(this.declaredTypes, declaredTypes),
                     permittedSubclasses,
                     anonymousClass,
                     localClass,
@@ -1032,7 +1033,7 @@ public interface InstrumentedType extends TypeDescription {
                     enclosingMethod,
                     enclosingType,
                     declaredTypes,
-                    CompoundList.of(this.permittedSubclasses, permittedSubclasses),
+                    SharedList.of(this.permittedSubclasses, permittedSubclasses),
                     anonymousClass,
                     localClass,
                     record,
@@ -1047,7 +1048,7 @@ public interface InstrumentedType extends TypeDescription {
             return new Default(name,
                     modifiers,
                     superClass,
-                    CompoundList.of(typeVariables, typeVariable.accept(Generic.Visitor.Substitutor.ForDetachment.of(this))),
+                    SharedList.of(typeVariables, typeVariable.accept(Generic.Visitor.Substitutor.ForDetachment.of(this))),
                     interfaceTypes,
                     fieldTokens,
                     methodTokens,
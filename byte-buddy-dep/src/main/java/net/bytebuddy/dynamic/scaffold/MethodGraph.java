@@ -20,13 +20,20 @@ import net.bytebuddy.build.HashCodeAndEqualsPlugin;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.method.MethodList;
 import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.PackageDescription;
 import net.bytebuddy.description.type.TypeDefinition;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.matcher.ElementMatcher;
 import net.bytebuddy.matcher.FilterableList;
 import org.objectweb.asm.Opcodes;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static net.bytebuddy.matcher.ElementMatchers.*;
 
@@ -563,8 +570,33 @@ public interface MethodGraph {
              * {@inheritDoc}
              */
             public MethodGraph.Linked compile(TypeDefinition typeDefinition, TypeDescription viewPoint) {
-                Map<TypeDefinition, Key.Store<T>> snapshots = new HashMap<TypeDefinition, Key.Store<T>>();
-                Key.Store<?> rootStore = doAnalyze(typeDefinition, snapshots, isVirtual().and(isVisibleTo(viewPoint)));
+                return compile(typeDefinition, snapshots(typeDefinition, viewPoint), isVirtual().and(isVisibleTo(viewPoint)));
+            }
+
+            /**
+             * Compiles the given type into a method graph that only contains methods of a given name.
+             *
+             * @param typeDefinition The type to be compiled.
+             * @param viewPoint      The view point that determines the method's visibility.
+             * @param internalName   The internal name of the methods to include in the graph.
+             * @return A linked method graph representing the methods of the given name of the given type.
+             */
+            protected MethodGraph.Linked compile(TypeDefinition typeDefinition, TypeDescription viewPoint, String internalName) {
+                return compile(typeDefinition, new HashMap<TypeDefinition, Key.Store<T>>(), isVirtual().and(isVisibleTo(viewPoint)).and(hasMethodName(internalName)));
+            }
+
+            /**
+             * Compiles the given type into a method graph.
+             *
+             * @param typeDefinition   The type to be compiled.
+             * @param snapshots        A map containing snapshots of key stores for previously analyzed types.
+             * @param relevanceMatcher A matcher for filtering methods that should be included in the graph.
+             * @return A linked method graph representing the given type.
+             */
+            private MethodGraph.Linked compile(TypeDefinition typeDefinition,
+                                               Map<TypeDefinition, Key.Store<T>> snapshots,
+                                               ElementMatcher<? super MethodDescription> relevanceMatcher) {
+                Key.Store<?> rootStore = doAnalyze(typeDefinition, snapshots, relevanceMatcher);
                 TypeDescription.Generic superClass = typeDefinition.getSuperClass();
                 List<TypeDescription.Generic> interfaceTypes = typeDefinition.getInterfaces();
                 Map<TypeDescription, MethodGraph> interfaceGraphs = new HashMap<TypeDescription, MethodGraph>();
@@ -578,6 +610,17 @@ public interface MethodGraph {
                         interfaceGraphs);
             }
 
+            /**
+             * Creates a map for registering the snapshots of key stores of the compiled type's super types.
+             *
+             * @param typeDefinition The type being compiled.
+             * @param viewPoint      The view point that determines the method's visibility.
+             * @return A map for registering the snapshots of key stores of the compiled type's super types.
+             */
+            protected Map<TypeDefinition, Key.Store<T>> snapshots(TypeDefinition typeDefinition, TypeDescription viewPoint) {
+                return new HashMap<TypeDefinition, Key.Store<T>>();
+            }
+
             /**
              * Analyzes the given type description without checking if the end of the type hierarchy was reached.
              *
@@ -627,11 +670,14 @@ public interface MethodGraph {
                                              Map<TypeDefinition, Key.Store<T>> snapshots,
                                              ElementMatcher<? super MethodDescription> relevanceMatcher) {
                 Key.Store<T> store = analyzeNullable(typeDefinition.getSuperClass(), snapshots, relevanceMatcher);
-                Key.Store<T> interfaceStore = new Key.Store<T>();
+                Key.Store.Builder<T> interfaceStore = new Key.Store.Builder<T>();
                 for (TypeDescription.Generic interfaceType : typeDefinition.getInterfaces()) {
-                    interfaceStore = interfaceStore.combineWith(analyze(interfaceType.accept(visitor), interfaceType, snapshots, relevanceMatcher));
+                    interfaceStore.combineWith(analyze(interfaceType.accept(visitor), interfaceType, snapshots, relevanceMatcher));
                 }
-                return store.inject(interfaceStore).registerTopLevel(typeDefinition.getDeclaredMethods().filter(relevanceMatcher), harmonizer);
+                return new Key.Store.Builder<T>(store)
+                        .inject(interfaceStore.build())
+                        .registerTopLevel(typeDefinition.getDeclaredMethods().filter(relevanceMatcher), harmonizer)
+                        .build();
             }
 
             /**
@@ -1102,15 +1148,7 @@ public interface MethodGraph {
                         if (methodDescriptions.isEmpty()) {
                             return this;
                         }
-                        LinkedHashMap<Harmonized<V>, Entry<V>> entries = new LinkedHashMap<Harmonized<V>, Entry<V>>(this.entries);
-                        for (MethodDescription methodDescription : methodDescriptions) {
-                            Harmonized<V> key = Harmonized.of(methodDescription, harmonizer);
-                            Entry<V> currentEntry = entries.remove(key), extendedEntry = (currentEntry == null
-                                    ? new Entry.Initial<V>(key)
-                                    : currentEntry).extendBy(methodDescription, harmonizer);
-                            entries.put(extendedEntry.getKey(), extendedEntry);
-                        }
-                        return new Store<V>(entries);
+                        return new Builder<V>(this).registerTopLevel(methodDescriptions, harmonizer).build();
                     }
 
                     /**
@@ -1125,14 +1163,7 @@ public interface MethodGraph {
                         } else if (store.entries.isEmpty()) {
                             return this;
                         }
-                        LinkedHashMap<Harmonized<V>, Entry<V>> entries = new LinkedHashMap<Harmonized<V>, Entry<V>>(this.entries);
-                        for (Entry<V> entry : store.entries.values()) {
-                            Entry<V> previousEntry = entries.remove(entry.getKey()), injectedEntry = previousEntry == null
-                                    ? entry
-                                    : combine(previousEntry, entry);
-                            entries.put(injectedEntry.getKey(), injectedEntry);
-                        }
-                        return new Store<V>(entries);
+                        return new Builder<V>(this).combineWith(store).build();
                     }
 
                     /**
@@ -1147,14 +1178,7 @@ public interface MethodGraph {
                         } else if (store.entries.isEmpty()) {
                             return this;
                         }
-                        LinkedHashMap<Harmonized<V>, Entry<V>> entries = new LinkedHashMap<Harmonized<V>, Entry<V>>(this.entries);
-                        for (Entry<V> entry : store.entries.values()) {
-                            Entry<V> dominantEntry = entries.remove(entry.getKey()), injectedEntry = dominantEntry == null
-                                    ? entry
-                                    : dominantEntry.inject(entry.getKey(), entry.getVisibility());
-                            entries.put(injectedEntry.getKey(), injectedEntry);
-                        }
-                        return new Store<V>(entries);
+                        return new Builder<V>(this).inject(store).build();
                     }
 
                     /**
@@ -1172,6 +1196,138 @@ public interface MethodGraph {
                         return new Graph(entries);
                     }
 
+                    /**
+                     * A transient builder for a key store that applies several registrations, combinations and injections before
+                     * it is frozen into an immutable store. The entries of the store that a builder is created from are only copied
+                     * once, upon the first modification, such that folding a type hierarchy does not copy all entries on every step.
+                     * A builder is not thread-safe and should not be shared.
+                     *
+                     * @param <W> The type of the token used for deciding on method equality.
+                     */
+                    protected static class Builder<W> {
+
+                        /**
+                         * A mapping of harmonized keys to their represented entry.
+                         */
+                        private LinkedHashMap<Harmonized<W>, Entry<W>> entries;
+
+                        /**
+                         * {@code true} if the current entries are shared with an immutable store and must be copied before modification.
+                         */
+                        private boolean shared;
+
+                        /**
+                         * Creates a new builder for an empty store.
+                         */
+                        protected Builder() {
+                            entries = new LinkedHashMap<Harmonized<W>, Entry<W>>();
+                        }
+
+                        /**
+                         * Creates a new builder that is based on the entries of the given store.
+                         *
+                         * @param store The store that represents the builder's initial state.
+                         */
+                        protected Builder(Store<W> store) {
+                            entries = store.entries;
+                            shared = true;
+                        }
+
+                        /**
+                         * Returns the entries of this builder such that they can be modified.
+                         *
+                         * @return A modifiable mapping of harmonized keys to their represented entry.
+                         */
+                        private LinkedHashMap<Harmonized<W>, Entry<W>> modifiable() {
+                            if (shared) {
+                                entries = new LinkedHashMap<Harmonized<W>, Entry<W>>(entries);
+                                shared = false;
+                            }
+                            return entries;
+                        }
+
+                        /**
+                         * Registers new top level methods within this builder.
+                         *
+                         * @param methodDescriptions The methods to register.
+                         * @param harmonizer         The harmonizer to use for determining method equality.
+                         * @return This builder with the given methods registered as top-level methods.
+                         */
+                        protected Builder<W> registerTopLevel(List<? extends MethodDescription> methodDescriptions, Harmonizer<W> harmonizer) {
+                            if (methodDescriptions.isEmpty()) {
+                                return this;
+                            }
+                            LinkedHashMap<Harmonized<W>, Entry<W>> entries = modifiable();
+                            for (MethodDescription methodDescription : methodDescriptions) {
+                                Harmonized<W> key = Harmonized.of(methodDescription, harmonizer);
+                                Entry<W> currentEntry = entries.remove(key), extendedEntry = (currentEntry == null
+                                        ? new Entry.Initial<W>(key)
+                                        : currentEntry).extendBy(methodDescription, harmonizer);
+                                entries.put(extendedEntry.getKey(), extendedEntry);
+                            }
+                            return this;
+                        }
+
+                        /**
+                         * Combines this builder with the given store.
+                         *
+                         * @param store The store to combine with this builder.
+                         * @return This builder representing a combination of its previous state and the given store.
+                         */
+                        protected Builder<W> combineWith(Store<W> store) {
+                            if (entries.isEmpty()) {
+                                entries = store.entries;
+                                shared = true;
+                                return this;
+                            } else if (store.entries.isEmpty()) {
+                                return this;
+                            }
+                            LinkedHashMap<Harmonized<W>, Entry<W>> entries = modifiable();
+                            for (Entry<W> entry : store.entries.values()) {
+                                Entry<W> previousEntry = entries.remove(entry.getKey()), injectedEntry = previousEntry == null
+                                        ? entry
+                                        : combine(previousEntry, entry);
+                                entries.put(injectedEntry.getKey(), injectedEntry);
+                            }
+                            return this;
+                        }
+
+                        /**
+                         * Injects the given store into this builder.
+                         *
+                         * @param store The key store to inject into this builder.
+                         * @return This builder with the given store injected.
+                         */
+                        protected Builder<W> inject(Store<W> store) {
+                            if (entries.isEmpty()) {
+                                entries = store.entries;
+                                shared = true;
+                                return this;
+                            } else if (store.entries.isEmpty()) {
+                                return this;
+                            }
+                            LinkedHashMap<Harmonized<W>, Entry<W>> entries = modifiable();
+                            for (Entry<W> entry : store.entries.values()) {
+                                Entry<W> dominantEntry = entries.remove(entry.getKey()), injectedEntry = dominantEntry == null
+                                        ? entry
+                                        : dominantEntry.inject(entry.getKey(), entry.getVisibility());
+                                entries.put(injectedEntry.getKey(), injectedEntry);
+                            }
+                            return this;
+                        }
+
+                        /**
+                         * Freezes the current state of this builder into an immutable store. Any later modification of this
+                         * builder does not affect the returned store.
+                         *
+                         * @return A store representing the current state of this builder.
+                         */
+                        protected Store<W> build() {
+                            shared = true;
+                            return new Store<W>(entries);
+                        }
+                    }
+
                     /**
                      * An entry of a key store.
                      *
@@ -1724,6 +1880,566 @@ public interface MethodGraph {
                 }
             }
         }
+
+        /**
+         * <p>
+         * A method graph compiler that memoizes the analysis of non-generic super types such that compiling several types that
+         * share a common super type, for example multiple subclasses of the same base class, only analyzes the methods of this
+         * super type once. Only super types of a type that is compiled from the view point of one of its subtypes are memoized, as
+         * the visibility of their methods is then only determined by the view point's package.
+         * </p>
+         * <p>
+         * Super types are memoized by their identity, i.e. by their {@link Class} if a super type is described by a
+         * {@link TypeDescription.ForLoadedType} and by the identity of their type description otherwise. Equally-named types of
+         * different class loaders are therefore never confused. Type descriptions that are not represented by a loaded type are
+         * only memoized if they are reused, for example when they are resolved from the same caching {@link net.bytebuddy.pool.TypePool}.
+         * </p>
+         * <p>
+         * <b>Important</b>: Super types are only referenced weakly, and the memoized analyses are weakly referenced, too. A memoizing
+         * compiler does therefore never prevent the unloading of a class loader but a memoized analysis might only be reused until the
+         * next garbage collection. The compiler is therefore foremost beneficial when many types with a common super type are created
+         * in succession.
+         * </p>
+         *
+         * @param <T> The type of the harmonizer token to be used for linking methods of different types.
+         */
+        @HashCodeAndEqualsPlugin.Enhance
+        class Memoizing<T> extends Default<T> {
+
+            /**
+             * A cache of memoized key stores.
+             */
+            @HashCodeAndEqualsPlugin.ValueHandling(HashCodeAndEqualsPlugin.ValueHandling.Sort.IGNORE)
+            private final ConcurrentMap<CacheKey, StoreReference<T>> cache;
+
+            /**
+             * The reference queue that is notified of collected key stores and of collected super types.
+             */
+            @HashCodeAndEqualsPlugin.ValueHandling(HashCodeAndEqualsPlugin.ValueHandling.Sort.IGNORE)
+            private final ReferenceQueue<Object> referenceQueue;
+
+            /**
+             * Creates a new memoizing method graph compiler.
+             *
+             * @param harmonizer The harmonizer to be used.
+             * @param merger     The merger to be used.
+             * @param visitor    A visitor to apply to all type descriptions before analyzing their methods or resolving super types.
+             */
+            protected Memoizing(Harmonizer<T> harmonizer, Merger merger, TypeDescription.Generic.Visitor<? extends TypeDescription.Generic> visitor) {
+                super(harmonizer, merger, visitor);
+                cache = new ConcurrentHashMap<CacheKey, StoreReference<T>>();
+                referenceQueue = new ReferenceQueue<Object>();
+            }
+
+            /**
+             * Creates a memoizing compiler using the given harmonizer and merger. All raw types are reified before analyzing their properties.
+             *
+             * @param harmonizer The harmonizer to be used for creating tokens that uniquely identify a method hierarchy.
+             * @param merger     The merger to be used for identifying a method to represent an ambiguous method resolution.
+             * @param <S>        The type of the harmonizer token.
+             * @return A memoizing compiler for the given harmonizer and merger.
+             */
+            public static <S> Compiler of(Harmonizer<S> harmonizer, Merger merger) {
+                return new Memoizing<S>(harmonizer, merger, TypeDescription.Generic.Visitor.Reifying.INITIATING);
+            }
+
+            /**
+             * Creates a memoizing compiler using the given harmonizer and merger.
+             *
+             * @param harmonizer The harmonizer to be used for creating tokens that uniquely identify a method hierarchy.
+             * @param merger     The merger to be used for identifying a method to represent an ambiguous method resolution.
+             * @param visitor    A visitor to apply to all type descriptions before analyzing their methods or resolving super types.
+             * @param <S>        The type of the harmonizer token.
+             * @return A memoizing compiler for the given harmonizer and merger.
+             */
+            public static <S> Compiler of(Harmonizer<S> harmonizer, Merger merger, TypeDescription.Generic.Visitor<? extends TypeDescription.Generic> visitor) {
+                return new Memoizing<S>(harmonizer, merger, visitor);
+            }
+
+            /**
+             * Creates a memoizing compiler for a method hierarchy following the rules of the Java programming language.
+             *
+             * @return A memoizing compiler for resolving a method hierarchy following the rules of the Java programming language.
+             * @see Default#forJavaHierarchy()
+             */
+            public static Compiler forJavaHierarchy() {
+                return of(Harmonizer.ForJavaMethod.INSTANCE, Merger.Directional.LEFT);
+            }
+
+            /**
+             * Creates a memoizing compiler for a method hierarchy following the rules of the Java virtual machine.
+             *
+             * @return A memoizing compiler for resolving a method hierarchy following the rules of the Java virtual machine.
+             * @see Default#forJVMHierarchy()
+             */
+            public static Compiler forJVMHierarchy() {
+                return of(Harmonizer.ForJVMMethod.INSTANCE, Merger.Directional.LEFT);
+            }
+
+            @Override
+            protected Map<TypeDefinition, Key.Store<T>> snapshots(TypeDefinition typeDefinition, TypeDescription viewPoint) {
+                return viewPoint.isAssignableTo(typeDefinition.asErasure())
+                        ? new Snapshots<T>(cache, referenceQueue, viewPoint.getPackage())
+                        : super.snapshots(typeDefinition, viewPoint);
+            }
+
+            /**
+             * A key for a memoized key store that references the analyzed super type weakly and by its identity. Once the
+             * super type is collected, the key is removed from the cache.
+             */
+            protected static class CacheKey {
+
+                /**
+                 * A weak reference to the identity of the analyzed super type.
+                 */
+                private final IdentityReference identity;
+
+                /**
+                 * The name of the analyzed super type.
+                 */
+                private final String name;
+
+                /**
+                 * The name of the view point's package or {@code null} if the view point does not define a package.
+                 */
+                private final String packageName;
+
+                /**
+                 * The hash code of this key.
+                 */
+                private final int hashCode;
+
+                /**
+                 * Creates a new cache key.
+                 *
+                 * @param identity       The identity of the analyzed super type.
+                 * @param name           The name of the analyzed super type.
+                 * @param packageName    The name of the view point's package or {@code null} if the view point does not define a package.
+                 * @param referenceQueue The reference queue to notify upon the super type's collection or {@code null} if no queue should be notified.
+                 */
+                protected CacheKey(Object identity, String name, String packageName, ReferenceQueue<Object> referenceQueue) {
+                    this.identity = new IdentityReference(identity, referenceQueue, this);
+                    this.name = name;
+                    this.packageName = packageName;
+                    hashCode = 31 * (31 * System.identityHashCode(identity) + name.hashCode()) + (packageName == null ? 0 : packageName.hashCode());
+                }
+
+                /**
+                 * Resolves a cache key for a type.
+                 *
+                 * @param typeDefinition The type to resolve a key for.
+                 * @param packageName    The name of the view point's package or {@code null} if the view point does not define a package.
+                 * @param referenceQueue The reference queue to notify upon the super type's collection or {@code null} if the key is only used for a lookup.
+                 * @return A cache key for the supplied type.
+                 */
+                protected static CacheKey of(TypeDefinition typeDefinition, String packageName, ReferenceQueue<Object> referenceQueue) {
+                    TypeDescription typeDescription = typeDefinition.asErasure();
+                    return new CacheKey(typeDescription instanceof TypeDescription.ForLoadedType
+                            ? ((TypeDescription.ForLoadedType) typeDescription).getLoadedType()
+                            : typeDescription, typeDescription.getName(), packageName, referenceQueue);
+                }
+
+                @Override
+                public int hashCode() {
+                    return hashCode;
+                }
+
+                @Override
+                public boolean equals(Object other) {
+                    if (this == other) {
+                        return true;
+                    } else if (other == null || getClass() != other.getClass()) {
+                        return false;
+                    }
+                    CacheKey cacheKey = (CacheKey) other;
+                    Object identity = this.identity.get();
+                    return hashCode == cacheKey.hashCode
+                            && identity != null
+                            && identity == cacheKey.identity.get()
+                            && name.equals(cacheKey.name)
+                            && (packageName == null ? cacheKey.packageName == null : packageName.equals(cacheKey.packageName));
+                }
+            }
+
+            /**
+             * A weak reference to the identity of an analyzed super type that remembers its cache key such that the key can be
+             * removed from the cache once the super type is collected.
+             */
+            protected static class IdentityReference extends WeakReference<Object> {
+
+                /**
+                 * The cache key that references this identity.
+                 */
+                private final CacheKey cacheKey;
+
+                /**
+                 * Creates a new identity reference.
+                 *
+                 * @param identity       The identity of the analyzed super type.
+                 * @param referenceQueue The reference queue to notify upon the super type's collection or {@code null} if no queue should be notified.
+                 * @param cacheKey       The cache key that references this identity.
+                 */
+                protected IdentityReference(Object identity, ReferenceQueue<Object> referenceQueue, CacheKey cacheKey) {
+                    super(identity, referenceQueue);
+                    this.cacheKey = cacheKey;
+                }
+            }
+
+            /**
+             * A soft reference to a memoized key store that remembers its cache key such that it can be removed from the cache once
+             * the key store is collected. The key store is retained softly as it is not referenced by anything but this cache while
+             * no graph of a subtype is compiled. A key store does not reference its cache key such that the cache key's removal is not
+             * prevented by the key store. As the key store describes methods of the super type, the super type is, however, retained
+             * until the key store is collected, which happens at the latest when memory becomes scarce.
+             *
+             * @param <U> The type of the harmonizer token to be used for linking methods of different types.
+             */
+            protected static class StoreReference<U> extends SoftReference<Key.Store<U>> {
+
+                /**
+                 * The cache key of the referenced key store.
+                 */
+                private final CacheKey cacheKey;
+
+                /**
+                 * Creates a new store reference.
+                 *
+                 * @param store          The referenced key store.
+                 * @param referenceQueue The reference queue to notify upon the key store's collection.
+                 * @param cacheKey       The cache key of the referenced key store.
+                 */
+                protected StoreReference(Key.Store<U> store, ReferenceQueue<Object> referenceQueue, CacheKey cacheKey) {
+                    super(store, referenceQueue);
+                    this.cacheKey = cacheKey;
+                }
+            }
+
+            /**
+             * A map of snapshots of key stores that reads and writes the key stores of non-generic types from and to a cache.
+             *
+             * @param <U> The type of the harmonizer token to be used for linking methods of different types.
+             */
+            protected static class Snapshots<U> extends HashMap<TypeDefinition, Key.Store<U>> {
+
+                /**
+                 * The class's serial version UID.
+                 */
+                private static final long serialVersionUID = 1L;
+
+                /**
+                 * The cache of memoized key stores.
+                 */
+                private final transient ConcurrentMap<CacheKey, StoreReference<U>> cache;
+
+                /**
+                 * The reference queue that is notified of collected key stores and of collected super types.
+                 */
+                private final transient ReferenceQueue<Object> referenceQueue;
+
+                /**
+                 * The name of the view point's package or {@code null} if the view point does not define a package.
+                 */
+                private final String packageName;
+
+                /**
+                 * Creates a new snapshot map.
+                 *
+                 * @param cache              The cache of memoized key stores.
+                 * @param referenceQueue     The reference queue that is notified of collected key stores and of collected super types.
+                 * @param packageDescription The view point's package or {@code null} if the view point does not define a package.
+                 */
+                protected Snapshots(ConcurrentMap<CacheKey, StoreReference<U>> cache,
+                                    ReferenceQueue<Object> referenceQueue,
+                                    PackageDescription packageDescription) {
+                    this.cache = cache;
+                    this.referenceQueue = referenceQueue;
+                    packageName = packageDescription == null
+                            ? null
+                            : packageDescription.getName();
+                }
+
+                /**
+                 * Resolves a cache key for a type if its analysis can be memoized.
+                 *
+                 * @param key            The type to resolve a key for.
+                 * @param referenceQueue The reference queue to notify upon the super type's collection or {@code null} if the key is only used for a lookup.
+                 * @return The cache key of the supplied type or {@code null} if its analysis cannot be memoized.
+                 */
+                private CacheKey toCacheKey(Object key, ReferenceQueue<Object> referenceQueue) {
+                    return key instanceof TypeDefinition && ((TypeDefinition) key).getSort() == TypeDefinition.Sort.NON_GENERIC
+                            ? CacheKey.of((TypeDefinition) key, packageName, referenceQueue)
+                            : null;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public Key.Store<U> get(Object key) {
+                    Key.Store<U> store = super.get(key);
+                    if (store == null) {
+                        CacheKey cacheKey = toCacheKey(key, null);
+                        if (cacheKey != null) {
+                            StoreReference<U> reference = cache.get(cacheKey);
+                            store = reference == null
+                                    ? null
+                                    : reference.get();
+                            if (store != null) {
+                                super.put((TypeDefinition) key, store);
+                            } else if (reference != null) {
+                                cache.remove(cacheKey, reference);
+                            }
+                        }
+                    }
+                    return store;
+                }
+
+                @Override
+                public Key.Store<U> put(TypeDefinition key, Key.Store<U> value) {
+                    CacheKey cacheKey = toCacheKey(key, referenceQueue);
+                    if (cacheKey != null) {
+                        Reference<?> reference;
+                        while ((reference = referenceQueue.poll()) != null) {
+                            if (reference instanceof StoreReference<?>) {
+                                cache.remove(((StoreReference<?>) reference).cacheKey, reference);
+                            } else {
+                                cache.remove(((IdentityReference) reference).cacheKey);
+                            }
+                        }
+                        cache.put(cacheKey, new StoreReference<U>(value, referenceQueue, cacheKey));
+                    }
+                    return super.put(key, value);
+                }
+            }
+        }
+
+        /**
+         * <p>
+         * A method graph compiler that compiles method graphs lazily. Instead of analyzing all methods of a type's hierarchy upon
+         * compilation, a lazy method graph only analyzes the methods of a given name once a method of this name is located. Only
+         * if all nodes of a graph are listed, the full hierarchy is analyzed.
+         * </p>
+         * <p>
+         * As method graphs that are used for defining a type typically list all nodes, a lazy compiler is foremost beneficial
+         * for resolving a limited amount of methods of a type, for example when locating a method that is to be invoked.
+         * </p>
+         */
+        @HashCodeAndEqualsPlugin.Enhance
+        class Lazy extends AbstractBase {
+
+            /**
+             * The compiler to use for compiling method graphs.
+             */
+            private final Default<?> compiler;
+
+            /**
+             * Creates a new lazy method graph compiler.
+             *
+             * @param compiler The compiler to use for compiling method graphs.
+             */
+            public Lazy(Default<?> compiler) {
+                this.compiler = compiler;
+            }
+
+            /**
+             * Creates a lazy compiler for a method hierarchy following the rules of the Java programming language.
+             *
+             * @return A lazy compiler for resolving a method hierarchy following the rules of the Java programming language.
+             * @see Default#forJavaHierarchy()
+             */
+            public static Compiler forJavaHierarchy() {
+                return new Lazy(new Default<Default.Harmonizer.ForJavaMethod.Token>(Default.Harmonizer.ForJavaMethod.INSTANCE,
+                        Default.Merger.Directional.LEFT,
+                        TypeDescription.Generic.Visitor.Reifying.INITIATING));
+            }
+
+            /**
+             * Creates a lazy compiler for a method hierarchy following the rules of the Java virtual machine.
+             *
+             * @return A lazy compiler for resolving a method hierarchy following the rules of the Java virtual machine.
+             * @see Default#forJVMHierarchy()
+             */
+            public static Compiler forJVMHierarchy() {
+                return new Lazy(new Default<Default.Harmonizer.ForJVMMethod.Token>(Default.Harmonizer.ForJVMMethod.INSTANCE,
+                        Default.Merger.Directional.LEFT,
+                        TypeDescription.Generic.Visitor.Reifying.INITIATING));
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public MethodGraph.Linked compile(TypeDefinition typeDefinition, TypeDescription viewPoint) {
+                return new LazyGraph(compiler, typeDefinition, viewPoint);
+            }
+
+            /**
+             * A linked method graph that is compiled lazily.
+             */
+            protected static class LazyGraph implements MethodGraph.Linked {
+
+                /**
+                 * The compiler to use for compiling method graphs.
+                 */
+                private final Default<?> compiler;
+
+                /**
+                 * The type to be compiled.
+                 */
+                private final TypeDefinition typeDefinition;
+
+                /**
+                 * The view point that determines the method's visibility.
+                 */
+                private final TypeDescription viewPoint;
+
+                /**
+                 * A mapping of method names to a graph that only contains methods of this name.
+                 */
+                private final ConcurrentMap<String, MethodGraph.Linked> graphs;
+
+                /**
+                 * The fully compiled method graph or {@code null} if the graph is not yet compiled.
+                 */
+                private volatile MethodGraph.Linked methodGraph;
+
+                /**
+                 * Creates a new lazy method graph.
+                 *
+                 * @param compiler       The compiler to use for compiling method graphs.
+                 * @param typeDefinition The type to be compiled.
+                 * @param viewPoint      The view point that determines the method's visibility.
+                 */
+                protected LazyGraph(Default<?> compiler, TypeDefinition typeDefinition, TypeDescription viewPoint) {
+                    this.compiler = compiler;
+                    this.typeDefinition = typeDefinition;
+                    this.viewPoint = viewPoint;
+                    graphs = new ConcurrentHashMap<String, MethodGraph.Linked>();
+                }
+
+                /**
+                 * Resolves the fully compiled method graph.
+                 *
+                 * @return The fully compiled method graph.
+                 */
+                protected MethodGraph.Linked resolve() {
+                    MethodGraph.Linked methodGraph = this.methodGraph;
+                    if (methodGraph == null) {
+                        methodGraph = compiler.compile(typeDefinition, viewPoint);
+                        this.methodGraph = methodGraph;
+                        graphs.clear();
+                    }
+                    return methodGraph;
+                }
+
+                /**
+                 * Resolves a method graph that contains at least all methods of the given name.
+                 *
+                 * @param internalName The internal name of the methods that are to be contained in the graph.
+                 * @return A method graph containing all methods of the given name.
+                 */
+                protected MethodGraph.Linked resolve(String internalName) {
+                    MethodGraph.Linked methodGraph = this.methodGraph;
+                    if (methodGraph != null) {
+                        return methodGraph;
+                    }
+                    methodGraph = graphs.get(internalName);
+                    if (methodGraph == null) {
+                        methodGraph = compiler.compile(typeDefinition, viewPoint, internalName);
+                        MethodGraph.Linked previous = graphs.putIfAbsent(internalName, methodGraph);
+                        if (previous != null) {
+                            methodGraph = previous;
+                        }
+                    }
+                    return methodGraph;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public MethodGraph getSuperClassGraph() {
+                    return new ForSuperType(this, ForSuperType.SUPER_CLASS);
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public MethodGraph getInterfaceGraph(TypeDescription typeDescription) {
+                    return new ForSuperType(this, typeDescription);
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public Node locate(MethodDescription.SignatureToken token) {
+                    return resolve(token.getName()).locate(token);
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public NodeList listNodes() {
+                    return resolve().listNodes();
+                }
+            }
+
+            /**
+             * A lazy view on a method graph of a super type of a lazily compiled type.
+             */
+            @HashCodeAndEqualsPlugin.Enhance
+            protected static class ForSuperType implements MethodGraph {
+
+                /**
+                 * Indicates that this view represents the super class graph.
+                 */
+                protected static final TypeDescription SUPER_CLASS = null;
+
+                /**
+                 * The lazy method graph of the type that declares the represented super type.
+                 */
+                private final LazyGraph lazyGraph;
+
+                /**
+                 * The represented interface type or {@code null} if this view represents the super class graph.
+                 */
+                @HashCodeAndEqualsPlugin.ValueHandling(HashCodeAndEqualsPlugin.ValueHandling.Sort.REVERSE_NULLABILITY)
+                private final TypeDescription typeDescription;
+
+                /**
+                 * Creates a new lazy view on a method graph of a super type.
+                 *
+                 * @param lazyGraph       The lazy method graph of the type that declares the represented super type.
+                 * @param typeDescription The represented interface type or {@code null} if this view represents the super class graph.
+                 */
+                protected ForSuperType(LazyGraph lazyGraph, TypeDescription typeDescription) {
+                    this.lazyGraph = lazyGraph;
+                    this.typeDescription = typeDescription;
+                }
+
+                /**
+                 * Resolves the represented graph from a linked graph.
+                 *
+                 * @param methodGraph The linked graph to resolve the represented graph from.
+                 * @return The represented graph.
+                 */
+                private MethodGraph resolve(MethodGraph.Linked methodGraph) {
+                    return typeDescription == SUPER_CLASS
+                            ? methodGraph.getSuperClassGraph()
+                            : methodGraph.getInterfaceGraph(typeDescription);
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public Node locate(MethodDescription.SignatureToken token) {
+                    return resolve(lazyGraph.resolve(token.getName())).locate(token);
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public NodeList listNodes() {
+                    return resolve(lazyGraph.resolve()).listNodes();
+                }
+            }
+        }
     }
 
     /**
@@ -29,8 +29,10 @@ import net.bytebuddy.implementation.LoadedTypeInitializer;
 import net.bytebuddy.implementation.attribute.MethodAttributeAppender;
 import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
 import net.bytebuddy.matcher.ElementMatcher;
+import net.bytebuddy.matcher.ElementMatcherIndex;
 import net.bytebuddy.matcher.LatentMatcher;
 import net.bytebuddy.utility.CompoundList;
+import net.bytebuddy.utility.SharedList;
 
 import java.util.*;
 
@@ -430,7 +432,7 @@ public interface MethodRegistry {
                                       Handler handler,
                                       MethodAttributeAppender.Factory attributeAppenderFactory,
                                       Transformer<MethodDescription> transformer) {
-            return new Default(CompoundList.of(new Entry(matcher, handler, attributeAppenderFactory, transformer), entries));
+            return new Default(SharedList.of(new Entry(matcher, handler, attributeAppenderFactory, transformer), entries));
         }
 
         /**
@@ -440,7 +442,7 @@ public interface MethodRegistry {
                                      Handler handler,
                                      MethodAttributeAppender.Factory attributeAppenderFactory,
                                      Transformer<MethodDescription> transformer) {
-            return new Default(CompoundList.of(entries, new Entry(matcher, handler, attributeAppenderFactory, transformer)));
+            return new Default(SharedList.of(entries, new Entry(matcher, handler, attributeAppenderFactory, transformer)));
         }
 
         /**
@@ -468,6 +470,14 @@ public interface MethodRegistry {
                     }
                 }
             }
+            Map<Entry, ElementMatcher<? super MethodDescription>> matchers = new IdentityHashMap<Entry, ElementMatcher<? super MethodDescription>>();
+            ElementMatcherIndex.Builder<Entry> builder = new ElementMatcherIndex.Builder<Entry>();
+            for (Entry entry : entries) {
+                ElementMatcher<? super MethodDescription> matcher = entry.resolve(instrumentedType);
+                matchers.put(entry, matcher);
+                builder.append(matcher, entry);
+            }
+            ElementMatcherIndex<Entry> index = builder.build();
             MethodGraph.Linked methodGraph = methodGraphCompiler.compile(instrumentedType);
             // Casting required for Java 6 compiler.
             ElementMatcher<? super MethodDescription> relevanceMatcher = (ElementMatcher<? super MethodDescription>) not(anyOf(implementations.keySet()))
@@ -478,9 +488,9 @@ public interface MethodRegistry {
             for (MethodGraph.Node node : methodGraph.listNodes()) {
                 MethodDescription methodDescription = node.getRepresentative();
                 boolean visibilityBridge = instrumentedType.isPublic() && !instrumentedType.isInterface();
-                if (relevanceMatcher.matches(methodDescription)) {
-                    for (Entry entry : entries) {
-                        if (entry.resolve(instrumentedType).matches(methodDescription)) {
+                if (!index.isEmpty(methodDescription.getActualName()) && relevanceMatcher.matches(methodDescription)) {
+                    for (Entry entry : index.get(methodDescription.getActualName())) {
+                        if (matchers.get(entry).matches(methodDescription)) {
                             implementations.put(methodDescription, entry.asPreparedEntry(instrumentedType,
                                     methodDescription,
                                     node.getMethodTypes(),
@@ -504,8 +514,8 @@ public interface MethodRegistry {
             for (MethodDescription methodDescription : CompoundList.of(
                     instrumentedType.getDeclaredMethods().filter(not(isVirtual()).and(relevanceMatcher)),
                     new MethodDescription.Latent.TypeInitializer(instrumentedType))) {
-                for (Entry entry : entries) {
-                    if (entry.resolve(instrumentedType).matches(methodDescription)) {
+                for (Entry entry : index.get(methodDescription.getActualName())) {
+                    if (matchers.get(entry).matches(methodDescription)) {
                         implementations.put(methodDescription, entry.asPreparedEntry(instrumentedType, methodDescription, methodDescription.getVisibility()));
                         break;
                     }
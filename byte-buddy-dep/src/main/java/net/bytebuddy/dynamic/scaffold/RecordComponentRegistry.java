@@ -22,6 +22,7 @@ import net.bytebuddy.dynamic.Transformer;
 import net.bytebuddy.implementation.attribute.RecordComponentAttributeAppender;
 import net.bytebuddy.matcher.ElementMatcher;
 import net.bytebuddy.matcher.LatentMatcher;
+import net.bytebuddy.utility.SharedList;
 
 import java.util.*;
 
@@ -114,10 +115,7 @@ public interface RecordComponentRegistry {
         public RecordComponentRegistry prepend(LatentMatcher<? super RecordComponentDescription> matcher,
                                                RecordComponentAttributeAppender.Factory recordComponentAttributeAppenderFactory,
                                                Transformer<RecordComponentDescription> transformer) {
-            List<Entry> entries = new ArrayList<Entry>(this.entries.size() + 1);
-            entries.add(new Entry(matcher, recordComponentAttributeAppenderFactory, transformer));
-            entries.addAll(this.entries);
-            return new Default(entries);
+            return new Default(SharedList.of(new Entry(matcher, recordComponentAttributeAppenderFactory, transformer), entries));
         }
 
         /**
@@ -2285,6 +2285,21 @@ public interface TypeWriter<T> {
                         : classVisitor;
             }
 
+            /**
+             * Removes the validation of a method's body if the supplied method visitor is a validating method visitor that was not
+             * wrapped by another visitor. A method that is copied from an existing class file does not require validation. Without
+             * validation, the method visitor of a class writer is exposed to a class reader that was used to create the class writer
+             * such that the method is copied verbatim, together with its constant pool references, without parsing its byte code.
+             *
+             * @param methodVisitor The method visitor that was created for a method that is copied from an existing class file or {@code null}.
+             * @return A method visitor that does not validate the copied method or {@code null} if the supplied visitor was {@code null}.
+             */
+            protected static MethodVisitor unvalidated(MethodVisitor methodVisitor) {
+                return methodVisitor instanceof ValidatingMethodVisitor
+                        ? ((ValidatingMethodVisitor) methodVisitor).getDelegate()
+                        : methodVisitor;
+            }
+
             @Override
             public void visit(int version, int modifiers, String name, String signature, String superName, String[] interfaces) {
                 ClassFileVersion classFileVersion = ClassFileVersion.ofMinorMajor(version);
@@ -3706,6 +3721,15 @@ public interface TypeWriter<T> {
                     this.name = name;
                 }
 
+                /**
+                 * Returns the method visitor to which any calls are delegated to.
+                 *
+                 * @return The method visitor to which any calls are delegated to.
+                 */
+                protected MethodVisitor getDelegate() {
+                    return mv;
+                }
+
                 @Override
                 public AnnotationVisitor visitAnnotation(String desc, boolean visible) {
                     constraint.assertAnnotation();
@@ -5013,7 +5037,7 @@ public interface TypeWriter<T> {
                         } else {
                             MethodDescription methodDescription = declarableMethods.remove(internalName + descriptor);
                             return methodDescription == null
-                                    ? cv.visitMethod(modifiers, internalName, descriptor, genericSignature, exceptionName)
+                                    ? ValidatingClassVisitor.unvalidated(cv.visitMethod(modifiers, internalName, descriptor, genericSignature, exceptionName))
                                     : redefine(methodDescription, (modifiers & Opcodes.ACC_ABSTRACT) != 0, modifiers, genericSignature);
                         }
                     }
@@ -5031,13 +5055,13 @@ public interface TypeWriter<T> {
                     protected MethodVisitor redefine(MethodDescription methodDescription, boolean abstractOrigin, int modifiers, String genericSignature) {
                         MethodPool.Record record = methodPool.target(methodDescription);
                         if (!record.getSort().isDefined()) {
-                            return cv.visitMethod(methodDescription.getActualModifiers() | resolveDeprecationModifiers(modifiers),
+                            return ValidatingClassVisitor.unvalidated(cv.visitMethod(methodDescription.getActualModifiers() | resolveDeprecationModifiers(modifiers),
                                     methodDescription.getInternalName(),
                                     methodDescription.getDescriptor(),
                                     TypeDescription.AbstractBase.RAW_TYPES
                                             ? genericSignature
                                             : methodDescription.getGenericSignature(),
-                                    methodDescription.getExceptionTypes().asErasures().toInternalNames());
+                                    methodDescription.getExceptionTypes().asErasures().toInternalNames()));
                         }
                         MethodDescription implementedMethod = record.getMethod();
                         MethodVisitor methodVisitor = cv.visitMethod(ModifierContributor.Resolver
@@ -5598,6 +5622,11 @@ public interface TypeWriter<T> {
                                 : IGNORE_ANNOTATION;
                     }
 
+                    @Override
+                    protected MethodVisitor onVisitMethod(int modifiers, String internalName, String descriptor, String signature, String[] exception) {
+                        return ValidatingClassVisitor.unvalidated(super.onVisitMethod(modifiers, internalName, descriptor, signature, exception));
+                    }
+
                     @Override
                     protected void onAfterAttributes() {
                         typeAttributeAppender.apply(cv, instrumentedType, annotationValueFilterFactory.on(instrumentedType));
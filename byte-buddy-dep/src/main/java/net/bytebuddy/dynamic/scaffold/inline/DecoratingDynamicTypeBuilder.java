@@ -17,10 +17,12 @@ package net.bytebuddy.dynamic.scaffold.inline;
 
 import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.asm.AsmVisitorWrapper;
+import net.bytebuddy.build.CachedReturnPlugin;
 import net.bytebuddy.build.HashCodeAndEqualsPlugin;
 import net.bytebuddy.description.annotation.AnnotationDescription;
 import net.bytebuddy.description.field.FieldDescription;
 import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.method.MethodList;
 import net.bytebuddy.description.modifier.ModifierContributor;
 import net.bytebuddy.description.type.RecordComponentDescription;
 import net.bytebuddy.description.type.TypeDefinition;
@@ -492,10 +494,7 @@ public class DecoratingDynamicTypeBuilder<T> extends DynamicType.Builder.Abstrac
         return TypeWriter.Default.<T>forDecoration(instrumentedType,
                 classFileVersion,
                 auxiliaryTypes,
-                CompoundList.of(methodGraphCompiler.compile(instrumentedType)
-                        .listNodes()
-                        .asMethodList()
-                        .filter(not(ignoredMethods.resolve(instrumentedType))), instrumentedType.getDeclaredMethods().filter(not(isVirtual()))),
+                new LazyMethodList(instrumentedType, methodGraphCompiler, ignoredMethods),
                 typeAttributeAppender,
                 asmVisitorWrapper,
                 annotationValueFilterFactory,
@@ -514,4 +513,69 @@ public class DecoratingDynamicTypeBuilder<T> extends DynamicType.Builder.Abstrac
     public TypeDescription toTypeDescription() {
         return instrumentedType;
     }
+
+    /**
+     * A method list that only resolves the methods of a decorated type if they are queried. As a decoration does not alter the
+     * decorated type's structure, the methods are only required if an ASM visitor wrapper considers them. This avoids compiling
+     * a method graph and resolving the decorated type's super types if no wrapper requires them.
+     */
+    protected static class LazyMethodList extends MethodList.AbstractBase<MethodDescription> {
+
+        /**
+         * The decorated type.
+         */
+        private final TypeDescription instrumentedType;
+
+        /**
+         * The method graph compiler to use.
+         */
+        private final MethodGraph.Compiler methodGraphCompiler;
+
+        /**
+         * A matcher for identifying methods that should be excluded from instrumentation.
+         */
+        private final LatentMatcher<? super MethodDescription> ignoredMethods;
+
+        /**
+         * Creates a lazy method list.
+         *
+         * @param instrumentedType    The decorated type.
+         * @param methodGraphCompiler The method graph compiler to use.
+         * @param ignoredMethods      A matcher for identifying methods that should be excluded from instrumentation.
+         */
+        protected LazyMethodList(TypeDescription instrumentedType,
+                                 MethodGraph.Compiler methodGraphCompiler,
+                                 LatentMatcher<? super MethodDescription> ignoredMethods) {
+            this.instrumentedType = instrumentedType;
+            this.methodGraphCompiler = methodGraphCompiler;
+            this.ignoredMethods = ignoredMethods;
+        }
+
+        /**
+         * Resolves the methods of the decorated type.
+         *
+         * @return The virtual methods of the decorated type's method graph that are not ignored and its declared non-virtual methods.
+         */
+        @CachedReturnPlugin.Enhance("resolved")
+        protected List<MethodDescription> resolve() {
+            return CompoundList.of(methodGraphCompiler.compile(instrumentedType)
+                    .listNodes()
+                    .asMethodList()
+                    .filter(not(ignoredMethods.resolve(instrumentedType))), instrumentedType.getDeclaredMethods().filter(not(isVirtual())));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public MethodDescription get(int index) {
+            return resolve().get(index);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public int size() {
+            return resolve().size();
+        }
+    }
 }
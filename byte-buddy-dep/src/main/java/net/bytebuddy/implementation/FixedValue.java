@@ -20,6 +20,7 @@ import net.bytebuddy.description.field.FieldDescription;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.method.ParameterDescription;
 import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.NexusAccessor;
 import net.bytebuddy.dynamic.scaffold.InstrumentedType;
 import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
 import net.bytebuddy.implementation.bytecode.StackManipulation;
@@ -155,6 +156,26 @@ public abstract class FixedValue implements Implementation {
         return new ForValue(fieldName, fixedValue);
     }
 
+    /**
+     * <p>
+     * Other than {@link net.bytebuddy.implementation.FixedValue#reference(Object)}, this function does not define a field in
+     * the instrumented class. Instead, the value is loaded from a dynamic constant of the instrumented class's constant pool
+     * which is resolved from Byte Buddy's {@link net.bytebuddy.dynamic.Nexus} upon its first use. The value is defined within
+     * the nexus once the instrumented type is loaded without reflectively accessing this type. Object identity is preserved
+     * between the given {@code value} and the value that is returned by instrumented methods.
+     * </p>
+     * <p>
+     * <b>Important</b>: Dynamic constants are only supported by class files of at least Java 11. Furthermore, the nexus must be
+     * visible to the instrumented type. See {@link net.bytebuddy.dynamic.NexusAccessor.ConstantValue} for details.
+     * </p>
+     *
+     * @param fixedValue The fixed value to be returned by methods that are instrumented by this implementation.
+     * @return An implementation for the given {@code value}.
+     */
+    public static AssignerConfigurable dynamicReference(Object fixedValue) {
+        return new ForDynamicValue(fixedValue);
+    }
+
     /**
      * Returns the given type in form of a loaded type. The value is loaded from the written class's constant pool.
      *
@@ -611,6 +632,90 @@ public abstract class FixedValue implements Implementation {
         }
     }
 
+    /**
+     * A fixed value implementation that represents its fixed value as a dynamic constant of the instrumented class that is
+     * resolved from Byte Buddy's {@link net.bytebuddy.dynamic.Nexus}.
+     */
+    @HashCodeAndEqualsPlugin.Enhance
+    protected static class ForDynamicValue extends FixedValue implements AssignerConfigurable, ByteCodeAppender {
+
+        /**
+         * The prefix of the dynamic constant that represents the fixed value.
+         */
+        private static final String PREFIX = "value";
+
+        /**
+         * The name of the dynamic constant that represents the fixed value.
+         */
+        private final String name;
+
+        /**
+         * The fixed value.
+         */
+        private final Object value;
+
+        /**
+         * The type of the fixed value.
+         */
+        @HashCodeAndEqualsPlugin.ValueHandling(HashCodeAndEqualsPlugin.ValueHandling.Sort.IGNORE)
+        private final TypeDescription loadedType;
+
+        /**
+         * Creates a new dynamic constant fixed value implementation with a random name for the dynamic constant. Other than for
+         * a field, a name that is derived from the value's hash code could not be validated for conflicts when the instrumented
+         * type is created.
+         *
+         * @param value The fixed value to be returned.
+         */
+        protected ForDynamicValue(Object value) {
+            this(Assigner.DEFAULT, Assigner.Typing.STATIC, PREFIX + "$" + RandomString.make(), value);
+        }
+
+        /**
+         * Creates a new dynamic constant fixed value implementation.
+         *
+         * @param assigner The assigner to use for assigning the fixed value to the return type of the
+         *                 instrumented value.
+         * @param typing   Indicates if dynamic type castings should be attempted for incompatible assignments.
+         * @param name     The name of the dynamic constant that represents the fixed value.
+         * @param value    The fixed value to be returned.
+         */
+        private ForDynamicValue(Assigner assigner, Assigner.Typing typing, String name, Object value) {
+            super(assigner, typing);
+            this.name = name;
+            this.value = value;
+            loadedType = TypeDescription.ForLoadedType.of(value.getClass());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public Implementation withAssigner(Assigner assigner, Assigner.Typing typing) {
+            return new ForDynamicValue(assigner, typing, name, value);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public InstrumentedType prepare(InstrumentedType instrumentedType) {
+            return instrumentedType.withInitializer(new NexusAccessor.ConstantInitializer(name, value));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public ByteCodeAppender appender(Target implementationTarget) {
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public Size apply(MethodVisitor methodVisitor, Context implementationContext, MethodDescription instrumentedMethod) {
+            return apply(methodVisitor, implementationContext, instrumentedMethod, loadedType.asGenericType(), new NexusAccessor.ConstantValue(name, loadedType));
+        }
+    }
+
     /**
      * A fixed value implementation that represents its fixed value as a static field of the instrumented class.
      */
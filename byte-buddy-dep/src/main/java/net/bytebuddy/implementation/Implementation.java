@@ -49,6 +49,12 @@ import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * An implementation is responsible for implementing methods of a dynamically created type as byte code. An
@@ -786,11 +792,26 @@ public interface Implementation extends InstrumentedType.Prepareable {
              */
             private final Map<FieldDescription, DelegationRecord> registeredSetters;
 
+            /**
+             * The executor to use for creating deferrable auxiliary types or {@code null} if all auxiliary types are created on the registering thread.
+             */
+            private final Executor executor;
+
             /**
              * A map of registered auxiliary types to their dynamic type representation.
              */
             private final Map<AuxiliaryType, DynamicType> auxiliaryTypes;
 
+            /**
+             * A map of registered auxiliary types that are created by the executor to their pending dynamic type representation in their registration order.
+             */
+            private final Map<AuxiliaryType, Future<DynamicType>> deferredAuxiliaryTypes;
+
+            /**
+             * A map of registered auxiliary types that are created by the executor to their type description.
+             */
+            private final Map<AuxiliaryType, TypeDescription> deferredTypeDescriptions;
+
             /**
              * A map of already registered field caches to their field representation.
              */
@@ -825,14 +846,37 @@ public interface Implementation extends InstrumentedType.Prepareable {
                               AuxiliaryType.NamingStrategy auxiliaryTypeNamingStrategy,
                               TypeInitializer typeInitializer,
                               ClassFileVersion auxiliaryClassFileVersion) {
+                this(instrumentedType, classFileVersion, auxiliaryTypeNamingStrategy, typeInitializer, auxiliaryClassFileVersion, null);
+            }
+
+            /**
+             * Creates a new default implementation context.
+             *
+             * @param instrumentedType            The description of the type that is currently subject of creation.
+             * @param classFileVersion            The class file version of the created class.
+             * @param auxiliaryTypeNamingStrategy The naming strategy for naming an auxiliary type.
+             * @param typeInitializer             The type initializer of the created instrumented type.
+             * @param auxiliaryClassFileVersion   The class file version to use for auxiliary classes.
+             * @param executor                    The executor to use for creating deferrable auxiliary types or {@code null} if
+             *                                    all auxiliary types are created on the registering thread.
+             */
+            protected Default(TypeDescription instrumentedType,
+                              ClassFileVersion classFileVersion,
+                              AuxiliaryType.NamingStrategy auxiliaryTypeNamingStrategy,
+                              TypeInitializer typeInitializer,
+                              ClassFileVersion auxiliaryClassFileVersion,
+                              Executor executor) {
                 super(instrumentedType, classFileVersion);
                 this.auxiliaryTypeNamingStrategy = auxiliaryTypeNamingStrategy;
                 this.typeInitializer = typeInitializer;
                 this.auxiliaryClassFileVersion = auxiliaryClassFileVersion;
+                this.executor = executor;
                 registeredAccessorMethods = new HashMap<SpecialMethodInvocation, DelegationRecord>();
                 registeredGetters = new HashMap<FieldDescription, DelegationRecord>();
                 registeredSetters = new HashMap<FieldDescription, DelegationRecord>();
                 auxiliaryTypes = new HashMap<AuxiliaryType, DynamicType>();
+                deferredAuxiliaryTypes = new LinkedHashMap<AuxiliaryType, Future<DynamicType>>();
+                deferredTypeDescriptions = new HashMap<AuxiliaryType, TypeDescription>();
                 registeredFieldCacheEntries = new HashMap<FieldCacheEntry, FieldDescription.InDefinedShape>();
                 registeredFieldCacheFields = new HashSet<FieldDescription.InDefinedShape>();
                 suffix = RandomString.make();
@@ -886,8 +930,27 @@ public interface Implementation extends InstrumentedType.Prepareable {
              * {@inheritDoc}
              */
             public TypeDescription register(AuxiliaryType auxiliaryType) {
+                TypeDescription typeDescription = deferredTypeDescriptions.get(auxiliaryType);
+                if (typeDescription != null) {
+                    return typeDescription;
+                }
                 DynamicType dynamicType = auxiliaryTypes.get(auxiliaryType);
                 if (dynamicType == null) {
+                    if (executor != null && auxiliaryType instanceof AuxiliaryType.Deferrable) {
+                        DynamicType.Builder<?> builder = ((AuxiliaryType.Deferrable) auxiliaryType).builder(auxiliaryTypeNamingStrategy.name(instrumentedType),
+                                auxiliaryClassFileVersion,
+                                this);
+                        typeDescription = builder.toTypeDescription();
+                        FutureTask<DynamicType> creation = new FutureTask<DynamicType>(new DeferredCreation(builder));
+                        try {
+                            executor.execute(creation);
+                        } catch (RejectedExecutionException ignored) {
+                            creation.run();
+                        }
+                        deferredAuxiliaryTypes.put(auxiliaryType, creation);
+                        deferredTypeDescriptions.put(auxiliaryType, typeDescription);
+                        return typeDescription;
+                    }
                     dynamicType = auxiliaryType.make(auxiliaryTypeNamingStrategy.name(instrumentedType), auxiliaryClassFileVersion, this);
                     auxiliaryTypes.put(auxiliaryType, dynamicType);
                 }
@@ -898,7 +961,26 @@ public interface Implementation extends InstrumentedType.Prepareable {
              * {@inheritDoc}
              */
             public List<DynamicType> getAuxiliaryTypes() {
-                return new ArrayList<DynamicType>(auxiliaryTypes.values());
+                List<DynamicType> auxiliaryTypes = new ArrayList<DynamicType>(this.auxiliaryTypes.size() + deferredAuxiliaryTypes.size());
+                auxiliaryTypes.addAll(this.auxiliaryTypes.values());
+                for (Map.Entry<AuxiliaryType, Future<DynamicType>> entry : deferredAuxiliaryTypes.entrySet()) {
+                    try {
+                        auxiliaryTypes.add(entry.getValue().get());
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted while awaiting creation of " + entry.getKey(), exception);
+                    } catch (ExecutionException exception) {
+                        Throwable cause = exception.getCause();
+                        if (cause instanceof RuntimeException) {
+                            throw (RuntimeException) cause;
+                        } else if (cause instanceof Error) {
+                            throw (Error) cause;
+                        } else {
+                            throw new IllegalStateException("Failed to create " + entry.getKey(), cause);
+                        }
+                    }
+                }
+                return auxiliaryTypes;
             }
 
             /**
@@ -1699,6 +1781,82 @@ public interface Implementation extends InstrumentedType.Prepareable {
                                             ClassFileVersion auxiliaryClassFileVersion) {
                     return new Default(instrumentedType, classFileVersion, auxiliaryTypeNamingStrategy, typeInitializer, auxiliaryClassFileVersion);
                 }
+
+                /**
+                 * <p>
+                 * A factory for creating a {@link net.bytebuddy.implementation.Implementation.Context.Default} that writes the class files
+                 * of {@link AuxiliaryType.Deferrable} auxiliary types concurrently on an executor. The auxiliary types are still named and
+                 * described on the thread that creates the instrumented type in the order of their registration, such that the created
+                 * types are identical to those of a sequential creation. If the executor rejects a task, the auxiliary type is created
+                 * on the current thread.
+                 * </p>
+                 * <p>
+                 * <b>Important</b>: Only {@link net.bytebuddy.implementation.auxiliary.MethodCallProxy},
+                 * {@link net.bytebuddy.implementation.auxiliary.TrivialType},
+                 * {@link net.bytebuddy.implementation.auxiliary.PrivilegedMemberLookupAction} and the proxies of
+                 * {@link net.bytebuddy.implementation.bind.annotation.Morph} and {@link net.bytebuddy.implementation.bind.annotation.Pipe}
+                 * are created on the executor. A {@link net.bytebuddy.implementation.auxiliary.TypeProxy} and the proxies of
+                 * {@link net.bytebuddy.implementation.bind.annotation.FieldProxy} register accessor methods with the instrumented type's
+                 * implementation context while their byte code is written. As this context is not thread-safe, these types, as well as
+                 * any custom {@link AuxiliaryType} that does not implement {@link AuxiliaryType.Deferrable}, are still created
+                 * sequentially on the thread that creates the instrumented type.
+                 */
+                @HashCodeAndEqualsPlugin.Enhance
+                public static class WithExecutor implements ExtractableView.Factory {
+
+                    /**
+                     * The executor to use for creating auxiliary types.
+                     */
+                    private final Executor executor;
+
+                    /**
+                     * Creates a new factory for an implementation context that creates auxiliary types on an executor.
+                     *
+                     * @param executor The executor to use for creating auxiliary types.
+                     */
+                    public WithExecutor(Executor executor) {
+                        this.executor = executor;
+                    }
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    public ExtractableView make(TypeDescription instrumentedType,
+                                                AuxiliaryType.NamingStrategy auxiliaryTypeNamingStrategy,
+                                                TypeInitializer typeInitializer,
+                                                ClassFileVersion classFileVersion,
+                                                ClassFileVersion auxiliaryClassFileVersion) {
+                        return new Default(instrumentedType, classFileVersion, auxiliaryTypeNamingStrategy, typeInitializer, auxiliaryClassFileVersion, executor);
+                    }
+                }
+            }
+
+            /**
+             * A callable that creates a deferred auxiliary type from its builder.
+             */
+            @HashCodeAndEqualsPlugin.Enhance
+            protected static class DeferredCreation implements Callable<DynamicType> {
+
+                /**
+                 * The builder of the auxiliary type.
+                 */
+                private final DynamicType.Builder<?> builder;
+
+                /**
+                 * Creates a new deferred creation.
+                 *
+                 * @param builder The builder of the auxiliary type.
+                 */
+                protected DeferredCreation(DynamicType.Builder<?> builder) {
+                    this.builder = builder;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                public DynamicType call() {
+                    return builder.make();
+                }
             }
         }
     }
@@ -20,6 +20,7 @@ import net.bytebuddy.description.field.FieldDescription;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.description.type.TypeList;
+import net.bytebuddy.dynamic.NexusAccessor;
 import net.bytebuddy.dynamic.scaffold.FieldLocator;
 import net.bytebuddy.dynamic.scaffold.InstrumentedType;
 import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
@@ -73,6 +74,16 @@ public abstract class InvocationHandlerAdapter implements Implementation {
      */
     private static final boolean PRIVILEGED = true;
 
+    /**
+     * Indicates that a cached {@link java.lang.reflect.Method} should be resolved as a field value.
+     */
+    private static final boolean STATIC = false;
+
+    /**
+     * Indicates that a cached {@link java.lang.reflect.Method} should be resolved as a dynamic constant if possible.
+     */
+    private static final boolean DYNAMIC = true;
+
     /**
      * The name of the field for storing an invocation handler.
      */
@@ -95,6 +106,12 @@ public abstract class InvocationHandlerAdapter implements Implementation {
      */
     protected final boolean privileged;
 
+    /**
+     * Determines if cached {@link java.lang.reflect.Method} instances are resolved as dynamic constants if the
+     * instrumented type's class file version supports such constants.
+     */
+    protected final boolean dynamic;
+
     /**
      * Creates a new invocation handler for a given field.
      *
@@ -102,12 +119,15 @@ public abstract class InvocationHandlerAdapter implements Implementation {
      * @param cached     Determines if the {@link java.lang.reflect.Method} instances that are handed to the
      *                   intercepted methods are cached in {@code static} fields.
      * @param privileged Determines if the {@link java.lang.reflect.Method} instances are retrieved by using an {@link java.security.AccessController}.
+     * @param dynamic    Determines if cached {@link java.lang.reflect.Method} instances are resolved as dynamic constants if the
+     *                   instrumented type's class file version supports such constants.
      * @param assigner   The assigner to apply when defining this implementation.
      */
-    protected InvocationHandlerAdapter(String fieldName, boolean cached, boolean privileged, Assigner assigner) {
+    protected InvocationHandlerAdapter(String fieldName, boolean cached, boolean privileged, boolean dynamic, Assigner assigner) {
         this.fieldName = fieldName;
         this.cached = cached;
         this.privileged = privileged;
+        this.dynamic = dynamic;
         this.assigner = assigner;
     }
 
@@ -131,7 +151,35 @@ public abstract class InvocationHandlerAdapter implements Implementation {
      * @return An implementation that delegates all method interceptions to the given invocation handler.
      */
     public static InvocationHandlerAdapter of(InvocationHandler invocationHandler, String fieldName) {
-        return new ForInstance(fieldName, CACHED, UNPRIVILEGED, Assigner.DEFAULT, invocationHandler);
+        return new ForInstance(fieldName, CACHED, UNPRIVILEGED, STATIC, Assigner.DEFAULT, invocationHandler, ForInstance.FIELD);
+    }
+
+    /**
+     * <p>
+     * Creates an implementation for any instance of an {@link java.lang.reflect.InvocationHandler} that delegates
+     * all method interceptions to the given instance. Other than {@link InvocationHandlerAdapter#of(InvocationHandler)}, the
+     * invocation handler is not stored in a field but is loaded from a dynamic constant of the instrumented type's constant pool
+     * which is resolved from Byte Buddy's {@link net.bytebuddy.dynamic.Nexus} upon its first use. The handler is defined within
+     * the nexus once the instrumented type is loaded without reflectively accessing this type. Furthermore, any
+     * {@link java.lang.reflect.Method} instance is cached as a dynamic constant as if {@link InvocationHandlerAdapter#withDynamicMethodCache()}
+     * was specified.
+     * </p>
+     * <p>
+     * <b>Important</b>: Dynamic constants are only supported by class files of at least Java 11. Furthermore, the nexus must be
+     * visible to the instrumented type. See {@link net.bytebuddy.dynamic.NexusAccessor.ConstantValue} for details.
+     * </p>
+     *
+     * @param invocationHandler The invocation handler to which all method calls are delegated.
+     * @return An implementation that delegates all method interceptions to the given invocation handler.
+     */
+    public static InvocationHandlerAdapter ofDynamic(InvocationHandler invocationHandler) {
+        return new ForInstance(ForInstance.PREFIX + "$" + RandomString.make(),
+                CACHED,
+                UNPRIVILEGED,
+                DYNAMIC,
+                Assigner.DEFAULT,
+                invocationHandler,
+                ForInstance.CONSTANT);
     }
 
     /**
@@ -158,7 +206,7 @@ public abstract class InvocationHandlerAdapter implements Implementation {
      * @return An implementation that delegates all method interceptions to an instance field of the given name.
      */
     public static InvocationHandlerAdapter toField(String name, FieldLocator.Factory fieldLocatorFactory) {
-        return new ForField(name, CACHED, UNPRIVILEGED, Assigner.DEFAULT, fieldLocatorFactory);
+        return new ForField(name, CACHED, UNPRIVILEGED, STATIC, Assigner.DEFAULT, fieldLocatorFactory);
     }
 
     /**
@@ -189,6 +237,18 @@ public abstract class InvocationHandlerAdapter implements Implementation {
      */
     public abstract WithoutPrivilegeConfiguration withoutMethodCache();
 
+    /**
+     * By default, any {@link java.lang.reflect.Method} instance that is handed over to an
+     * {@link java.lang.reflect.InvocationHandler} is cached in a static field. By invoking this method, the
+     * method instance is instead resolved as a dynamic constant of the instrumented type's constant pool such that
+     * no field is added and the type initializer does not resolve the method eagerly. Dynamic constants are only
+     * supported by class files of at least Java 11. For older class files, a static field is used as a cache. A
+     * privileged lookup is always cached in a static field.
+     *
+     * @return A similar invocation handler adapter that caches method instances as dynamic constants where possible.
+     */
+    public abstract WithoutPrivilegeConfiguration withDynamicMethodCache();
+
     /**
      * Configures an assigner to use with this invocation handler adapter.
      *
@@ -210,15 +270,13 @@ public abstract class InvocationHandlerAdapter implements Implementation {
      * @param methodVisitor         The method visitor for writing the byte code to.
      * @param implementationContext The implementation context for the current implementation.
      * @param instrumentedMethod    The method that is instrumented.
-     * @param preparingManipulation A stack manipulation that applies any preparation to the operand stack.
-     * @param fieldDescription      The field that contains the value for the invocation handler.
+     * @param invocationHandler     A stack manipulation that loads the invocation handler onto the operand stack.
      * @return The size of the applied assignment.
      */
     protected ByteCodeAppender.Size apply(MethodVisitor methodVisitor,
                                           Context implementationContext,
                                           MethodDescription instrumentedMethod,
-                                          StackManipulation preparingManipulation,
-                                          FieldDescription fieldDescription) {
+                                          StackManipulation invocationHandler) {
         if (instrumentedMethod.isStatic()) {
             throw new IllegalStateException("It is not possible to apply an invocation handler onto the static method " + instrumentedMethod);
         }
@@ -226,10 +284,9 @@ public abstract class InvocationHandlerAdapter implements Implementation {
                 ? MethodConstant.ofPrivileged(instrumentedMethod.asDefined())
                 : MethodConstant.of(instrumentedMethod.asDefined());
         StackManipulation.Size stackSize = new StackManipulation.Compound(
-                preparingManipulation,
-                FieldAccess.forField(fieldDescription).read(),
+                invocationHandler,
                 MethodVariableAccess.loadThis(),
-                cached ? methodConstant.cached() : methodConstant,
+                cached ? (dynamic ? methodConstant.cachedDynamic() : methodConstant.cached()) : methodConstant,
                 ArrayFactory.forType(TypeDescription.Generic.OBJECT).withValues(argumentValuesOf(instrumentedMethod)),
                 MethodInvocation.invoke(INVOCATION_HANDLER_TYPE.getDeclaredMethods().filter(isAbstract()).getOnly()),
                 assigner.assign(TypeDescription.Generic.OBJECT, instrumentedMethod.getReturnType(), Assigner.Typing.DYNAMIC),
@@ -269,7 +326,7 @@ public abstract class InvocationHandlerAdapter implements Implementation {
 
     /**
      * An implementation of an {@link net.bytebuddy.implementation.InvocationHandlerAdapter} that delegates method
-     * invocations to an adapter that is stored in a static field.
+     * invocations to an adapter that is stored in a static field or that is loaded from a dynamic constant.
      */
     @HashCodeAndEqualsPlugin.Enhance
     protected static class ForInstance extends InvocationHandlerAdapter implements WithoutPrivilegeConfiguration {
@@ -279,11 +336,26 @@ public abstract class InvocationHandlerAdapter implements Implementation {
          */
         private static final String PREFIX = "invocationHandler";
 
+        /**
+         * Indicates that the invocation handler is stored in a {@code static} field.
+         */
+        private static final boolean FIELD = false;
+
+        /**
+         * Indicates that the invocation handler is loaded from a dynamic constant.
+         */
+        private static final boolean CONSTANT = true;
+
         /**
          * The invocation handler to which method interceptions are to be delegated.
          */
         protected final InvocationHandler invocationHandler;
 
+        /**
+         * Determines if the invocation handler is loaded from a dynamic constant instead of a {@code static} field.
+         */
+        protected final boolean constant;
+
         /**
          * Creates a new invocation handler adapter for delegating invocations to an invocation handler that is stored
          * in a static field.
@@ -293,34 +365,51 @@ public abstract class InvocationHandlerAdapter implements Implementation {
          *                          intercepted methods are cached in {@code static} fields.
          * @param privileged        Determines if the {@link java.lang.reflect.Method} instances are retrieved by
          *                          using an {@link java.security.AccessController}.
+         * @param dynamic           Determines if cached {@link java.lang.reflect.Method} instances are resolved as
+         *                          dynamic constants if the instrumented type's class file version supports such constants.
          * @param assigner          The assigner to apply when defining this implementation.
          * @param invocationHandler The invocation handler to which all method calls are delegated.
+         * @param constant          Determines if the invocation handler is loaded from a dynamic constant instead of a {@code static} field.
          */
-        protected ForInstance(String fieldName, boolean cached, boolean privileged, Assigner assigner, InvocationHandler invocationHandler) {
-            super(fieldName, cached, privileged, assigner);
+        protected ForInstance(String fieldName,
+                              boolean cached,
+                              boolean privileged,
+                              boolean dynamic,
+                              Assigner assigner,
+                              InvocationHandler invocationHandler,
+                              boolean constant) {
+            super(fieldName, cached, privileged, dynamic, assigner);
             this.invocationHandler = invocationHandler;
+            this.constant = constant;
         }
 
         @Override
         public WithoutPrivilegeConfiguration withoutMethodCache() {
-            return new ForInstance(fieldName, UNCACHED, privileged, assigner, invocationHandler);
+            return new ForInstance(fieldName, UNCACHED, privileged, dynamic, assigner, invocationHandler, constant);
+        }
+
+        @Override
+        public WithoutPrivilegeConfiguration withDynamicMethodCache() {
+            return new ForInstance(fieldName, CACHED, privileged, DYNAMIC, assigner, invocationHandler, constant);
         }
 
         @Override
         public Implementation withAssigner(Assigner assigner) {
-            return new ForInstance(fieldName, cached, privileged, assigner, invocationHandler);
+            return new ForInstance(fieldName, cached, privileged, dynamic, assigner, invocationHandler, constant);
         }
 
         @Override
         public AssignerConfigurable withPrivilegedLookup() {
-            return new ForInstance(fieldName, cached, PRIVILEGED, assigner, invocationHandler);
+            return new ForInstance(fieldName, cached, PRIVILEGED, dynamic, assigner, invocationHandler, constant);
         }
 
         /**
          * {@inheritDoc}
          */
         public InstrumentedType prepare(InstrumentedType instrumentedType) {
-            return instrumentedType
+            return constant
+                    ? instrumentedType.withInitializer(new NexusAccessor.ConstantInitializer(fieldName, invocationHandler))
+                    : instrumentedType
                     .withField(new FieldDescription.Token(fieldName,
                             Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC | Opcodes.ACC_VOLATILE | Opcodes.ACC_SYNTHETIC,
                             INVOCATION_HANDLER_TYPE))
@@ -361,8 +450,9 @@ public abstract class InvocationHandlerAdapter implements Implementation {
                 return ForInstance.this.apply(methodVisitor,
                         implementationContext,
                         instrumentedMethod,
-                        StackManipulation.Trivial.INSTANCE,
-                        instrumentedType.getDeclaredFields().filter(named(fieldName).and(genericFieldType(INVOCATION_HANDLER_TYPE))).getOnly());
+                        constant
+                                ? new NexusAccessor.ConstantValue(fieldName, INVOCATION_HANDLER_TYPE.asErasure())
+                                : FieldAccess.forField(instrumentedType.getDeclaredFields().filter(named(fieldName).and(genericFieldType(INVOCATION_HANDLER_TYPE))).getOnly()).read());
             }
         }
     }
@@ -387,27 +477,34 @@ public abstract class InvocationHandlerAdapter implements Implementation {
          *                            intercepted methods are cached in {@code static} fields.
          * @param privileged          Determines if the {@link java.lang.reflect.Method} instances are retrieved by using
          *                            an {@link java.security.AccessController}.
+         * @param dynamic             Determines if cached {@link java.lang.reflect.Method} instances are resolved as
+         *                            dynamic constants if the instrumented type's class file version supports such constants.
          * @param assigner            The assigner to apply when defining this implementation.
          * @param fieldLocatorFactory The field locator factory to use.
          */
-        protected ForField(String fieldName, boolean cached, boolean privileged, Assigner assigner, FieldLocator.Factory fieldLocatorFactory) {
-            super(fieldName, cached, privileged, assigner);
+        protected ForField(String fieldName, boolean cached, boolean privileged, boolean dynamic, Assigner assigner, FieldLocator.Factory fieldLocatorFactory) {
+            super(fieldName, cached, privileged, dynamic, assigner);
             this.fieldLocatorFactory = fieldLocatorFactory;
         }
 
         @Override
         public WithoutPrivilegeConfiguration withoutMethodCache() {
-            return new ForField(fieldName, UNCACHED, privileged, assigner, fieldLocatorFactory);
+            return new ForField(fieldName, UNCACHED, privileged, dynamic, assigner, fieldLocatorFactory);
+        }
+
+        @Override
+        public WithoutPrivilegeConfiguration withDynamicMethodCache() {
+            return new ForField(fieldName, CACHED, privileged, DYNAMIC, assigner, fieldLocatorFactory);
         }
 
         @Override
         public Implementation withAssigner(Assigner assigner) {
-            return new ForField(fieldName, cached, privileged, assigner, fieldLocatorFactory);
+            return new ForField(fieldName, cached, privileged, dynamic, assigner, fieldLocatorFactory);
         }
 
         @Override
         public AssignerConfigurable withPrivilegedLookup() {
-            return new ForField(fieldName, cached, PRIVILEGED, assigner, fieldLocatorFactory);
+            return new ForField(fieldName, cached, PRIVILEGED, dynamic, assigner, fieldLocatorFactory);
         }
 
         /**
@@ -457,10 +554,9 @@ public abstract class InvocationHandlerAdapter implements Implementation {
                 return ForField.this.apply(methodVisitor,
                         implementationContext,
                         instrumentedMethod,
-                        fieldDescription.isStatic()
+                        new StackManipulation.Compound(fieldDescription.isStatic()
                                 ? StackManipulation.Trivial.INSTANCE
-                                : MethodVariableAccess.loadThis(),
-                        fieldDescription);
+                                : MethodVariableAccess.loadThis(), FieldAccess.forField(fieldDescription).read()));
             }
         }
     }
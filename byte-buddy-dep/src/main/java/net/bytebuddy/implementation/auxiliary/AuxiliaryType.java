@@ -55,6 +55,34 @@ public interface AuxiliaryType {
      */
     DynamicType make(String auxiliaryTypeName, ClassFileVersion classFileVersion, MethodAccessorFactory methodAccessorFactory);
 
+    /**
+     * <p>
+     * An auxiliary type that is described by a builder before its class file is written. This allows for writing the
+     * auxiliary type's class file concurrently to the instrumented type and to other auxiliary types.
+     * </p>
+     * <p>
+     * The builder is created on the thread that creates the instrumented type while only {@link DynamicType.Builder#make()} is
+     * invoked on another thread. Therefore, any registration with the supplied method accessor factory must be completed when
+     * the builder is returned and no {@link net.bytebuddy.implementation.Implementation} that is applied by the builder may access
+     * the method accessor factory when its byte code is appended. Furthermore, {@link DynamicType.Builder#toTypeDescription()} must
+     * declare any member that the instrumented type references, i.e. members that are only added during an implementation's
+     * preparation or by a constructor strategy must remain internal to the auxiliary type. Creating the class file then only
+     * reads the builder's immutable state and type descriptions such that it does not interfere with the instrumented type.
+     * </p>
+     */
+    interface Deferrable extends AuxiliaryType {
+
+        /**
+         * Creates a builder for this auxiliary type which is fully described by {@link DynamicType.Builder#toTypeDescription()}.
+         *
+         * @param auxiliaryTypeName     The fully qualified binary name for this auxiliary type.
+         * @param classFileVersion      The class file version the auxiliary class should be written in.
+         * @param methodAccessorFactory A factory for accessor methods.
+         * @return A builder for creating this auxiliary type.
+         */
+        DynamicType.Builder<?> builder(String auxiliaryTypeName, ClassFileVersion classFileVersion, MethodAccessorFactory methodAccessorFactory);
+    }
+
     /**
      * Representation of a naming strategy for an auxiliary type.
      */
@@ -67,7 +67,7 @@ import static net.bytebuddy.matcher.ElementMatchers.isConstructor;
  * </ol>
  */
 @HashCodeAndEqualsPlugin.Enhance
-public class MethodCallProxy implements AuxiliaryType {
+public class MethodCallProxy implements AuxiliaryType.Deferrable {
 
     /**
      * The prefix of the fields holding the original method invocation's arguments.
@@ -151,6 +151,15 @@ public class MethodCallProxy implements AuxiliaryType {
     public DynamicType make(String auxiliaryTypeName,
                             ClassFileVersion classFileVersion,
                             MethodAccessorFactory methodAccessorFactory) {
+        return builder(auxiliaryTypeName, classFileVersion, methodAccessorFactory).make();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public DynamicType.Builder<?> builder(String auxiliaryTypeName,
+                                          ClassFileVersion classFileVersion,
+                                          MethodAccessorFactory methodAccessorFactory) {
         MethodDescription accessorMethod = methodAccessorFactory.registerAccessorFor(specialMethodInvocation, MethodAccessorFactory.AccessType.DEFAULT);
         LinkedHashMap<String, TypeDescription> parameterFields = extractFields(accessorMethod);
         DynamicType.Builder<?> builder = new ByteBuddy(classFileVersion)
@@ -166,7 +175,7 @@ public class MethodCallProxy implements AuxiliaryType {
         for (Map.Entry<String, TypeDescription> field : parameterFields.entrySet()) {
             builder = builder.defineField(field.getKey(), field.getValue(), Visibility.PRIVATE);
         }
-        return builder.make();
+        return builder;
     }
 
     /**
@@ -41,7 +41,7 @@ import static net.bytebuddy.matcher.ElementMatchers.named;
 /**
  * A {@link PrivilegedExceptionAction} to lookup a method constant using an {@link java.security.AccessController}.
  */
-public enum PrivilegedMemberLookupAction implements AuxiliaryType {
+public enum PrivilegedMemberLookupAction implements AuxiliaryType.Deferrable {
 
     /**
      * Looks up a method using {@link Class#getDeclaredMethod(String, Class[])}.
@@ -147,6 +147,15 @@ public enum PrivilegedMemberLookupAction implements AuxiliaryType {
     public DynamicType make(String auxiliaryTypeName,
                             ClassFileVersion classFileVersion,
                             MethodAccessorFactory methodAccessorFactory) {
+        return builder(auxiliaryTypeName, classFileVersion, methodAccessorFactory).make();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public DynamicType.Builder<?> builder(String auxiliaryTypeName,
+                                          ClassFileVersion classFileVersion,
+                                          MethodAccessorFactory methodAccessorFactory) {
         Implementation.Composable constructor = MethodCall.invoke(DEFAULT_CONSTRUCTOR).andThen(FieldAccessor.ofField(TYPE_FIELD).setsArgumentAt(0));
         int index = 1;
         for (String field : fields.keySet()) {
@@ -168,6 +177,6 @@ public enum PrivilegedMemberLookupAction implements AuxiliaryType {
         for (Map.Entry<String, Class<?>> entry : fields.entrySet()) {
             builder = builder.defineField(entry.getKey(), entry.getValue(), Visibility.PRIVATE);
         }
-        return builder.make();
+        return builder;
     }
 }
@@ -30,7 +30,7 @@ import java.util.Collections;
  * A trivial type that extends {@link java.lang.Object} without defining any fields, methods or constructors.
  * This type is meant to be used as a marker type only.
  */
-public enum TrivialType implements AuxiliaryType {
+public enum TrivialType implements AuxiliaryType.Deferrable {
 
     /**
      * A trivial type that defines the {@link SignatureRelevant} annotation.
@@ -62,6 +62,15 @@ public enum TrivialType implements AuxiliaryType {
     public DynamicType make(String auxiliaryTypeName,
                             ClassFileVersion classFileVersion,
                             MethodAccessorFactory methodAccessorFactory) {
+        return builder(auxiliaryTypeName, classFileVersion, methodAccessorFactory).make();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public DynamicType.Builder<?> builder(String auxiliaryTypeName,
+                                          ClassFileVersion classFileVersion,
+                                          MethodAccessorFactory methodAccessorFactory) {
         return new ByteBuddy(classFileVersion)
                 .with(TypeValidation.DISABLED)
                 .with(MethodGraph.Empty.INSTANCE) // avoid parsing the graph
@@ -70,7 +79,6 @@ public enum TrivialType implements AuxiliaryType {
                         ? Collections.singletonList(AnnotationDescription.Builder.ofType(SignatureRelevant.class).build(false))
                         : Collections.<AnnotationDescription>emptyList())
                 .name(auxiliaryTypeName)
-                .modifiers(DEFAULT_TYPE_MODIFIER)
-                .make();
+                .modifiers(DEFAULT_TYPE_MODIFIER);
     }
 }
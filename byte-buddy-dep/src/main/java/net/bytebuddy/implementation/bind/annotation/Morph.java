@@ -305,7 +305,7 @@ public @interface Morph {
          * A proxy that implements the installed interface in order to allow for a morphed super method invocation.
          */
         @HashCodeAndEqualsPlugin.Enhance
-        protected static class RedirectionProxy implements AuxiliaryType, StackManipulation {
+        protected static class RedirectionProxy implements AuxiliaryType.Deferrable, StackManipulation {
 
             /**
              * The name of the field that carries an instance for invoking a super method on.
@@ -366,6 +366,15 @@ public @interface Morph {
             public DynamicType make(String auxiliaryTypeName,
                                     ClassFileVersion classFileVersion,
                                     MethodAccessorFactory methodAccessorFactory) {
+                return builder(auxiliaryTypeName, classFileVersion, methodAccessorFactory).make();
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public DynamicType.Builder<?> builder(String auxiliaryTypeName,
+                                                  ClassFileVersion classFileVersion,
+                                                  MethodAccessorFactory methodAccessorFactory) {
                 return new ByteBuddy(classFileVersion)
                         .with(TypeValidation.DISABLED)
                         .subclass(morphingType, ConstructorStrategy.Default.NO_CONSTRUCTORS)
@@ -379,8 +388,7 @@ public @interface Morph {
                                 ? StaticFieldConstructor.INSTANCE
                                 : new InstanceFieldConstructor(instrumentedType))
                         .method(ElementMatchers.<MethodDescription>isAbstract().and(isDeclaredBy(morphingType)))
-                        .intercept(new MethodCall(methodAccessorFactory.registerAccessorFor(specialMethodInvocation, MethodAccessorFactory.AccessType.DEFAULT), assigner))
-                        .make();
+                        .intercept(new MethodCall(methodAccessorFactory.registerAccessorFor(specialMethodInvocation, MethodAccessorFactory.AccessType.DEFAULT), assigner));
             }
 
             /**
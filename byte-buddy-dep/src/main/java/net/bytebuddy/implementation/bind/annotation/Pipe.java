@@ -200,7 +200,7 @@ public @interface Pipe {
          * {@link net.bytebuddy.implementation.bind.annotation.Pipe} annotation.
          */
         @HashCodeAndEqualsPlugin.Enhance
-        protected static class Redirection implements AuxiliaryType, StackManipulation {
+        protected static class Redirection implements AuxiliaryType.Deferrable, StackManipulation {
 
             /**
              * The prefix for naming fields to store method arguments.
@@ -278,6 +278,15 @@ public @interface Pipe {
             public DynamicType make(String auxiliaryTypeName,
                                     ClassFileVersion classFileVersion,
                                     MethodAccessorFactory methodAccessorFactory) {
+                return builder(auxiliaryTypeName, classFileVersion, methodAccessorFactory).make();
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            public DynamicType.Builder<?> builder(String auxiliaryTypeName,
+                                                  ClassFileVersion classFileVersion,
+                                                  MethodAccessorFactory methodAccessorFactory) {
                 LinkedHashMap<String, TypeDescription> parameterFields = extractFields(sourceMethod);
                 DynamicType.Builder<?> builder = new ByteBuddy(classFileVersion)
                         .with(TypeValidation.DISABLED)
@@ -292,7 +301,7 @@ public @interface Pipe {
                 for (Map.Entry<String, TypeDescription> field : parameterFields.entrySet()) {
                     builder = builder.defineField(field.getKey(), field.getValue(), Visibility.PRIVATE);
                 }
-                return builder.make();
+                return builder;
             }
 
             /**
@@ -15,6 +15,7 @@
  */
 package net.bytebuddy.implementation.bytecode.constant;
 
+import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.implementation.Implementation;
@@ -26,6 +27,7 @@ import net.bytebuddy.implementation.bytecode.assign.TypeCasting;
 import net.bytebuddy.implementation.bytecode.collection.ArrayFactory;
 import net.bytebuddy.implementation.bytecode.member.FieldAccess;
 import net.bytebuddy.implementation.bytecode.member.MethodInvocation;
+import net.bytebuddy.utility.JavaConstant;
 import org.objectweb.asm.MethodVisitor;
 
 import java.lang.reflect.Constructor;
@@ -181,6 +183,13 @@ public abstract class MethodConstant implements StackManipulation {
             return Illegal.INSTANCE;
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        public StackManipulation cachedDynamic() {
+            return Illegal.INSTANCE;
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -211,6 +220,15 @@ public abstract class MethodConstant implements StackManipulation {
          * @return A cached version of the method constant that is represented by this instance.
          */
         StackManipulation cached();
+
+        /**
+         * Returns this method constant as a dynamic constant that is resolved once by the JVM and stored in the constant pool
+         * of the instrumented type. Dynamic constants are only supported by class files of at least version 11. For any
+         * older class file version, the returned stack manipulation behaves as if {@link CanCache#cached()} was used.
+         *
+         * @return A version of the method constant that is represented by a dynamic constant if possible.
+         */
+        StackManipulation cachedDynamic();
     }
 
     /**
@@ -269,6 +287,17 @@ public abstract class MethodConstant implements StackManipulation {
         public StackManipulation cached() {
             return new CachedMethod(this);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public StackManipulation cachedDynamic() {
+            List<Object> constants = new ArrayList<Object>(methodDescription.getParameters().size() + 2);
+            constants.add(methodDescription.getDeclaringType());
+            constants.add(methodDescription.getInternalName());
+            constants.addAll(methodDescription.getParameters().asTypeList().asErasures());
+            return new CachedDynamic(JavaConstant.Dynamic.ofInvocation(accessorMethod(), constants), cached());
+        }
     }
 
     /**
@@ -327,6 +356,16 @@ public abstract class MethodConstant implements StackManipulation {
         public StackManipulation cached() {
             return new CachedConstructor(this);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public StackManipulation cachedDynamic() {
+            List<Object> constants = new ArrayList<Object>(methodDescription.getParameters().size() + 1);
+            constants.add(methodDescription.getDeclaringType());
+            constants.addAll(methodDescription.getParameters().asTypeList().asErasures());
+            return new CachedDynamic(JavaConstant.Dynamic.ofInvocation(accessorMethod(), constants), cached());
+        }
     }
 
     /**
@@ -407,6 +446,13 @@ public abstract class MethodConstant implements StackManipulation {
                     : new CachedMethod(this);
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        public StackManipulation cachedDynamic() {
+            return cached();
+        }
+
         @Override
         public int hashCode() {
             return methodDescription.hashCode();
@@ -537,4 +583,64 @@ public abstract class MethodConstant implements StackManipulation {
             return constructorConstant.equals(cachedConstructor.constructorConstant);
         }
     }
+
+    /**
+     * Represents a method constant that is resolved as a dynamic constant if the instrumented type's class file version
+     * supports such constants and that is otherwise resolved by a fallback stack manipulation.
+     */
+    protected static class CachedDynamic implements StackManipulation {
+
+        /**
+         * The dynamic constant that represents the method constant.
+         */
+        private final JavaConstant constant;
+
+        /**
+         * The stack manipulation to apply if dynamic constants are not supported by the instrumented type's class file version.
+         */
+        private final StackManipulation fallback;
+
+        /**
+         * Creates a new cached dynamic method constant.
+         *
+         * @param constant The dynamic constant that represents the method constant.
+         * @param fallback The stack manipulation to apply if dynamic constants are not supported by the instrumented type's class file version.
+         */
+        protected CachedDynamic(JavaConstant constant, StackManipulation fallback) {
+            this.constant = constant;
+            this.fallback = fallback;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean isValid() {
+            return fallback.isValid();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public Size apply(MethodVisitor methodVisitor, Implementation.Context implementationContext) {
+            return (implementationContext.getClassFileVersion().isAtLeast(ClassFileVersion.JAVA_V11)
+                    ? new JavaConstantValue(constant)
+                    : fallback).apply(methodVisitor, implementationContext);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * constant.hashCode() + fallback.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            } else if (other == null || getClass() != other.getClass()) {
+                return false;
+            }
+            CachedDynamic cachedDynamic = (CachedDynamic) other;
+            return constant.equals(cachedDynamic.constant) && fallback.equals(cachedDynamic.fallback);
+        }
+    }
 }
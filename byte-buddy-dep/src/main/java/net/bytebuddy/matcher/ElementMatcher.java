@@ -115,6 +115,24 @@ public interface ElementMatcher<T> {
                 this.right = right;
             }
 
+            /**
+             * Returns the first matcher of this conjunction.
+             *
+             * @return The first matcher of this conjunction.
+             */
+            protected ElementMatcher<? super W> getLeft() {
+                return left;
+            }
+
+            /**
+             * Returns the second matcher of this conjunction.
+             *
+             * @return The second matcher of this conjunction.
+             */
+            protected ElementMatcher<? super W> getRight() {
+                return right;
+            }
+
             /**
              * {@inheritDoc}
              */
@@ -153,6 +171,24 @@ public interface ElementMatcher<T> {
                 this.right = right;
             }
 
+            /**
+             * Returns the first matcher of this disjunction.
+             *
+             * @return The first matcher of this disjunction.
+             */
+            protected ElementMatcher<? super W> getLeft() {
+                return left;
+            }
+
+            /**
+             * Returns the second matcher of this disjunction.
+             *
+             * @return The second matcher of this disjunction.
+             */
+            protected ElementMatcher<? super W> getRight() {
+                return right;
+            }
+
             /**
              * {@inheritDoc}
              */
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2014 - Present Rafael Winterhalter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.bytebuddy.matcher;
+
+import net.bytebuddy.build.HashCodeAndEqualsPlugin;
+import net.bytebuddy.description.method.MethodDescription;
+
+import java.util.*;
+
+/**
+ * <p>
+ * An index of values that are registered together with an element matcher for named elements. For any matcher that
+ * can only match elements with a fixed set of names, the value is only considered for these names such that a lookup
+ * does not require to evaluate matchers that cannot possibly match an element. Any other value is considered for all names.
+ * </p>
+ * <p>
+ * Names are compared to an element's {@link net.bytebuddy.description.NamedElement#getActualName()}, similarly to a
+ * {@link NameMatcher}. A lookup always retains the order in which values were registered.
+ * </p>
+ *
+ * @param <T> The type of the indexed values.
+ */
+@HashCodeAndEqualsPlugin.Enhance
+public class ElementMatcherIndex<T> {
+
+    /**
+     * The values for all indexed names, including the values that are not indexed, in their registration order.
+     */
+    private final Map<String, List<T>> indexed;
+
+    /**
+     * The values that are not indexed in their registration order.
+     */
+    private final List<T> residual;
+
+    /**
+     * Creates a new element matcher index.
+     *
+     * @param indexed  The values for all indexed names, including the values that are not indexed, in their registration order.
+     * @param residual The values that are not indexed in their registration order.
+     */
+    protected ElementMatcherIndex(Map<String, List<T>> indexed, List<T> residual) {
+        this.indexed = indexed;
+        this.residual = residual;
+    }
+
+    /**
+     * Resolves the names of any element that the supplied matcher can possibly match. A matcher can only be resolved if it
+     * constrains an element's name by a {@link NameMatcher} that is exact, i.e. that is based on a {@link StringMatcher} of
+     * mode {@link StringMatcher.Mode#EQUALS_FULLY} or on a {@link StringSetMatcher}, possibly in conjunction or disjunction
+     * with other matchers. A {@link MethodSortMatcher} for constructors or type initializers is resolved to the empty name. A resolved
+     * {@link LatentMatcher} for a field or method token is resolved to the name of the represented token.
+     *
+     * @param matcher The matcher to resolve.
+     * @return The names of all elements that the matcher can possibly match or {@code null} if the names cannot be determined.
+     */
+    public static Set<String> names(ElementMatcher<?> matcher) {
+        return names(matcher, false);
+    }
+
+    /**
+     * Resolves the names that a matcher can possibly match.
+     *
+     * @param matcher The matcher to resolve.
+     * @param value   {@code true} if the matcher is applied to a name itself and not to a named element.
+     * @return The names of all elements that the matcher can possibly match or {@code null} if the names cannot be determined.
+     */
+    private static Set<String> names(ElementMatcher<?> matcher, boolean value) {
+        if (matcher instanceof BooleanMatcher<?>) {
+            return ((BooleanMatcher<?>) matcher).matches(null)
+                    ? null
+                    : Collections.<String>emptySet();
+        } else if (matcher instanceof ElementMatcher.Junction.Conjunction<?>) {
+            Set<String> left = names(((ElementMatcher.Junction.Conjunction<?>) matcher).getLeft(), value);
+            Set<String> right = names(((ElementMatcher.Junction.Conjunction<?>) matcher).getRight(), value);
+            if (left == null) {
+                return right;
+            } else if (right == null) {
+                return left;
+            } else {
+                Set<String> names = new HashSet<String>(left);
+                names.retainAll(right);
+                return names;
+            }
+        } else if (matcher instanceof ElementMatcher.Junction.Disjunction<?>) {
+            Set<String> left = names(((ElementMatcher.Junction.Disjunction<?>) matcher).getLeft(), value);
+            if (left == null) {
+                return null;
+            }
+            Set<String> right = names(((ElementMatcher.Junction.Disjunction<?>) matcher).getRight(), value);
+            if (right == null) {
+                return null;
+            }
+            Set<String> names = new HashSet<String>(left);
+            names.addAll(right);
+            return names;
+        } else if (!value && matcher instanceof MethodSortMatcher<?>) {
+            MethodSortMatcher.Sort sort = ((MethodSortMatcher<?>) matcher).getSort();
+            return sort == MethodSortMatcher.Sort.CONSTRUCTOR || sort == MethodSortMatcher.Sort.TYPE_INITIALIZER
+                    ? Collections.singleton(MethodDescription.EMPTY_NAME)
+                    : null;
+        } else if (!value && matcher instanceof LatentMatcher.ForFieldToken.ResolvedMatcher) {
+            return Collections.singleton(((LatentMatcher.ForFieldToken.ResolvedMatcher) matcher).getSignatureToken().getName());
+        } else if (!value && matcher instanceof LatentMatcher.ForMethodToken.ResolvedMatcher) {
+            String name = ((LatentMatcher.ForMethodToken.ResolvedMatcher) matcher).getSignatureToken().getName();
+            return Collections.singleton(name.equals(MethodDescription.CONSTRUCTOR_INTERNAL_NAME) || name.equals(MethodDescription.TYPE_INITIALIZER_INTERNAL_NAME)
+                    ? MethodDescription.EMPTY_NAME
+                    : name);
+        } else if (!value && matcher instanceof NameMatcher<?>) {
+            return names(((NameMatcher<?>) matcher).getMatcher(), true);
+        } else if (value && matcher instanceof StringMatcher) {
+            return ((StringMatcher) matcher).getMode() == StringMatcher.Mode.EQUALS_FULLY
+                    ? Collections.singleton(((StringMatcher) matcher).getValue())
+                    : null;
+        } else if (value && matcher instanceof StringSetMatcher) {
+            return ((StringSetMatcher) matcher).getValues();
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Returns all values that might match an element of the given name in the order of their registration.
+     *
+     * @param name The element's actual name.
+     * @return A list of all values which matcher might match an element of the given name.
+     */
+    public List<T> get(String name) {
+        List<T> values = indexed.get(name);
+        return values == null
+                ? residual
+                : values;
+    }
+
+    /**
+     * Returns {@code true} if no registered matcher can possibly match an element with the given name.
+     *
+     * @param name The element's actual name.
+     * @return {@code true} if no registered matcher can possibly match an element with the given name.
+     */
+    public boolean isEmpty(String name) {
+        return get(name).isEmpty();
+    }
+
+    /**
+     * Returns {@code true} if all registered matchers were indexed by name such that only elements of an indexed name can be matched.
+     *
+     * @return {@code true} if all registered matchers were indexed by name.
+     */
+    public boolean isComplete() {
+        return residual.isEmpty();
+    }
+
+    /**
+     * A builder for an element matcher index. A builder is not thread-safe and should not be shared.
+     *
+     * @param <S> The type of the indexed values.
+     */
+    public static class Builder<S> {
+
+        /**
+         * The values for all indexed names, including the values that are not indexed, in their registration order.
+         */
+        private final Map<String, List<S>> indexed;
+
+        /**
+         * The values that are not indexed in their registration order.
+         */
+        private final List<S> residual;
+
+        /**
+         * Creates a new builder for an element matcher index.
+         */
+        public Builder() {
+            indexed = new HashMap<String, List<S>>();
+            residual = new ArrayList<S>();
+        }
+
+        /**
+         * Appends a value to this index.
+         *
+         * @param matcher The matcher that determines the elements for which the value is relevant.
+         * @param value   The value to register.
+         * @return This builder.
+         */
+        public Builder<S> append(ElementMatcher<?> matcher, S value) {
+            Set<String> names = names(matcher);
+            if (names == null) {
+                residual.add(value);
+                for (List<S> values : indexed.values()) {
+                    values.add(value);
+                }
+            } else {
+                for (String name : names) {
+                    List<S> values = indexed.get(name);
+                    if (values == null) {
+                        values = new ArrayList<S>(residual);
+                        indexed.put(name, values);
+                    }
+                    values.add(value);
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Creates the element matcher index of all appended values.
+         *
+         * @return An element matcher index of all appended values.
+         */
+        public ElementMatcherIndex<S> build() {
+            Map<String, List<S>> indexed = new HashMap<String, List<S>>();
+            for (Map.Entry<String, List<S>> entry : this.indexed.entrySet()) {
+                indexed.put(entry.getKey(), Collections.unmodifiableList(new ArrayList<S>(entry.getValue())));
+            }
+            return new ElementMatcherIndex<S>(indexed, Collections.unmodifiableList(new ArrayList<S>(residual)));
+        }
+    }
+}
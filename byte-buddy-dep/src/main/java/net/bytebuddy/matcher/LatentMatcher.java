@@ -159,6 +159,15 @@ public interface LatentMatcher<T> {
                 this.signatureToken = signatureToken;
             }
 
+            /**
+             * Returns the signature token representing the matched field.
+             *
+             * @return The signature token representing the matched field.
+             */
+            protected FieldDescription.SignatureToken getSignatureToken() {
+                return signatureToken;
+            }
+
             /**
              * {@inheritDoc}
              */
@@ -215,6 +224,15 @@ public interface LatentMatcher<T> {
                 this.signatureToken = signatureToken;
             }
 
+            /**
+             * Returns the signature token representing the matched method.
+             *
+             * @return The signature token representing the matched method.
+             */
+            protected MethodDescription.SignatureToken getSignatureToken() {
+                return signatureToken;
+            }
+
             /**
              * {@inheritDoc}
              */
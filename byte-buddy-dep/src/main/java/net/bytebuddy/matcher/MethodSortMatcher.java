@@ -53,6 +53,15 @@ public class MethodSortMatcher<T extends MethodDescription> extends ElementMatch
         this.sort = sort;
     }
 
+    /**
+     * Returns the sort of method description to be matched by this element matcher.
+     *
+     * @return The sort of method description to be matched by this element matcher.
+     */
+    protected Sort getSort() {
+        return sort;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -47,6 +47,15 @@ public class NameMatcher<T extends NamedElement> extends ElementMatcher.Junction
         this.matcher = matcher;
     }
 
+    /**
+     * Returns the matcher that is applied to a byte code element's source code name.
+     *
+     * @return The matcher that is applied to a byte code element's source code name.
+     */
+    protected ElementMatcher<String> getMatcher() {
+        return matcher;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -46,6 +46,24 @@ public class StringMatcher extends ElementMatcher.Junction.AbstractBase<String>
         this.mode = mode;
     }
 
+    /**
+     * Returns the text value to match against.
+     *
+     * @return The text value to match against.
+     */
+    protected String getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the mode to apply for matching the given value against the matcher's input.
+     *
+     * @return The mode to apply for matching the given value against the matcher's input.
+     */
+    protected Mode getMode() {
+        return mode;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -39,6 +39,15 @@ public class StringSetMatcher extends ElementMatcher.Junction.AbstractBase<Strin
         this.values = values;
     }
 
+    /**
+     * Returns the values to check against.
+     *
+     * @return The values to check against.
+     */
+    protected Set<String> getValues() {
+        return values;
+    }
+
     @Override
     public boolean matches(String target) {
         return values.contains(target);
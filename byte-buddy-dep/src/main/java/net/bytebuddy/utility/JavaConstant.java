@@ -1530,24 +1530,27 @@ public interface JavaConstant {
         }
 
         /**
-         * Represents a constant that is resolved by invoking a {@code static} factory method.
+         * Represents a constant that is resolved by invoking a method. If the method is not {@code static}, it is invoked
+         * on the first constant which represents the method's receiver.
          *
          * @param method   The method to invoke to create the represented constant value.
-         * @param constant The method's constant arguments.
-         * @return A dynamic constant that is resolved by the supplied factory method.
+         * @param constant The method's constant arguments, preceded by its receiver if the method is not {@code static}.
+         * @return A dynamic constant that is resolved by the supplied method.
          */
         public static Dynamic ofInvocation(Method method, Object... constant) {
             return ofInvocation(method, Arrays.asList(constant));
         }
 
         /**
-         * Represents a constant that is resolved by invoking a {@code static} factory method.
+         * Represents a constant that is resolved by invoking a method. If the method is not {@code static}, it is invoked
+         * on the first constant which represents the method's receiver.
          *
          * @param method    The method to invoke to create the represented constant value.
-         * @param constants The constant values passed to the bootstrap method. Values can be represented either
-         *                  as {@link TypeDescription}, as {@link JavaConstant}, as {@link String} or a primitive
-         *                  {@code int}, {@code long}, {@code float} or {@code double} represented as wrapper type.
-         * @return A dynamic constant that is resolved by the supplied factory method.
+         * @param constants The constant values passed to the bootstrap method, preceded by the method's receiver if the method
+         *                  is not {@code static}. Values can be represented either as {@link TypeDescription}, as {@link JavaConstant},
+         *                  as {@link String} or a primitive {@code int}, {@code long}, {@code float} or {@code double} represented
+         *                  as wrapper type.
+         * @return A dynamic constant that is resolved by the supplied method.
          */
         public static Dynamic ofInvocation(Method method, List<?> constants) {
             return ofInvocation(new MethodDescription.ForLoadedMethod(method), constants);
@@ -1580,37 +1583,41 @@ public interface JavaConstant {
         }
 
         /**
-         * Represents a constant that is resolved by invoking a {@code static} factory method or a constructor.
+         * Represents a constant that is resolved by invoking a method or a constructor. If a method is not {@code static}, it
+         * is invoked on the first constant which represents the method's receiver.
          *
          * @param methodDescription The method or constructor to invoke to create the represented constant value.
-         * @param constant          The constant values passed to the bootstrap method. Values can be represented either
-         *                          as {@link TypeDescription}, as {@link JavaConstant}, as {@link String} or a primitive
-         *                          {@code int}, {@code long}, {@code float} or {@code double} represented as wrapper type.
-         * @return A dynamic constant that is resolved by the supplied factory method or constructor.
+         * @param constant          The constant values passed to the bootstrap method, preceded by the method's receiver if the method
+         *                          is not {@code static}. Values can be represented either as {@link TypeDescription}, as {@link JavaConstant},
+         *                          as {@link String} or a primitive {@code int}, {@code long}, {@code float} or {@code double} represented
+         *                          as wrapper type.
+         * @return A dynamic constant that is resolved by the supplied method or constructor.
          */
         public static Dynamic ofInvocation(MethodDescription.InDefinedShape methodDescription, Object... constant) {
             return ofInvocation(methodDescription, Arrays.asList(constant));
         }
 
         /**
-         * Represents a constant that is resolved by invoking a {@code static} factory method or a constructor.
+         * Represents a constant that is resolved by invoking a method or a constructor. If a method is not {@code static}, it
+         * is invoked on the first constant which represents the method's receiver.
          *
          * @param methodDescription The method or constructor to invoke to create the represented constant value.
-         * @param constants         The constant values passed to the bootstrap method. Values can be represented either
-         *                          as {@link TypeDescription}, as {@link JavaConstant}, as {@link String} or a primitive
-         *                          {@code int}, {@code long}, {@code float} or {@code double} represented as wrapper type.
-         * @return A dynamic constant that is resolved by the supplied factory method or constructor.
+         * @param constants         The constant values passed to the bootstrap method, preceded by the method's receiver if the method
+         *                          is not {@code static}. Values can be represented either as {@link TypeDescription}, as {@link JavaConstant},
+         *                          as {@link String} or a primitive {@code int}, {@code long}, {@code float} or {@code double} represented
+         *                          as wrapper type.
+         * @return A dynamic constant that is resolved by the supplied method or constructor.
          */
         public static Dynamic ofInvocation(MethodDescription.InDefinedShape methodDescription, List<?> constants) {
             if (!methodDescription.isConstructor() && methodDescription.getReturnType().represents(void.class)) {
-                throw new IllegalArgumentException("Bootstrap method is no constructor or non-void static factory: " + methodDescription);
+                throw new IllegalArgumentException("Bootstrap method is no constructor or non-void method: " + methodDescription);
             } else if (methodDescription.isVarArgs()
                 ? methodDescription.getParameters().size() + (methodDescription.isStatic() || methodDescription.isConstructor() ? 0 : 1) > constants.size() + 1
                 : methodDescription.getParameters().size() + (methodDescription.isStatic() || methodDescription.isConstructor() ? 0 : 1) != constants.size()) {
                 throw new IllegalArgumentException("Cannot assign " + constants + " to " + methodDescription);
             }
             List<Object> arguments = new ArrayList<Object>(constants.size());
-            arguments.add(new Handle(methodDescription.isConstructor() ? Opcodes.H_NEWINVOKESPECIAL : Opcodes.H_INVOKESTATIC,
+            arguments.add(new Handle(MethodHandle.HandleType.of(methodDescription).getIdentifier(),
                     methodDescription.getDeclaringType().getInternalName(),
                     methodDescription.getInternalName(),
                     methodDescription.getDescriptor(),
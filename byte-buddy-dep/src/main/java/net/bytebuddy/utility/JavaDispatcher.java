@@ -0,0 +1,392 @@
+/*
+ * Copyright 2014 - Present Rafael Winterhalter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.bytebuddy.utility;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import net.bytebuddy.description.method.MethodDescription;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.lang.annotation.*;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * A dispatcher for invoking methods of types that are not available on all VMs that Byte Buddy supports. A dispatcher is described by a
+ * proxy interface that is annotated with {@link Proxied} to name the target type. Every method of the proxy interface is bound to a
+ * public method of the target type with the same name, or with the name that is specified by {@link Proxied}. Unless a proxy method is
+ * annotated with {@link IsStatic}, its first parameter represents the instance the target method is invoked upon. Parameters whose type
+ * is not available on all VMs can be declared as {@link Object} and be annotated with {@link Proxied} to name the target parameter type.
+ * </p>
+ * <p>
+ * When a dispatcher is created, an implementation of the proxy interface is generated that invokes the target methods directly, such
+ * that invoking a dispatcher does neither box its arguments nor requires an access check as it is the case when using reflection. If
+ * such an implementation cannot be defined, a {@link Proxy} is returned that invokes the target methods reflectively. In both cases,
+ * exceptions that are thrown by the target methods are thrown by the dispatcher without being wrapped. To allow for this, a proxy
+ * method must declare any checked exception that is declared by its target method.
+ * </p>
+ * <p>
+ * <b>Important</b>: A dispatcher should be created once per proxy interface and be stored in a static field as each dispatcher
+ * defines its own class.
+ * </p>
+ */
+public class JavaDispatcher {
+
+    /**
+     * The name suffix of a generated dispatcher type.
+     */
+    private static final String SUFFIX = "$ByteBuddy$Dispatcher";
+
+    /**
+     * A dispatcher is not supposed to be constructed.
+     */
+    private JavaDispatcher() {
+        throw new UnsupportedOperationException("This class is a utility class and not supposed to be instantiated");
+    }
+
+    /**
+     * Creates a dispatcher for the supplied proxy interface where the target type is resolved by the proxy interface's class loader.
+     *
+     * @param proxy The proxy interface to implement.
+     * @param <T>   The type of the proxy interface.
+     * @return An implementation of the proxy interface that dispatches to the target type.
+     * @throws IllegalStateException If the target type or any of its target methods cannot be resolved.
+     */
+    public static <T> T of(Class<T> proxy) {
+        return of(proxy, proxy.getClassLoader());
+    }
+
+    /**
+     * Creates a dispatcher for the supplied proxy interface.
+     *
+     * @param proxy       The proxy interface to implement.
+     * @param classLoader The class loader to use for resolving the target type.
+     * @param <T>         The type of the proxy interface.
+     * @return An implementation of the proxy interface that dispatches to the target type.
+     * @throws IllegalStateException If the target type or any of its target methods cannot be resolved.
+     */
+    public static <T> T of(Class<T> proxy, ClassLoader classLoader) {
+        Map<Method, Method> targets = resolve(proxy, classLoader);
+        try {
+            return Factory.GENERATED.make(proxy, targets);
+        } catch (RuntimeException ignored) {
+            return Factory.REFLECTIVE.make(proxy, targets);
+        } catch (LinkageError ignored) {
+            return Factory.REFLECTIVE.make(proxy, targets);
+        }
+    }
+
+    /**
+     * Resolves the target methods of all methods of a proxy interface.
+     *
+     * @param proxy       The proxy interface to implement.
+     * @param classLoader The class loader to use for resolving the target type.
+     * @return A mapping of all methods of the proxy interface to their target methods.
+     */
+    protected static Map<Method, Method> resolve(Class<?> proxy, ClassLoader classLoader) {
+        if (!proxy.isInterface()) {
+            throw new IllegalArgumentException("Not an interface: " + proxy);
+        }
+        Proxied proxied = proxy.getAnnotation(Proxied.class);
+        if (proxied == null) {
+            throw new IllegalArgumentException("Expected " + proxy + " to be annotated with " + Proxied.class.getName());
+        }
+        Class<?> type = load(proxied.value(), classLoader);
+        Map<Method, Method> targets = new LinkedHashMap<Method, Method>();
+        for (Method method : proxy.getMethods()) {
+            boolean isStatic = method.isAnnotationPresent(IsStatic.class);
+            Class<?>[] parameterType = method.getParameterTypes();
+            if (!isStatic && (parameterType.length == 0 || !parameterType[0].isAssignableFrom(type))) {
+                throw new IllegalArgumentException("Expected first parameter of " + method + " to accept an instance of " + type);
+            }
+            Class<?>[] targetParameterType = new Class<?>[parameterType.length - (isStatic ? 0 : 1)];
+            Annotation[][] parameterAnnotation = method.getParameterAnnotations();
+            for (int index = 0; index < targetParameterType.length; index++) {
+                targetParameterType[index] = parameterType[index + (isStatic ? 0 : 1)];
+                for (Annotation annotation : parameterAnnotation[index + (isStatic ? 0 : 1)]) {
+                    if (annotation instanceof Proxied) {
+                        targetParameterType[index] = load(((Proxied) annotation).value(), classLoader);
+                    }
+                }
+                if (targetParameterType[index].isPrimitive() != parameterType[index + (isStatic ? 0 : 1)].isPrimitive()) {
+                    throw new IllegalArgumentException("Cannot map parameter " + index + " of " + method + " onto " + targetParameterType[index]);
+                }
+            }
+            Proxied name = method.getAnnotation(Proxied.class);
+            Method target;
+            try {
+                target = type.getMethod(name == null ? method.getName() : name.value(), targetParameterType);
+            } catch (NoSuchMethodException exception) {
+                throw new IllegalStateException("Cannot resolve target of " + method, exception);
+            }
+            if (Modifier.isStatic(target.getModifiers()) != isStatic) {
+                throw new IllegalArgumentException("Static modifier of " + target + " does not match " + method);
+            } else if (method.getReturnType() != void.class && (method.getReturnType().isPrimitive() || target.getReturnType().isPrimitive()
+                    ? method.getReturnType() != target.getReturnType()
+                    : !method.getReturnType().isAssignableFrom(target.getReturnType()))) {
+                throw new IllegalArgumentException("Cannot return " + target.getReturnType() + " from " + method);
+            }
+            for (Class<?> exceptionType : target.getExceptionTypes()) {
+                if (!isDeclared(exceptionType, method.getExceptionTypes())) {
+                    throw new IllegalArgumentException(method + " does not declare " + exceptionType.getName() + " that is thrown by " + target);
+                }
+            }
+            targets.put(method, target);
+        }
+        return targets;
+    }
+
+    /**
+     * Checks if an exception type that is thrown by a target method can be thrown by a proxy method without being wrapped.
+     *
+     * @param exceptionType         The exception type that is thrown by the target method.
+     * @param declaredExceptionType The exception types that are declared by the proxy method.
+     * @return {@code true} if the exception type is unchecked or declared by the proxy method.
+     */
+    private static boolean isDeclared(Class<?> exceptionType, Class<?>[] declaredExceptionType) {
+        if (RuntimeException.class.isAssignableFrom(exceptionType) || Error.class.isAssignableFrom(exceptionType)) {
+            return true;
+        }
+        for (Class<?> type : declaredExceptionType) {
+            if (type.isAssignableFrom(exceptionType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Loads a type without initializing it.
+     *
+     * @param name        The name of the type.
+     * @param classLoader The class loader to use.
+     * @return The loaded type.
+     */
+    private static Class<?> load(String name, ClassLoader classLoader) {
+        try {
+            return Class.forName(name, false, classLoader);
+        } catch (ClassNotFoundException exception) {
+            throw new IllegalStateException("Cannot resolve " + name, exception);
+        }
+    }
+
+    /**
+     * Indicates a proxied type's name or the name of a proxied method if it deviates from the proxy method's name. If this
+     * annotation is placed on a parameter, it indicates the parameter type of the target method.
+     */
+    @Documented
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.TYPE, ElementType.METHOD, ElementType.PARAMETER})
+    public @interface Proxied {
+
+        /**
+         * Returns the binary name of the proxied type or the name of the proxied method.
+         *
+         * @return The binary name of the proxied type or the name of the proxied method.
+         */
+        String value();
+    }
+
+    /**
+     * Indicates that a proxy method dispatches to a static method such that its first parameter does not represent the instance
+     * that the target method is invoked upon.
+     */
+    @Documented
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    public @interface IsStatic {
+        /* empty */
+    }
+
+    /**
+     * A factory for an implementation of a proxy interface.
+     */
+    protected enum Factory {
+
+        /**
+         * A factory that generates an implementation of the proxy interface which invokes the target methods directly.
+         */
+        GENERATED {
+            @Override
+            @SuppressFBWarnings(value = "DP_CREATE_CLASSLOADER_INSIDE_DO_PRIVILEGED", justification = "Privilege is explicit user responsibility")
+            protected <T> T make(Class<T> proxy, Map<Method, Method> targets) {
+                String name = proxy.getName() + SUFFIX;
+                ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+                classWriter.visit(Opcodes.V1_6,
+                        Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER | Opcodes.ACC_SYNTHETIC,
+                        name.replace('.', '/'),
+                        null,
+                        Type.getInternalName(Object.class),
+                        new String[]{Type.getInternalName(proxy)});
+                MethodVisitor methodVisitor = classWriter.visitMethod(Opcodes.ACC_PUBLIC, MethodDescription.CONSTRUCTOR_INTERNAL_NAME, "()V", null, null);
+                methodVisitor.visitCode();
+                methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+                methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, Type.getInternalName(Object.class), MethodDescription.CONSTRUCTOR_INTERNAL_NAME, "()V", false);
+                methodVisitor.visitInsn(Opcodes.RETURN);
+                methodVisitor.visitMaxs(0, 0);
+                methodVisitor.visitEnd();
+                for (Map.Entry<Method, Method> entry : targets.entrySet()) {
+                    Method method = entry.getKey(), target = entry.getValue();
+                    boolean isStatic = Modifier.isStatic(target.getModifiers());
+                    Class<?>[] exceptionType = method.getExceptionTypes();
+                    String[] exceptionTypeName = new String[exceptionType.length];
+                    for (int index = 0; index < exceptionType.length; index++) {
+                        exceptionTypeName[index] = Type.getInternalName(exceptionType[index]);
+                    }
+                    methodVisitor = classWriter.visitMethod(Opcodes.ACC_PUBLIC, method.getName(), Type.getMethodDescriptor(method), null, exceptionTypeName);
+                    methodVisitor.visitCode();
+                    Class<?>[] parameterType = method.getParameterTypes(), targetParameterType = target.getParameterTypes();
+                    int offset = 1;
+                    for (int index = 0; index < parameterType.length; index++) {
+                        Type type = Type.getType(parameterType[index]);
+                        methodVisitor.visitVarInsn(type.getOpcode(Opcodes.ILOAD), offset);
+                        Class<?> expected = isStatic || index > 0
+                                ? targetParameterType[index - (isStatic ? 0 : 1)]
+                                : target.getDeclaringClass();
+                        if (expected != parameterType[index]) {
+                            methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(expected));
+                        }
+                        offset += type.getSize();
+                    }
+                    methodVisitor.visitMethodInsn(isStatic
+                                    ? Opcodes.INVOKESTATIC
+                                    : (target.getDeclaringClass().isInterface() ? Opcodes.INVOKEINTERFACE : Opcodes.INVOKEVIRTUAL),
+                            Type.getInternalName(target.getDeclaringClass()),
+                            target.getName(),
+                            Type.getMethodDescriptor(target),
+                            target.getDeclaringClass().isInterface());
+                    if (method.getReturnType() == void.class && target.getReturnType() != void.class) {
+                        methodVisitor.visitInsn(Type.getType(target.getReturnType()).getSize() == 2 ? Opcodes.POP2 : Opcodes.POP);
+                    }
+                    methodVisitor.visitInsn(Type.getType(method.getReturnType()).getOpcode(Opcodes.IRETURN));
+                    methodVisitor.visitMaxs(0, 0);
+                    methodVisitor.visitEnd();
+                }
+                classWriter.visitEnd();
+                try {
+                    return proxy.cast(new DispatcherClassLoader(proxy.getClassLoader())
+                            .define(name, classWriter.toByteArray())
+                            .getConstructor()
+                            .newInstance());
+                } catch (Exception exception) {
+                    throw new IllegalStateException("Failed to create dispatcher for " + proxy, exception);
+                }
+            }
+        },
+
+        /**
+         * A factory that creates a {@link Proxy} which invokes the target methods reflectively.
+         */
+        REFLECTIVE {
+            @Override
+            protected <T> T make(Class<T> proxy, Map<Method, Method> targets) {
+                return proxy.cast(Proxy.newProxyInstance(proxy.getClassLoader(), new Class<?>[]{proxy}, new ReflectiveInvocationHandler(targets)));
+            }
+        };
+
+        /**
+         * Creates an implementation of the proxy interface.
+         *
+         * @param proxy   The proxy interface to implement.
+         * @param targets A mapping of all methods of the proxy interface to their target methods.
+         * @param <T>     The type of the proxy interface.
+         * @return An implementation of the proxy interface.
+         */
+        protected abstract <T> T make(Class<T> proxy, Map<Method, Method> targets);
+    }
+
+    /**
+     * A class loader for defining a generated dispatcher.
+     */
+    protected static class DispatcherClassLoader extends ClassLoader {
+
+        /**
+         * Creates a new class loader for defining a generated dispatcher.
+         *
+         * @param parent The class loader of the proxy interface.
+         */
+        protected DispatcherClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        /**
+         * Defines a generated dispatcher.
+         *
+         * @param name                 The binary name of the dispatcher.
+         * @param binaryRepresentation The dispatcher's class file.
+         * @return The defined dispatcher type.
+         */
+        protected Class<?> define(String name, byte[] binaryRepresentation) {
+            return defineClass(name, binaryRepresentation, 0, binaryRepresentation.length);
+        }
+    }
+
+    /**
+     * An invocation handler that invokes target methods reflectively.
+     */
+    protected static class ReflectiveInvocationHandler implements InvocationHandler {
+
+        /**
+         * A mapping of all methods of the proxy interface to their target methods.
+         */
+        private final Map<Method, Method> targets;
+
+        /**
+         * Creates a new reflective invocation handler.
+         *
+         * @param targets A mapping of all methods of the proxy interface to their target methods.
+         */
+        protected ReflectiveInvocationHandler(Map<Method, Method> targets) {
+            this.targets = targets;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public Object invoke(Object proxy, Method method, Object[] argument) throws Throwable {
+            Method target = targets.get(method);
+            if (target == null) {
+                if (method.getName().equals("equals")) {
+                    return proxy == argument[0];
+                } else if (method.getName().equals("hashCode")) {
+                    return System.identityHashCode(proxy);
+                } else if (method.getName().equals("toString")) {
+                    return "JavaDispatcher.ReflectiveInvocationHandler{targets=" + targets.values() + "}";
+                }
+                throw new IllegalStateException("Unexpected method: " + method);
+            }
+            try {
+                if (Modifier.isStatic(target.getModifiers())) {
+                    return target.invoke(null, argument);
+                } else {
+                    Object[] remaining = new Object[argument.length - 1];
+                    System.arraycopy(argument, 1, remaining, 0, remaining.length);
+                    return target.invoke(argument[0], remaining);
+                }
+            } catch (InvocationTargetException exception) {
+                throw exception.getCause();
+            }
+        }
+    }
+}
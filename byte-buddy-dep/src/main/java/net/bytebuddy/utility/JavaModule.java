@@ -22,11 +22,10 @@ import net.bytebuddy.description.annotation.AnnotationList;
 import net.bytebuddy.description.annotation.AnnotationSource;
 import net.bytebuddy.description.type.PackageDescription;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.lang.instrument.Instrumentation;
 import java.lang.reflect.AnnotatedElement;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.*;
@@ -351,32 +350,20 @@ public class JavaModule implements NamedElement.WithOptionalName, AnnotationSour
             @SuppressFBWarnings(value = "REC_CATCH_EXCEPTION", justification = "Exception should not be rethrown but trigger a fallback")
             public Dispatcher run() {
                 try {
-                    Class<?> module = Class.forName("java.lang.Module", false, null); // e.g. Netbeans contains a comilation target proxy
+                    Class.forName("java.lang.Module", false, null); // e.g. Netbeans contains a comilation target proxy
+                } catch (ClassNotFoundException ignored) {
+                    return Dispatcher.Disabled.INSTANCE;
+                }
+                try {
+                    Enabled.Type type = JavaDispatcher.of(Enabled.Type.class);
+                    Enabled.Module module = JavaDispatcher.of(Enabled.Module.class);
                     try {
-                        Class<?> instrumentation = Class.forName("java.lang.instrument.Instrumentation");
-                        return new Dispatcher.Enabled.WithInstrumentationSupport(Class.class.getMethod("getModule"),
-                                module.getMethod("getClassLoader"),
-                                module.getMethod("isNamed"),
-                                module.getMethod("getName"),
-                                module.getMethod("getResourceAsStream", String.class),
-                                module.getMethod("isExported", String.class, module),
-                                module.getMethod("isOpen", String.class, module),
-                                module.getMethod("canRead", module),
-                                instrumentation.getMethod("isModifiableModule", module),
-                                instrumentation.getMethod("redefineModule", module, Set.class, Map.class, Map.class, Set.class, Map.class));
+                        Class.forName("java.lang.instrument.Instrumentation");
                     } catch (ClassNotFoundException ignored) {
-                        return new Dispatcher.Enabled.WithoutInstrumentationSupport(Class.class.getMethod("getModule"),
-                                module.getMethod("getClassLoader"),
-                                module.getMethod("isNamed"),
-                                module.getMethod("getName"),
-                                module.getMethod("getResourceAsStream", String.class),
-                                module.getMethod("isExported", String.class, module),
-                                module.getMethod("isOpen", String.class, module),
-                                module.getMethod("canRead", module));
+                        return new Dispatcher.Enabled.WithoutInstrumentationSupport(type, module);
                     }
-                } catch (ClassNotFoundException ignored) {
-                    return Dispatcher.Disabled.INSTANCE;
-                } catch (NoSuchMethodException ignored) {
+                    return new Dispatcher.Enabled.WithInstrumentationSupport(type, module, JavaDispatcher.of(Enabled.WithInstrumentationSupport.Instrumentation.class));
+                } catch (IllegalStateException ignored) {
                     return Dispatcher.Disabled.INSTANCE;
                 }
             }
@@ -389,78 +376,24 @@ public class JavaModule implements NamedElement.WithOptionalName, AnnotationSour
         abstract class Enabled implements Dispatcher {
 
             /**
-             * An empty array that can be used to indicate no arguments to avoid an allocation on a reflective call.
-             */
-            private static final Object[] NO_ARGUMENTS = new Object[0];
-
-            /**
-             * The {@code java.lang.Class#getModule()} method.
-             */
-            private final Method getModule;
-
-            /**
-             * The {@code java.lang.Module#getClassLoader()} method.
-             */
-            private final Method getClassLoader;
-
-            /**
-             * The {@code java.lang.Module#isNamed()} method.
-             */
-            private final Method isNamed;
-
-            /**
-             * The {@code java.lang.Module#getName()} method.
-             */
-            private final Method getName;
-
-            /**
-             * The {@code java.lang.Module#getResourceAsStream(String)} method.
-             */
-            private final Method getResourceAsStream;
-
-            /**
-             * The {@code java.lang.Module#isExported(String,Module)} method.
-             */
-            private final Method isExported;
-
-            /**
-             * The {@code java.lang.Module#isOpened(String,Module)} method.
+             * A dispatcher for {@link Class}.
              */
-            private final Method isOpened;
+            private final Type type;
 
             /**
-             * The {@code java.lang.Module#canRead(Module)} method.
+             * A dispatcher for {@code java.lang.Module}.
              */
-            private final Method canRead;
+            private final Module module;
 
             /**
              * Creates an enabled dispatcher.
              *
-             * @param getModule           The {@code java.lang.Class#getModule()} method.
-             * @param getClassLoader      The {@code java.lang.Module#getClassLoader()} method.
-             * @param isNamed             The {@code java.lang.Module#isNamed()} method.
-             * @param getName             The {@code java.lang.Module#getName()} method.
-             * @param getResourceAsStream The {@code java.lang.Module#getResourceAsStream(String)} method.
-             * @param isExported          The {@code java.lang.Module#isExported(String,Module)} method.
-             * @param isOpened            The {@code java.lang.Module#isOpened(String,Module)} method.
-             * @param canRead             The {@code java.lang.Module#canRead(Module)} method.
+             * @param type   A dispatcher for {@link Class}.
+             * @param module A dispatcher for {@code java.lang.Module}.
              */
-            protected Enabled(Method getModule,
-                              Method getClassLoader,
-                              Method isNamed,
-                              Method getName,
-                              Method getResourceAsStream,
-                              Method isExported,
-                              Method isOpened,
-                              Method canRead) {
-                this.getModule = getModule;
-                this.getClassLoader = getClassLoader;
-                this.isNamed = isNamed;
-                this.getName = getName;
-                this.getResourceAsStream = getResourceAsStream;
-                this.isExported = isExported;
-                this.isOpened = isOpened;
-                this.canRead = canRead;
+            protected Enabled(Type type, Module module) {
+                this.type = type;
+                this.module = module;
             }
 
             /**
@@ -474,13 +407,7 @@ public class JavaModule implements NamedElement.WithOptionalName, AnnotationSour
              * {@inheritDoc}
              */
             public JavaModule moduleOf(Class<?> type) {
-                try {
-                    return new JavaModule((AnnotatedElement) getModule.invoke(type, NO_ARGUMENTS));
-                } catch (IllegalAccessException exception) {
-                    throw new IllegalStateException("Cannot access " + getModule, exception);
-                } catch (InvocationTargetException exception) {
-                    throw new IllegalStateException("Cannot invoke " + getModule, exception.getCause());
-                }
+                return new JavaModule((AnnotatedElement) this.type.getModule(type));
             }
 
             /**
@@ -488,11 +415,9 @@ public class JavaModule implements NamedElement.WithOptionalName, AnnotationSour
              */
             public InputStream getResourceAsStream(Object module, String name) {
                 try {
-                    return (InputStream) getResourceAsStream.invoke(module, name);
-                } catch (IllegalAccessException exception) {
-                    throw new IllegalStateException("Cannot access " + getResourceAsStream, exception);
-                } catch (InvocationTargetException exception) {
-                    throw new IllegalStateException("Cannot invoke " + getResourceAsStream, exception.getCause());
+                    return this.module.getResourceAsStream(module, name);
+                } catch (IOException exception) {
+                    throw new IllegalStateException("Cannot read resource " + name + " of " + module, exception);
                 }
             }
 
@@ -500,119 +425,148 @@ public class JavaModule implements NamedElement.WithOptionalName, AnnotationSour
              * {@inheritDoc}
              */
             public ClassLoader getClassLoader(Object module) {
-                try {
-                    return (ClassLoader) getClassLoader.invoke(module, NO_ARGUMENTS);
-                } catch (IllegalAccessException exception) {
-                    throw new IllegalStateException("Cannot access " + getClassLoader, exception);
-                } catch (InvocationTargetException exception) {
-                    throw new IllegalStateException("Cannot invoke " + getClassLoader, exception.getCause());
-                }
+                return this.module.getClassLoader(module);
             }
 
             /**
              * {@inheritDoc}
              */
             public boolean isNamed(Object module) {
-                try {
-                    return (Boolean) isNamed.invoke(module, NO_ARGUMENTS);
-                } catch (IllegalAccessException exception) {
-                    throw new IllegalStateException("Cannot access " + isNamed, exception);
-                } catch (InvocationTargetException exception) {
-                    throw new IllegalStateException("Cannot invoke " + isNamed, exception.getCause());
-                }
+                return this.module.isNamed(module);
             }
 
             /**
              * {@inheritDoc}
              */
             public String getName(Object module) {
-                try {
-                    return (String) getName.invoke(module, NO_ARGUMENTS);
-                } catch (IllegalAccessException exception) {
-                    throw new IllegalStateException("Cannot access " + getName, exception);
-                } catch (InvocationTargetException exception) {
-                    throw new IllegalStateException("Cannot invoke " + getName, exception.getCause());
-                }
+                return this.module.getName(module);
             }
 
             /**
              * {@inheritDoc}
              */
             public boolean isExported(Object source, Object target, String aPackage) {
-                try {
-                    return (Boolean) isExported.invoke(source, aPackage, target);
-                } catch (IllegalAccessException exception) {
-                    throw new IllegalStateException("Cannot access " + isExported, exception);
-                } catch (InvocationTargetException exception) {
-                    throw new IllegalStateException("Cannot invoke " + isExported, exception.getCause());
-                }
+                return module.isExported(source, aPackage, target);
             }
 
             /**
              * {@inheritDoc}
              */
             public boolean isOpened(Object source, Object target, String aPackage) {
-                try {
-                    return (Boolean) isOpened.invoke(source, aPackage, target);
-                } catch (IllegalAccessException exception) {
-                    throw new IllegalStateException("Cannot access " + isOpened, exception);
-                } catch (InvocationTargetException exception) {
-                    throw new IllegalStateException("Cannot invoke " + isOpened, exception.getCause());
-                }
+                return module.isOpen(source, aPackage, target);
             }
 
             /**
              * {@inheritDoc}
              */
             public boolean canRead(Object source, Object target) {
-                try {
-                    return (Boolean) canRead.invoke(source, target);
-                } catch (IllegalAccessException exception) {
-                    throw new IllegalStateException("Cannot access " + canRead, exception);
-                } catch (InvocationTargetException exception) {
-                    throw new IllegalStateException("Cannot invoke " + canRead, exception.getCause());
-                }
+                return module.canRead(source, target);
             }
 
             /**
-             * A dispatcher for a VM that does support the {@code java.lang.Module} API and that does not support {@link Instrumentation}.
+             * A proxy for {@link Class}.
+             */
+            @JavaDispatcher.Proxied("java.lang.Class")
+            protected interface Type {
+
+                /**
+                 * Invokes {@code java.lang.Class#getModule()}.
+                 *
+                 * @param type The type for which to resolve the module.
+                 * @return The type's {@code java.lang.Module}.
+                 */
+                Object getModule(Class<?> type);
+            }
+
+            /**
+             * A proxy for {@code java.lang.Module}.
+             */
+            @JavaDispatcher.Proxied("java.lang.Module")
+            protected interface Module {
+
+                /**
+                 * Invokes {@code java.lang.Module#getClassLoader()}.
+                 *
+                 * @param module The {@code java.lang.Module} to invoke the method upon.
+                 * @return The module's class loader.
+                 */
+                ClassLoader getClassLoader(Object module);
+
+                /**
+                 * Invokes {@code java.lang.Module#isNamed()}.
+                 *
+                 * @param module The {@code java.lang.Module} to invoke the method upon.
+                 * @return {@code true} if the module is named.
+                 */
+                boolean isNamed(Object module);
+
+                /**
+                 * Invokes {@code java.lang.Module#getName()}.
+                 *
+                 * @param module The {@code java.lang.Module} to invoke the method upon.
+                 * @return The module's name.
+                 */
+                String getName(Object module);
+
+                /**
+                 * Invokes {@code java.lang.Module#getResourceAsStream(String)}.
+                 *
+                 * @param module The {@code java.lang.Module} to invoke the method upon.
+                 * @param name   The name of the resource.
+                 * @return An input stream for the resource or {@code null} if it does not exist.
+                 * @throws IOException If an I/O exception occurs.
+                 */
+                InputStream getResourceAsStream(Object module, String name) throws IOException;
+
+                /**
+                 * Invokes {@code java.lang.Module#isExported(String,Module)}.
+                 *
+                 * @param module   The {@code java.lang.Module} to invoke the method upon.
+                 * @param aPackage The name of the package to check.
+                 * @param target   The target module.
+                 * @return {@code true} if the module exports the supplied package to the target module.
+                 */
+                boolean isExported(Object module, String aPackage, @JavaDispatcher.Proxied("java.lang.Module") Object target);
+
+                /**
+                 * Invokes {@code java.lang.Module#isOpen(String,Module)}.
+                 *
+                 * @param module   The {@code java.lang.Module} to invoke the method upon.
+                 * @param aPackage The name of the package to check.
+                 * @param target   The target module.
+                 * @return {@code true} if the module opens the supplied package to the target module.
+                 */
+                boolean isOpen(Object module, String aPackage, @JavaDispatcher.Proxied("java.lang.Module") Object target);
+
+                /**
+                 * Invokes {@code java.lang.Module#canRead(Module)}.
+                 *
+                 * @param module The {@code java.lang.Module} to invoke the method upon.
+                 * @param target The target module.
+                 * @return {@code true} if the module can read the target module.
+                 */
+                boolean canRead(Object module, @JavaDispatcher.Proxied("java.lang.Module") Object target);
+            }
+
+            /**
+             * A dispatcher for a VM that does support the {@code java.lang.Module} API and that does not support {@link java.lang.instrument.Instrumentation}.
              */
             protected static class WithoutInstrumentationSupport extends Enabled {
 
                 /**
-                 * Creates an enabled dispatcher without support for {@link Instrumentation}.
+                 * Creates an enabled dispatcher without support for {@link java.lang.instrument.Instrumentation}.
                  *
-                 * @param getModule           The {@code java.lang.Class#getModule()} method.
-                 * @param getClassLoader      The {@code java.lang.Module#getClassLoader()} method.
-                 * @param isNamed             The {@code java.lang.Module#isNamed()} method.
-                 * @param getName             The {@code java.lang.Module#getName()} method.
-                 * @param getResourceAsStream The {@code java.lang.Module#getResourceAsStream(String)} method.
-                 * @param isExported          The {@code java.lang.Module#isExported(String,Module)} method.
-                 * @param isOpened            The {@code java.lang.Module#isOpened(String,Module)} method.
-                 * @param canRead             The {@code java.lang.Module#canRead(Module)} method.
+                 * @param type   A dispatcher for {@link Class}.
+                 * @param module A dispatcher for {@code java.lang.Module}.
                  */
-                protected WithoutInstrumentationSupport(Method getModule,
-                                                        Method getClassLoader,
-                                                        Method isNamed,
-                                                        Method getName,
-                                                        Method getResourceAsStream,
-                                                        Method isExported,
-                                                        Method isOpened,
-                                                        Method canRead) {
-                    super(getModule,
-                            getClassLoader,
-                            isNamed,
-                            getName,
-                            getResourceAsStream,
-                            isExported,
-                            isOpened,
-                            canRead);
+                protected WithoutInstrumentationSupport(Type type, Module module) {
+                    super(type, module);
                 }
 
                 /**
                  * {@inheritDoc}
                  */
-                public void modify(Instrumentation instrumentation,
+                public void modify(java.lang.instrument.Instrumentation instrumentation,
                                    Object source,
                                    Set<Object> reads,
                                    Map<String, Set<Object>> exports,
@@ -624,82 +578,78 @@ public class JavaModule implements NamedElement.WithOptionalName, AnnotationSour
             }
 
             /**
-             * A dispatcher for a VM that does support the {@code java.lang.Module} API and that supports {@link Instrumentation}.
+             * A dispatcher for a VM that does support the {@code java.lang.Module} API and that supports {@link java.lang.instrument.Instrumentation}.
              */
+            @HashCodeAndEqualsPlugin.Enhance
             protected static class WithInstrumentationSupport extends Enabled {
 
                 /**
-                 * The {@code java.lang.instrument.Instrumentation#isModifiableModule} method.
-                 */
-                private final Method isModifiableModule;
-
-                /**
-                 * The {@code java.lang.instrument.Instrumentation#redefineModule} method.
+                 * A dispatcher for {@link java.lang.instrument.Instrumentation}.
                  */
-                private final Method redefineModule;
+                private final Instrumentation instrumentation;
 
                 /**
                  * Creates an enabled dispatcher.
                  *
-                 * @param getModule           The {@code java.lang.Class#getModule()} method.
-                 * @param getClassLoader      The {@code java.lang.Module#getClassLoader()} method.
-                 * @param isNamed             The {@code java.lang.Module#isNamed()} method.
-                 * @param getName             The {@code java.lang.Module#getName()} method.
-                 * @param getResourceAsStream The {@code java.lang.Module#getResourceAsStream(String)} method.
-                 * @param isExported          The {@code java.lang.Module#isExported(String,Module)} method.
-                 * @param isOpened            The {@code java.lang.Module#isOpened(String,Module)} method.
-                 * @param canRead             The {@code java.lang.Module#canRead(Module)} method.
-                 * @param isModifiableModule  The {@code java.lang.instrument.Instrumentation#isModifiableModule} method.
-                 * @param redefineModule      The {@code java.lang.instrument.Instrumentation#redefineModule} method.
+                 * @param type            A dispatcher for {@link Class}.
+                 * @param module          A dispatcher for {@code java.lang.Module}.
+                 * @param instrumentation A dispatcher for {@link java.lang.instrument.Instrumentation}.
                  */
-                protected WithInstrumentationSupport(Method getModule,
-                                                     Method getClassLoader,
-                                                     Method isNamed,
-                                                     Method getName,
-                                                     Method getResourceAsStream,
-                                                     Method isExported,
-                                                     Method isOpened,
-                                                     Method canRead,
-                                                     Method isModifiableModule,
-                                                     Method redefineModule) {
-                    super(getModule,
-                            getClassLoader,
-                            isNamed,
-                            getName,
-                            getResourceAsStream,
-                            isExported,
-                            isOpened,
-                            canRead);
-                    this.isModifiableModule = isModifiableModule;
-                    this.redefineModule = redefineModule;
+                protected WithInstrumentationSupport(Type type, Module module, Instrumentation instrumentation) {
+                    super(type, module);
+                    this.instrumentation = instrumentation;
                 }
 
                 /**
                  * {@inheritDoc}
                  */
-                public void modify(Instrumentation instrumentation,
+                public void modify(java.lang.instrument.Instrumentation instrumentation,
                                    Object source,
                                    Set<Object> reads,
                                    Map<String, Set<Object>> exports,
                                    Map<String, Set<Object>> opens,
                                    Set<Class<?>> uses,
                                    Map<Class<?>, List<Class<?>>> provides) {
-                    try {
-                        if (!(Boolean) isModifiableModule.invoke(instrumentation, source)) {
-                            throw new IllegalStateException(source + " is not modifiable");
-                        }
-                    } catch (IllegalAccessException exception) {
-                        throw new IllegalStateException("Cannot access " + redefineModule, exception);
-                    } catch (InvocationTargetException exception) {
-                        throw new IllegalStateException("Cannot invoke " + redefineModule, exception.getCause());
-                    }
-                    try {
-                        redefineModule.invoke(instrumentation, source, reads, exports, opens, uses, provides);
-                    } catch (IllegalAccessException exception) {
-                        throw new IllegalStateException("Cannot access " + redefineModule, exception);
-                    } catch (InvocationTargetException exception) {
-                        throw new IllegalStateException("Cannot invoke " + redefineModule, exception.getCause());
+                    if (!this.instrumentation.isModifiableModule(instrumentation, source)) {
+                        throw new IllegalStateException(source + " is not modifiable");
                     }
+                    this.instrumentation.redefineModule(instrumentation, source, reads, exports, opens, uses, provides);
+                }
+
+                /**
+                 * A proxy for {@link java.lang.instrument.Instrumentation}.
+                 */
+                @JavaDispatcher.Proxied("java.lang.instrument.Instrumentation")
+                protected interface Instrumentation {
+
+                    /**
+                     * Invokes {@code java.lang.instrument.Instrumentation#isModifiableModule(Module)}.
+                     *
+                     * @param instrumentation The instrumentation instance to use.
+                     * @param module          The module to check.
+                     * @return {@code true} if the supplied module is modifiable.
+                     */
+                    boolean isModifiableModule(java.lang.instrument.Instrumentation instrumentation,
+                                               @JavaDispatcher.Proxied("java.lang.Module") Object module);
+
+                    /**
+                     * Invokes {@code java.lang.instrument.Instrumentation#redefineModule(Module,Set,Map,Map,Set,Map)}.
+                     *
+                     * @param instrumentation The instrumentation instance to use.
+                     * @param module          The module to modify.
+                     * @param reads           A set of additional modules this module should read.
+                     * @param exports         A map of packages to export to a set of modules.
+                     * @param opens           A map of packages to open to a set of modules.
+                     * @param uses            A set of provider interfaces to use by this module.
+                     * @param provides        A map of provider interfaces to provide by this module mapped to the provider implementations.
+                     */
+                    void redefineModule(java.lang.instrument.Instrumentation instrumentation,
+                                        @JavaDispatcher.Proxied("java.lang.Module") Object module,
+                                        Set<Object> reads,
+                                        Map<String, Set<Object>> exports,
+                                        Map<String, Set<Object>> opens,
+                                        Set<Class<?>> uses,
+                                        Map<Class<?>, List<Class<?>>> provides);
                 }
             }
         }
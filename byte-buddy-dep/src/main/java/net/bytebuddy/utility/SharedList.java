@@ -0,0 +1,240 @@
+/*
+ * Copyright 2014 - Present Rafael Winterhalter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.bytebuddy.utility;
+
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * <p>
+ * An immutable list that shares its backing array with the list it was derived from. Similarly to a {@link CompoundList},
+ * a shared list represents a list that is extended by additional elements at its beginning or at its end. If the extended
+ * list is itself a shared list and if no other list was derived from it by extending it at the same end, the additional
+ * elements are written to spare capacity of the shared backing array such that the existing elements are not copied.
+ * This way, repeatedly extending a list by a single element is of linear rather than of quadratic cost.
+ * </p>
+ * <p>
+ * A shared list is thread-safe. An element of a backing array is never altered once it is visible to any shared list.
+ * </p>
+ *
+ * @param <E> The type of the list's elements.
+ */
+public class SharedList<E> extends AbstractList<E> implements RandomAccess {
+
+    /**
+     * The minimal number of spare slots that are allocated when a backing array is created.
+     */
+    private static final int MINIMUM_SPARE = 4;
+
+    /**
+     * The backing array that is shared with other lists.
+     */
+    private final Buffer buffer;
+
+    /**
+     * The index of the first element of this list within the backing array, inclusive.
+     */
+    private final int from;
+
+    /**
+     * The index of the last element of this list within the backing array, exclusive.
+     */
+    private final int to;
+
+    /**
+     * Creates a new shared list.
+     *
+     * @param buffer The backing array that is shared with other lists.
+     * @param from   The index of the first element of this list within the backing array, inclusive.
+     * @param to     The index of the last element of this list within the backing array, exclusive.
+     */
+    protected SharedList(Buffer buffer, int from, int to) {
+        this.buffer = buffer;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Creates a list of a single element and another list.
+     *
+     * @param left  The left element.
+     * @param right The right list.
+     * @param <S>   The type of the list's elements.
+     * @return A shared list representing the element and the list.
+     */
+    public static <S> List<S> of(S left, List<? extends S> right) {
+        return of(Collections.singletonList(left), right);
+    }
+
+    /**
+     * Creates a list of a list and an element.
+     *
+     * @param left  The left list.
+     * @param right The right element.
+     * @param <S>   The type of the list's elements.
+     * @return A shared list representing the list and the element.
+     */
+    public static <S> List<S> of(List<? extends S> left, S right) {
+        return of(left, Collections.singletonList(right));
+    }
+
+    /**
+     * Creates a list of a left and right list. If the left list is a shared list, the right list is appended to its
+     * backing array where possible. Otherwise, if the right list is a shared list, the left list is prepended to its
+     * backing array where possible.
+     *
+     * @param left  The left list.
+     * @param right The right list.
+     * @param <S>   The type of the list's elements.
+     * @return A shared list representing the elements of both lists.
+     */
+    @SuppressWarnings("unchecked")
+    public static <S> List<S> of(List<? extends S> left, List<? extends S> right) {
+        if (left instanceof SharedList<?>) {
+            return ((SharedList<S>) left).append(right);
+        } else if (right instanceof SharedList<?>) {
+            return ((SharedList<S>) right).prepend(left);
+        } else {
+            int size = left.size() + right.size(), spare = Math.max(MINIMUM_SPARE, size >> 1);
+            Object[] elements = new Object[size + spare];
+            int index = 0;
+            for (S element : left) {
+                elements[index++] = element;
+            }
+            for (S element : right) {
+                elements[index++] = element;
+            }
+            return new SharedList<S>(new Buffer(elements, 0, size), 0, size);
+        }
+    }
+
+    /**
+     * Returns a list that represents this list with the supplied elements appended.
+     *
+     * @param elements The elements to append.
+     * @return A list representing this list with the supplied elements appended.
+     */
+    protected List<E> append(List<? extends E> elements) {
+        int size = elements.size();
+        if (size == 0) {
+            return this;
+        }
+        synchronized (buffer) {
+            if (buffer.end == to && to + size <= buffer.elements.length) {
+                int index = to;
+                for (E element : elements) {
+                    buffer.elements[index++] = element;
+                }
+                buffer.end = to + size;
+                return new SharedList<E>(buffer, from, to + size);
+            }
+        }
+        int length = to - from, spare = Math.max(MINIMUM_SPARE, (length + size) >> 1);
+        Object[] copy = new Object[length + size + spare];
+        System.arraycopy(buffer.elements, from, copy, 0, length);
+        int index = length;
+        for (E element : elements) {
+            copy[index++] = element;
+        }
+        return new SharedList<E>(new Buffer(copy, 0, length + size), 0, length + size);
+    }
+
+    /**
+     * Returns a list that represents this list with the supplied elements prepended.
+     *
+     * @param elements The elements to prepend.
+     * @return A list representing this list with the supplied elements prepended.
+     */
+    protected List<E> prepend(List<? extends E> elements) {
+        int size = elements.size();
+        if (size == 0) {
+            return this;
+        }
+        synchronized (buffer) {
+            if (buffer.start == from && from >= size) {
+                int index = from - size;
+                for (E element : elements) {
+                    buffer.elements[index++] = element;
+                }
+                buffer.start = from - size;
+                return new SharedList<E>(buffer, from - size, to);
+            }
+        }
+        int length = to - from, spare = Math.max(MINIMUM_SPARE, (length + size) >> 1);
+        Object[] copy = new Object[spare + size + length];
+        int index = spare;
+        for (E element : elements) {
+            copy[index++] = element;
+        }
+        System.arraycopy(buffer.elements, from, copy, spare + size, length);
+        return new SharedList<E>(new Buffer(copy, spare, copy.length), spare, copy.length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= to - from) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + (to - from));
+        }
+        return (E) buffer.elements[from + index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int size() {
+        return to - from;
+    }
+
+    /**
+     * A backing array of one or several shared lists which records the range of the array that is already claimed
+     * by any of these lists.
+     */
+    protected static class Buffer {
+
+        /**
+         * The backing array.
+         */
+        private final Object[] elements;
+
+        /**
+         * The index of the first claimed element, inclusive.
+         */
+        private int start;
+
+        /**
+         * The index of the last claimed element, exclusive.
+         */
+        private int end;
+
+        /**
+         * Creates a new buffer.
+         *
+         * @param elements The backing array.
+         * @param start    The index of the first claimed element, inclusive.
+         * @param end      The index of the last claimed element, exclusive.
+         */
+        protected Buffer(Object[] elements, int start, int end) {
+            this.elements = elements;
+            this.start = start;
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2014 - Present Rafael Winterhalter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.bytebuddy.test.precompiled;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class MemberSubstitutionBootstrap {
+
+    private static final List<MutableCallSite> CALL_SITES = new CopyOnWriteArrayList<MutableCallSite>();
+
+    public static String prefix;
+
+    public static CallSite bootstrap(MethodHandles.Lookup lookup, String name, MethodType methodType, MethodHandle target, String prefix) {
+        MemberSubstitutionBootstrap.prefix = prefix;
+        MutableCallSite callSite = new MutableCallSite(target.asType(methodType));
+        CALL_SITES.add(callSite);
+        return callSite;
+    }
+
+    public static void retarget(String name) throws Exception {
+        MethodHandle target = MethodHandles.lookup().findStatic(MemberSubstitutionBootstrap.class, name, MethodType.methodType(String.class));
+        for (MutableCallSite callSite : CALL_SITES) {
+            callSite.setTarget(target.asType(callSite.type()));
+        }
+        MutableCallSite.syncAll(CALL_SITES.toArray(new MutableCallSite[0]));
+    }
+
+    public static String foo() {
+        return "foo";
+    }
+
+    public static String bar() {
+        return "bar";
+    }
+
+    public static class Sample {
+
+        public String run() {
+            return foo();
+        }
+    }
+}
@@ -1,14 +1,29 @@
 package net.bytebuddy;
 
+import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.FixedValue;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.MethodDelegation;
+import net.bytebuddy.implementation.bind.annotation.SuperCall;
+import net.bytebuddy.implementation.bytecode.StackManipulation;
+import net.bytebuddy.implementation.bytecode.constant.IntegerConstant;
+import net.bytebuddy.implementation.bytecode.member.MethodReturn;
 import net.bytebuddy.test.utility.MockitoRule;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TestRule;
 import org.mockito.Mock;
+import org.objectweb.asm.MethodVisitor;
 
+import java.util.concurrent.Callable;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.StringStartsWith.startsWith;
 import static org.mockito.Mockito.*;
@@ -123,4 +138,110 @@ public class NamingStrategyTest {
         verify(rawTypeDescription).getName();
         verifyNoMoreInteractions(rawTypeDescription);
     }
+
+    @Test
+    public void testSuffixingContentHashPreliminaryName() throws Exception {
+        when(rawTypeDescription.getName()).thenReturn(FOO);
+        NamingStrategy namingStrategy = new NamingStrategy.SuffixingContentHash(BAR);
+        assertThat(namingStrategy.subclass(typeDescription), is(FOO + "$" + BAR));
+    }
+
+    @Test
+    public void testSuffixingContentHashConflictingPackage() throws Exception {
+        when(baseNameResolver.resolve(rawTypeDescription)).thenReturn(JAVA_QUX);
+        NamingStrategy namingStrategy = new NamingStrategy.SuffixingContentHash(FOO, baseNameResolver, BAR, NamingStrategy.SuffixingContentHash.DEFAULT_LENGTH);
+        assertThat(namingStrategy.subclass(typeDescription), is(BAR + "." + JAVA_QUX + "$" + FOO));
+    }
+
+    @Test
+    public void testSuffixingContentHashDeterministic() throws Exception {
+        NamingStrategy.SuffixingContentHash namingStrategy = new NamingStrategy.SuffixingContentHash(BAR);
+        DynamicType.Unloaded<?> first = namingStrategy.make(make(namingStrategy, FOO));
+        DynamicType.Unloaded<?> second = namingStrategy.make(make(new NamingStrategy.SuffixingContentHash(BAR), FOO));
+        DynamicType.Unloaded<?> third = namingStrategy.make(make(namingStrategy, BAR));
+        assertThat(first.getTypeDescription().getName(), startsWith(Object.class.getName().replace("java.", NamingStrategy.SuffixingRandom.BYTE_BUDDY_RENAME_PACKAGE + ".java.") + "$" + BAR + "$"));
+        assertThat(first.getTypeDescription().getName(), is(second.getTypeDescription().getName()));
+        assertThat(first.getBytes(), is(second.getBytes()));
+        assertThat(first.getTypeDescription().getName(), not(third.getTypeDescription().getName()));
+    }
+
+    @Test
+    public void testSuffixingContentHashNormalizesSyntheticMembers() throws Exception {
+        DynamicType.Unloaded<?> first = new NamingStrategy.SuffixingContentHash(BAR).make(make(new NamingStrategy.SuffixingContentHash(BAR), new Object()));
+        DynamicType.Unloaded<?> second = new NamingStrategy.SuffixingContentHash(BAR).make(make(new NamingStrategy.SuffixingContentHash(BAR), new Object()));
+        assertThat(first.getTypeDescription().getName(), is(second.getTypeDescription().getName()));
+        assertThat(first.getBytes(), not(second.getBytes()));
+    }
+
+    @Test
+    public void testSuffixingContentHashNormalizesAuxiliaryTypes() throws Exception {
+        NamingStrategy.SuffixingContentHash namingStrategy = new NamingStrategy.SuffixingContentHash(BAR);
+        DynamicType.Unloaded<?> first = namingStrategy.make(delegate(namingStrategy));
+        DynamicType.Unloaded<?> second = namingStrategy.make(delegate(namingStrategy));
+        assertThat(first.getAuxiliaryTypes().size(), is(1));
+        assertThat(first.getTypeDescription().getName(), is(second.getTypeDescription().getName()));
+        assertThat(first.getAuxiliaryTypes().keySet().iterator().next().getName(), startsWith(first.getTypeDescription().getName() + "$"));
+        Class<?> type = first.load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER).getLoaded();
+        assertThat(type.getName(), is(first.getTypeDescription().getName()));
+        assertThat(type.getDeclaredConstructor().newInstance().toString(), is(FOO));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testSuffixingContentHashNonDeterministic() throws Exception {
+        NamingStrategy.SuffixingContentHash namingStrategy = new NamingStrategy.SuffixingContentHash(BAR);
+        namingStrategy.make(new ByteBuddy()
+                .with(namingStrategy)
+                .subclass(Object.class)
+                .method(named("hashCode"))
+                .intercept(new Implementation.Simple(new CountingStackManipulation(), MethodReturn.INTEGER)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSuffixingContentHashIllegalLength() throws Exception {
+        new NamingStrategy.SuffixingContentHash(BAR, 0);
+    }
+
+    private static DynamicType.Builder<Object> make(NamingStrategy namingStrategy, String value) {
+        return new ByteBuddy()
+                .with(namingStrategy)
+                .subclass(Object.class)
+                .method(named("toString"))
+                .intercept(FixedValue.value(value));
+    }
+
+    private static DynamicType.Builder<Object> make(NamingStrategy namingStrategy, Object value) {
+        return new ByteBuddy()
+                .with(namingStrategy)
+                .subclass(Object.class)
+                .defineMethod(FOO, Object.class, Visibility.PUBLIC)
+                .intercept(FixedValue.reference(value));
+    }
+
+    private static DynamicType.Builder<Object> delegate(NamingStrategy namingStrategy) {
+        return new ByteBuddy()
+                .with(namingStrategy)
+                .subclass(Object.class)
+                .method(named("toString"))
+                .intercept(MethodDelegation.to(Interceptor.class));
+    }
+
+    public static class Interceptor {
+
+        public static String intercept(@SuperCall Callable<String> zuper) throws Exception {
+            return zuper.call() == null ? null : FOO;
+        }
+    }
+
+    private static class CountingStackManipulation implements StackManipulation {
+
+        private int count;
+
+        public boolean isValid() {
+            return true;
+        }
+
+        public Size apply(MethodVisitor methodVisitor, Implementation.Context implementationContext) {
+            return IntegerConstant.forValue(count++).apply(methodVisitor, implementationContext);
+        }
+    }
 }
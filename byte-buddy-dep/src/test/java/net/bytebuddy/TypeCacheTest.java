@@ -6,7 +6,11 @@ import org.junit.Test;
 import java.lang.ref.Reference;
 import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
-import java.util.concurrent.Callable;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
 import static org.hamcrest.CoreMatchers.*;
@@ -139,6 +143,248 @@ public class TypeCacheTest {
         typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), new Object(), callable, new Object());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFindOrInsertConcurrently() throws Exception {
+        TypeCache<Object> typeCache = new TypeCache<Object>(TypeCache.Sort.WEAK);
+        Object key = new Object();
+        Callable<Class<?>> callable = mock(Callable.class);
+        when(callable.call()).thenReturn((Class) Void.class);
+        assertThat(typeCache.findOrInsertConcurrently(ClassLoader.getSystemClassLoader(), key, callable), is((Object) Void.class));
+        verify(callable).call();
+        assertThat(typeCache.findOrInsertConcurrently(ClassLoader.getSystemClassLoader(), key, callable), is((Object) Void.class));
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), key), is((Object) Void.class));
+        verifyNoMoreInteractions(callable);
+        assertThat(typeCache.creations.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testFindOrInsertConcurrentlySameKey() throws Exception {
+        final TypeCache<Object> typeCache = new TypeCache<Object>(TypeCache.Sort.WEAK);
+        final Object key = new Object();
+        final CountDownLatch started = new CountDownLatch(1), release = new CountDownLatch(1);
+        final AtomicInteger count = new AtomicInteger();
+        final Callable<Class<?>> callable = new Callable<Class<?>>() {
+            public Class<?> call() throws Exception {
+                count.incrementAndGet();
+                started.countDown();
+                assertThat(release.await(10, TimeUnit.SECONDS), is(true));
+                return Void.class;
+            }
+        };
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<Class<?>> first = executorService.submit(new Callable<Class<?>>() {
+                public Class<?> call() {
+                    return typeCache.findOrInsertConcurrently(ClassLoader.getSystemClassLoader(), key, callable);
+                }
+            });
+            assertThat(started.await(10, TimeUnit.SECONDS), is(true));
+            Future<Class<?>> second = executorService.submit(new Callable<Class<?>>() {
+                public Class<?> call() {
+                    return typeCache.findOrInsertConcurrently(ClassLoader.getSystemClassLoader(), key, callable);
+                }
+            });
+            release.countDown();
+            assertThat(first.get(10, TimeUnit.SECONDS), is((Object) Void.class));
+            assertThat(second.get(10, TimeUnit.SECONDS), is((Object) Void.class));
+            assertThat(count.get(), is(1));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFindOrInsertConcurrentlyDifferentKeys() throws Exception {
+        final TypeCache<Object> typeCache = new TypeCache<Object>(TypeCache.Sort.WEAK);
+        final CountDownLatch latch = new CountDownLatch(2);
+        final Callable<Class<?>> callable = new Callable<Class<?>>() {
+            public Class<?> call() throws Exception {
+                latch.countDown();
+                return latch.await(10, TimeUnit.SECONDS) ? Void.class : Object.class;
+            }
+        };
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<Class<?>>> futures = new ArrayList<Future<Class<?>>>();
+            for (int index = 0; index < 2; index++) {
+                final Object key = index;
+                futures.add(executorService.submit(new Callable<Class<?>>() {
+                    public Class<?> call() {
+                        return typeCache.findOrInsertConcurrently(ClassLoader.getSystemClassLoader(), key, callable);
+                    }
+                }));
+            }
+            for (Future<Class<?>> future : futures) {
+                assertThat(future.get(20, TimeUnit.SECONDS), is((Object) Void.class));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    @SuppressWarnings("unchecked")
+    public void testFindOrInsertConcurrentlyCreationException() throws Exception {
+        TypeCache<Object> typeCache = new TypeCache<Object>(TypeCache.Sort.WEAK);
+        Callable<Class<?>> callable = mock(Callable.class);
+        when(callable.call()).thenThrow(RuntimeException.class);
+        try {
+            typeCache.findOrInsertConcurrently(ClassLoader.getSystemClassLoader(), new Object(), callable);
+        } finally {
+            assertThat(typeCache.creations.isEmpty(), is(true));
+        }
+    }
+
+    @Test
+    public void testMaximumSizeEvictsLeastRecentlyUsed() throws Exception {
+        TypeCache.WithMaximumSize<Object> typeCache = new TypeCache.WithMaximumSize<Object>(TypeCache.Sort.SOFT, 2);
+        Object first = new Object(), second = new Object(), third = new Object();
+        typeCache.insert(ClassLoader.getSystemClassLoader(), first, Void.class);
+        typeCache.insert(ClassLoader.getSystemClassLoader(), second, String.class);
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), first), is((Object) Void.class));
+        typeCache.insert(ClassLoader.getSystemClassLoader(), third, Object.class);
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), first), is((Object) Void.class));
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), second), nullValue(Class.class));
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), third), is((Object) Object.class));
+        assertThat(typeCache.getEvictions(), is(1L));
+        assertThat(typeCache.getHits(), is(3L));
+        assertThat(typeCache.getMisses(), is(1L));
+    }
+
+    @Test
+    public void testMaximumSizePerClassLoader() throws Exception {
+        TypeCache.WithMaximumSize<Object> typeCache = new TypeCache.WithMaximumSize<Object>(TypeCache.Sort.SOFT, 1);
+        Object key = new Object();
+        typeCache.insert(ClassLoader.getSystemClassLoader(), key, Void.class);
+        typeCache.insert(null, key, String.class);
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), key), is((Object) Void.class));
+        assertThat(typeCache.find(null, key), is((Object) String.class));
+        assertThat(typeCache.getEvictions(), is(0L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMaximumSizeCreationMetrics() throws Exception {
+        TypeCache.WithMaximumSize<Object> typeCache = new TypeCache.WithMaximumSize<Object>(TypeCache.Sort.SOFT, 2);
+        Callable<Class<?>> callable = mock(Callable.class);
+        when(callable.call()).thenReturn((Class) Void.class);
+        Object key = new Object();
+        assertThat(typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, callable), is((Object) Void.class));
+        assertThat(typeCache.findOrInsertConcurrently(ClassLoader.getSystemClassLoader(), key, callable), is((Object) Void.class));
+        assertThat(typeCache.findOrInsertConcurrently(ClassLoader.getSystemClassLoader(), new Object(), callable), is((Object) Void.class));
+        verify(callable, times(2)).call();
+        assertThat(typeCache.getCreations(), is(2L));
+        assertThat(typeCache.getCreationTime(TimeUnit.NANOSECONDS) >= 0L, is(true));
+        assertThat(typeCache.getHits(), is(1L));
+        assertThat(typeCache.getMisses(), is(2L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMaximumSizeMonitorMetrics() throws Exception {
+        TypeCache.WithMaximumSize<Object> typeCache = new TypeCache.WithMaximumSize<Object>(TypeCache.Sort.SOFT, 2);
+        Callable<Class<?>> callable = mock(Callable.class);
+        when(callable.call()).thenReturn((Class) Void.class);
+        Object key = new Object();
+        assertThat(typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, callable, new Object()), is((Object) Void.class));
+        assertThat(typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, callable, new Object()), is((Object) Void.class));
+        verify(callable).call();
+        assertThat(typeCache.getCreations(), is(1L));
+        assertThat(typeCache.getHits(), is(1L));
+        assertThat(typeCache.getMisses(), is(1L));
+    }
+
+    @Test
+    public void testOverallMaximumSize() throws Exception {
+        TypeCache.WithMaximumSize<Object> typeCache = new TypeCache.WithMaximumSize<Object>(TypeCache.Sort.SOFT, 2, 2);
+        Object first = new Object(), second = new Object(), third = new Object();
+        typeCache.insert(ClassLoader.getSystemClassLoader(), first, Void.class);
+        typeCache.insert(ClassLoader.getSystemClassLoader(), second, String.class);
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), first), is((Object) Void.class));
+        typeCache.insert(null, third, Object.class);
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), first), is((Object) Void.class));
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), second), nullValue(Class.class));
+        assertThat(typeCache.find(null, third), is((Object) Object.class));
+        assertThat(typeCache.getEvictions(), is(1L));
+        assertThat(typeCache.getHits(), is(3L));
+        assertThat(typeCache.getMisses(), is(1L));
+    }
+
+    @Test
+    public void testOverallMaximumSizeAfterEvictionPerClassLoader() throws Exception {
+        TypeCache.WithMaximumSize<Object> typeCache = new TypeCache.WithMaximumSize<Object>(TypeCache.Sort.SOFT, 1, 2);
+        Object first = new Object(), second = new Object(), third = new Object();
+        typeCache.insert(ClassLoader.getSystemClassLoader(), first, Void.class);
+        typeCache.insert(ClassLoader.getSystemClassLoader(), second, String.class);
+        typeCache.insert(null, third, Object.class);
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), first), nullValue(Class.class));
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), second), is((Object) String.class));
+        assertThat(typeCache.find(null, third), is((Object) Object.class));
+        assertThat(typeCache.getEvictions(), is(1L));
+    }
+
+    @Test
+    public void testOverallMaximumSizeAfterClear() throws Exception {
+        TypeCache.WithMaximumSize<Object> typeCache = new TypeCache.WithMaximumSize<Object>(TypeCache.Sort.SOFT, 1, 1);
+        Object first = new Object(), second = new Object();
+        typeCache.insert(ClassLoader.getSystemClassLoader(), first, Void.class);
+        typeCache.clear();
+        typeCache.insert(null, second, Object.class);
+        assertThat(typeCache.find(null, second), is((Object) Object.class));
+        assertThat(typeCache.getEvictions(), is(0L));
+    }
+
+    @Test
+    public void testStorageWithoutOverallMaximumSizeNotGuardedBySharedLock() throws Exception {
+        final TypeCache.WithMaximumSize<Object> typeCache = new TypeCache.WithMaximumSize<Object>(TypeCache.Sort.SOFT, 2);
+        final Object key = new Object();
+        typeCache.insert(ClassLoader.getSystemClassLoader(), key, Void.class);
+        Field monitor = TypeCache.WithMaximumSize.class.getDeclaredField("monitor");
+        monitor.setAccessible(true);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            synchronized (monitor.get(typeCache)) {
+                assertThat(executorService.submit(new Callable<Class<?>>() {
+                    public Class<?> call() {
+                        return typeCache.find(ClassLoader.getSystemClassLoader(), key);
+                    }
+                }).get(10, TimeUnit.SECONDS), is((Object) Void.class));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMaximumSizeNotPositive() throws Exception {
+        new TypeCache.WithMaximumSize<Object>(TypeCache.Sort.SOFT, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOverallMaximumSizeNotPositive() throws Exception {
+        new TypeCache.WithMaximumSize<Object>(TypeCache.Sort.SOFT, 1, 0);
+    }
+
+    @Test
+    public void testBackgroundExpunction() throws Exception {
+        TypeCache<Object> typeCache = spy(new TypeCache<Object>(TypeCache.Sort.WEAK));
+        Future<?> future = TypeCache.BackgroundExpunction.register(typeCache, 10, TimeUnit.MILLISECONDS);
+        try {
+            verify(typeCache, timeout(10000).atLeastOnce()).expungeStaleEntries();
+        } finally {
+            future.cancel(false);
+        }
+        assertThat(future.isCancelled(), is(true));
+    }
+
+    @Test
+    public void testBackgroundExpunctionThread() throws Exception {
+        Thread thread = TypeCache.BackgroundExpunction.DaemonThreadFactory.INSTANCE.newThread(mock(Runnable.class));
+        assertThat(thread.isDaemon(), is(true));
+        assertThat(thread.getContextClassLoader(), nullValue(ClassLoader.class));
+    }
+
     @Test
     public void testSimpleKeyProperties() {
         assertThat(new TypeCache.SimpleKey(Object.class).hashCode(), is(new TypeCache.SimpleKey(Object.class).hashCode()));
@@ -0,0 +1,190 @@
+package net.bytebuddy.agent.builder;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.loading.ByteArrayClassLoader;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.bytecode.assign.Assigner;
+import net.bytebuddy.test.utility.MockitoRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mock;
+
+import java.lang.instrument.Instrumentation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class AgentBuilderTransformerForTieredInstrumentationTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private Instrumentation instrumentation;
+
+    @Mock
+    private AgentBuilder.RedefinitionStrategy.ResubmissionScheduler resubmissionScheduler;
+
+    @Mock
+    private ResettableClassFileTransformer classFileTransformer;
+
+    @Mock
+    private AgentBuilder.RedefinitionStrategy.ResubmissionScheduler.Cancelable cancelable;
+
+    @Before
+    public void setUp() throws Exception {
+        when(resubmissionScheduler.schedule(any(Runnable.class))).thenReturn(cancelable);
+    }
+
+    @Test
+    public void testHotTier() throws Exception {
+        AgentBuilder.Transformer.ForTieredInstrumentation.Tier tier = new AgentBuilder.Transformer.ForTieredInstrumentation.Tier.Hot(2);
+        assertThat(tier.isPromoted(1, AgentBuilder.Transformer.ForTieredInstrumentation.Tier.UNOBSERVED), is(false));
+        assertThat(tier.isPromoted(2, AgentBuilder.Transformer.ForTieredInstrumentation.Tier.UNOBSERVED), is(true));
+        assertThat(tier.isPromoted(3, 1), is(true));
+    }
+
+    @Test
+    public void testColdTier() throws Exception {
+        AgentBuilder.Transformer.ForTieredInstrumentation.Tier tier = new AgentBuilder.Transformer.ForTieredInstrumentation.Tier.Cold(2);
+        assertThat(tier.isPromoted(0, AgentBuilder.Transformer.ForTieredInstrumentation.Tier.UNOBSERVED), is(false));
+        assertThat(tier.isPromoted(1, 0), is(true));
+        assertThat(tier.isPromoted(2, 0), is(false));
+    }
+
+    @Test
+    public void testInvocationCounter() throws Exception {
+        int index = AgentBuilder.Transformer.ForTieredInstrumentation.InvocationCounter.make();
+        assertThat(AgentBuilder.Transformer.ForTieredInstrumentation.InvocationCounter.get(index), is(0L));
+        AgentBuilder.Transformer.ForTieredInstrumentation.InvocationCounter.increment(index);
+        assertThat(AgentBuilder.Transformer.ForTieredInstrumentation.InvocationCounter.get(index), is(1L));
+        int other = AgentBuilder.Transformer.ForTieredInstrumentation.InvocationCounter.make();
+        assertThat(other, not(index));
+        AgentBuilder.Transformer.ForTieredInstrumentation.InvocationCounter.increment(other);
+        assertThat(AgentBuilder.Transformer.ForTieredInstrumentation.InvocationCounter.get(index), is(1L));
+        assertThat(AgentBuilder.Transformer.ForTieredInstrumentation.InvocationCounter.get(other), is(1L));
+    }
+
+    @Test
+    public void testInvocationCounterReleased() throws Exception {
+        int index = AgentBuilder.Transformer.ForTieredInstrumentation.InvocationCounter.make();
+        AgentBuilder.Transformer.ForTieredInstrumentation.InvocationCounter.increment(index);
+        AgentBuilder.Transformer.ForTieredInstrumentation.InvocationCounter.release(index);
+        assertThat(AgentBuilder.Transformer.ForTieredInstrumentation.InvocationCounter.make(), is(index));
+        assertThat(AgentBuilder.Transformer.ForTieredInstrumentation.InvocationCounter.get(index), is(0L));
+    }
+
+    @Test
+    public void testProfilePromotionReleasesCounter() throws Exception {
+        AgentBuilder.Transformer.ForTieredInstrumentation.Profile profile = new AgentBuilder.Transformer.ForTieredInstrumentation.Profile();
+        int index = profile.counter(FOO);
+        assertThat(profile.counter(FOO), is(index));
+        List<Integer> released = new ArrayList<Integer>();
+        assertThat(profile.promote(new AgentBuilder.Transformer.ForTieredInstrumentation.Tier.Hot(0), released), is(true));
+        assertThat(released, is(Collections.singletonList(index)));
+        assertThat(profile.isPromoted(FOO), is(true));
+        released.clear();
+        assertThat(profile.promote(new AgentBuilder.Transformer.ForTieredInstrumentation.Tier.Hot(0), released), is(false));
+        assertThat(released.isEmpty(), is(true));
+        AgentBuilder.Transformer.ForTieredInstrumentation.InvocationCounter.release(index);
+    }
+
+    @Test
+    public void testProfileRelease() throws Exception {
+        AgentBuilder.Transformer.ForTieredInstrumentation.Profile profile = new AgentBuilder.Transformer.ForTieredInstrumentation.Profile();
+        int index = profile.counter(FOO);
+        profile.release();
+        assertThat(AgentBuilder.Transformer.ForTieredInstrumentation.InvocationCounter.make(), is(index));
+        AgentBuilder.Transformer.ForTieredInstrumentation.InvocationCounter.release(index);
+        assertThat(profile.counter(FOO), is(index));
+    }
+
+    @Test
+    public void testHotMethodPromotion() throws Exception {
+        AgentBuilder.Transformer.ForTieredInstrumentation transformer = new AgentBuilder.Transformer.ForTieredInstrumentation(named(FOO),
+                Advice.to(ReturnAdvice.class),
+                new AgentBuilder.Transformer.ForTieredInstrumentation.Tier.Hot(2));
+        Class<?> type = make(transformer, classLoader());
+        Object instance = type.getDeclaredConstructor().newInstance();
+        assertThat(type.getDeclaredMethod(FOO).invoke(instance), is((Object) FOO));
+        AgentBuilder.InstallationListener installationListener = transformer.promotion(resubmissionScheduler);
+        installationListener.onInstall(instrumentation, classFileTransformer);
+        verify(resubmissionScheduler).schedule((Runnable) installationListener);
+        ((Runnable) installationListener).run();
+        verify(instrumentation, never()).retransformClasses(any(Class[].class));
+        assertThat(type.getDeclaredMethod(FOO).invoke(instance), is((Object) FOO));
+        ((Runnable) installationListener).run();
+        verify(instrumentation).retransformClasses(type);
+        ((Runnable) installationListener).run();
+        verifyNoMoreInteractions(instrumentation);
+        Class<?> promoted = transformer.transform(new ByteBuddy().redefine(Sample.class), TypeDescription.ForLoadedType.of(Sample.class), type.getClassLoader(), null)
+                .make()
+                .load(classLoader(), ClassLoadingStrategy.Default.INJECTION)
+                .getLoaded();
+        assertThat(promoted.getDeclaredMethod(FOO).invoke(promoted.getDeclaredConstructor().newInstance()), is((Object) BAR));
+        installationListener.onReset(instrumentation, classFileTransformer);
+        verify(cancelable).cancel();
+    }
+
+    @Test
+    public void testColdMethodPromotion() throws Exception {
+        AgentBuilder.Transformer.ForTieredInstrumentation transformer = new AgentBuilder.Transformer.ForTieredInstrumentation(named(FOO),
+                Advice.to(ReturnAdvice.class),
+                new AgentBuilder.Transformer.ForTieredInstrumentation.Tier.Cold(1));
+        Class<?> type = make(transformer, classLoader());
+        AgentBuilder.InstallationListener installationListener = transformer.promotion(resubmissionScheduler);
+        installationListener.onInstall(instrumentation, classFileTransformer);
+        ((Runnable) installationListener).run();
+        verify(instrumentation, never()).retransformClasses(any(Class[].class));
+        ((Runnable) installationListener).run();
+        verify(instrumentation).retransformClasses(type);
+    }
+
+    @Test
+    public void testNoPromotionBeforeInstallation() throws Exception {
+        AgentBuilder.Transformer.ForTieredInstrumentation transformer = new AgentBuilder.Transformer.ForTieredInstrumentation(named(FOO),
+                Advice.to(ReturnAdvice.class),
+                new AgentBuilder.Transformer.ForTieredInstrumentation.Tier.Hot(0));
+        make(transformer, classLoader());
+        ((Runnable) transformer.promotion(resubmissionScheduler)).run();
+        verifyZeroInteractions(instrumentation);
+    }
+
+    private Class<?> make(AgentBuilder.Transformer transformer, ClassLoader classLoader) {
+        return transformer.transform(new ByteBuddy().redefine(Sample.class), TypeDescription.ForLoadedType.of(Sample.class), classLoader, null)
+                .make()
+                .load(classLoader, ClassLoadingStrategy.Default.INJECTION)
+                .getLoaded();
+    }
+
+    private ClassLoader classLoader() {
+        return new ByteArrayClassLoader.ChildFirst(getClass().getClassLoader(), Collections.<String, byte[]>emptyMap());
+    }
+
+    public static class Sample {
+
+        public String foo() {
+            return FOO;
+        }
+    }
+
+    public static class ReturnAdvice {
+
+        @Advice.OnMethodExit
+        private static void exit(@Advice.Return(readOnly = false, typing = Assigner.Typing.DYNAMIC) Object value) {
+            value = BAR;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package net.bytebuddy.asm;
+
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.test.utility.MockitoRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mock;
+import org.objectweb.asm.Opcodes;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class AdviceStackMapFrameHandlerTest {
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private TypeDescription instrumentedType;
+
+    @Mock
+    private MethodDescription.InDefinedShape instrumentedMethod;
+
+    @Test
+    public void testMethodFrameResolvedOnce() throws Exception {
+        MethodDescription methodDescription = spy(new MethodDescription.ForLoadedMethod(String.class.getMethod("regionMatches", int.class, String.class, int.class, int.class)));
+        Advice.StackMapFrameHandler.Default frameHandler = new Advice.StackMapFrameHandler.Default.Trivial(instrumentedType, instrumentedMethod, false);
+        Object[] frame = frameHandler.toFrame(methodDescription);
+        assertThat(Arrays.asList(frame), is(Arrays.<Object>asList(Opcodes.INTEGER, "java/lang/String", Opcodes.INTEGER, Opcodes.INTEGER)));
+        assertThat(frameHandler.toFrame(methodDescription), sameInstance(frame));
+        verify(methodDescription, times(1)).getParameters();
+    }
+
+    @Test
+    public void testTypeFrameCachedByIdentity() throws Exception {
+        Advice.StackMapFrameHandler.Default frameHandler = new Advice.StackMapFrameHandler.Default.Trivial(instrumentedType, instrumentedMethod, false);
+        List<TypeDescription> typeDescriptions = Arrays.asList(TypeDescription.ForLoadedType.of(long.class), TypeDescription.OBJECT);
+        Object[] frame = frameHandler.toFrame(typeDescriptions, true);
+        assertThat(Arrays.asList(frame), is(Arrays.<Object>asList(Opcodes.LONG, "java/lang/Object")));
+        assertThat(frameHandler.toFrame(typeDescriptions, true), sameInstance(frame));
+        assertThat(frameHandler.toFrame(typeDescriptions, false) == frame, is(false));
+    }
+}
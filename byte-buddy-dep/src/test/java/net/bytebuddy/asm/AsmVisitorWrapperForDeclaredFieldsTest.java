@@ -17,6 +17,7 @@ import org.mockito.Mock;
 import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.FieldVisitor;
 
+import static net.bytebuddy.matcher.ElementMatchers.named;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.*;
@@ -118,4 +119,26 @@ public class AsmVisitorWrapperForDeclaredFieldsTest {
         verifyZeroInteractions(matcher);
         verifyZeroInteractions(fieldVisitorWrapper);
     }
+
+    @Test
+    public void testIndexedByName() throws Exception {
+        when(foo.getActualName()).thenReturn(FOO);
+        assertThat(new AsmVisitorWrapper.ForDeclaredFields()
+                .field(named(BAR), fieldVisitorWrapper)
+                .field(matcher, fieldVisitorWrapper)
+                .wrap(instrumentedType,
+                        classVisitor,
+                        implementationContext,
+                        typePool,
+                        new FieldList.Explicit<FieldDescription.InDefinedShape>(foo, bar),
+                        new MethodList.Empty<MethodDescription>(),
+                        IRRELEVANT,
+                        IRRELEVANT)
+                .visitField(MODIFIERS, FOO, QUX, BAZ, QUX + BAZ), is(wrappedVisitor));
+        verify(matcher).matches(foo);
+        verifyNoMoreInteractions(matcher);
+        verify(fieldVisitorWrapper).wrap(instrumentedType, foo, fieldVisitor);
+        verifyNoMoreInteractions(fieldVisitorWrapper);
+        verify(foo, never()).getName();
+    }
 }
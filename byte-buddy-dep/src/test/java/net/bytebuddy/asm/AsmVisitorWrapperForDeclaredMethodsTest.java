@@ -17,6 +17,7 @@ import org.mockito.Mock;
 import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.MethodVisitor;
 
+import static net.bytebuddy.matcher.ElementMatchers.named;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.*;
@@ -163,4 +164,28 @@ public class AsmVisitorWrapperForDeclaredMethodsTest {
     public void testReaderFlags() throws Exception {
         assertThat(new AsmVisitorWrapper.ForDeclaredMethods().readerFlags(FLAGS).mergeReader(0), is(FLAGS));
     }
+
+    @Test
+    public void testIndexedByName() throws Exception {
+        when(foo.getActualName()).thenReturn(FOO);
+        assertThat(new AsmVisitorWrapper.ForDeclaredMethods()
+                .method(named(BAR), methodVisitorWrapper)
+                .constructor(matcher, methodVisitorWrapper)
+                .invokable(matcher, methodVisitorWrapper)
+                .wrap(instrumentedType,
+                        classVisitor,
+                        implementationContext,
+                        typePool,
+                        new FieldList.Empty<FieldDescription.InDefinedShape>(),
+                        new MethodList.Explicit<MethodDescription>(foo, bar),
+                        FLAGS,
+                        FLAGS * 2)
+                .visitMethod(MODIFIERS, FOO, QUX, BAZ, new String[]{QUX + BAZ}), is(wrappedVisitor));
+        verify(matcher).matches(foo);
+        verifyNoMoreInteractions(matcher);
+        verify(methodVisitorWrapper).wrap(instrumentedType, foo, methodVisitor, implementationContext, typePool, FLAGS, FLAGS * 2);
+        verifyNoMoreInteractions(methodVisitorWrapper);
+        verify(foo, never()).isMethod();
+        verify(foo, never()).isConstructor();
+    }
 }
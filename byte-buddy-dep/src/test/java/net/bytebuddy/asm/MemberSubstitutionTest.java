@@ -1,17 +1,29 @@
 package net.bytebuddy.asm;
 
 import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.loading.ByteArrayClassLoader;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.MethodCall;
 import net.bytebuddy.implementation.bytecode.constant.NullConstant;
 import net.bytebuddy.pool.TypePool;
 import net.bytebuddy.test.packaging.MemberSubstitutionTestHelper;
+import net.bytebuddy.test.utility.JavaVersionRule;
+import net.bytebuddy.utility.JavaType;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.MethodRule;
 
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
 
 import static net.bytebuddy.matcher.ElementMatchers.any;
@@ -19,11 +31,19 @@ import static net.bytebuddy.matcher.ElementMatchers.*;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.*;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
 public class MemberSubstitutionTest {
 
     private static final String FOO = "foo", BAR = "bar", QUX = "qux", BAZ = "baz", RUN = "run";
 
+    private static final String BOOTSTRAP_CLASS = "net.bytebuddy.test.precompiled.MemberSubstitutionBootstrap";
+
+    @Rule
+    public MethodRule javaVersionRule = new JavaVersionRule();
+
     @Test
     public void testFieldReadStub() throws Exception {
         Class<?> type = new ByteBuddy()
@@ -770,6 +790,185 @@ public class MemberSubstitutionTest {
                 .make(TypePool.Empty.INSTANCE), notNullValue(DynamicType.class));
     }
 
+    @Test
+    public void testFieldReadStubIndexed() throws Exception {
+        Class<?> type = new ByteBuddy()
+                .redefine(FieldAccessSample.class)
+                .visit(MemberSubstitution.relaxed()
+                        .method(named(QUX)).stub()
+                        .field(named(BAZ).or(named(RUN))).stub()
+                        .field(named(FOO)).stub()
+                        .on(named(RUN)))
+                .make()
+                .load(ClassLoadingStrategy.BOOTSTRAP_LOADER, ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        Object instance = type.getDeclaredConstructor().newInstance();
+        assertThat(type.getDeclaredField(FOO).get(instance), is((Object) FOO));
+        assertThat(type.getDeclaredField(BAR).get(instance), is((Object) BAR));
+        assertThat(type.getDeclaredMethod(RUN).invoke(instance), nullValue(Object.class));
+        assertThat(type.getDeclaredField(FOO).get(instance), is((Object) FOO));
+        assertThat(type.getDeclaredField(BAR).get(instance), nullValue(Object.class));
+    }
+
+    @Test
+    public void testUnmatchedNameRelaxedNotResolved() throws Exception {
+        TypePool typePool = mock(TypePool.class);
+        assertThat(new ByteBuddy()
+                .redefine(OptionalTarget.class)
+                .visit(MemberSubstitution.relaxed().field(named(QUX)).stub().method(named(QUX)).stub().on(named(RUN)))
+                .make(typePool), notNullValue(DynamicType.class));
+        verifyZeroInteractions(typePool);
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(7)
+    public void testInvokeDynamicSubstitution() throws Exception {
+        Class<?> bootstrap = Class.forName(BOOTSTRAP_CLASS);
+        Class<?> type = new ByteBuddy()
+                .redefine(Class.forName(BOOTSTRAP_CLASS + "$Sample"))
+                .visit(MemberSubstitution.strict()
+                        .method(named(FOO))
+                        .replaceWithInvokeDynamic(bootstrap.getMethod("bootstrap",
+                                JavaType.METHOD_HANDLES_LOOKUP.load(),
+                                String.class,
+                                JavaType.METHOD_TYPE.load(),
+                                JavaType.METHOD_HANDLE.load(),
+                                String.class), QUX)
+                        .on(named(RUN)))
+                .make()
+                .load(bootstrap.getClassLoader(), ClassLoadingStrategy.Default.CHILD_FIRST)
+                .getLoaded();
+        Object instance = type.getDeclaredConstructor().newInstance();
+        assertThat(type.getDeclaredMethod(RUN).invoke(instance), is((Object) FOO));
+        assertThat(bootstrap.getField("prefix").get(null), is((Object) QUX));
+        bootstrap.getMethod("retarget", String.class).invoke(null, BAR);
+        assertThat(type.getDeclaredMethod(RUN).invoke(instance), is((Object) BAR));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvokeDynamicSubstitutionIllegalBootstrap() throws Exception {
+        MemberSubstitution.strict().method(named(FOO)).replaceWithInvokeDynamic(Object.class.getMethod("toString"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    @JavaVersionRule.Enforce(7)
+    public void testInvokeDynamicSubstitutionLegacyClassFile() throws Exception {
+        new ByteBuddy(ClassFileVersion.JAVA_V6)
+                .subclass(Object.class)
+                .defineMethod(RUN, String.class, Visibility.PUBLIC)
+                .intercept(MethodCall.invoke(Object.class.getMethod("toString")))
+                .visit(MemberSubstitution.strict()
+                        .method(named("toString"))
+                        .replaceWithInvokeDynamic(Class.forName(BOOTSTRAP_CLASS).getMethod("bootstrap",
+                                JavaType.METHOD_HANDLES_LOOKUP.load(),
+                                String.class,
+                                JavaType.METHOD_TYPE.load(),
+                                JavaType.METHOD_HANDLE.load(),
+                                String.class), QUX)
+                        .on(named(RUN)))
+                .make();
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(7)
+    public void testRelinkableInvokeDynamicSubstitution() throws Exception {
+        Class<?> bootstrap = Class.forName(BOOTSTRAP_CLASS);
+        DynamicType.Unloaded<?> dynamicType = new ByteBuddy()
+                .redefine(Class.forName(BOOTSTRAP_CLASS + "$Sample"))
+                .visit(MemberSubstitution.strict()
+                        .method(named(FOO))
+                        .replaceWithRelinkableInvokeDynamic(BOOTSTRAP_CLASS)
+                        .on(named(RUN)))
+                .make();
+        Class<?> type = dynamicType.load(bootstrap.getClassLoader(), ClassLoadingStrategy.Default.CHILD_FIRST).getLoaded();
+        Object instance = type.getDeclaredConstructor().newInstance();
+        assertThat(type.getDeclaredMethod(RUN).invoke(instance), is((Object) FOO));
+        Object lookup = Class.forName("java.lang.invoke.MethodHandles").getMethod("publicLookup").invoke(null);
+        Object methodType = JavaType.METHOD_TYPE.load().getMethod("methodType", Class.class).invoke(null, String.class);
+        Object methodHandle = JavaType.METHOD_HANDLES_LOOKUP.load()
+                .getMethod("findStatic", Class.class, String.class, JavaType.METHOD_TYPE.load())
+                .invoke(lookup, bootstrap, BAR, methodType);
+        assertThat(MemberSubstitution.CallSiteRegistry.retarget(BOOTSTRAP_CLASS, methodHandle), is(1));
+        assertThat(type.getDeclaredMethod(RUN).invoke(instance), is((Object) BAR));
+        Class<?> other = dynamicType.load(bootstrap.getClassLoader(), ClassLoadingStrategy.Default.CHILD_FIRST).getLoaded();
+        assertThat(other.getDeclaredMethod(RUN).invoke(other.getDeclaredConstructor().newInstance()), is((Object) BAR));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(7)
+    public void testRelinkableInvokeDynamicSubstitutionIncompatibleTarget() throws Exception {
+        Class<?> bootstrap = Class.forName(BOOTSTRAP_CLASS);
+        Class<?> type = new ByteBuddy()
+                .redefine(Class.forName(BOOTSTRAP_CLASS + "$Sample"))
+                .visit(MemberSubstitution.strict()
+                        .method(named(FOO))
+                        .replaceWithRelinkableInvokeDynamic(BOOTSTRAP_CLASS + "$" + QUX)
+                        .on(named(RUN)))
+                .make()
+                .load(bootstrap.getClassLoader(), ClassLoadingStrategy.Default.CHILD_FIRST)
+                .getLoaded();
+        Object instance = type.getDeclaredConstructor().newInstance();
+        assertThat(type.getDeclaredMethod(RUN).invoke(instance), is((Object) FOO));
+        Object lookup = Class.forName("java.lang.invoke.MethodHandles").getMethod("publicLookup").invoke(null);
+        Object methodType = JavaType.METHOD_TYPE.load().getMethod("methodType", Class.class).invoke(null, int.class);
+        Object methodHandle = JavaType.METHOD_HANDLES_LOOKUP.load()
+                .getMethod("findVirtual", Class.class, String.class, JavaType.METHOD_TYPE.load())
+                .invoke(lookup, Object.class, "hashCode", methodType);
+        try {
+            MemberSubstitution.CallSiteRegistry.retarget(BOOTSTRAP_CLASS + "$" + QUX, methodHandle);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+            /* expected */
+        }
+        assertThat(type.getDeclaredMethod(RUN).invoke(instance), is((Object) FOO));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(7)
+    public void testRelinkableInvokeDynamicRegistrationReleasedWithClassLoader() throws Exception {
+        Class<?> bootstrap = Class.forName(BOOTSTRAP_CLASS);
+        Class<?> type = new ByteBuddy()
+                .redefine(Class.forName(BOOTSTRAP_CLASS + "$Sample"))
+                .visit(MemberSubstitution.strict()
+                        .method(named(FOO))
+                        .replaceWithRelinkableInvokeDynamic(BOOTSTRAP_CLASS + "$" + BAZ)
+                        .on(named(RUN)))
+                .make()
+                .load(bootstrap.getClassLoader(), ClassLoadingStrategy.Default.CHILD_FIRST)
+                .getLoaded();
+        assertThat(type.getDeclaredMethod(RUN).invoke(type.getDeclaredConstructor().newInstance()), is((Object) FOO));
+        Field field = MemberSubstitution.CallSiteRegistry.class.getDeclaredField("REGISTRATIONS");
+        field.setAccessible(true);
+        Map<?, ?> registrations = (Map<?, ?>) field.get(null);
+        Reference<ClassLoader> classLoader = new WeakReference<ClassLoader>(type.getClassLoader());
+        synchronized (registrations) {
+            assertThat(registrations.containsKey(classLoader.get()), is(true));
+        }
+        type = null;
+        for (int index = 0; index < 10 && classLoader.get() != null; index++) {
+            System.gc();
+            Thread.sleep(10L);
+        }
+        assertThat(classLoader.get(), nullValue(ClassLoader.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRelinkableInvokeDynamicRetargetNoMethodHandle() throws Exception {
+        MemberSubstitution.CallSiteRegistry.retarget(FOO, new Object());
+    }
+
+    @Test
+    public void testUnboundCacheSharedPerType() throws Exception {
+        MemberSubstitution.UnboundCache unboundCache = new MemberSubstitution.UnboundCache();
+        TypeDescription instrumentedType = mock(TypeDescription.class), otherType = mock(TypeDescription.class);
+        TypePool typePool = mock(TypePool.class);
+        Set<String> unbound = unboundCache.resolve(instrumentedType, typePool);
+        unbound.add(FOO);
+        assertThat(unboundCache.resolve(instrumentedType, typePool), sameInstance(unbound));
+        assertThat(unboundCache.resolve(instrumentedType, mock(TypePool.class)).contains(FOO), is(false));
+        assertThat(unboundCache.resolve(otherType, typePool).contains(FOO), is(false));
+    }
+
     @Test(expected = IllegalStateException.class)
     public void testNoParametersNoMemberFieldMatch() throws Exception {
         new ByteBuddy()
@@ -131,6 +131,11 @@ public class TypeDescriptionForLoadedTypeTest extends AbstractTypeDescriptionTes
         assertThat(TypeDescription.ForLoadedType.getName(Object.class), is(Object.class.getName()));
     }
 
+    @Test
+    public void testLoadedType() throws Exception {
+        assertThat(((TypeDescription.ForLoadedType) TypeDescription.ForLoadedType.of(Foo.class)).getLoadedType(), is((Object) Foo.class));
+    }
+
     @Test
     public void testLazyResolution() throws Exception {
         ClassLoader classLoader = new ByteArrayClassLoader(ClassLoadingStrategy.BOOTSTRAP_LOADER, ClassFileLocator.ForClassLoader.readToNames(Foo.class));
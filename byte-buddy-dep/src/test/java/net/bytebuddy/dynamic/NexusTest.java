@@ -13,16 +13,19 @@ import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Modifier;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.Map;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.*;
 
 public class NexusTest {
 
@@ -62,7 +65,8 @@ public class NexusTest {
                         NexusAccessor.Dispatcher.class,
                         NexusAccessor.Dispatcher.CreationAction.class,
                         NexusAccessor.Dispatcher.Available.class,
-                        NexusAccessor.Dispatcher.Unavailable.class),
+                        NexusAccessor.Dispatcher.Unavailable.class,
+                        NexusAccessor.InitializationHandler.class),
                 null,
                 ByteArrayClassLoader.PersistenceHandler.MANIFEST,
                 PackageDefinitionStrategy.NoOp.INSTANCE);
@@ -90,14 +94,15 @@ public class NexusTest {
     }
 
     @Test
-    public void testNexusAccessorClassLoaderBoundary() throws Exception {
+    public void testNexusAccessorClassLoaderBoundary() throws Throwable {
         ClassLoader classLoader = new ByteArrayClassLoader.ChildFirst(getClass().getClassLoader(),
                 ClassFileLocator.ForClassLoader.readToNames(Nexus.class,
                         NexusAccessor.class,
                         NexusAccessor.Dispatcher.class,
                         NexusAccessor.Dispatcher.CreationAction.class,
                         NexusAccessor.Dispatcher.Available.class,
-                        NexusAccessor.Dispatcher.Unavailable.class),
+                        NexusAccessor.Dispatcher.Unavailable.class,
+                        NexusAccessor.InitializationHandler.class),
                 null,
                 ByteArrayClassLoader.PersistenceHandler.MANIFEST,
                 PackageDefinitionStrategy.NoOp.INSTANCE);
@@ -120,19 +125,23 @@ public class NexusTest {
             Constructor<Nexus> constructor = Nexus.class.getDeclaredConstructor(String.class, ClassLoader.class, ReferenceQueue.class, int.class);
             constructor.setAccessible(true);
             Object value = ((Map<?, ?>) actualInitializers.get(null)).remove(constructor.newInstance(FOO, qux, null, BAR));
-            assertThat(value, is((Object) loadedTypeInitializer));
+            assertThat(value, instanceOf(InvocationHandler.class));
+            assertThat(value.getClass().getClassLoader(), is(classLoader));
+            ((InvocationHandler) value).invoke(null, null, new Object[]{Object.class});
+            verify(loadedTypeInitializer).onLoad(Object.class);
         }
     }
 
     @Test
-    public void testNexusAccessorClassLoaderNoResource() throws Exception {
+    public void testNexusAccessorClassLoaderNoResource() throws Throwable {
         ClassLoader classLoader = new ByteArrayClassLoader.ChildFirst(getClass().getClassLoader(),
                 ClassFileLocator.ForClassLoader.readToNames(Nexus.class,
                         NexusAccessor.class,
                         NexusAccessor.Dispatcher.class,
                         NexusAccessor.Dispatcher.CreationAction.class,
                         NexusAccessor.Dispatcher.Available.class,
-                        NexusAccessor.Dispatcher.Unavailable.class),
+                        NexusAccessor.Dispatcher.Unavailable.class,
+                        NexusAccessor.InitializationHandler.class),
                 null,
                 ByteArrayClassLoader.PersistenceHandler.LATENT,
                 PackageDefinitionStrategy.NoOp.INSTANCE);
@@ -155,7 +164,10 @@ public class NexusTest {
             Constructor<Nexus> constructor = Nexus.class.getDeclaredConstructor(String.class, ClassLoader.class, ReferenceQueue.class, int.class);
             constructor.setAccessible(true);
             Object value = ((Map<?, ?>) actualInitializers.get(null)).remove(constructor.newInstance(FOO, qux, null, BAR));
-            assertThat(value, is((Object) loadedTypeInitializer));
+            assertThat(value, instanceOf(InvocationHandler.class));
+            assertThat(value.getClass().getClassLoader(), is(classLoader));
+            ((InvocationHandler) value).invoke(null, null, new Object[]{Object.class});
+            verify(loadedTypeInitializer).onLoad(Object.class);
         }
     }
 
@@ -197,6 +209,146 @@ public class NexusTest {
         new NexusAccessor.Dispatcher.Unavailable("unavailable").clean(mock(Reference.class));
     }
 
+    @Test
+    public void testNexusRegister() throws Exception {
+        Field typeInitializers = Nexus.class.getDeclaredField("TYPE_INITIALIZERS");
+        typeInitializers.setAccessible(true);
+        Nexus.register(FOO, classLoader, null, BAR, loadedTypeInitializer);
+        Constructor<Nexus> constructor = Nexus.class.getDeclaredConstructor(String.class, ClassLoader.class, ReferenceQueue.class, int.class);
+        constructor.setAccessible(true);
+        Object value = ((Map<?, ?>) typeInitializers.get(null)).remove(constructor.newInstance(FOO, classLoader, null, BAR));
+        assertThat(value, is((Object) loadedTypeInitializer));
+    }
+
+    @Test
+    public void testNexusInitializeReflective() throws Exception {
+        Class<?> type = mock(Object.class).getClass();
+        Nexus.register(type.getName(), type.getClassLoader(), null, BAR, loadedTypeInitializer);
+        Nexus.initialize(type, BAR);
+        verify(loadedTypeInitializer).onLoad(type);
+        Nexus.initialize(type, BAR);
+        verifyNoMoreInteractions(loadedTypeInitializer);
+    }
+
+    @Test
+    public void testNexusInitializeInvocationHandler() throws Exception {
+        Class<?> type = mock(Object.class).getClass();
+        Nexus.register(type.getName(), type.getClassLoader(), null, BAR, new NexusAccessor.InitializationHandler(loadedTypeInitializer));
+        Nexus.initialize(type, BAR);
+        verify(loadedTypeInitializer).onLoad(type);
+        Nexus.initialize(type, BAR);
+        verifyNoMoreInteractions(loadedTypeInitializer);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNexusInitializeInvocationHandlerException() throws Exception {
+        Class<?> type = mock(Object.class).getClass();
+        doThrow(new IllegalArgumentException()).when(loadedTypeInitializer).onLoad(type);
+        Nexus.register(type.getName(), type.getClassLoader(), null, BAR, new NexusAccessor.InitializationHandler(loadedTypeInitializer));
+        Nexus.initialize(type, BAR);
+    }
+
+    @Test
+    public void testInitializationHandlerReflective() throws Exception {
+        NexusAccessor.InitializationHandler.class.getMethod("onLoad", Class.class).invoke(new NexusAccessor.InitializationHandler(loadedTypeInitializer), Object.class);
+        verify(loadedTypeInitializer).onLoad(Object.class);
+        verifyNoMoreInteractions(loadedTypeInitializer);
+    }
+
+    @Test
+    public void testNexusDefine() throws Exception {
+        Object value = new Object();
+        Nexus.define(NexusTest.class.getName(), NexusTest.class.getClassLoader(), null, FOO, value);
+        Field constants = Nexus.class.getDeclaredField("CONSTANTS");
+        constants.setAccessible(true);
+        Constructor<Nexus> constructor = Nexus.class.getDeclaredConstructor(String.class, ClassLoader.class, ReferenceQueue.class, int.class);
+        constructor.setAccessible(true);
+        Object entry = ((Map<?, ?>) constants.get(null)).remove(constructor.newInstance(NexusTest.class.getName() + "/" + FOO, NexusTest.class.getClassLoader(), null, 0));
+        assertThat(entry, instanceOf(Object[].class));
+        assertThat(((Object[]) entry)[0], sameInstance(value));
+    }
+
+    @Test
+    public void testNexusDefineExpungedAfterClassLoaderCollection() throws Exception {
+        Field constants = Nexus.class.getDeclaredField("CONSTANTS");
+        constants.setAccessible(true);
+        ClassLoader classLoader = new URLClassLoader(new URL[0]);
+        Nexus.define(FOO, classLoader, null, FOO, new Object());
+        assertThat(((Map<?, ?>) constants.get(null)).size(), is(1));
+        classLoader = null;
+        Object value = new Object();
+        Nexus.define(NexusTest.class.getName(), NexusTest.class.getClassLoader(), null, FOO, value);
+        for (int index = 0; index < 10 && ((Map<?, ?>) constants.get(null)).size() != 1; index++) {
+            System.gc();
+            Thread.sleep(10L);
+            Nexus.define(NexusTest.class.getName(), NexusTest.class.getClassLoader(), null, FOO, value);
+        }
+        try {
+            assertThat(((Map<?, ?>) constants.get(null)).size(), is(1));
+        } finally {
+            ((Map<?, ?>) constants.get(null)).clear();
+        }
+    }
+
+    @Test
+    public void testNexusDefineConflict() throws Exception {
+        Field constants = Nexus.class.getDeclaredField("CONSTANTS");
+        constants.setAccessible(true);
+        Object value = new Object();
+        Nexus.define(NexusTest.class.getName(), NexusTest.class.getClassLoader(), null, FOO, value);
+        try {
+            Nexus.define(NexusTest.class.getName(), NexusTest.class.getClassLoader(), null, FOO, value);
+            try {
+                Nexus.define(NexusTest.class.getName(), NexusTest.class.getClassLoader(), null, FOO, new Object());
+                fail();
+            } catch (IllegalStateException ignored) {
+                /* expected */
+            }
+            assertThat(((Map<?, ?>) constants.get(null)).size(), is(1));
+        } finally {
+            ((Map<?, ?>) constants.get(null)).clear();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testNexusResolveUndefined() throws Exception {
+        Nexus.resolve(FOO, NexusTest.class);
+    }
+
+    @Test
+    public void testNexusResolveNotLinkedByOwner() throws Exception {
+        Nexus.define(NexusTest.class.getName(), NexusTest.class.getClassLoader(), null, FOO, new Object());
+        try {
+            Nexus.resolve(FOO, NexusTest.class);
+            fail();
+        } catch (IllegalStateException ignored) {
+            /* expected */
+        } finally {
+            Field constants = Nexus.class.getDeclaredField("CONSTANTS");
+            constants.setAccessible(true);
+            ((Map<?, ?>) constants.get(null)).clear();
+        }
+    }
+
+    @Test
+    public void testConstantInitializer() throws Exception {
+        Object value = new Object();
+        NexusAccessor.ConstantInitializer constantInitializer = new NexusAccessor.ConstantInitializer(FOO, value);
+        assertThat(constantInitializer.isAlive(), is(true));
+        constantInitializer.onLoad(NexusTest.class);
+        Field constants = Nexus.class.getDeclaredField("CONSTANTS");
+        constants.setAccessible(true);
+        Constructor<Nexus> constructor = Nexus.class.getDeclaredConstructor(String.class, ClassLoader.class, ReferenceQueue.class, int.class);
+        constructor.setAccessible(true);
+        Object entry = ((Map<?, ?>) constants.get(null)).remove(constructor.newInstance(NexusTest.class.getName() + "/" + FOO, NexusTest.class.getClassLoader(), null, 0));
+        assertThat(((Object[]) entry)[0], sameInstance(value));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testConstantInitializerBootType() throws Exception {
+        new NexusAccessor.ConstantInitializer(FOO, new Object()).onLoad(Object.class);
+    }
+
     @Test
     public void testNexusEquality() throws Exception {
         Constructor<Nexus> constructor = Nexus.class.getDeclaredConstructor(String.class, ClassLoader.class, ReferenceQueue.class, int.class);
@@ -0,0 +1,104 @@
+package net.bytebuddy.dynamic.loading;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@RunWith(Parameterized.class)
+public class ByteArrayClassLoaderStorageStrategyTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    private static final byte[] FIRST = new byte[]{1, 2, 3}, SECOND = new byte[]{4, 5, 6, 7};
+
+    private final ByteArrayClassLoader.StorageStrategy storageStrategy;
+
+    public ByteArrayClassLoaderStorageStrategyTest(ByteArrayClassLoader.StorageStrategy storageStrategy) {
+        this.storageStrategy = storageStrategy;
+    }
+
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+        return Arrays.asList(new Object[][]{
+                {ByteArrayClassLoader.StorageStrategy.ON_HEAP},
+                {ByteArrayClassLoader.StorageStrategy.OFF_HEAP},
+                {ByteArrayClassLoader.StorageStrategy.OFF_HEAP_COMPRESSED}
+        });
+    }
+
+    @Test
+    public void testLookup() throws Exception {
+        ConcurrentMap<String, byte[]> typeDefinitions = storageStrategy.make(Collections.singletonMap(FOO, FIRST));
+        assertThat(typeDefinitions.size(), is(1));
+        assertThat(typeDefinitions.containsKey(FOO), is(true));
+        assertThat(typeDefinitions.containsKey(BAR), is(false));
+        assertThat(typeDefinitions.get(FOO), is(FIRST));
+        assertThat(typeDefinitions.get(BAR), nullValue(byte[].class));
+    }
+
+    @Test
+    public void testPutAndRemove() throws Exception {
+        ConcurrentMap<String, byte[]> typeDefinitions = storageStrategy.make(Collections.<String, byte[]>emptyMap());
+        assertThat(typeDefinitions.putIfAbsent(FOO, FIRST), nullValue(byte[].class));
+        assertThat(typeDefinitions.putIfAbsent(FOO, SECOND), is(FIRST));
+        assertThat(typeDefinitions.put(FOO, SECOND), is(FIRST));
+        assertThat(typeDefinitions.get(FOO), is(SECOND));
+        assertThat(typeDefinitions.remove(FOO), is(SECOND));
+        assertThat(typeDefinitions.remove(FOO), nullValue(byte[].class));
+        assertThat(typeDefinitions.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testConditionalRemoveAndReplace() throws Exception {
+        ConcurrentMap<String, byte[]> typeDefinitions = storageStrategy.make(Collections.singletonMap(FOO, FIRST));
+        assertThat(typeDefinitions.replace(BAR, FIRST), nullValue(byte[].class));
+        assertThat(typeDefinitions.containsKey(BAR), is(false));
+        assertThat(typeDefinitions.remove(FOO, SECOND), is(false));
+        assertThat(typeDefinitions.replace(FOO, SECOND, FIRST), is(false));
+        assertThat(typeDefinitions.replace(FOO, typeDefinitions.get(FOO), SECOND), is(true));
+        assertThat(typeDefinitions.get(FOO), is(SECOND));
+        assertThat(typeDefinitions.replace(FOO, FIRST), is(SECOND));
+        assertThat(typeDefinitions.remove(FOO, typeDefinitions.get(FOO)), is(true));
+        assertThat(typeDefinitions.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testKeySetRemove() throws Exception {
+        ConcurrentMap<String, byte[]> typeDefinitions = storageStrategy.make(Collections.singletonMap(FOO, FIRST));
+        assertThat(typeDefinitions.keySet().remove(BAR), is(false));
+        assertThat(typeDefinitions.keySet().remove(FOO), is(true));
+        assertThat(typeDefinitions.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testIteration() throws Exception {
+        ConcurrentMap<String, byte[]> typeDefinitions = storageStrategy.make(Collections.singletonMap(FOO, FIRST));
+        Iterator<Map.Entry<String, byte[]>> iterator = typeDefinitions.entrySet().iterator();
+        assertThat(iterator.hasNext(), is(true));
+        Map.Entry<String, byte[]> entry = iterator.next();
+        assertThat(entry.getKey(), is(FOO));
+        assertThat(entry.getValue(), is(FIRST));
+        assertThat(iterator.hasNext(), is(false));
+        iterator.remove();
+        assertThat(typeDefinitions.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testLargeDefinition() throws Exception {
+        byte[] binaryRepresentation = new byte[1 << 16];
+        for (int index = 0; index < binaryRepresentation.length; index++) {
+            binaryRepresentation[index] = (byte) (index % 7);
+        }
+        assertThat(storageStrategy.make(Collections.singletonMap(FOO, binaryRepresentation)).get(FOO), is(binaryRepresentation));
+    }
+}
@@ -42,6 +42,8 @@ public class ByteArrayClassLoaderTest {
 
     private final boolean expectedResourceLookup;
 
+    private final ByteArrayClassLoader.StorageStrategy storageStrategy;
+
     @Rule
     public TestRule mockitoRule = new MockitoRule(this);
 
@@ -58,16 +60,23 @@ public class ByteArrayClassLoaderTest {
     @Mock
     private ClassFileTransformer classFileTransformer;
 
-    public ByteArrayClassLoaderTest(ByteArrayClassLoader.PersistenceHandler persistenceHandler, boolean expectedResourceLookup) {
+    public ByteArrayClassLoaderTest(ByteArrayClassLoader.PersistenceHandler persistenceHandler,
+                                    boolean expectedResourceLookup,
+                                    ByteArrayClassLoader.StorageStrategy storageStrategy) {
         this.persistenceHandler = persistenceHandler;
         this.expectedResourceLookup = expectedResourceLookup;
+        this.storageStrategy = storageStrategy;
     }
 
     @Parameterized.Parameters
     public static Collection<Object[]> data() {
         return Arrays.asList(new Object[][]{
-                {ByteArrayClassLoader.PersistenceHandler.LATENT, false},
-                {ByteArrayClassLoader.PersistenceHandler.MANIFEST, true}
+                {ByteArrayClassLoader.PersistenceHandler.LATENT, false, ByteArrayClassLoader.StorageStrategy.ON_HEAP},
+                {ByteArrayClassLoader.PersistenceHandler.MANIFEST, true, ByteArrayClassLoader.StorageStrategy.ON_HEAP},
+                {ByteArrayClassLoader.PersistenceHandler.LATENT, false, ByteArrayClassLoader.StorageStrategy.OFF_HEAP},
+                {ByteArrayClassLoader.PersistenceHandler.MANIFEST, true, ByteArrayClassLoader.StorageStrategy.OFF_HEAP},
+                {ByteArrayClassLoader.PersistenceHandler.LATENT, false, ByteArrayClassLoader.StorageStrategy.OFF_HEAP_COMPRESSED},
+                {ByteArrayClassLoader.PersistenceHandler.MANIFEST, true, ByteArrayClassLoader.StorageStrategy.OFF_HEAP_COMPRESSED}
         });
     }
 
@@ -79,7 +88,8 @@ public class ByteArrayClassLoaderTest {
                 DEFAULT_PROTECTION_DOMAIN,
                 persistenceHandler,
                 packageDefinitionStrategy,
-                classFileTransformer);
+                classFileTransformer,
+                storageStrategy);
         sealBase = new URL("file://foo");
         when(packageDefinitionStrategy.define(classLoader, Foo.class.getPackage().getName(), Foo.class.getName()))
                 .thenReturn(new PackageDefinitionStrategy.Definition.Simple(FOO, BAR, QUX, QUX, FOO, BAR, sealBase));
@@ -247,6 +257,22 @@ public class ByteArrayClassLoaderTest {
         assertThat(type, is((Object) classLoader.loadClass(Foo.class.getName())));
     }
 
+    @Test
+    public void testInjectionResourceLookup() throws Exception {
+        classLoader.defineClass(Bar.class.getName(), ClassFileLocator.ForClassLoader.read(Bar.class));
+        assertThat(classLoader.getResource(Bar.class.getName().replace('.', '/') + CLASS_FILE), expectedResourceLookup
+                ? notNullValue(URL.class)
+                : nullValue(URL.class));
+    }
+
+    @Test
+    public void testPredefinedInjectionResourceLookup() throws Exception {
+        classLoader.defineClass(Foo.class.getName(), ClassFileLocator.ForClassLoader.read(Foo.class));
+        assertThat(classLoader.getResource(Foo.class.getName().replace('.', '/') + CLASS_FILE), expectedResourceLookup
+                ? notNullValue(URL.class)
+                : nullValue(URL.class));
+    }
+
     private static class Foo {
         /* Note: Foo is know to the system class loader but not to the bootstrap class loader */
     }
@@ -0,0 +1,109 @@
+package net.bytebuddy.dynamic.loading;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.Ownership;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.implementation.MethodCall;
+import net.bytebuddy.test.utility.JavaVersionRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.MethodRule;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ClassInjectorUsingHiddenLookupTest {
+
+    @Rule
+    public MethodRule javaVersionRule = new JavaVersionRule();
+
+    private Class<?> type;
+
+    @Before
+    public void setUp() throws Exception {
+        type = new ByteBuddy()
+                .subclass(Object.class)
+                .name("net.bytebuddy.test.Foo")
+                .defineMethod("lookup", Object.class, Ownership.STATIC, Visibility.PUBLIC)
+                .intercept(MethodCall.invoke(Class.forName("java.lang.invoke.MethodHandles").getMethod("lookup")))
+                .make()
+                .load(ClassLoadingStrategy.BOOTSTRAP_LOADER, ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(atMost = 14)
+    public void testIsNotAvailable() {
+        assertThat(ClassInjector.UsingHiddenLookup.isAvailable(), is(false));
+        assertThat(ClassInjector.UsingHiddenLookup.isClassDataAvailable(), is(false));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    @JavaVersionRule.Enforce(atMost = 14)
+    public void testCannotCreateOnLegacyVm() throws Exception {
+        ClassInjector.UsingHiddenLookup.of(type.getMethod("lookup").invoke(null));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(15)
+    public void testIsAvailable() {
+        assertThat(ClassInjector.UsingHiddenLookup.isAvailable(), is(true));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(15)
+    public void testHiddenInjection() throws Exception {
+        ClassInjector injector = ClassInjector.UsingHiddenLookup.of(type.getMethod("lookup").invoke(null));
+        DynamicType dynamicType = new ByteBuddy()
+                .subclass(Object.class)
+                .name("net.bytebuddy.test.Bar")
+                .make();
+        Class<?> hidden = injector.inject(Collections.singletonMap(dynamicType.getTypeDescription(), dynamicType.getBytes()))
+                .get(dynamicType.getTypeDescription());
+        assertThat(hidden.getName(), startsWith("net.bytebuddy.test.Bar/"));
+        assertThat(hidden.getClassLoader(), is(type.getClassLoader()));
+        assertThat(Class.class.getMethod("isHidden").invoke(hidden), is((Object) true));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(15)
+    public void testHiddenInjectionNestMate() throws Exception {
+        ClassInjector injector = ClassInjector.UsingHiddenLookup.of(type.getMethod("lookup").invoke(null),
+                ClassInjector.UsingHiddenLookup.Option.NESTMATE,
+                ClassInjector.UsingHiddenLookup.Option.STRONG);
+        DynamicType dynamicType = new ByteBuddy()
+                .subclass(Object.class)
+                .name("net.bytebuddy.test.Bar")
+                .make();
+        Class<?> hidden = injector.inject(Collections.singletonMap(dynamicType.getTypeDescription(), dynamicType.getBytes()))
+                .get(dynamicType.getTypeDescription());
+        assertThat(Class.class.getMethod("getNestHost").invoke(hidden), is((Object) type));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(16)
+    public void testHiddenInjectionClassData() throws Exception {
+        ClassInjector injector = ClassInjector.UsingHiddenLookup.of(type.getMethod("lookup").invoke(null)).withClassData("foo");
+        DynamicType dynamicType = new ByteBuddy()
+                .subclass(Object.class)
+                .name("net.bytebuddy.test.Bar")
+                .make();
+        assertThat(injector.inject(Collections.singletonMap(dynamicType.getTypeDescription(), dynamicType.getBytes()))
+                .get(dynamicType.getTypeDescription()), notNullValue(Class.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    @JavaVersionRule.Enforce(15)
+    public void testHiddenInjectionWrongPackage() throws Exception {
+        ClassInjector injector = ClassInjector.UsingHiddenLookup.of(type.getMethod("lookup").invoke(null));
+        DynamicType dynamicType = new ByteBuddy()
+                .subclass(Object.class)
+                .name("net.bytebuddy.other.Bar")
+                .make();
+        injector.inject(Collections.singletonMap(dynamicType.getTypeDescription(), dynamicType.getBytes()));
+    }
+}
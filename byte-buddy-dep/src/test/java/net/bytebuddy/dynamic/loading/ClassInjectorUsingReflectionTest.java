@@ -3,6 +3,7 @@ package net.bytebuddy.dynamic.loading;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.TargetType;
 import net.bytebuddy.implementation.MethodDelegation;
 import net.bytebuddy.implementation.bind.annotation.AllArguments;
@@ -16,16 +17,19 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.MethodRule;
+import org.mockito.InOrder;
 
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static net.bytebuddy.matcher.ElementMatchers.named;
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.*;
 
 public class ClassInjectorUsingReflectionTest {
 
@@ -221,6 +225,85 @@ public class ClassInjectorUsingReflectionTest {
         assertThat(type.getDeclaredMethod(BAR, String.class).invoke(type.getDeclaredConstructor().newInstance(), FOO), is((Object) BAR));
     }
 
+    @Test
+    @ClassReflectionInjectionAvailableRule.Enforce
+    public void testInjectionInHierarchyOrder() throws Exception {
+        DynamicType.Unloaded<?> superType = new ByteBuddy()
+                .subclass(Object.class)
+                .name("foo.Bar")
+                .make();
+        DynamicType.Unloaded<?> subType = new ByteBuddy()
+                .subclass(superType.getTypeDescription())
+                .name("foo.Qux")
+                .make();
+        Map<String, byte[]> types = new LinkedHashMap<String, byte[]>();
+        types.put(subType.getTypeDescription().getName(), subType.getBytes());
+        types.put(superType.getTypeDescription().getName(), superType.getBytes());
+        PackageDefinitionStrategy packageDefinitionStrategy = mock(PackageDefinitionStrategy.class);
+        when(packageDefinitionStrategy.define(classLoader, FOO, superType.getTypeDescription().getName())).thenReturn(PackageDefinitionStrategy.Definition.Trivial.INSTANCE);
+        when(packageDefinitionStrategy.define(classLoader, FOO, subType.getTypeDescription().getName())).thenReturn(PackageDefinitionStrategy.Definition.Trivial.INSTANCE);
+        ClassInjector.UsingReflection.Listener listener = mock(ClassInjector.UsingReflection.Listener.class);
+        Map<String, Class<?>> loaded = new ClassInjector.UsingReflection(classLoader,
+                ClassLoadingStrategy.NO_PROTECTION_DOMAIN,
+                packageDefinitionStrategy,
+                false,
+                listener).injectRaw(types);
+        assertThat(loaded.size(), is(2));
+        assertThat(loaded.get(subType.getTypeDescription().getName()).getSuperclass(), is((Object) loaded.get(superType.getTypeDescription().getName())));
+        assertThat(loaded.get(subType.getTypeDescription().getName()).getPackage().getName(), is(FOO));
+        verify(packageDefinitionStrategy).define(classLoader, FOO, superType.getTypeDescription().getName());
+        verify(packageDefinitionStrategy).define(classLoader, FOO, subType.getTypeDescription().getName());
+        verifyNoMoreInteractions(packageDefinitionStrategy);
+        InOrder inOrder = inOrder(listener);
+        inOrder.verify(listener).onDefinition(eq(superType.getTypeDescription().getName()),
+                eq(loaded.get(superType.getTypeDescription().getName())),
+                anyLong());
+        inOrder.verify(listener).onDefinition(eq(subType.getTypeDescription().getName()),
+                eq(loaded.get(subType.getTypeDescription().getName())),
+                anyLong());
+        verifyNoMoreInteractions(listener);
+    }
+
+    @Test(expected = SecurityException.class)
+    @ClassReflectionInjectionAvailableRule.Enforce
+    public void testInjectionSealingViolationOfSamePackage() throws Exception {
+        DynamicType.Unloaded<?> first = new ByteBuddy()
+                .subclass(Object.class)
+                .name("foo.Bar")
+                .make();
+        DynamicType.Unloaded<?> second = new ByteBuddy()
+                .subclass(Object.class)
+                .name("foo.Qux")
+                .make();
+        Map<String, byte[]> types = new LinkedHashMap<String, byte[]>();
+        types.put(first.getTypeDescription().getName(), first.getBytes());
+        types.put(second.getTypeDescription().getName(), second.getBytes());
+        PackageDefinitionStrategy.Definition definition = mock(PackageDefinitionStrategy.Definition.class);
+        when(definition.isDefined()).thenReturn(true);
+        PackageDefinitionStrategy packageDefinitionStrategy = mock(PackageDefinitionStrategy.class);
+        when(packageDefinitionStrategy.define(classLoader, FOO, first.getTypeDescription().getName())).thenReturn(PackageDefinitionStrategy.Definition.Trivial.INSTANCE);
+        when(packageDefinitionStrategy.define(classLoader, FOO, second.getTypeDescription().getName())).thenReturn(definition);
+        new ClassInjector.UsingReflection(classLoader,
+                ClassLoadingStrategy.NO_PROTECTION_DOMAIN,
+                packageDefinitionStrategy,
+                false).injectRaw(types);
+    }
+
+    @Test
+    @ClassReflectionInjectionAvailableRule.Enforce
+    public void testInjectionOfExistingTypeNotReported() throws Exception {
+        ClassInjector.UsingReflection.Listener listener = mock(ClassInjector.UsingReflection.Listener.class);
+        ClassInjector classInjector = new ClassInjector.UsingReflection(classLoader,
+                ClassLoadingStrategy.NO_PROTECTION_DOMAIN,
+                PackageDefinitionStrategy.Trivial.INSTANCE,
+                false,
+                listener);
+        classInjector.inject(Collections.singletonMap(TypeDescription.ForLoadedType.of(Foo.class), ClassFileLocator.ForClassLoader.read(Foo.class)));
+        classInjector.inject(Collections.singletonMap(TypeDescription.ForLoadedType.of(Foo.class), ClassFileLocator.ForClassLoader.read(Foo.class)));
+        verify(listener).onDefinition(eq(Foo.class.getName()), eq(classLoader.loadClass(Foo.class.getName())), anyLong());
+        verifyNoMoreInteractions(listener);
+    }
+
     @Test
     @ClassReflectionInjectionAvailableRule.Enforce
     public void testAvailability() throws Exception {
@@ -20,6 +20,7 @@ import java.util.Map;
 
 import static junit.framework.TestCase.assertEquals;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.*;
 
@@ -206,6 +207,33 @@ public class ClassLoadingStrategyDefaultTest {
         verify(packageDefinitionStrategy).define(any(ClassLoader.class), eq(Foo.class.getPackage().getName()), eq(Foo.class.getName()));
     }
 
+    @Test
+    public void testWrapperWithStorageStrategy() throws Exception {
+        Map<TypeDescription, Class<?>> loaded = ClassLoadingStrategy.Default.WRAPPER.with(ByteArrayClassLoader.StorageStrategy.OFF_HEAP)
+                .load(classLoader, binaryRepresentations);
+        assertThat(loaded.size(), is(1));
+        Class<?> type = loaded.get(typeDescription);
+        assertThat(type.getClassLoader().getParent(), is(classLoader));
+        assertThat(type.getName(), is(Foo.class.getName()));
+    }
+
+    @Test
+    public void testChildFirstPersistentWithStorageStrategy() throws Exception {
+        Map<TypeDescription, Class<?>> loaded = ClassLoadingStrategy.Default.CHILD_FIRST_PERSISTENT.with(ByteArrayClassLoader.StorageStrategy.OFF_HEAP_COMPRESSED)
+                .load(classLoader, binaryRepresentations);
+        assertThat(loaded.size(), is(1));
+        Class<?> type = loaded.get(typeDescription);
+        assertThat(type.getClassLoader().getParent(), is(classLoader));
+        assertThat(type.getName(), is(Foo.class.getName()));
+        assertThat(type.getClassLoader().getResource(Foo.class.getName().replace('.', '/') + ".class"), notNullValue(URL.class));
+    }
+
+    @Test
+    public void testInjectionWithStorageStrategy() throws Exception {
+        assertThat(ClassLoadingStrategy.Default.INJECTION.with(ByteArrayClassLoader.StorageStrategy.OFF_HEAP),
+                is((ClassLoadingStrategy<ClassLoader>) ClassLoadingStrategy.Default.INJECTION.with(ByteArrayClassLoader.StorageStrategy.ON_HEAP)));
+    }
+
     @Test(expected = IllegalStateException.class)
     public void testWrapperThrowsExceptionOnExistingClass() throws Exception {
         ClassLoadingStrategy.Default.WRAPPER.load(ClassLoader.getSystemClassLoader(), Collections.singletonMap(TypeDescription.STRING, new byte[0]));
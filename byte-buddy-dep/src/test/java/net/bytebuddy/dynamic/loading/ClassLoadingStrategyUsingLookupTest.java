@@ -49,6 +49,12 @@ public class ClassLoadingStrategyUsingLookupTest {
         assertThat(type.getName(), is(Foo.class.getName()));
     }
 
+    @Test
+    public void testHiddenFallback() throws Exception {
+        assertThat(ClassLoadingStrategy.UsingLookup.ofHidden(JavaType.METHOD_HANDLES.load().getMethod("lookup").invoke(null)),
+                notNullValue(ClassLoadingStrategy.class));
+    }
+
     @Test
     public void testFallback() {
         assertThat(ClassLoadingStrategy.UsingLookup.withFallback(new Callable<Object>() {
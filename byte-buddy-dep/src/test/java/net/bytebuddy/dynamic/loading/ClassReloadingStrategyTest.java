@@ -4,6 +4,7 @@ import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.agent.ByteBuddyAgent;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.implementation.FixedValue;
 import net.bytebuddy.test.utility.AgentAttachmentRule;
 import net.bytebuddy.test.utility.JavaVersionRule;
@@ -12,11 +13,16 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.MethodRule;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
 
 import java.lang.instrument.ClassDefinition;
 import java.lang.instrument.Instrumentation;
 import java.security.ProtectionDomain;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 
 import static junit.framework.TestCase.assertEquals;
@@ -164,6 +170,91 @@ public class ClassReloadingStrategyTest {
         assertThat(classDefinition.getValue().getDefinitionClassFile(), is(new byte[]{1, 2, 3}));
     }
 
+    @Test
+    public void testContentTrackingSkipsUnchangedType() throws Exception {
+        Instrumentation instrumentation = mock(Instrumentation.class);
+        ClassLoader classLoader = mock(ClassLoader.class);
+        when(instrumentation.isRedefineClassesSupported()).thenReturn(true);
+        when(instrumentation.getInitiatedClasses(classLoader)).thenReturn(new Class<?>[0]);
+        ClassReloadingStrategy classReloadingStrategy = ClassReloadingStrategy.of(instrumentation)
+                .preregistered(Object.class)
+                .enableContentTracking();
+        assertThat(classReloadingStrategy.load(classLoader, Collections.singletonMap(TypeDescription.OBJECT, new byte[]{1, 2, 3})),
+                is(Collections.<TypeDescription, Class<?>>singletonMap(TypeDescription.OBJECT, Object.class)));
+        assertThat(classReloadingStrategy.load(classLoader, Collections.singletonMap(TypeDescription.OBJECT, new byte[]{1, 2, 3})),
+                is(Collections.<TypeDescription, Class<?>>singletonMap(TypeDescription.OBJECT, Object.class)));
+        verify(instrumentation, times(1)).redefineClasses(Mockito.any(ClassDefinition.class));
+        classReloadingStrategy.load(classLoader, Collections.singletonMap(TypeDescription.OBJECT, new byte[]{4, 5, 6}));
+        verify(instrumentation, times(2)).redefineClasses(Mockito.any(ClassDefinition.class));
+    }
+
+    @Test
+    public void testContentTrackingSkipsResetOfOriginalType() throws Exception {
+        Instrumentation instrumentation = mock(Instrumentation.class);
+        when(instrumentation.isRedefineClassesSupported()).thenReturn(true);
+        ClassFileLocator classFileLocator = mock(ClassFileLocator.class);
+        when(classFileLocator.locate(Object.class.getName())).thenReturn(new ClassFileLocator.Resolution.Explicit(new byte[]{1, 2, 3}));
+        ClassReloadingStrategy classReloadingStrategy = ClassReloadingStrategy.of(instrumentation).enableContentTracking();
+        classReloadingStrategy.reset(classFileLocator, Object.class);
+        classReloadingStrategy.reset(classFileLocator, Object.class);
+        verify(classFileLocator, times(1)).locate(Object.class.getName());
+        verify(instrumentation, times(1)).redefineClasses(Mockito.any(ClassDefinition.class));
+    }
+
+    @Test
+    public void testRedefinitionInHierarchyOrder() throws Exception {
+        Instrumentation instrumentation = mock(Instrumentation.class);
+        ClassLoader classLoader = mock(ClassLoader.class);
+        when(instrumentation.isRedefineClassesSupported()).thenReturn(true);
+        when(instrumentation.getInitiatedClasses(classLoader)).thenReturn(new Class<?>[0]);
+        ClassReloadingStrategy classReloadingStrategy = ClassReloadingStrategy.of(instrumentation).preregistered(Integer.class, Number.class, Comparable.class);
+        Map<TypeDescription, byte[]> types = new LinkedHashMap<TypeDescription, byte[]>();
+        types.put(TypeDescription.ForLoadedType.of(Integer.class), new byte[]{1});
+        types.put(TypeDescription.ForLoadedType.of(Comparable.class), new byte[]{2});
+        types.put(TypeDescription.ForLoadedType.of(Number.class), new byte[]{3});
+        classReloadingStrategy.load(classLoader, types);
+        ArgumentCaptor<ClassDefinition> classDefinition = ArgumentCaptor.forClass(ClassDefinition.class);
+        verify(instrumentation).redefineClasses(classDefinition.capture(), classDefinition.capture(), classDefinition.capture());
+        List<Class<?>> order = new ArrayList<Class<?>>();
+        for (ClassDefinition definition : classDefinition.getAllValues()) {
+            order.add(definition.getDefinitionClass());
+        }
+        assertThat(order.size(), is(3));
+        assertThat(order.indexOf(Number.class) < order.indexOf(Integer.class), is(true));
+        assertThat(order.indexOf(Comparable.class) < order.indexOf(Integer.class), is(true));
+    }
+
+    @Test
+    @AgentAttachmentRule.Enforce(retransformsClasses = true)
+    public void testRetransformationWithContentTracking() throws Exception {
+        assertThat(ByteBuddyAgent.install(), instanceOf(Instrumentation.class));
+        Foo foo = new Foo();
+        assertThat(foo.foo(), is(FOO));
+        ClassReloadingStrategy classReloadingStrategy = ClassReloadingStrategy.fromInstalledAgent(ClassReloadingStrategy.Strategy.RETRANSFORMATION)
+                .enableContentTracking();
+        DynamicType.Unloaded<Foo> dynamicType = new ByteBuddy()
+                .redefine(Foo.class)
+                .method(named(FOO))
+                .intercept(FixedValue.value(BAR))
+                .make();
+        dynamicType.load(Foo.class.getClassLoader(), classReloadingStrategy);
+        try {
+            assertThat(foo.foo(), is(BAR));
+            dynamicType.load(Foo.class.getClassLoader(), classReloadingStrategy);
+            assertThat(foo.foo(), is(BAR));
+        } finally {
+            classReloadingStrategy.reset(Foo.class);
+            assertThat(foo.foo(), is(FOO));
+        }
+        dynamicType.load(Foo.class.getClassLoader(), classReloadingStrategy);
+        try {
+            assertThat(foo.foo(), is(BAR));
+        } finally {
+            classReloadingStrategy.reset(Foo.class);
+            assertThat(foo.foo(), is(FOO));
+        }
+    }
+
     @Test
     public void testRetransformationDiscovery() throws Exception {
         Instrumentation instrumentation = mock(Instrumentation.class);
@@ -1,6 +1,7 @@
 package net.bytebuddy.dynamic.loading;
 
 import net.bytebuddy.test.utility.IntegrationRule;
+import net.bytebuddy.test.utility.JavaVersionRule;
 import net.bytebuddy.test.utility.MockitoRule;
 import org.hamcrest.CoreMatchers;
 import org.junit.Before;
@@ -32,6 +33,9 @@ public class MultipleParentClassLoaderTest {
     @Rule
     public MethodRule integrationRule = new IntegrationRule();
 
+    @Rule
+    public MethodRule javaVersionRule = new JavaVersionRule();
+
     @Mock
     private ClassLoader first, second;
 
@@ -143,6 +147,41 @@ public class MultipleParentClassLoaderTest {
         verifyNoMoreInteractions(second);
     }
 
+    @Test
+    public void testMultipleParentClassLoadingCached() throws Exception {
+        ClassLoader classLoader = new MultipleParentClassLoader.Builder().append(first, second, null).build();
+        assertThat(classLoader.loadClass(QUX), CoreMatchers.<Class<?>>is(Qux.class));
+        assertThat(classLoader.loadClass(QUX), CoreMatchers.<Class<?>>is(Qux.class));
+        verify(first).loadClass(QUX);
+        verifyNoMoreInteractions(first);
+        verify(second, times(2)).loadClass(QUX);
+        verifyNoMoreInteractions(second);
+    }
+
+    @Test
+    public void testMultipleParentClassLoadingNotFoundNotCached() throws Exception {
+        ClassLoader classLoader = new MultipleParentClassLoader.Builder().append(first, second, null).build();
+        try {
+            classLoader.loadClass(BAZ);
+            throw new AssertionError();
+        } catch (ClassNotFoundException ignored) {
+            /* expected */
+        }
+        doReturn(Qux.class).when(second).loadClass(BAZ);
+        assertThat(classLoader.loadClass(BAZ), CoreMatchers.<Class<?>>is(Qux.class));
+        verify(first, times(2)).loadClass(BAZ);
+        verifyNoMoreInteractions(first);
+        verify(second, times(2)).loadClass(BAZ);
+        verifyNoMoreInteractions(second);
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(9)
+    public void testParallelCapable() throws Exception {
+        ClassLoader classLoader = new MultipleParentClassLoader.Builder().append(first, second, null).build();
+        assertThat(ClassLoader.class.getMethod("isRegisteredAsParallelCapable").invoke(classLoader), is((Object) true));
+    }
+
     @Test(expected = ClassNotFoundException.class)
     public void testMultipleParentClassLoadingNotFound() throws Exception {
         new MultipleParentClassLoader.Builder().append(first, second, null).build().loadClass(BAZ);
@@ -163,6 +202,18 @@ public class MultipleParentClassLoaderTest {
         verifyNoMoreInteractions(second);
     }
 
+    @Test
+    @IntegrationRule.Enforce
+    public void testMultipleParentURLCached() throws Exception {
+        ClassLoader classLoader = new MultipleParentClassLoader.Builder().append(first, second, null).build();
+        assertThat(classLoader.getResource(QUX), is(quxUrl));
+        assertThat(classLoader.getResource(QUX), is(quxUrl));
+        verify(first).getResource(QUX);
+        verifyNoMoreInteractions(first);
+        verify(second, times(2)).getResource(QUX);
+        verifyNoMoreInteractions(second);
+    }
+
     @Test
     public void testMultipleParentURLNotFound() throws Exception {
         assertThat(new MultipleParentClassLoader.Builder().append(first, second, null).build().getResource(BAZ), nullValue(URL.class));
@@ -12,8 +12,7 @@ import org.objectweb.asm.ClassReader;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 public class ClassWriterStrategyFrameComputingClassWriterTest {
 
@@ -74,4 +73,21 @@ public class ClassWriterStrategyFrameComputingClassWriterTest {
         when(superClass.isAssignableFrom(rightType)).thenReturn(true);
         assertThat(frameComputingClassWriter.getCommonSuperClass(FOO, BAR), is(FOOBAR));
     }
+
+    @Test
+    public void testSameType() throws Exception {
+        assertThat(frameComputingClassWriter.getCommonSuperClass(FOO, FOO), is(FOO));
+        verifyZeroInteractions(typePool);
+    }
+
+    @Test
+    public void testCommonSuperClassIsMemoized() throws Exception {
+        when(superClass.isAssignableFrom(rightType)).thenReturn(true);
+        assertThat(frameComputingClassWriter.getCommonSuperClass(FOO, BAR), is(FOOBAR));
+        assertThat(frameComputingClassWriter.getCommonSuperClass(FOO, BAR), is(FOOBAR));
+        verify(typePool).describe(FOO.replace('/', '.'));
+        verify(typePool).describe(BAR.replace('/', '.'));
+        verify(leftType).getSuperClass();
+        verify(superClass).isAssignableFrom(rightType);
+    }
 }
@@ -14,10 +14,10 @@ import org.junit.rules.TestRule;
 import org.mockito.Mock;
 import org.objectweb.asm.FieldVisitor;
 
+import static net.bytebuddy.matcher.ElementMatchers.named;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 public class FieldRegistryDefaultTest {
 
@@ -40,7 +40,7 @@ public class FieldRegistryDefaultTest {
     private LatentMatcher<FieldDescription> latentMatcher;
 
     @Mock
-    private ElementMatcher<FieldDescription> matcher;
+    private ElementMatcher<FieldDescription> matcher, otherMatcher;
 
     @Mock
     private Object defaultValue, otherDefaultValue;
@@ -93,4 +93,15 @@ public class FieldRegistryDefaultTest {
         assertThat(fieldPool.target(unknownField).isImplicit(), is(true));
         assertThat(fieldPool.target(unknownField).getField(), is(unknownField));
     }
+
+    @Test
+    public void testFieldIndexedByName() throws Exception {
+        when(knownField.getActualName()).thenReturn("foo");
+        TypeWriter.FieldPool fieldPool = new FieldRegistry.Default()
+                .prepend(latentMatcher, distinctFactory, defaultValue, transformer)
+                .prepend(new LatentMatcher.Resolved<FieldDescription>(named("bar").and(otherMatcher)), distinctFactory, otherDefaultValue, transformer)
+                .compile(instrumentedType);
+        assertThat(fieldPool.target(knownField).resolveDefault(otherDefaultValue), is(defaultValue));
+        verifyZeroInteractions(otherMatcher);
+    }
 }
@@ -1,5 +1,6 @@
 package net.bytebuddy.dynamic.scaffold;
 
+import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.test.utility.MockitoRule;
 import org.junit.Rule;
@@ -96,6 +97,35 @@ public class MethodGraphCompilerDefaultKeyTest {
                 .getKey();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testStoreBuilderDoesNotAlterSource() throws Exception {
+        MethodGraph.Compiler.Default.Harmonizer harmonizer = MethodGraph.Compiler.Default.Harmonizer.ForJavaMethod.INSTANCE;
+        MethodGraph.Compiler.Default.Key.Store store = new MethodGraph.Compiler.Default.Key.Store()
+                .registerTopLevel(Collections.singletonList(new MethodDescription.ForLoadedMethod(Object.class.getMethod("toString"))), harmonizer);
+        MethodGraph.Compiler.Default.Key.Store.Builder builder = new MethodGraph.Compiler.Default.Key.Store.Builder(store);
+        MethodGraph.Compiler.Default.Key.Store extended = builder
+                .registerTopLevel(Collections.singletonList(new MethodDescription.ForLoadedMethod(Object.class.getMethod("hashCode"))), harmonizer)
+                .build();
+        assertThat(store.asGraph(MethodGraph.Compiler.Default.Merger.Directional.LEFT).listNodes().size(), is(1));
+        assertThat(extended.asGraph(MethodGraph.Compiler.Default.Merger.Directional.LEFT).listNodes().size(), is(2));
+        builder.registerTopLevel(Collections.singletonList(new MethodDescription.ForLoadedMethod(Object.class.getMethod("getClass"))), harmonizer);
+        assertThat(extended.asGraph(MethodGraph.Compiler.Default.Merger.Directional.LEFT).listNodes().size(), is(2));
+        assertThat(builder.build().asGraph(MethodGraph.Compiler.Default.Merger.Directional.LEFT).listNodes().size(), is(3));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testStoreBuilderEquivalentToStore() throws Exception {
+        MethodGraph.Compiler.Default.Harmonizer harmonizer = MethodGraph.Compiler.Default.Harmonizer.ForJavaMethod.INSTANCE;
+        MethodGraph.Compiler.Default.Key.Store left = new MethodGraph.Compiler.Default.Key.Store()
+                .registerTopLevel(Collections.singletonList(new MethodDescription.ForLoadedMethod(Object.class.getMethod("toString"))), harmonizer);
+        MethodGraph.Compiler.Default.Key.Store right = new MethodGraph.Compiler.Default.Key.Store()
+                .registerTopLevel(Collections.singletonList(new MethodDescription.ForLoadedMethod(Object.class.getMethod("hashCode"))), harmonizer);
+        assertThat(new MethodGraph.Compiler.Default.Key.Store.Builder().combineWith(left).inject(right).build(), is(left.combineWith(new MethodGraph.Compiler.Default.Key.Store()).inject(right)));
+        assertThat(new MethodGraph.Compiler.Default.Key.Store.Builder(left).combineWith(right).build(), is(left.combineWith(right)));
+    }
+
     protected static class PseudoKey extends MethodGraph.Compiler.Default.Key<SampleKey> {
 
         private final Set<SampleKey> identifiers;
@@ -0,0 +1,90 @@
+package net.bytebuddy.dynamic.scaffold;
+
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import org.junit.Test;
+
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class MethodGraphCompilerLazyTest {
+
+    private static final String FOO = "foo";
+
+    @Test
+    public void testLocateEqualsDefault() throws Exception {
+        TypeDescription typeDescription = TypeDescription.ForLoadedType.of(Sample.class);
+        MethodGraph.Linked lazy = MethodGraph.Compiler.Lazy.forJavaHierarchy().compile(typeDescription);
+        MethodGraph.Linked regular = MethodGraph.Compiler.Default.forJavaHierarchy().compile(typeDescription);
+        for (MethodGraph.Node node : regular.listNodes()) {
+            assertNode(lazy.locate(node.getRepresentative().asSignatureToken()), node);
+        }
+        for (MethodGraph.Node node : regular.getSuperClassGraph().listNodes()) {
+            assertNode(lazy.getSuperClassGraph().locate(node.getRepresentative().asSignatureToken()), node);
+        }
+        TypeDescription interfaceType = TypeDescription.ForLoadedType.of(Comparable.class);
+        for (MethodGraph.Node node : regular.getInterfaceGraph(interfaceType).listNodes()) {
+            assertNode(lazy.getInterfaceGraph(interfaceType).locate(node.getRepresentative().asSignatureToken()), node);
+        }
+    }
+
+    @Test
+    public void testListEqualsDefault() throws Exception {
+        TypeDescription typeDescription = TypeDescription.ForLoadedType.of(Sample.class);
+        MethodGraph.Linked lazy = MethodGraph.Compiler.Lazy.forJavaHierarchy().compile(typeDescription);
+        MethodGraph.Linked regular = MethodGraph.Compiler.Default.forJavaHierarchy().compile(typeDescription);
+        assertThat(lazy.listNodes().size(), is(regular.listNodes().size()));
+        assertThat(lazy.getSuperClassGraph().listNodes().size(), is(regular.getSuperClassGraph().listNodes().size()));
+        TypeDescription interfaceType = TypeDescription.ForLoadedType.of(Comparable.class);
+        assertThat(lazy.getInterfaceGraph(interfaceType).listNodes().size(), is(regular.getInterfaceGraph(interfaceType).listNodes().size()));
+        for (MethodGraph.Node node : regular.listNodes()) {
+            assertNode(lazy.locate(node.getRepresentative().asSignatureToken()), node);
+        }
+    }
+
+    @Test
+    public void testUnknownMethod() throws Exception {
+        MethodGraph.Linked lazy = MethodGraph.Compiler.Lazy.forJavaHierarchy().compile(TypeDescription.ForLoadedType.of(Sample.class));
+        assertThat(lazy.locate(new MethodDescription.SignatureToken(FOO + FOO,
+                TypeDescription.VOID,
+                java.util.Collections.<TypeDescription>emptyList())).getSort(), is(MethodGraph.Node.Sort.UNRESOLVED));
+    }
+
+    @Test
+    public void testCompilationIsDeferred() throws Exception {
+        TypeDescription typeDescription = TypeDescription.ForLoadedType.of(Sample.class);
+        MethodGraph.Compiler.Default<?> compiler = spy((MethodGraph.Compiler.Default<?>) MethodGraph.Compiler.Default.forJavaHierarchy());
+        MethodGraph.Linked lazy = new MethodGraph.Compiler.Lazy(compiler).compile(typeDescription);
+        verifyZeroInteractions(compiler);
+        MethodDescription.SignatureToken token = typeDescription.getDeclaredMethods().filter(named(FOO)).getOnly().asSignatureToken();
+        assertThat(lazy.locate(token).getSort(), is(MethodGraph.Node.Sort.RESOLVED));
+        assertThat(lazy.locate(token).getSort(), is(MethodGraph.Node.Sort.RESOLVED));
+        verify(compiler).compile(typeDescription, typeDescription, FOO);
+        verify(compiler, never()).compile(typeDescription, typeDescription);
+        assertThat(lazy.listNodes().size(), is(MethodGraph.Compiler.Default.forJavaHierarchy().compile(typeDescription).listNodes().size()));
+        assertThat(lazy.locate(token).getSort(), is(MethodGraph.Node.Sort.RESOLVED));
+        verify(compiler).compile(typeDescription, typeDescription);
+        verify(compiler, times(1)).compile(typeDescription, typeDescription, FOO);
+    }
+
+    private static void assertNode(MethodGraph.Node actual, MethodGraph.Node expected) {
+        assertThat(actual.getSort(), is(expected.getSort()));
+        assertThat(actual.getRepresentative(), is(expected.getRepresentative()));
+        assertThat(actual.getVisibility(), is(expected.getVisibility()));
+        assertThat((Object) actual.getMethodTypes(), is((Object) expected.getMethodTypes()));
+    }
+
+    public abstract static class Sample implements Comparable<Sample> {
+
+        public void foo() {
+            /* empty */
+        }
+
+        public int compareTo(Sample other) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package net.bytebuddy.dynamic.scaffold;
+
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.dynamic.loading.ByteArrayClassLoader;
+import net.bytebuddy.pool.TypePool;
+import org.junit.Test;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MethodGraphCompilerMemoizingTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    @Test
+    public void testSuperTypeMemoized() throws Exception {
+        MethodGraph.Compiler compiler = MethodGraph.Compiler.Memoizing.forJavaHierarchy();
+        MethodDescription.SignatureToken token = TypeDescription.ForLoadedType.of(Base.class).getDeclaredMethods().filter(named(FOO)).getOnly().asSignatureToken();
+        TypePool typePool = TypePool.Default.of(getClass().getClassLoader());
+        MethodGraph.Linked first = compiler.compile(typePool.describe(First.class.getName()).resolve());
+        MethodGraph.Linked second = compiler.compile(typePool.describe(Second.class.getName()).resolve());
+        assertThat(second.locate(token).getRepresentative(), sameInstance(first.locate(token).getRepresentative()));
+        assertThat(second.getSuperClassGraph().locate(token).getRepresentative(), sameInstance(first.getSuperClassGraph().locate(token).getRepresentative()));
+    }
+
+    @Test
+    public void testLoadedSuperTypeMemoized() throws Exception {
+        MethodGraph.Compiler compiler = MethodGraph.Compiler.Memoizing.forJavaHierarchy();
+        MethodDescription.SignatureToken token = TypeDescription.ForLoadedType.of(Base.class).getDeclaredMethods().filter(named(FOO)).getOnly().asSignatureToken();
+        MethodGraph.Linked first = compiler.compile(TypeDescription.ForLoadedType.of(First.class));
+        MethodGraph.Linked second = compiler.compile(TypeDescription.ForLoadedType.of(Second.class));
+        assertThat(second.locate(token).getRepresentative(), sameInstance(first.locate(token).getRepresentative()));
+    }
+
+    @Test
+    public void testLoadedSuperTypeMemoizedAfterGarbageCollection() throws Exception {
+        MethodGraph.Compiler compiler = MethodGraph.Compiler.Memoizing.forJavaHierarchy();
+        MethodDescription.SignatureToken token = TypeDescription.ForLoadedType.of(Base.class).getDeclaredMethods().filter(named(FOO)).getOnly().asSignatureToken();
+        MethodDescription representative = compiler.compile(TypeDescription.ForLoadedType.of(First.class)).getSuperClassGraph().locate(token).getRepresentative();
+        System.gc();
+        MethodGraph.Linked second = compiler.compile(TypeDescription.ForLoadedType.of(Second.class));
+        assertThat(second.getSuperClassGraph().locate(token).getRepresentative(), sameInstance(representative));
+    }
+
+    @Test
+    public void testSuperTypeNotMemoizedAcrossTypePools() throws Exception {
+        MethodGraph.Compiler compiler = MethodGraph.Compiler.Memoizing.forJavaHierarchy();
+        MethodDescription.SignatureToken token = TypeDescription.ForLoadedType.of(Base.class).getDeclaredMethods().filter(named(FOO)).getOnly().asSignatureToken();
+        MethodGraph.Linked first = compiler.compile(TypePool.Default.of(getClass().getClassLoader()).describe(First.class.getName()).resolve());
+        MethodGraph.Linked second = compiler.compile(TypePool.Default.of(getClass().getClassLoader()).describe(Second.class.getName()).resolve());
+        assertThat(second.locate(token).getRepresentative(), not(sameInstance(first.locate(token).getRepresentative())));
+    }
+
+    @Test
+    public void testSuperTypeNotMemoizedAcrossClassLoaders() throws Exception {
+        MethodGraph.Compiler compiler = MethodGraph.Compiler.Memoizing.forJavaHierarchy();
+        MethodDescription.SignatureToken token = TypeDescription.ForLoadedType.of(Base.class).getDeclaredMethods().filter(named(FOO)).getOnly().asSignatureToken();
+        ClassLoader classLoader = new ByteArrayClassLoader.ChildFirst(getClass().getClassLoader(), ClassFileLocator.ForClassLoader.readToNames(Base.class, First.class));
+        Class<?> type = classLoader.loadClass(First.class.getName());
+        assertThat(type, not((Object) First.class));
+        MethodGraph.Linked first = compiler.compile(TypeDescription.ForLoadedType.of(First.class));
+        MethodGraph.Linked second = compiler.compile(TypeDescription.ForLoadedType.of(type));
+        assertThat(second.locate(token).getRepresentative(), not(sameInstance(first.locate(token).getRepresentative())));
+    }
+
+    @Test
+    public void testSuperTypeNotMemoizedByDefault() throws Exception {
+        MethodGraph.Compiler compiler = MethodGraph.Compiler.Default.forJavaHierarchy();
+        MethodDescription.SignatureToken token = TypeDescription.ForLoadedType.of(Base.class).getDeclaredMethods().filter(named(FOO)).getOnly().asSignatureToken();
+        MethodGraph.Linked first = compiler.compile(TypePool.Default.of(getClass().getClassLoader()).describe(First.class.getName()).resolve());
+        MethodGraph.Linked second = compiler.compile(TypePool.Default.of(getClass().getClassLoader()).describe(Second.class.getName()).resolve());
+        assertThat(second.locate(token).getRepresentative(), not(sameInstance(first.locate(token).getRepresentative())));
+    }
+
+    @Test
+    public void testSuperTypeNotMemoizedForUnrelatedViewPoint() throws Exception {
+        MethodGraph.Compiler compiler = MethodGraph.Compiler.Memoizing.forJavaHierarchy();
+        MethodDescription.SignatureToken token = TypeDescription.ForLoadedType.of(Base.class).getDeclaredMethods().filter(named(FOO)).getOnly().asSignatureToken();
+        MethodGraph.Linked first = compiler.compile(TypePool.Default.of(getClass().getClassLoader()).describe(First.class.getName()).resolve(), TypeDescription.OBJECT);
+        MethodGraph.Linked second = compiler.compile(TypePool.Default.of(getClass().getClassLoader()).describe(Second.class.getName()).resolve(), TypeDescription.OBJECT);
+        assertThat(second.locate(token).getRepresentative(), not(sameInstance(first.locate(token).getRepresentative())));
+    }
+
+    @Test
+    public void testMemoizedGraphEqualsDefault() throws Exception {
+        MethodGraph.Compiler compiler = MethodGraph.Compiler.Memoizing.forJavaHierarchy();
+        compiler.compile(TypeDescription.ForLoadedType.of(First.class));
+        MethodGraph.Linked memoized = compiler.compile(TypeDescription.ForLoadedType.of(Second.class));
+        MethodGraph.Linked regular = MethodGraph.Compiler.Default.forJavaHierarchy().compile(TypeDescription.ForLoadedType.of(Second.class));
+        assertThat(memoized.listNodes().size(), is(regular.listNodes().size()));
+        for (MethodGraph.Node node : regular.listNodes()) {
+            MethodGraph.Node other = memoized.locate(node.getRepresentative().asSignatureToken());
+            assertThat(other.getRepresentative(), is(node.getRepresentative()));
+            assertThat(other.getSort(), is(node.getSort()));
+            assertThat(other.getVisibility(), is(node.getVisibility()));
+            assertThat(other.getMethodTypes(), is(node.getMethodTypes()));
+        }
+    }
+
+    @Test
+    public void testPackagePrivateMethodOfMemoizedSuperType() throws Exception {
+        MethodGraph.Compiler compiler = MethodGraph.Compiler.Memoizing.forJavaHierarchy();
+        MethodDescription.SignatureToken token = TypeDescription.ForLoadedType.of(Base.class).getDeclaredMethods().filter(named(BAR)).getOnly().asSignatureToken();
+        assertThat(compiler.compile(TypeDescription.ForLoadedType.of(First.class)).locate(token).getSort(), is(MethodGraph.Node.Sort.RESOLVED));
+        assertThat(compiler.compile(TypeDescription.ForLoadedType.of(Second.class)).locate(token).getSort(), is(MethodGraph.Node.Sort.RESOLVED));
+    }
+
+    public static class Base {
+
+        public void foo() {
+            /* empty */
+        }
+
+        void bar() {
+            /* empty */
+        }
+    }
+
+    public static class First extends Base {
+
+        public void qux() {
+            /* empty */
+        }
+    }
+
+    public static class Second extends Base {
+
+        public void baz() {
+            /* empty */
+        }
+    }
+}
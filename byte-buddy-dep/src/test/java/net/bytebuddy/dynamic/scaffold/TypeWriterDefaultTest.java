@@ -7,6 +7,7 @@ import net.bytebuddy.description.annotation.AnnotationDescription;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.modifier.*;
 import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.loading.ByteArrayClassLoader;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
@@ -17,6 +18,7 @@ import net.bytebuddy.implementation.FixedValue;
 import net.bytebuddy.implementation.StubMethod;
 import net.bytebuddy.implementation.SuperMethodCall;
 import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.pool.TypePool;
 import net.bytebuddy.test.utility.JavaVersionRule;
 import net.bytebuddy.utility.JavaConstant;
 import net.bytebuddy.utility.OpenedClassReader;
@@ -47,6 +49,8 @@ public class TypeWriterDefaultTest {
 
     private static final String JAVA_8_INTERFACE = "net.bytebuddy.test.precompiled.SingleDefaultMethodInterface";
 
+    private static final int ANY = -1;
+
     @Rule
     public MethodRule javaVersionRule = new JavaVersionRule();
 
@@ -728,6 +732,79 @@ public class TypeWriterDefaultTest {
         }, 0);
     }
 
+    @Test
+    public void testValidationRemovedForCopiedMethod() throws Exception {
+        ClassVisitor classVisitor = mock(ClassVisitor.class);
+        MethodVisitor methodVisitor = mock(MethodVisitor.class);
+        when(classVisitor.visitMethod(Opcodes.ACC_PUBLIC, FOO, "()V", null, null)).thenReturn(methodVisitor);
+        ClassVisitor validatingClassVisitor = TypeWriter.Default.ValidatingClassVisitor.of(classVisitor, TypeValidation.ENABLED);
+        validatingClassVisitor.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC, BAR, null, "java/lang/Object", null);
+        MethodVisitor validatingMethodVisitor = validatingClassVisitor.visitMethod(Opcodes.ACC_PUBLIC, FOO, "()V", null, null);
+        assertThat(validatingMethodVisitor == methodVisitor, is(false));
+        assertThat(TypeWriter.Default.ValidatingClassVisitor.unvalidated(validatingMethodVisitor), is(methodVisitor));
+        assertThat(TypeWriter.Default.ValidatingClassVisitor.unvalidated(methodVisitor), is(methodVisitor));
+    }
+
+    @Test
+    public void testUnmodifiedMethodCopiedVerbatim() throws Exception {
+        ClassWriter classWriter = new ClassWriter(0);
+        classWriter.visit(Opcodes.V1_6, Opcodes.ACC_PUBLIC, "net/bytebuddy/test/Verbatim", null, "java/lang/Object", null);
+        MethodVisitor constructor = classWriter.visitMethod(Opcodes.ACC_PUBLIC, MethodDescription.CONSTRUCTOR_INTERNAL_NAME, "()V", null, null);
+        constructor.visitCode();
+        constructor.visitVarInsn(Opcodes.ALOAD, 0);
+        constructor.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", MethodDescription.CONSTRUCTOR_INTERNAL_NAME, "()V", false);
+        constructor.visitInsn(Opcodes.RETURN);
+        constructor.visitMaxs(1, 1);
+        constructor.visitEnd();
+        for (String name : new String[]{FOO, BAR}) {
+            MethodVisitor methodVisitor = classWriter.visitMethod(Opcodes.ACC_PUBLIC, name, "()Ljava/lang/String;", null, null);
+            methodVisitor.visitCode();
+            methodVisitor.visitLdcInsn(name);
+            methodVisitor.visitInsn(Opcodes.NOP);
+            methodVisitor.visitInsn(Opcodes.ARETURN);
+            methodVisitor.visitMaxs(1, 1);
+            methodVisitor.visitEnd();
+        }
+        classWriter.visitEnd();
+        byte[] original = classWriter.toByteArray();
+        // Rewrites "ldc, nop, areturn" to the equally long "ldc_w, areturn" which ASM never emits for a low constant pool index.
+        assertThat(replace(original, new int[]{Opcodes.LDC, ANY, Opcodes.NOP, Opcodes.ARETURN}, new int[]{Opcodes.LDC + 1, 0, ANY, Opcodes.ARETURN}), is(2));
+        ClassFileLocator classFileLocator = new ClassFileLocator.Compound(ClassFileLocator.Simple.of("net.bytebuddy.test.Verbatim", original),
+                ClassFileLocator.ForClassLoader.ofSystemLoader());
+        DynamicType.Unloaded<?> dynamicType = new ByteBuddy()
+                .redefine(TypePool.Default.of(classFileLocator).describe("net.bytebuddy.test.Verbatim").resolve(), classFileLocator)
+                .method(named(FOO))
+                .intercept(FixedValue.value(BAR))
+                .make();
+        assertThat(replace(dynamicType.getBytes(), new int[]{Opcodes.LDC + 1, 0, ANY, Opcodes.ARETURN}, null), is(1));
+        Class<?> type = dynamicType.load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER).getLoaded();
+        Object instance = type.getConstructor().newInstance();
+        assertThat(type.getMethod(FOO).invoke(instance), is((Object) BAR));
+        assertThat(type.getMethod(BAR).invoke(instance), is((Object) BAR));
+    }
+
+    private static int replace(byte[] binaryRepresentation, int[] pattern, int[] replacement) {
+        int count = 0;
+        for (int index = 0; index <= binaryRepresentation.length - pattern.length; index++) {
+            int wildcard = 0;
+            boolean matched = true;
+            for (int offset = 0; offset < pattern.length && matched; offset++) {
+                if (pattern[offset] == ANY) {
+                    wildcard = binaryRepresentation[index + offset];
+                } else {
+                    matched = (binaryRepresentation[index + offset] & 0xFF) == pattern[offset];
+                }
+            }
+            if (matched) {
+                count++;
+                for (int offset = 0; replacement != null && offset < replacement.length; offset++) {
+                    binaryRepresentation[index + offset] = (byte) (replacement[offset] == ANY ? wildcard : replacement[offset]);
+                }
+            }
+        }
+        return count;
+    }
+
     @Retention(RetentionPolicy.RUNTIME)
     public @interface Foo {
         /* empty */
@@ -6,6 +6,7 @@ import net.bytebuddy.description.annotation.AnnotationDescription;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.scaffold.MethodGraph;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.LoadedTypeInitializer;
 import net.bytebuddy.implementation.attribute.AnnotationRetention;
@@ -24,6 +25,7 @@ import static net.bytebuddy.matcher.ElementMatchers.*;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
 public class DecoratingDynamicTypeBuilderTest {
 
@@ -63,6 +65,21 @@ public class DecoratingDynamicTypeBuilderTest {
         assertThat(instance.getClass().isAnnotationPresent(Qux.class), is(true));
     }
 
+    @Test
+    public void testDecorationDoesNotCompileMethodGraphIfNotRequired() throws Exception {
+        MethodGraph.Compiler methodGraphCompiler = mock(MethodGraph.Compiler.class);
+        Class<?> type = new ByteBuddy()
+                .with(methodGraphCompiler)
+                .decorate(Foo.class)
+                .annotateType(AnnotationDescription.Builder.ofType(Qux.class).build())
+                .visit(new AsmVisitorWrapper.ForDeclaredMethods().method(named(FOO + BAR), mock(AsmVisitorWrapper.ForDeclaredMethods.MethodVisitorWrapper.class)))
+                .make()
+                .load(getClass().getClassLoader(), ClassLoadingStrategy.Default.CHILD_FIRST)
+                .getLoaded();
+        assertThat(type.isAnnotationPresent(Qux.class), is(true));
+        verifyZeroInteractions(methodGraphCompiler);
+    }
+
     @Test
     public void testDecorationNonVirtualMember() throws Exception {
         Object instance = new ByteBuddy()
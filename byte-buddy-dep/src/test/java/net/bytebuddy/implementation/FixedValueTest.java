@@ -1,7 +1,9 @@
 package net.bytebuddy.implementation;
 
 import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.TypeResolutionStrategy;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.test.utility.CallTraceable;
 import net.bytebuddy.test.utility.JavaVersionRule;
@@ -141,6 +143,46 @@ public class FixedValueTest {
                 .make();
     }
 
+    @Test
+    @JavaVersionRule.Enforce(11)
+    public void testDynamicReference() throws Exception {
+        Class<? extends Foo> foo = new ByteBuddy()
+                .subclass(Foo.class)
+                .method(isDeclaredBy(Foo.class))
+                .intercept(FixedValue.dynamicReference(bar))
+                .make()
+                .load(Foo.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        assertThat(foo.getDeclaredFields().length, is(0));
+        Foo instance = foo.getDeclaredConstructor().newInstance();
+        assertThat(instance.bar(), sameInstance(bar));
+        assertThat(instance.bar(), sameInstance(bar));
+        instance.assertZeroCalls();
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(11)
+    public void testDynamicReferenceActive() throws Exception {
+        Class<? extends Foo> foo = new ByteBuddy()
+                .subclass(Foo.class)
+                .method(isDeclaredBy(Foo.class))
+                .intercept(FixedValue.dynamicReference(bar))
+                .make(new TypeResolutionStrategy.Active())
+                .load(Foo.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        assertThat(foo.getDeclaredFields().length, is(0));
+        assertThat(foo.getDeclaredConstructor().newInstance().bar(), sameInstance(bar));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testDynamicReferenceLegacy() throws Exception {
+        new ByteBuddy(ClassFileVersion.JAVA_V10)
+                .subclass(Foo.class)
+                .method(isDeclaredBy(Foo.class))
+                .intercept(FixedValue.dynamicReference(bar))
+                .make();
+    }
+
     @Test
     public void testNullValue() throws Exception {
         Class<? extends Foo> foo = new ByteBuddy()
@@ -10,6 +10,8 @@ import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
 import org.junit.Test;
 import org.objectweb.asm.MethodVisitor;
 
+import java.util.concurrent.Executor;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -26,6 +28,15 @@ public class ImplementationContextDefaultOtherTest {
                 mock(ClassFileVersion.class)), instanceOf(Implementation.Context.Default.class));
     }
 
+    @Test
+    public void testFactoryWithExecutor() throws Exception {
+        assertThat(new Implementation.Context.Default.Factory.WithExecutor(mock(Executor.class)).make(mock(TypeDescription.class),
+                mock(AuxiliaryType.NamingStrategy.class),
+                mock(TypeInitializer.class),
+                mock(ClassFileVersion.class),
+                mock(ClassFileVersion.class)), instanceOf(Implementation.Context.Default.class));
+    }
+
     @Test
     public void testEnabled() throws Exception {
         assertThat(new Implementation.Context.Default(mock(TypeDescription.class),
@@ -29,8 +29,12 @@ import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.CoreMatchers.startsWith;
@@ -295,6 +299,38 @@ public class ImplementationContextDefaultTest {
         assertThat(implementationContext.getAuxiliaryTypes().contains(secondDynamicType), is(true));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDeferredAuxiliaryTypeRegistration() throws Exception {
+        AuxiliaryType.Deferrable deferrable = mock(AuxiliaryType.Deferrable.class);
+        DynamicType.Builder<?> builder = mock(DynamicType.Builder.class);
+        DynamicType.Unloaded<?> firstUnloaded = mock(DynamicType.Unloaded.class);
+        when(auxiliaryTypeNamingStrategy.name(instrumentedType)).thenReturn(FOO);
+        final List<Runnable> runnables = new ArrayList<Runnable>();
+        Implementation.Context.ExtractableView implementationContext = new Implementation.Context.Default(instrumentedType,
+                classFileVersion,
+                auxiliaryTypeNamingStrategy,
+                typeInitializer,
+                auxiliaryClassFileVersion,
+                new Executor() {
+                    public void execute(Runnable runnable) {
+                        runnables.add(runnable);
+                    }
+                });
+        when(deferrable.builder(FOO, auxiliaryClassFileVersion, implementationContext)).thenReturn((DynamicType.Builder) builder);
+        when(builder.toTypeDescription()).thenReturn(firstDescription);
+        when(builder.make()).thenReturn((DynamicType.Unloaded) firstUnloaded);
+        assertThat(implementationContext.register(deferrable), is(firstDescription));
+        assertThat(implementationContext.register(deferrable), is(firstDescription));
+        verify(deferrable).builder(FOO, auxiliaryClassFileVersion, implementationContext);
+        verifyNoMoreInteractions(deferrable);
+        verify(builder, never()).make();
+        assertThat(runnables.size(), is(1));
+        runnables.get(0).run();
+        assertThat(implementationContext.getAuxiliaryTypes(), is(Collections.<DynamicType>singletonList(firstUnloaded)));
+        verify(builder).make();
+    }
+
     @Test
     public void testDrainEmpty() throws Exception {
         Implementation.Context.ExtractableView implementationContext = new Implementation.Context.Default(instrumentedType,
@@ -1,12 +1,16 @@
 package net.bytebuddy.implementation;
 
 import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.description.modifier.Ownership;
 import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.test.utility.CallTraceable;
+import net.bytebuddy.test.utility.JavaVersionRule;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.MethodRule;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationHandler;
@@ -25,6 +29,9 @@ public class InvocationHandlerAdapterTest {
 
     private static final int BAZ = 42;
 
+    @Rule
+    public MethodRule javaVersionRule = new JavaVersionRule();
+
     @Test
     public void testStaticAdapterWithoutCache() throws Exception {
         Foo foo = new Foo();
@@ -105,6 +112,78 @@ public class InvocationHandlerAdapterTest {
         instance.assertZeroCalls();
     }
 
+    @Test
+    @JavaVersionRule.Enforce(11)
+    public void testStaticAdapterWithDynamicMethodCache() throws Exception {
+        Foo foo = new Foo();
+        DynamicType.Loaded<Bar> loaded = new ByteBuddy()
+                .subclass(Bar.class)
+                .method(isDeclaredBy(Bar.class))
+                .intercept(InvocationHandlerAdapter.of(foo).withDynamicMethodCache())
+                .make()
+                .load(Bar.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER);
+        assertThat(loaded.getLoadedAuxiliaryTypes().size(), is(0));
+        assertThat(loaded.getLoaded().getDeclaredMethods().length, is(1));
+        assertThat(loaded.getLoaded().getDeclaredFields().length, is(1));
+        Bar instance = loaded.getLoaded().getDeclaredConstructor().newInstance();
+        assertThat(instance.bar(FOO), is((Object) instance));
+        assertThat(foo.methods.size(), is(1));
+        assertThat(instance.bar(FOO), is((Object) instance));
+        assertThat(foo.methods.size(), is(2));
+        assertThat(foo.methods.get(0), sameInstance(foo.methods.get(1)));
+        instance.assertZeroCalls();
+    }
+
+    @Test
+    public void testStaticAdapterWithDynamicMethodCacheLegacy() throws Exception {
+        Foo foo = new Foo();
+        DynamicType.Loaded<Bar> loaded = new ByteBuddy(ClassFileVersion.JAVA_V6)
+                .subclass(Bar.class)
+                .method(isDeclaredBy(Bar.class))
+                .intercept(InvocationHandlerAdapter.of(foo).withDynamicMethodCache())
+                .make()
+                .load(Bar.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER);
+        assertThat(loaded.getLoadedAuxiliaryTypes().size(), is(0));
+        assertThat(loaded.getLoaded().getDeclaredMethods().length, is(1));
+        assertThat(loaded.getLoaded().getDeclaredFields().length, is(2));
+        Bar instance = loaded.getLoaded().getDeclaredConstructor().newInstance();
+        assertThat(instance.bar(FOO), is((Object) instance));
+        assertThat(instance.bar(FOO), is((Object) instance));
+        assertThat(foo.methods.size(), is(2));
+        assertThat(foo.methods.get(0), sameInstance(foo.methods.get(1)));
+        instance.assertZeroCalls();
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(11)
+    public void testStaticAdapterDynamic() throws Exception {
+        Foo foo = new Foo();
+        DynamicType.Loaded<Bar> loaded = new ByteBuddy()
+                .subclass(Bar.class)
+                .method(isDeclaredBy(Bar.class))
+                .intercept(InvocationHandlerAdapter.ofDynamic(foo))
+                .make()
+                .load(Bar.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER);
+        assertThat(loaded.getLoadedAuxiliaryTypes().size(), is(0));
+        assertThat(loaded.getLoaded().getDeclaredMethods().length, is(1));
+        assertThat(loaded.getLoaded().getDeclaredFields().length, is(0));
+        Bar instance = loaded.getLoaded().getDeclaredConstructor().newInstance();
+        assertThat(instance.bar(FOO), is((Object) instance));
+        assertThat(instance.bar(FOO), is((Object) instance));
+        assertThat(foo.methods.size(), is(2));
+        assertThat(foo.methods.get(0), sameInstance(foo.methods.get(1)));
+        instance.assertZeroCalls();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testStaticAdapterDynamicLegacy() throws Exception {
+        new ByteBuddy(ClassFileVersion.JAVA_V10)
+                .subclass(Bar.class)
+                .method(isDeclaredBy(Bar.class))
+                .intercept(InvocationHandlerAdapter.ofDynamic(new Foo()))
+                .make();
+    }
+
     @Test
     public void testInstanceAdapterWithoutCache() throws Exception {
         DynamicType.Loaded<Bar> loaded = new ByteBuddy()
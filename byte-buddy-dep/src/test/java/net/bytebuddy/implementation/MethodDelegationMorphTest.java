@@ -12,6 +12,8 @@ import org.junit.Test;
 import org.junit.rules.MethodRule;
 
 import java.io.Serializable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static net.bytebuddy.matcher.ElementMatchers.isDeclaredBy;
 import static org.hamcrest.CoreMatchers.instanceOf;
@@ -47,6 +49,26 @@ public class MethodDelegationMorphTest {
         assertThat(instance.foo(FOO), is(QUX + BAR));
     }
 
+    @Test
+    public void testMorphWithExecutor() throws Exception {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            DynamicType.Unloaded<Foo> unloaded = new ByteBuddy()
+                    .with(new Implementation.Context.Default.Factory.WithExecutor(executorService))
+                    .subclass(Foo.class)
+                    .method(isDeclaredBy(Foo.class))
+                    .intercept(MethodDelegation.withDefaultConfiguration()
+                            .withBinders(Morph.Binder.install(Morphing.class))
+                            .to(new SimpleMorph(QUX)))
+                    .make();
+            assertThat(unloaded.getAuxiliaryTypes().size(), is(1));
+            Foo instance = unloaded.load(Foo.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER).getLoaded().getDeclaredConstructor().newInstance();
+            assertThat(instance.foo(FOO), is(QUX + BAR));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
     @Test
     public void testMorphVoid() throws Exception {
         SimpleMorph simpleMorph = new SimpleMorph(QUX);
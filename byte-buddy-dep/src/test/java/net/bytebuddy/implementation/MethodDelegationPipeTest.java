@@ -10,6 +10,8 @@ import org.junit.Test;
 
 import java.io.Serializable;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static net.bytebuddy.matcher.ElementMatchers.isClone;
 import static net.bytebuddy.matcher.ElementMatchers.isDeclaredBy;
@@ -36,6 +38,26 @@ public class MethodDelegationPipeTest {
         assertThat(instance.foo(QUX), is(FOO + QUX));
     }
 
+    @Test
+    public void testPipeToIdenticalTypeWithExecutor() throws Exception {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            DynamicType.Unloaded<Foo> unloaded = new ByteBuddy()
+                    .with(new Implementation.Context.Default.Factory.WithExecutor(executorService))
+                    .subclass(Foo.class)
+                    .method(isDeclaredBy(Foo.class))
+                    .intercept(MethodDelegation.withDefaultConfiguration()
+                            .withBinders(Pipe.Binder.install(ForwardingType.class))
+                            .to(new ForwardingInterceptor(new Foo(FOO))))
+                    .make();
+            assertThat(unloaded.getAuxiliaryTypes().size(), is(1));
+            Foo instance = unloaded.load(Foo.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER).getLoaded().getDeclaredConstructor().newInstance();
+            assertThat(instance.foo(QUX), is(FOO + QUX));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
     @Test
     public void testPipeToIdenticalTypeVoid() throws Exception {
         DynamicType.Loaded<Qux> loaded = new ByteBuddy()
@@ -15,6 +15,8 @@ import org.junit.rules.MethodRule;
 import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static net.bytebuddy.matcher.ElementMatchers.isDeclaredBy;
 import static org.hamcrest.CoreMatchers.instanceOf;
@@ -46,6 +48,26 @@ public class MethodDelegationSuperCallTest {
         assertThat(instance.value, is(FOO));
     }
 
+    @Test
+    public void testRunnableSuperCallWithExecutor() throws Exception {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            DynamicType.Unloaded<Foo> unloaded = new ByteBuddy()
+                    .with(new Implementation.Context.Default.Factory.WithExecutor(executorService))
+                    .subclass(Foo.class)
+                    .method(isDeclaredBy(Foo.class))
+                    .intercept(MethodDelegation.to(RunnableClass.class))
+                    .make();
+            assertThat(unloaded.getAuxiliaryTypes().size(), is(1));
+            Foo instance = unloaded.load(Foo.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER).getLoaded().getDeclaredConstructor().newInstance();
+            assertThat(instance.value, is(BAR));
+            instance.foo();
+            assertThat(instance.value, is(FOO));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
     @Test
     public void testCallableSuperCall() throws Exception {
         DynamicType.Loaded<Bar> loaded = new ByteBuddy()
@@ -17,6 +17,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TestRule;
 import org.mockito.Mock;
+import org.objectweb.asm.ConstantDynamic;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
@@ -229,12 +230,60 @@ public class MethodConstantTest {
         verifyNoMoreInteractions(implementationContext);
     }
 
+    @Test
+    public void testMethodCachedDynamic() throws Exception {
+        when(classFileVersion.isAtLeast(ClassFileVersion.JAVA_V11)).thenReturn(true);
+        StackManipulation.Size size = MethodConstant.of(new MethodDescription.ForLoadedMethod(Object.class.getMethod("toString")))
+                .cachedDynamic()
+                .apply(methodVisitor, implementationContext);
+        assertThat(size.getSizeImpact(), is(1));
+        assertThat(size.getMaximalSize(), is(1));
+        verify(methodVisitor).visitLdcInsn(any(ConstantDynamic.class));
+        verifyNoMoreInteractions(methodVisitor);
+    }
+
+    @Test
+    public void testMethodCachedDynamicLegacy() throws Exception {
+        when(implementationContext.cache(any(StackManipulation.class), any(TypeDescription.class))).thenReturn(fieldDescription);
+        MethodDescription.InDefinedShape methodDescription = new MethodDescription.ForLoadedMethod(Object.class.getMethod("toString"));
+        StackManipulation.Size size = MethodConstant.of(methodDescription).cachedDynamic().apply(methodVisitor, implementationContext);
+        assertThat(size.getSizeImpact(), is(1));
+        assertThat(size.getMaximalSize(), is(1));
+        verify(methodVisitor).visitFieldInsn(Opcodes.GETSTATIC, BAZ, FOO, QUX);
+        verifyNoMoreInteractions(methodVisitor);
+        verify(implementationContext).cache(MethodConstant.of(methodDescription), TypeDescription.ForLoadedType.of(Method.class));
+    }
+
+    @Test
+    public void testConstructorCachedDynamic() throws Exception {
+        when(classFileVersion.isAtLeast(ClassFileVersion.JAVA_V11)).thenReturn(true);
+        StackManipulation.Size size = MethodConstant.of(new MethodDescription.ForLoadedConstructor(Object.class.getConstructor()))
+                .cachedDynamic()
+                .apply(methodVisitor, implementationContext);
+        assertThat(size.getSizeImpact(), is(1));
+        assertThat(size.getMaximalSize(), is(1));
+        verify(methodVisitor).visitLdcInsn(any(ConstantDynamic.class));
+        verifyNoMoreInteractions(methodVisitor);
+    }
+
+    @Test
+    public void testMethodPrivilegedCachedDynamic() throws Exception {
+        when(classFileVersion.isAtLeast(ClassFileVersion.JAVA_V11)).thenReturn(true);
+        when(implementationContext.cache(any(StackManipulation.class), any(TypeDescription.class))).thenReturn(fieldDescription);
+        StackManipulation.Size size = MethodConstant.ofPrivileged(methodDescription).cachedDynamic().apply(methodVisitor, implementationContext);
+        assertThat(size.getSizeImpact(), is(1));
+        assertThat(size.getMaximalSize(), is(1));
+        verify(methodVisitor).visitFieldInsn(Opcodes.GETSTATIC, BAZ, FOO, QUX);
+        verifyNoMoreInteractions(methodVisitor);
+    }
+
     @Test(expected = IllegalStateException.class)
     public void testTypeInitializer() throws Exception {
         when(methodDescription.isTypeInitializer()).thenReturn(true);
         MethodConstant.CanCache methodConstant = MethodConstant.of(methodDescription);
         assertThat(methodConstant.isValid(), is(false));
         assertThat(methodConstant.cached().isValid(), is(false));
+        assertThat(methodConstant.cachedDynamic().isValid(), is(false));
         methodConstant.apply(methodVisitor, implementationContext);
     }
 }
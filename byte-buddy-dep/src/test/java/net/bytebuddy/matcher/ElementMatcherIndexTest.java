@@ -0,0 +1,111 @@
+package net.bytebuddy.matcher;
+
+import net.bytebuddy.description.field.FieldDescription;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static net.bytebuddy.matcher.ElementMatchers.*;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ElementMatcherIndexTest {
+
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
+
+    @Test
+    public void testNamesExact() throws Exception {
+        assertThat(ElementMatcherIndex.names(named(FOO)), is(Collections.singleton(FOO)));
+    }
+
+    @Test
+    public void testNamesSet() throws Exception {
+        assertThat(ElementMatcherIndex.names(namedOneOf(FOO, BAR)), is((Object) new HashSet<String>(Arrays.asList(FOO, BAR))));
+    }
+
+    @Test
+    public void testNamesNotExact() throws Exception {
+        assertThat(ElementMatcherIndex.names(nameStartsWith(FOO)), nullValue());
+        assertThat(ElementMatcherIndex.names(namedIgnoreCase(FOO)), nullValue());
+        assertThat(ElementMatcherIndex.names(isStatic()), nullValue());
+        assertThat(ElementMatcherIndex.names(any()), nullValue());
+    }
+
+    @Test
+    public void testNamesNone() throws Exception {
+        assertThat(ElementMatcherIndex.names(none()).isEmpty(), is(true));
+    }
+
+    @Test
+    public void testNamesConjunction() throws Exception {
+        assertThat(ElementMatcherIndex.names(isStatic().and(named(FOO))), is(Collections.singleton(FOO)));
+        assertThat(ElementMatcherIndex.names(named(FOO).and(isStatic())), is(Collections.singleton(FOO)));
+        assertThat(ElementMatcherIndex.names(namedOneOf(FOO, BAR).and(named(FOO))), is((Object) Collections.singleton(FOO)));
+        assertThat(ElementMatcherIndex.names(named(BAR).and(named(FOO))).isEmpty(), is(true));
+    }
+
+    @Test
+    public void testNamesDisjunction() throws Exception {
+        assertThat(ElementMatcherIndex.names(named(FOO).or(named(BAR))), is((Object) new HashSet<String>(Arrays.asList(FOO, BAR))));
+        assertThat(ElementMatcherIndex.names(named(FOO).or(isStatic())), nullValue());
+        assertThat(ElementMatcherIndex.names(isStatic().or(named(FOO))), nullValue());
+    }
+
+    @Test
+    public void testNamesMethodSort() throws Exception {
+        assertThat(ElementMatcherIndex.names(isConstructor()), is(Collections.singleton("")));
+        assertThat(ElementMatcherIndex.names(isTypeInitializer()), is(Collections.singleton("")));
+        assertThat(ElementMatcherIndex.names(isMethod()), nullValue());
+        assertThat(ElementMatcherIndex.names(isConstructor().and(named(FOO))).isEmpty(), is(true));
+    }
+
+    @Test
+    public void testNamesToken() throws Exception {
+        assertThat(ElementMatcherIndex.names(new LatentMatcher.ForFieldToken.ResolvedMatcher(new FieldDescription.SignatureToken(FOO,
+                TypeDescription.ForLoadedType.of(Object.class)))), is(Collections.singleton(FOO)));
+        assertThat(ElementMatcherIndex.names(new LatentMatcher.ForMethodToken.ResolvedMatcher(new MethodDescription.SignatureToken(FOO,
+                TypeDescription.ForLoadedType.of(void.class),
+                Collections.<TypeDescription>emptyList()))), is(Collections.singleton(FOO)));
+        assertThat(ElementMatcherIndex.names(new LatentMatcher.ForMethodToken.ResolvedMatcher(new MethodDescription.SignatureToken(MethodDescription.CONSTRUCTOR_INTERNAL_NAME,
+                TypeDescription.ForLoadedType.of(void.class),
+                Collections.<TypeDescription>emptyList()))), is(Collections.singleton(MethodDescription.EMPTY_NAME)));
+    }
+
+    @Test
+    public void testNamesNegation() throws Exception {
+        assertThat(ElementMatcherIndex.names(not(named(FOO))), nullValue());
+    }
+
+    @Test
+    public void testIndexRetainsOrder() throws Exception {
+        ElementMatcherIndex<Integer> index = new ElementMatcherIndex.Builder<Integer>()
+                .append(isStatic(), 0)
+                .append(named(FOO), 1)
+                .append(ElementMatchers.<MethodDescription>isStatic(), 2)
+                .append(named(FOO).or(named(BAR)), 3)
+                .append(none(), 4)
+                .build();
+        assertThat(index.get(FOO), is(Arrays.asList(0, 1, 2, 3)));
+        assertThat(index.get(BAR), is(Arrays.asList(0, 2, 3)));
+        assertThat(index.get(QUX), is(Arrays.asList(0, 2)));
+        assertThat(index.isEmpty(QUX), is(false));
+        assertThat(index.isComplete(), is(false));
+    }
+
+    @Test
+    public void testIndexComplete() throws Exception {
+        ElementMatcherIndex<Integer> index = new ElementMatcherIndex.Builder<Integer>()
+                .append(named(FOO), 0)
+                .append(named(BAR).and(isStatic()), 1)
+                .build();
+        assertThat(index.get(FOO), is(Collections.singletonList(0)));
+        assertThat(index.get(BAR), is(Collections.singletonList(1)));
+        assertThat(index.isEmpty(QUX), is(true));
+        assertThat(index.isComplete(), is(true));
+    }
+}
@@ -432,6 +432,23 @@ public class JavaConstantDynamicTest {
         assertThat(baz.getDeclaredMethod(FOO).invoke(foo), sameInstance(baz.getDeclaredMethod(FOO).invoke(foo)));
     }
 
+    @Test
+    @JavaVersionRule.Enforce(11)
+    public void testInvokeVirtual() throws Exception {
+        Class<? extends Foo> baz = new ByteBuddy()
+                .subclass(Foo.class)
+                .method(isDeclaredBy(Foo.class))
+                .intercept(FixedValue.value(JavaConstant.Dynamic.ofInvocation(Class.class.getMethod("getName"),
+                        TypeDescription.ForLoadedType.of(SampleClass.class))))
+                .make()
+                .load(Foo.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        assertThat(baz.getDeclaredFields().length, is(0));
+        assertThat(baz.getDeclaredMethods().length, is(1));
+        Foo foo = baz.getDeclaredConstructor().newInstance();
+        assertThat(baz.getDeclaredMethod(FOO).invoke(foo), is((Object) SampleClass.class.getName()));
+    }
+
     @Test
     @JavaVersionRule.Enforce(11)
     public void testConstruct() throws Exception {
@@ -0,0 +1,192 @@
+package net.bytebuddy.utility;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+@RunWith(Parameterized.class)
+public class JavaDispatcherTest {
+
+    private static final String FOO = "foo";
+
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+        return Arrays.asList(new Object[][]{
+                {JavaDispatcher.Factory.GENERATED},
+                {JavaDispatcher.Factory.REFLECTIVE}
+        });
+    }
+
+    private final JavaDispatcher.Factory factory;
+
+    public JavaDispatcherTest(JavaDispatcher.Factory factory) {
+        this.factory = factory;
+    }
+
+    private <T> T make(Class<T> proxy) {
+        return factory.make(proxy, JavaDispatcher.resolve(proxy, proxy.getClassLoader()));
+    }
+
+    @Test
+    public void testVirtual() throws Exception {
+        SampleString sample = make(SampleString.class);
+        assertThat(sample.length(FOO), is(3));
+        assertThat(sample.substring(FOO, 1), is("oo"));
+        assertThat(sample.startsWith(FOO, FOO.substring(1)), is(false));
+    }
+
+    @Test
+    public void testInterface() throws Exception {
+        SampleList sample = make(SampleList.class);
+        List<Object> list = new ArrayList<Object>();
+        sample.add(list, FOO);
+        assertThat(sample.size(list), is(1));
+        assertThat(list.get(0), is((Object) FOO));
+    }
+
+    @Test
+    public void testStatic() throws Exception {
+        SampleInteger sample = make(SampleInteger.class);
+        assertThat(sample.parse(FOO.length() + ""), is(3L));
+        assertThat(sample.toString(42L), is((Object) "42"));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testExceptionNotWrapped() throws Exception {
+        make(SampleInteger.class).parse(FOO);
+    }
+
+    @Test
+    public void testCheckedExceptionNotWrapped() throws Exception {
+        Reader reader = new StringReader(FOO);
+        reader.close();
+        try {
+            make(SampleReader.class).read(reader);
+            fail();
+        } catch (IOException exception) {
+            assertThat(exception.getClass(), is((Object) IOException.class));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUndeclaredCheckedException() throws Exception {
+        JavaDispatcher.of(SampleUndeclaredException.class);
+    }
+
+    @Test
+    public void testObjectMethods() throws Exception {
+        SampleString sample = make(SampleString.class);
+        assertThat(sample.equals(sample), is(true));
+        assertThat(sample.hashCode(), is(sample.hashCode()));
+    }
+
+    @Test
+    public void testOfGenerates() throws Exception {
+        SampleString sample = JavaDispatcher.of(SampleString.class);
+        assertThat(Proxy.isProxyClass(sample.getClass()), is(false));
+        assertThat(sample.length(FOO), is(3));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testUnknownType() throws Exception {
+        JavaDispatcher.of(SampleUnknownType.class);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testUnknownMethod() throws Exception {
+        JavaDispatcher.of(SampleUnknownMethod.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingReceiver() throws Exception {
+        JavaDispatcher.of(SampleMissingReceiver.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalReturnType() throws Exception {
+        JavaDispatcher.of(SampleIllegalReturnType.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotAnnotated() throws Exception {
+        JavaDispatcher.of(Runnable.class);
+    }
+
+    @JavaDispatcher.Proxied("java.lang.String")
+    public interface SampleString {
+
+        int length(Object value);
+
+        String substring(String value, int index);
+
+        boolean startsWith(Object value, @JavaDispatcher.Proxied("java.lang.String") Object prefix);
+    }
+
+    @JavaDispatcher.Proxied("java.util.List")
+    public interface SampleList {
+
+        void add(List<?> list, Object value);
+
+        int size(Object list);
+    }
+
+    @JavaDispatcher.Proxied("java.lang.Long")
+    public interface SampleInteger {
+
+        @JavaDispatcher.IsStatic
+        @JavaDispatcher.Proxied("parseLong")
+        long parse(String value);
+
+        @JavaDispatcher.IsStatic
+        Object toString(long value);
+    }
+
+    @JavaDispatcher.Proxied("java.io.Reader")
+    public interface SampleReader {
+
+        int read(Object reader) throws IOException;
+    }
+
+    @JavaDispatcher.Proxied("java.io.Reader")
+    public interface SampleUndeclaredException {
+
+        int read(Object reader);
+    }
+
+    @JavaDispatcher.Proxied("net.bytebuddy.utility.JavaDispatcherTest$NonExistent")
+    public interface SampleUnknownType {
+
+        void foo(Object value);
+    }
+
+    @JavaDispatcher.Proxied("java.lang.String")
+    public interface SampleUnknownMethod {
+
+        void foo(Object value);
+    }
+
+    @JavaDispatcher.Proxied("java.lang.String")
+    public interface SampleMissingReceiver {
+
+        int length();
+    }
+
+    @JavaDispatcher.Proxied("java.lang.String")
+    public interface SampleIllegalReturnType {
+
+        long length(Object value);
+    }
+}
@@ -0,0 +1,88 @@
+package net.bytebuddy.utility;
+
+import net.bytebuddy.test.utility.MockitoRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class SharedListTest {
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private Object first, second, third, forth;
+
+    @Test
+    public void testElementAndList() throws Exception {
+        assertThat(SharedList.of(first, Arrays.asList(second, third, forth)), is(Arrays.asList(first, second, third, forth)));
+    }
+
+    @Test
+    public void testListAndElement() throws Exception {
+        assertThat(SharedList.of(Arrays.asList(first, second, third), forth), is(Arrays.asList(first, second, third, forth)));
+    }
+
+    @Test
+    public void testListAndList() throws Exception {
+        assertThat(SharedList.of(Arrays.asList(first, second), Arrays.asList(third, forth)), is(Arrays.asList(first, second, third, forth)));
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        assertThat(SharedList.of(Collections.emptyList(), Collections.emptyList()).isEmpty(), is(true));
+    }
+
+    @Test
+    public void testAppendRetainsOriginal() throws Exception {
+        List<Object> list = SharedList.of(Collections.emptyList(), first);
+        List<Object> left = SharedList.of(list, second), right = SharedList.of(list, third);
+        assertThat(list, is(Collections.singletonList(first)));
+        assertThat(left, is(Arrays.asList(first, second)));
+        assertThat(right, is(Arrays.asList(first, third)));
+        assertThat(SharedList.of(left, forth), is(Arrays.asList(first, second, forth)));
+        assertThat(SharedList.of(right, forth), is(Arrays.asList(first, third, forth)));
+    }
+
+    @Test
+    public void testPrependRetainsOriginal() throws Exception {
+        List<Object> list = SharedList.of(first, Collections.emptyList());
+        List<Object> left = SharedList.of(second, list), right = SharedList.of(third, list);
+        assertThat(list, is(Collections.singletonList(first)));
+        assertThat(left, is(Arrays.asList(second, first)));
+        assertThat(right, is(Arrays.asList(third, first)));
+        assertThat(SharedList.of(forth, left), is(Arrays.asList(forth, second, first)));
+        assertThat(SharedList.of(forth, right), is(Arrays.asList(forth, third, first)));
+    }
+
+    @Test
+    public void testRepeatedAppendAndPrepend() throws Exception {
+        List<Object> list = Collections.emptyList(), expected = new ArrayList<Object>();
+        for (int index = 0; index < 100; index++) {
+            list = SharedList.of(list, (Object) index);
+            expected.add(index);
+            list = SharedList.of((Object) (-index), list);
+            expected.add(0, -index);
+        }
+        assertThat(list, is(expected));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testOutOfBounds() throws Exception {
+        SharedList.of(SharedList.of(Collections.emptyList(), first), second).get(2);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testImmutable() throws Exception {
+        SharedList.of(Collections.emptyList(), first).add(second);
+    }
+}